@@ -3,7 +3,9 @@ package inu.codin.codin.common.config;
 import inu.codin.security.service.JwtService;
 import inu.codin.codin.common.stomp.HttpHandShakeInterceptor;
 import inu.codin.codin.common.stomp.StompMessageProcessor;
+import inu.codin.codin.common.stomp.relay.RedisStompRelayPublisher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -23,6 +25,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompMessageProcessor stompMessageProcessor;
     private final JwtService jwtService;
+    private final ObjectProvider<RedisStompRelayPublisher> redisStompRelayPublisher;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -36,6 +39,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.enableSimpleBroker("/topic", "/queue");
         //해당 주소를 구독 및 구독하고 있는 클라이언트들에게 메세지 전달
+        redisStompRelayPublisher.ifAvailable(publisher -> registry.configureBrokerChannel().interceptors(publisher));
+        //websocket.broker.relay=redis 이면 브로커로 보내는 메세지를 Redis pub/sub으로 다른 서버에도 전달
         //메세지를 브로커로 라우팅
         registry.setApplicationDestinationPrefixes("/pub");
         //클라이언트에서 보낸 메세지를 받을 prefix, controller의 @MessageMapping과 이어짐
@@ -2,12 +2,17 @@ package inu.codin.codin.common.stomp;
 
 import inu.codin.common.exception.NotFoundException;
 import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
 import inu.codin.codin.domain.chat.chatroom.repository.ChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
+import inu.codin.codin.domain.chat.chatroom.service.ChatUnreadCountService;
 import inu.codin.codin.domain.chat.chatting.dto.event.UpdateUnreadCountEvent;
 import inu.codin.codin.domain.chat.chatting.entity.Chatting;
-import inu.codin.codin.domain.chat.chatting.repository.ChattingRepository;
+import inu.codin.codin.domain.chat.chatting.repository.CustomChattingRepository;
 import inu.codin.codin.domain.user.entity.UserEntity;
 import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.infra.redis.dto.ChatPresenceSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
@@ -15,53 +20,91 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StompMessageService {
 
-    private final Map<String, String> sessionStore = new ConcurrentHashMap<>();
-
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
-    private final ChattingRepository chattingRepository;
+    private final CustomChatRoomRepository customChatRoomRepository;
+    private final CustomChattingRepository customChattingRepository;
+    private final ChatUnreadCountService chatUnreadCountService;
+    private final ChatPresenceService chatPresenceService;
     private final ApplicationEventPublisher eventPublisher;
 
     public void connectSession(StompHeaderAccessor headerAccessor) {
         String sessionId = headerAccessor.getSessionId();
-        sessionStore.put(sessionId, "");
+        if (headerAccessor.getUser() == null) {
+            log.error("헤더에서 유저를 찾을 수 없습니다. command : {}, sessionId : {}", headerAccessor.getCommand(), sessionId);
+            return;
+        }
+        userRepository.findByEmailAndStatusAll(headerAccessor.getUser().getName())
+                .ifPresentOrElse(user -> chatPresenceService.connect(sessionId, user.get_id()),
+                        () -> log.error("유저를 찾을 수 없습니다. command : {}, sessionId : {}, email : {}",
+                                headerAccessor.getCommand(), sessionId, headerAccessor.getUser().getName()));
         log.info("[STOMP CONNECT] session 연결 : {}", sessionId);
     }
 
     public void enterToChatRoom(StompHeaderAccessor headerAccessor){
         Result result = getResult(headerAccessor);
-        sessionStore.put(headerAccessor.getSessionId(), result.chatroom().get_id().toString());
-        log.info("[STOMP SUBSCRIBE] session : {}, chatRoomId : {} ", headerAccessor.getSessionId(), result.chatroom().get_id().toString());
+        if (result == null) throw new NotFoundException("[enterToChatRoom] SUBSCRIBE 실패");
+        ObjectId chatRoomId = result.chatroom().get_id();
+        ObjectId userId = result.user().get_id();
+        //참여자가 아니면 presence를 등록하지 않고 SUBSCRIBE 거부
+        ParticipantInfo participantInfo = result.chatroom().getParticipants().getInfo().get(userId);
+        if (participantInfo == null) {
+            log.error("채팅방 참여자가 아닙니다. sessionId : {}, chatRoomId : {}, userId : {}", headerAccessor.getSessionId(), chatRoomId, userId);
+            throw new NotFoundException("[enterToChatRoom] 채팅방 참여자를 찾을 수 없습니다.");
+        }
 
-        List<Chatting> chattings = updateUnreadCount(result.chatroom.get_id(), result.user.get_id());
-        result.chatroom.getParticipants().enter(result.user.get_id());
-        chatRoomRepository.save(result.chatroom);
+        //읽음 처리 전 마지막으로 읽은 시각 이후의 메시지가 이번 입장으로 새로 읽은 메시지
+        //presence 등록 이후에는 입장 중으로 판단되어 Cache miss 복구 시 0으로 계산되므로 등록 전에 조회
+        List<Chatting> chattings = customChattingRepository.findUnreadChattings(chatRoomId, userId,
+                participantInfo.getLastReadAt(),
+                chatUnreadCountService.getUnreadCount(result.chatroom(), userId));
+
+        ObjectId previousChatRoomId = chatPresenceService.enter(headerAccessor.getSessionId(), userId, chatRoomId);
+        //UNSUBSCRIBE 없이 다른 채팅방으로 이동한 경우 이전 채팅방 퇴장 처리
+        if (previousChatRoomId != null) markExited(previousChatRoomId, userId);
+        log.info("[STOMP SUBSCRIBE] session : {}, chatRoomId : {} ", headerAccessor.getSessionId(), chatRoomId.toString());
+
+        //읽음 처리는 참여자의 접속 상태와 마지막으로 읽은 시각만 변경
+        customChatRoomRepository.updateReadState(chatRoomId, userId, true, LocalDateTime.now());
+        chatUnreadCountService.markAsRead(chatRoomId, userId);
+        result.chatroom().getParticipants().enter(userId);
         if (!chattings.isEmpty())
-            eventPublisher.publishEvent(new UpdateUnreadCountEvent(this, chattings, result.chatroom.get_id().toString()));
+            eventPublisher.publishEvent(new UpdateUnreadCountEvent(this, chattings, result.chatroom()));
     }
 
     public void exitToChatRoom(StompHeaderAccessor headerAccessor) {
         Result result = getResult(headerAccessor);
         if (result == null) throw new NotFoundException("[exitToChatRoom] UNSUBSCRIBE 실패");
-        result.chatroom().getParticipants().exit(result.user().get_id());
-        chatRoomRepository.save(result.chatroom());
+        chatPresenceService.exit(headerAccessor.getSessionId(), result.user().get_id(), result.chatroom().get_id());
+        markExited(result.chatroom().get_id(), result.user().get_id());
         log.info("[STOMP UNSUBSCRIBE] session : {}, chatRoomId : {} ", headerAccessor.getSessionId(), result.chatroom().get_id().toString());
     }
 
     public void disconnectSession(StompHeaderAccessor headerAccessor){
-        sessionStore.remove(headerAccessor.getSessionId());
+        ChatPresenceSession session = chatPresenceService.disconnect(headerAccessor.getSessionId());
+        //UNSUBSCRIBE 없이 연결이 끊긴 경우 채팅방 퇴장 처리
+        if (session != null && session.chatRoomId() != null) {
+            markExited(session.chatRoomId(), session.userId());
+        }
         log.info("[STOMP DISCONNECT] session : {} ", headerAccessor.getSessionId());
+    }
 
+    /*
+        채팅방 퇴장 처리
+        접속 중에 받은 메시지는 모두 읽었으므로 퇴장 시각까지 읽음 처리
+     */
+    private void markExited(ObjectId chatRoomId, ObjectId userId) {
+        customChatRoomRepository.updateReadState(chatRoomId, userId, false, LocalDateTime.now());
+        chatUnreadCountService.markAsRead(chatRoomId, userId);
     }
 
     private Result getResult(StompHeaderAccessor headerAccessor) {
@@ -91,18 +134,4 @@ public class StompMessageService {
 
     private record Result(ChatRoom chatroom, UserEntity user) {
     }
-
-    private List<Chatting> updateUnreadCount(ObjectId chatRoomId, ObjectId userId){
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(()-> new NotFoundException("채팅방을 찾을 수 없습니다."));
-        List<Chatting> chattings = chattingRepository.findAllByChatRoomIdOrderByCreatedAtDesc(chatRoomId)
-                .stream()
-                .limit(chatRoom.getParticipants().getInfo().get(userId).getUnreadMessage())
-                .map(chatting -> {
-                    chatting.minusUnread();
-                    return chattingRepository.save(chatting);
-                }).toList();
-        return chattings;
-
-    }
 }
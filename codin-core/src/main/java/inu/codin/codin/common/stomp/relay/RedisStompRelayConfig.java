@@ -0,0 +1,33 @@
+package inu.codin.codin.common.stomp.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+
+/**
+ * websocket.broker.relay=redis 일 때 서버 간 STOMP 메시지 중계 활성화
+ * 각 서버의 SimpleBroker는 자신의 구독만 관리하고, 메시지는 Redis pub/sub으로 모든 서버에 전달
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "websocket.broker", name = "relay", havingValue = "redis")
+public class RedisStompRelayConfig {
+
+    @Bean
+    public RedisMessageListenerContainer stompRelayListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                     @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                                                                     RedisStompRelayPublisher redisStompRelayPublisher,
+                                                                     ObjectMapper objectMapper) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                new RedisStompRelaySubscriber(brokerChannel, redisStompRelayPublisher.getNodeId(), objectMapper),
+                new ChannelTopic(RedisStompRelayPublisher.CHANNEL));
+        return container;
+    }
+}
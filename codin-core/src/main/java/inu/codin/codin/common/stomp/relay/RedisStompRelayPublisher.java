@@ -0,0 +1,74 @@
+package inu.codin.codin.common.stomp.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * brokerChannel로 보내진 메시지를 Redis pub/sub으로 다른 서버에 발행
+ * - 이 서버의 구독자에게는 SimpleBroker가 그대로 전달하고, 다른 서버는 RedisStompRelaySubscriber가 받아 자신의 브로커로 전달
+ * - /user 메시지는 해석 전 destination 그대로 발행하여 유저가 연결된 서버에서 session을 찾도록 함
+ * - 다른 서버에서 받은 메시지와 /user 해석 결과 메시지는 다시 발행하지 않음
+ */
+@Component
+@ConditionalOnProperty(prefix = "websocket.broker", name = "relay", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisStompRelayPublisher implements ChannelInterceptor {
+
+    public static final String CHANNEL = "stomp:relay";
+    public static final String RELAYED_HEADER = "relayed";
+    private static final List<String> RELAY_PREFIXES = List.of("/topic/", "/queue/", "/user/");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHealthChecker redisHealthChecker;
+    private final ObjectMapper objectMapper;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (isRelayTarget(message) && redisHealthChecker.isRedisAvailable()) {
+            publish(message);
+        }
+        return message;
+    }
+
+    private boolean isRelayTarget(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        return SimpMessageType.MESSAGE.equals(accessor.getMessageType())
+                && destination != null
+                && RELAY_PREFIXES.stream().anyMatch(destination::startsWith)
+                && accessor.getHeader(RELAYED_HEADER) == null
+                && accessor.getFirstNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION) == null
+                && message.getPayload() instanceof byte[];
+    }
+
+    private void publish(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        try {
+            StompRelayMessage relayMessage = new StompRelayMessage(nodeId, accessor.getDestination(),
+                    accessor.getContentType() == null ? null : accessor.getContentType().toString(),
+                    (byte[]) message.getPayload());
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(relayMessage));
+        } catch (Exception e) {
+            //다른 서버로의 중계 실패가 이 서버의 메시지 전달을 막지 않도록 로그만 남김
+            log.warn("[STOMP Relay] 메시지 발행 실패 - destination: {}", accessor.getDestination(), e);
+        }
+    }
+}
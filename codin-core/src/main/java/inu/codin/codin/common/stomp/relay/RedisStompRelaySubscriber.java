@@ -0,0 +1,46 @@
+package inu.codin.codin.common.stomp.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 다른 서버가 발행한 브로커 메시지를 이 서버의 brokerChannel로 전달
+ * SimpleBroker가 이 서버의 구독자에게, UserDestinationMessageHandler가 이 서버에 연결된 유저 session에게 전달
+ */
+@Slf4j
+public class RedisStompRelaySubscriber implements MessageListener {
+
+    private final MessageChannel brokerChannel;
+    private final String nodeId;
+    private final ObjectMapper objectMapper;
+
+    public RedisStompRelaySubscriber(MessageChannel brokerChannel, String nodeId, ObjectMapper objectMapper) {
+        this.brokerChannel = brokerChannel;
+        this.nodeId = nodeId;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            StompRelayMessage relayMessage = objectMapper.readValue(message.getBody(), StompRelayMessage.class);
+            if (nodeId.equals(relayMessage.origin())) return; //이 서버가 발행한 메시지는 이미 전달됨
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(relayMessage.destination());
+            if (relayMessage.contentType() != null)
+                accessor.setContentType(MimeTypeUtils.parseMimeType(relayMessage.contentType()));
+            accessor.setHeader(RedisStompRelayPublisher.RELAYED_HEADER, relayMessage.origin());
+            brokerChannel.send(MessageBuilder.createMessage(relayMessage.payload(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.warn("[STOMP Relay] 메시지 전달 실패", e);
+        }
+    }
+}
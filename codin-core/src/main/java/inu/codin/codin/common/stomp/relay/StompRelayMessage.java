@@ -0,0 +1,11 @@
+package inu.codin.codin.common.stomp.relay;
+
+/**
+ * 서버 간 중계되는 브로커 메시지
+ * @param origin 메시지를 발행한 서버 id, 자신이 발행한 메시지는 다시 전달하지 않음
+ * @param destination /topic, /queue 또는 /user 로 시작하는 destination
+ * @param contentType 메시지 content-type, 없으면 null
+ * @param payload 변환이 끝난 메시지 본문
+ */
+public record StompRelayMessage(String origin, String destination, String contentType, byte[] payload) {
+}
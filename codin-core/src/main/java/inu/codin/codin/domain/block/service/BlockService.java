@@ -7,12 +7,18 @@ import inu.codin.codin.domain.block.exception.BlockErrorCode;
 import inu.codin.codin.domain.block.exception.BlockException;
 import inu.codin.codin.domain.block.repository.BlockRepository;
 import inu.codin.codin.domain.user.service.UserValidator;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisBlockService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 
 import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 
@@ -23,6 +29,19 @@ public class BlockService {
     private final BlockRepository blockRepository;
     private final UserValidator userValidator;
 
+    private final RedisBlockService redisBlockService;
+    private final RedisHealthChecker redisHealthChecker;
+
+    /**
+     * 차단 유저 목록 Near Cache (Local -> Redis -> DB)
+     * 다른 서버에서 차단/차단 해제한 경우 최대 NEAR_CACHE_TTL 동안 이전 목록이 보일 수 있음
+     */
+    private static final Duration NEAR_CACHE_TTL = Duration.ofSeconds(10);
+    private final Cache<ObjectId, List<ObjectId>> nearCache = Caffeine.newBuilder()
+            .expireAfterWrite(NEAR_CACHE_TTL)
+            .maximumSize(10_000)
+            .build();
+
     /**
      * 유저 차단
      * SecurityContextHolder에서 현재 유저를 가져옴
@@ -49,6 +68,7 @@ public class BlockService {
                 }, () -> blockRepository.save(BlockEntity.ofNew(userId)
                         .addBlockedUser(blockedId))
                 );
+        evictBlockedUsers(userId);
     }
 
     /**
@@ -76,11 +96,13 @@ public class BlockService {
                 }, () -> {
                     throw new BlockException(BlockErrorCode.BLOCKED_USER_NOT_FOUND);
                 });
+        evictBlockedUsers(userId);
     }
 
     /**
      * 현재 유저의 차단된 유저 목록 반환
      * 인증이 없거나 익명이면 빈 리스트 반환
+     * Local Cache -> Redis -> DB 순으로 조회하며, 하위 단계에서 조회한 목록은 상위 Cache에 저장
      * @return 차단한 유저 목록 (빈 리스트가 제공될 수 있음)
      */
     public List<ObjectId> getBlockedUsers() {
@@ -91,8 +113,66 @@ public class BlockService {
         }
 
         ObjectId currentUserId = toObjectId(currentUserIdStr);
-        return blockRepository.findByUserId(currentUserId)
-                .map(BlockEntity::getBlockedUsers)
+        return nearCache.get(currentUserId, this::loadBlockedUsers);
+    }
+
+    /**
+     * 로그인 시 차단 유저 목록을 Redis에 미리 저장
+     * 로그인을 막지 않도록 실패는 로그만 남김
+     * @param userId 로그인한 유저 _id
+     */
+    public void preloadBlockedUsers(ObjectId userId) {
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        try {
+            long version = redisBlockService.getVersion(userId);
+            redisBlockService.cacheBlockedUsers(userId, findBlockedUsers(userId), version);
+        } catch (Exception e) {
+            log.warn("[preloadBlockedUsers] 차단 유저 목록 Cache 저장 실패 - userId: {}", userId, e);
+        }
+    }
+
+    /**
+     * Cache miss 시 DB 조회 전에 version을 읽어, 조회 도중 차단/차단 해제된 경우 오래된 목록을 Redis에 저장하지 않음
+     * Redis 조회/저장 실패 시 DB 조회 결과만 반환
+     */
+    private List<ObjectId> loadBlockedUsers(ObjectId userId) {
+        Long version = null;
+        if (redisHealthChecker.isRedisAvailable()) {
+            try {
+                List<ObjectId> cached = redisBlockService.getBlockedUsers(userId);
+                if (cached != null) return cached;
+                version = redisBlockService.getVersion(userId);
+            } catch (Exception e) {
+                log.warn("[BlockedUsers] Redis 조회 실패, DB 조회 - userId: {}", userId, e);
+            }
+        }
+
+        List<ObjectId> blockedUsers = findBlockedUsers(userId);
+        if (version != null) cacheBlockedUsers(userId, blockedUsers, version);
+        return blockedUsers;
+    }
+
+    private void cacheBlockedUsers(ObjectId userId, List<ObjectId> blockedUsers, long version) {
+        try {
+            redisBlockService.cacheBlockedUsers(userId, blockedUsers, version);
+        } catch (Exception e) {
+            log.warn("[BlockedUsers] Redis 저장 실패 - userId: {}", userId, e);
+        }
+    }
+
+    private List<ObjectId> findBlockedUsers(ObjectId userId) {
+        return blockRepository.findByUserId(userId)
+                .map(blockEntity -> blockEntity.getBlockedUsers().stream()
+                        .filter(Objects::nonNull)
+                        .toList())
                 .orElse(List.of());
     }
+
+    /**
+     * 차단/차단 해제 후 Local Cache와 Redis Cache 삭제
+     */
+    private void evictBlockedUsers(ObjectId userId) {
+        nearCache.invalidate(userId);
+        if (redisHealthChecker.isRedisAvailable()) redisBlockService.evict(userId);
+    }
 }
@@ -14,10 +14,13 @@ import inu.codin.codin.domain.post.domain.hits.service.HitsService;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.scrap.service.ScrapService;
+import inu.codin.codin.domain.user.dto.UserProfile;
 import inu.codin.codin.domain.user.entity.UserEntity;
 import inu.codin.security.entity.UserRole;
 import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.user.service.UserProfileService;
 import inu.codin.codin.infra.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,7 +44,9 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 public class NoticeService {
 
     private final NoticeRepository noticeRepository;
+    private final CustomPostRepository customPostRepository;
     private final UserRepository userRepository;
+    private final UserProfileService userProfileService;
 
     private final ScrapService scrapService;
     private final HitsService hitsService;
@@ -121,13 +126,23 @@ public class NoticeService {
 
         List<String> imageUrls = s3Service.handleImageUpload(noticeImages);
         post.updateNotice(noticeCreateUpdateRequestDTO.getTitle(), noticeCreateUpdateRequestDTO.getContent(), imageUrls);
-        noticeRepository.save(post);
+        // 변경한 필드만 저장 (전체 저장 시 조회 이후 반영된 댓글 수, 익명 번호, 카운터를 덮어씀)
+        customPostRepository.updateContent(post);
     }
 
+    /**
+     * 공지사항 목록 응답 생성
+     * 작성자 프로필은 공지사항 수와 무관하게 일괄 조회
+     */
     private List<NoticeListResponseDto> getNoticeListResponse(List<PostEntity> content) {
+        Map<ObjectId, UserProfile> profiles = userProfileService.getProfiles(
+                content.stream().map(PostEntity::getUserId).toList());
         return content.stream().map(post -> {
-                    UserEntity user = getUserEntity(post.getUserId());
-                    return NoticeListResponseDto.of(post, user.getNickname());
+                    UserProfile user = profiles.get(post.getUserId());
+                    if (user == null) {
+                        throw new IllegalArgumentException("유저를 찾을 수 없습니다.");
+                    }
+                    return NoticeListResponseDto.of(post, user.nickname());
                 }).toList();
     }
 
@@ -138,12 +153,13 @@ public class NoticeService {
     }
 
     private NoticeDetailResponseDto getNoticeWithDetail(PostEntity post) {
-        UserEntity user = getUserEntity(post.getUserId());
+        UserProfile user = userProfileService.getProfile(post.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
         int scrapCount = scrapService.getScrapCount(post.get_id());
         int hitsCount = hitsService.getHitsCount(post.get_id());
         NoticeDetailResponseDto.UserInfo userInfo = getUserInfoAboutNotice(post.getUserId(), post.get_id());
 
-        return NoticeDetailResponseDto.of(post, user.getNickname(), user.getProfileImageUrl(), scrapCount, hitsCount, userInfo);
+        return NoticeDetailResponseDto.of(post, user.nickname(), user.profileImageUrl(), scrapCount, hitsCount, userInfo);
     }
 
     private UserEntity getUserEntity(ObjectId userId) {
@@ -7,7 +7,6 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
-import org.bson.types.ObjectId;
 
 import java.time.LocalDateTime;
 
@@ -42,13 +41,13 @@ public class ChatRoomListResponseDto {
         this.unread = unread;
     }
 
-    public static ChatRoomListResponseDto of(ChatRoom chatRoom, ObjectId userId) {
+    public static ChatRoomListResponseDto of(ChatRoom chatRoom, int unread) {
         return ChatRoomListResponseDto.builder()
                 .chatRoomId(chatRoom.get_id().toString())
                 .roomName(chatRoom.getRoomName())
                 .lastMessage(chatRoom.getLastMessage()==null ? null : chatRoom.getLastMessage())
                 .currentMessageDate(chatRoom.getCurrentMessageDate()==null ? null : chatRoom.getCurrentMessageDate())
-                .unread(chatRoom.getParticipants().getInfo().get(userId).getUnreadMessage())
+                .unread(unread)
                 .build();
     }
 }
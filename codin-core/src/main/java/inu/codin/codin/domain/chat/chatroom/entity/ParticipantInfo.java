@@ -19,15 +19,17 @@ public class ParticipantInfo extends BaseTimeEntity {
     private boolean isLeaved = false;
     private LocalDateTime whenLeaved;
     private boolean notificationsEnabled = true;
+    private LocalDateTime lastReadAt; //마지막으로 채팅방 메시지를 읽은 시각 (read watermark)
 
     @Builder
-    public ParticipantInfo(ObjectId userId, boolean isConnected, int unreadMessage, boolean notificationsEnabled, boolean isLeaved, LocalDateTime whenLeaved) {
+    public ParticipantInfo(ObjectId userId, boolean isConnected, int unreadMessage, boolean notificationsEnabled, boolean isLeaved, LocalDateTime whenLeaved, LocalDateTime lastReadAt) {
         this.userId = userId;
         this.isConnected = isConnected;
         this.unreadMessage = unreadMessage;
         this.notificationsEnabled = notificationsEnabled;
         this.isLeaved = isLeaved;
         this.whenLeaved = whenLeaved;
+        this.lastReadAt = lastReadAt;
     }
 
     public void updateNotification() {
@@ -42,6 +44,7 @@ public class ParticipantInfo extends BaseTimeEntity {
                 .isLeaved(false)
                 .whenLeaved(null)
                 .notificationsEnabled(true)
+                .lastReadAt(LocalDateTime.now())
                 .build();
     }
 
@@ -52,14 +55,26 @@ public class ParticipantInfo extends BaseTimeEntity {
     public void connect(){
         this.isConnected = true;
         this.unreadMessage = 0;
+        this.lastReadAt = LocalDateTime.now();
     }
 
     public void disconnect(){
         this.isConnected = false;
         this.unreadMessage = 0;
+        this.lastReadAt = LocalDateTime.now();
         setUpdatedAt();
     }
 
+    /*
+        메시지를 읽었는지 여부
+        송신자 본인, 채팅방에 입장해 있는 유저, 마지막으로 읽은 시각이 메시지 이후인 유저는 읽은 것으로 판단
+        입장 여부는 저장된 isConnected가 아닌 presence 기준 (ChatPresenceService)
+     */
+    public boolean hasRead(ObjectId senderId, LocalDateTime sentAt, boolean inRoom){
+        if (userId.equals(senderId) || inRoom) return true;
+        return lastReadAt != null && sentAt != null && !sentAt.isAfter(lastReadAt);
+    }
+
     public void leave(){
         this.isLeaved = true;
         this.whenLeaved = LocalDateTime.now();
@@ -4,7 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.bson.types.ObjectId;
 
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
@@ -36,6 +38,27 @@ public class Participants {
         info.put(memberId, participantInfo);
     }
 
+    /*
+        메시지를 읽지 않은 참여자 수
+        각 참여자의 마지막으로 읽은 시각으로 계산하므로 메시지 문서를 변경하지 않음
+        inRoomUserIds : 채팅방에 입장해 있는 참여자 (ChatPresenceService.findUsersInRoom)
+     */
+    public int countUnread(ObjectId senderId, LocalDateTime sentAt, Set<ObjectId> inRoomUserIds){
+        return (int) info.values().stream()
+                .filter(participantInfo -> !participantInfo.hasRead(senderId, sentAt, inRoomUserIds.contains(participantInfo.getUserId())))
+                .count();
+    }
+
+    /*
+        watermark가 없는 기존 참여자가 있으면 모든 메시지를 읽지 않은 것으로 계산되므로
+        메시지에 저장된 unread를 사용 (모든 참여자가 한 번 읽음 처리하면 watermark 기준으로 계산)
+     */
+    public int countUnread(ObjectId senderId, LocalDateTime sentAt, int storedUnread, Set<ObjectId> inRoomUserIds){
+        boolean hasLegacyParticipant = info.values().stream()
+                .anyMatch(participantInfo -> !participantInfo.getUserId().equals(senderId) && participantInfo.getLastReadAt() == null);
+        return hasLegacyParticipant ? storedUnread : countUnread(senderId, sentAt, inRoomUserIds);
+    }
+
     public void exit(ObjectId memberId) {
         ParticipantInfo participantInfo;
         if ((participantInfo = info.get(memberId))==null) {
@@ -0,0 +1,145 @@
+package inu.codin.codin.domain.chat.chatroom.repository;
+
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class CustomChatRoomRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomChatRoomRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 새 메시지를 채팅방에 한 번의 update로 반영하고 반영된 채팅방 반환
+     * - 마지막 메시지, 마지막 메시지 시각 변경
+     * - 접속하지 않은 수신자의 unreadMessage +1 ($inc로 동시 전송에도 유실 없음, read watermark가 없는 기존 참여자의 unread 기준 값)
+     * - 채팅방을 나간 수신자를 다시 참여 상태로 변경
+     * @param chatRoomId 채팅방 _id
+     * @param lastMessage 메시지 내용
+     * @param sentAt 메시지 전송 시각
+     * @param unreadReceivers unread를 증가시킬 수신자 _id
+     * @param returningReceivers 다시 참여시킬 수신자 _id
+     * @return 반영된 채팅방, 채팅방이 없거나 삭제된 경우 null
+     */
+    public ChatRoom applyNewMessage(ObjectId chatRoomId, String lastMessage, LocalDateTime sentAt,
+                                    Collection<ObjectId> unreadReceivers, Collection<ObjectId> returningReceivers) {
+        // 참여자 Map의 key(유저 _id)가 필드 경로에 포함되므로 필드명 변환 없이 저장 필드명으로 update
+        Document set = new Document("lastMessage", lastMessage)
+                .append("currentMessageDate", mongoTemplate.getConverter().convertToMongoType(sentAt));
+        returningReceivers.forEach(receiverId -> set.append(participantField(receiverId, "isLeaved"), false));
+        Document update = new Document("$set", set);
+        if (!unreadReceivers.isEmpty()) {
+            Document inc = new Document();
+            unreadReceivers.forEach(receiverId -> inc.append(participantField(receiverId, "unreadMessage"), 1));
+            update.append("$inc", inc);
+        }
+
+        Document chatRoom = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ChatRoom.class)).findOneAndUpdate(
+                new Document("_id", chatRoomId).append("deleted_at", null),
+                update,
+                new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER));
+        return chatRoom == null ? null : mongoTemplate.getConverter().read(ChatRoom.class, chatRoom);
+    }
+
+    /**
+     * 참여자의 접속 상태와 마지막으로 읽은 시각을 한 번의 update로 변경 (채팅방 입장/퇴장 시 읽음 처리)
+     * @param connected 채팅방 접속 여부
+     * @param readAt 마지막으로 읽은 시각
+     * @return 변경된 참여자가 있으면 true
+     */
+    public boolean updateReadState(ObjectId chatRoomId, ObjectId userId, boolean connected, LocalDateTime readAt) {
+        Document set = new Document(participantField(userId, "isConnected"), connected)
+                .append(participantField(userId, "unreadMessage"), 0)
+                .append(participantField(userId, "lastReadAt"), mongoTemplate.getConverter().convertToMongoType(readAt));
+        return updateParticipant(chatRoomId, userId, set);
+    }
+
+    /**
+     * 채팅방 나가기, 참여자의 나간 상태와 읽음 상태만 변경
+     * @param leavedAt 나간 시각 (마지막으로 읽은 시각으로도 사용)
+     * @return 변경된 참여자가 있으면 true
+     */
+    public boolean leave(ObjectId chatRoomId, ObjectId userId, LocalDateTime leavedAt) {
+        Object leavedAtValue = mongoTemplate.getConverter().convertToMongoType(leavedAt);
+        Document set = new Document(participantField(userId, "isLeaved"), true)
+                .append(participantField(userId, "whenLeaved"), leavedAtValue)
+                .append(participantField(userId, "isConnected"), false)
+                .append(participantField(userId, "unreadMessage"), 0)
+                .append(participantField(userId, "lastReadAt"), leavedAtValue)
+                .append(participantField(userId, "updated_at"), leavedAtValue);
+        return updateParticipant(chatRoomId, userId, set);
+    }
+
+    /**
+     * 모든 참여자가 나간 채팅방 삭제
+     * 참여자 확인과 삭제를 한 번의 update로 처리하여, 그 사이 다시 참여한 유저가 있으면 삭제하지 않음
+     * @return 삭제되었으면 true
+     */
+    public boolean deleteIfAllLeaved(ObjectId chatRoomId) {
+        Document allLeaved = new Document("$allElementsTrue", List.of(new Document("$map", new Document()
+                .append("input", new Document("$objectToArray", "$participants.info"))
+                .append("in", "$$this.v.isLeaved"))));
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ChatRoom.class)).updateOne(
+                new Document("_id", chatRoomId).append("deleted_at", null).append("$expr", allLeaved),
+                new Document("$set", new Document("deleted_at", mongoTemplate.getConverter().convertToMongoType(LocalDateTime.now())))
+        ).getModifiedCount() > 0;
+    }
+
+    /**
+     * 나간 채팅방에 다시 참여
+     */
+    public boolean remain(ObjectId chatRoomId, ObjectId userId) {
+        return updateParticipant(chatRoomId, userId, new Document(participantField(userId, "isLeaved"), false));
+    }
+
+    /**
+     * 참여자의 채팅방 알림 설정 변경
+     */
+    public boolean updateNotification(ObjectId chatRoomId, ObjectId userId, boolean enabled) {
+        return updateParticipant(chatRoomId, userId, new Document(participantField(userId, "notificationsEnabled"), enabled));
+    }
+
+    /**
+     * 여러 채팅방에서 유저의 참여자 정보만 조회
+     * @return Key : 채팅방 _id, Value : 참여자 정보 (채팅방이 삭제되었거나 참여하지 않은 경우 포함되지 않음)
+     */
+    public Map<ObjectId, ParticipantInfo> findParticipantInfos(Collection<ObjectId> chatRoomIds, ObjectId userId) {
+        Query query = Query.query(Criteria.where("_id").in(chatRoomIds).and("deletedAt").is(null));
+        query.fields().include("participants.info." + userId.toHexString());
+
+        Map<ObjectId, ParticipantInfo> result = new HashMap<>();
+        mongoTemplate.find(query, ChatRoom.class).forEach(chatRoom -> {
+            ParticipantInfo participantInfo = chatRoom.getParticipants() == null ? null : chatRoom.getParticipants().getInfo().get(userId);
+            if (participantInfo != null) result.put(chatRoom.get_id(), participantInfo);
+        });
+        return result;
+    }
+
+    private boolean updateParticipant(ObjectId chatRoomId, ObjectId userId, Document set) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ChatRoom.class)).updateOne(
+                new Document("_id", chatRoomId).append(participantField(userId, "userId"), userId),
+                new Document("$set", set)
+        ).getMatchedCount() > 0;
+    }
+
+    private static String participantField(ObjectId userId, String field) {
+        return "participants.info." + userId.toHexString() + "." + field;
+    }
+}
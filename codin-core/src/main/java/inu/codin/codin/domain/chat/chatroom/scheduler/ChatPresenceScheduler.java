@@ -0,0 +1,29 @@
+package inu.codin.codin.domain.chat.chatroom.scheduler;
+
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    이 서버에 연결된 STOMP session의 접속 상태 만료 시각 갱신 (heartbeat)
+    갱신 주기는 RedisChatPresenceService.SESSION_TTL(90초)보다 짧게 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceScheduler {
+
+    private final ChatPresenceService chatPresenceService;
+
+    @Scheduled(fixedRate = 30000) // 30초마다 실행
+    public void refreshLocalSessions() {
+        try {
+            int refreshed = chatPresenceService.refreshLocalSessions();
+            log.debug("[ChatPresenceScheduler] session 갱신 완료 - session 수: {}", refreshed);
+        } catch (Exception e) {
+            log.error("[ChatPresenceScheduler] session 갱신 실패", e);
+        }
+    }
+}
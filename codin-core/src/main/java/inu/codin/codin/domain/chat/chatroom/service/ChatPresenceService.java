@@ -0,0 +1,163 @@
+package inu.codin.codin.domain.chat.chatroom.service;
+
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.dto.ChatPresenceSession;
+import inu.codin.codin.infra.redis.service.RedisChatPresenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 접속 상태 관리
+ * - 기준 : Redis presence registry, 어느 서버에 연결되었는지와 관계없이 유저의 접속/채팅방 입장 여부를 조회
+ * - 갱신 : STOMP CONNECT/SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 시 등록/제거, 서버별 heartbeat로 만료 시각 갱신
+ * - 채팅방 입장 여부와 읽음 계산은 이 Service로만 조회 (isConnected는 비정상 종료된 서버의 session이 남을 수 있어 Redis 장애 시에만 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatPresenceService {
+
+    // 이 서버에 연결된 session (heartbeat 갱신, 접속 종료 시 session 정보 확인용이며 접속 여부 조회에는 사용하지 않음)
+    private final Map<String, ChatPresenceSession> localSessions = new ConcurrentHashMap<>();
+
+    private final RedisChatPresenceService redisChatPresenceService;
+    private final RedisHealthChecker redisHealthChecker;
+
+    public void connect(String sessionId, ObjectId userId) {
+        ChatPresenceSession session = new ChatPresenceSession(sessionId, userId, null);
+        localSessions.put(sessionId, session);
+        ifRedisAvailable(() -> redisChatPresenceService.register(session));
+    }
+
+    /**
+     * 채팅방 입장
+     * UNSUBSCRIBE 없이 다른 채팅방을 SUBSCRIBE한 경우 이전 채팅방에서 퇴장 처리
+     * @return 퇴장 처리한 이전 채팅방 _id, 없으면 null
+     */
+    public ObjectId enter(String sessionId, ObjectId userId, ObjectId chatRoomId) {
+        ChatPresenceSession session = new ChatPresenceSession(sessionId, userId, chatRoomId);
+        ChatPresenceSession previous = localSessions.put(sessionId, session);
+        ObjectId previousChatRoomId = previous == null || chatRoomId.equals(previous.chatRoomId()) ? null : previous.chatRoomId();
+        ifRedisAvailable(() -> {
+            if (previousChatRoomId != null) redisChatPresenceService.exit(sessionId, userId, previousChatRoomId);
+            redisChatPresenceService.register(session);
+        });
+        return previousChatRoomId;
+    }
+
+    public void exit(String sessionId, ObjectId userId, ObjectId chatRoomId) {
+        localSessions.computeIfPresent(sessionId, (id, session) -> session.exit());
+        ifRedisAvailable(() -> redisChatPresenceService.exit(sessionId, userId, chatRoomId));
+    }
+
+    /**
+     * 접속 종료 시 session 제거
+     * @return 종료된 session의 접속 정보, 등록되지 않은 session이면 null
+     */
+    public ChatPresenceSession disconnect(String sessionId) {
+        ChatPresenceSession session = localSessions.remove(sessionId);
+        if (redisHealthChecker.isRedisAvailable()) {
+            try {
+                if (session == null) session = redisChatPresenceService.getSession(sessionId);
+                if (session != null) redisChatPresenceService.remove(session);
+            } catch (Exception e) {
+                log.warn("[Presence] Redis session 삭제 실패 - sessionId: {}", sessionId, e);
+            }
+        }
+        return session;
+    }
+
+    /**
+     * 이 서버에 연결된 session의 만료 시각 갱신 (heartbeat)
+     * 조회 이후 퇴장/종료된 session은 재등록하지 않으며, 재등록 도중 퇴장/종료되었으면 현재 상태로 되돌림
+     * @return 갱신한 session 수
+     */
+    public int refreshLocalSessions() {
+        if (!redisHealthChecker.isRedisAvailable()) return 0;
+        int refreshed = 0;
+        for (ChatPresenceSession session : List.copyOf(localSessions.values())) {
+            if (!session.equals(localSessions.get(session.sessionId()))) continue;
+            redisChatPresenceService.register(session);
+            ChatPresenceSession current = localSessions.get(session.sessionId());
+            if (!session.equals(current)) restore(session, current);
+            refreshed++;
+        }
+        return refreshed;
+    }
+
+    /*
+        heartbeat 재등록이 동시에 처리된 퇴장/종료를 덮어쓴 경우 현재 session 상태로 되돌림
+     */
+    private void restore(ChatPresenceSession registered, ChatPresenceSession current) {
+        if (current == null) {
+            redisChatPresenceService.remove(registered);
+            return;
+        }
+        if (registered.chatRoomId() != null && !registered.chatRoomId().equals(current.chatRoomId()))
+            redisChatPresenceService.exit(registered.sessionId(), registered.userId(), registered.chatRoomId());
+        redisChatPresenceService.register(current);
+    }
+
+    /**
+     * 유저가 채팅방에 입장해 있는지 여부
+     * Redis 장애 시 채팅방에 저장된 참여자의 접속 상태로 판단
+     */
+    public boolean isInRoom(ChatRoom chatRoom, ObjectId userId) {
+        ParticipantInfo participantInfo = chatRoom.getParticipants().getInfo().get(userId);
+        return participantInfo != null && isInRoom(chatRoom.get_id(), participantInfo);
+    }
+
+    public boolean isInRoom(ObjectId chatRoomId, ParticipantInfo participantInfo) {
+        if (redisHealthChecker.isRedisAvailable()) {
+            try {
+                return redisChatPresenceService.isInRoom(chatRoomId, participantInfo.getUserId());
+            } catch (Exception e) {
+                log.warn("[Presence] Redis 조회 실패, 채팅방 접속 상태 사용 - chatRoomId: {}, userId: {}", chatRoomId, participantInfo.getUserId(), e);
+            }
+        }
+        return participantInfo.isConnected();
+    }
+
+    /**
+     * 채팅방에 입장해 있는 참여자 _id
+     */
+    public Set<ObjectId> findUsersInRoom(ChatRoom chatRoom) {
+        return chatRoom.getParticipants().getInfo().values().stream()
+                .filter(participantInfo -> isInRoom(chatRoom.get_id(), participantInfo))
+                .map(ParticipantInfo::getUserId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 유저가 STOMP로 접속해 있는지 여부, Redis 장애 시 이 서버의 session만 확인
+     */
+    public boolean isOnline(ObjectId userId) {
+        if (redisHealthChecker.isRedisAvailable()) {
+            try {
+                return redisChatPresenceService.isOnline(userId);
+            } catch (Exception e) {
+                log.warn("[Presence] Redis 조회 실패, 서버 session 사용 - userId: {}", userId, e);
+            }
+        }
+        return localSessions.values().stream().anyMatch(session -> session.userId().equals(userId));
+    }
+
+    private void ifRedisAvailable(Runnable redisOperation) {
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        try {
+            redisOperation.run();
+        } catch (Exception e) {
+            log.warn("[Presence] Redis 갱신 실패, 다음 heartbeat에 재등록", e);
+        }
+    }
+}
@@ -12,13 +12,15 @@ import inu.codin.codin.domain.chat.chatroom.exception.ChatRoomCreateFailExceptio
 import inu.codin.codin.domain.chat.chatroom.exception.ChatRoomExistedException;
 import inu.codin.codin.domain.chat.chatroom.exception.ChatRoomNotFoundException;
 import inu.codin.codin.domain.chat.chatroom.repository.ChatRoomRepository;
-import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.user.service.UserProfileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static inu.codin.common.util.ObjectIdUtil.toObjectId;
@@ -29,7 +31,9 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
-    private final UserRepository userRepository;
+    private final CustomChatRoomRepository customChatRoomRepository;
+    private final ChatUnreadCountService chatUnreadCountService;
+    private final UserProfileService userProfileService;
 
     private final BlockService blockService;
     private final ApplicationEventPublisher eventPublisher;
@@ -40,7 +44,7 @@ public class ChatRoomService {
         isValidated(chatRoomCreateRequestDto, senderId); //유효성 검사
 
         log.info("[채팅방 생성 요청] 송신자 ID: {}, 수신자 ID: {}", senderId, chatRoomCreateRequestDto.getReceiverId());
-        userRepository.findById(new ObjectId(chatRoomCreateRequestDto.getReceiverId()))
+        userProfileService.getProfile(new ObjectId(chatRoomCreateRequestDto.getReceiverId()))
                 .orElseThrow(() -> {
                     log.error("[Receive 유저 확인 실패] 수신자 ID: {}를 찾을 수 없습니다.", chatRoomCreateRequestDto.getReceiverId());
                     return new NotFoundException("Receive 유저를 찾을 수 없습니다.");
@@ -70,8 +74,8 @@ public class ChatRoomService {
         if (existedChatroom.isPresent()){
             ParticipantInfo participantInfo= existedChatroom.get().getParticipants().getInfo().get(senderId);
             if (participantInfo.isLeaved()){
-                participantInfo.remain();
-                chatRoomRepository.save(existedChatroom.get());
+                //다시 참여하는 유저의 참여 상태만 변경 (채팅방 전체 저장 시 다른 참여자의 읽음 상태, 마지막 메시지를 덮어씀)
+                customChatRoomRepository.remain(existedChatroom.get().get_id(), senderId);
             }
             throw new ChatRoomExistedException("해당 reference에서 시작된 채팅방이 존재합니다.", 403, existedChatroom.get().get_id());
         }
@@ -85,11 +89,14 @@ public class ChatRoomService {
 
         List<ChatRoom> chatRooms = chatRoomRepository.findByParticipantIsNotLeavedAndDeletedIsNull(userId);
         log.info("[채팅방 조회 결과] 유저 ID: {}가 참여 중인 채팅방 개수: {}", userId, chatRooms.size());
-        return chatRooms.stream()
+        List<ChatRoom> visibleChatRooms = chatRooms.stream()
                 .filter(chatRoom -> chatRoom.getParticipants().getInfo().keySet().stream()
                         .noneMatch(blockedUsersId::contains))
                 .sorted(Comparator.comparing(ChatRoom::getCurrentMessageDate,Comparator.nullsLast(Comparator.reverseOrder())))
-                .map(chatRoom -> ChatRoomListResponseDto.of(chatRoom, userId)).toList();
+                .toList();
+        Map<ObjectId, Integer> unreadCounts = chatUnreadCountService.getUnreadCounts(visibleChatRooms, userId);
+        return visibleChatRooms.stream()
+                .map(chatRoom -> ChatRoomListResponseDto.of(chatRoom, unreadCounts.getOrDefault(chatRoom.get_id(), 0))).toList();
 
     }
 
@@ -103,25 +110,19 @@ public class ChatRoomService {
                     return new ChatRoomNotFoundException("채팅방을 찾을 수 없습니다.");
                 });
 
-        Map<ObjectId, ParticipantInfo> info = chatRoom.getParticipants().getInfo();
-        if (info.containsKey(userId)){
-            info.get(userId).leave();
-            info.get(userId).disconnect();
-        } else {
+        //나가는 참여자의 상태만 변경 (채팅방 전체 저장 시 다른 참여자의 읽음 상태, 마지막 메시지를 덮어씀)
+        if (!chatRoom.getParticipants().getInfo().containsKey(userId)
+                || !customChatRoomRepository.leave(chatRoom.get_id(), userId, LocalDateTime.now())) {
             log.warn("[채팅방 탈퇴 실패] 유저 ID: {}는 채팅방에 참여하지 않았습니다.", userId);
             throw new ChatRoomNotFoundException("회원이 포함된 채팅방을 찾을 수 없습니다.");
         }
+        chatUnreadCountService.markAsRead(chatRoom.get_id(), userId);
 
-        boolean isAllLeaved = chatRoom.getParticipants().getInfo().values()
-                .stream()
-                .allMatch(ParticipantInfo::isLeaved);  // 모든 참가자가 떠났는지 확인
-
-        if (isAllLeaved){
-            chatRoom.delete();
+        // 모든 참가자가 떠났다면 삭제
+        if (customChatRoomRepository.deleteIfAllLeaved(chatRoom.get_id())){
             log.info("[채팅방 삭제] 채팅방 ID: {}에 더 이상 참여자가 없어 채팅방을 삭제합니다.", chatRoomId);
         }
-        chatRoomRepository.save(chatRoom);
-        }
+    }
 
     public void setNotificationChatRoom(String chatRoomId) {
         ObjectId userId = toObjectId(SecurityUtil.getCurrentUserId());
@@ -136,18 +137,9 @@ public class ChatRoomService {
         Map<ObjectId, ParticipantInfo> info = chatRoom.getParticipants().getInfo();
         log.info("[채팅방 확인] 채팅방 ID: {}, 참여자 수: {}", chatRoomId, info.size());
 
-        info.get(userId).updateNotification();
-        chatRoomRepository.save(chatRoom);
+        ParticipantInfo participantInfo = info.get(userId);
+        participantInfo.updateNotification();
+        customChatRoomRepository.updateNotification(chatRoom.get_id(), userId, participantInfo.isNotificationsEnabled());
         log.info("[알림 설정 완료] 채팅방 ID: {}에 알림 설정 완료", chatRoomId);
     }
-
-    public Integer countOfParticipating(ObjectId chatRoomId){
-        ChatRoom chatroom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new NotFoundException("채팅방을 찾을 수 없습니다."));
-        int count = 0;
-        for (ParticipantInfo info : chatroom.getParticipants().getInfo().values()){
-            if (info.isConnected()) count++;
-        }
-        return count;
-    }
 }
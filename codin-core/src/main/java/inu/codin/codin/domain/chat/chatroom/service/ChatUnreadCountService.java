@@ -0,0 +1,118 @@
+package inu.codin.codin.domain.chat.chatroom.service;
+
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.chat.chatting.repository.CustomChattingRepository;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.dto.CounterVersions;
+import inu.codin.codin.infra.redis.service.RedisChatUnreadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 참여자별 읽지 않은 메시지 수 관리
+ * - 기준 : 참여자의 마지막으로 읽은 시각(read watermark) 이후 상대가 보낸 메시지 수
+ * - Cache : Redis Counter, 메시지 송신 시 접속하지 않은 수신자와 읽음 처리한 참여자의 Counter 무효화
+ * - Cache miss 또는 Redis 장애 시 채팅 컬렉션에서 watermark 이후 메시지 수를 한 번에 집계하여 복구
+ *   복구는 version 조회 이후 다시 읽은 watermark 기준으로 계산하여, 그 사이 무효화된 Counter에 오래된 값을 설정하지 않음
+ *
+ * watermark가 없는 기존 참여자는 채팅방에 저장된 unreadMessage를 사용하며, 다음 읽음 처리부터 watermark 기준으로 계산
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatUnreadCountService {
+
+    private final CustomChatRoomRepository customChatRoomRepository;
+    private final ChatPresenceService chatPresenceService;
+    private final CustomChattingRepository customChattingRepository;
+    private final RedisChatUnreadService redisChatUnreadService;
+    private final RedisHealthChecker redisHealthChecker;
+
+    /**
+     * 메시지 송신 후 접속하지 않은 수신자의 읽지 않은 메시지 수 무효화
+     * Counter를 증가시키지 않으므로 읽음 처리보다 늦게 도착해도 watermark와 어긋나지 않음
+     */
+    public void invalidate(ObjectId chatRoomId, Collection<ObjectId> receiverIds) {
+        ifRedisAvailable(() -> redisChatUnreadService.invalidate(chatRoomId, receiverIds));
+    }
+
+    /**
+     * 채팅방 입장/퇴장 시 읽음 처리, watermark 변경 후 호출
+     */
+    public void markAsRead(ObjectId chatRoomId, ObjectId userId) {
+        ifRedisAvailable(() -> redisChatUnreadService.invalidate(chatRoomId, List.of(userId)));
+    }
+
+    public int getUnreadCount(ChatRoom chatRoom, ObjectId userId) {
+        return getUnreadCounts(List.of(chatRoom), userId).getOrDefault(chatRoom.get_id(), 0);
+    }
+
+    /**
+     * 여러 채팅방의 읽지 않은 메시지 수를 일괄 조회
+     * Redis 한 번의 호출로 조회 후, Cache miss는 채팅 컬렉션 aggregation 한 번으로 조회하여 Cache 복구
+     * @return Key : 채팅방 _id, Value : 읽지 않은 메시지 수
+     */
+    public Map<ObjectId, Integer> getUnreadCounts(List<ChatRoom> chatRooms, ObjectId userId) {
+        Map<ObjectId, Integer> unreadCounts = new HashMap<>();
+        List<ChatRoom> missedRooms = chatRooms;
+
+        boolean redisAvailable = redisHealthChecker.isRedisAvailable();
+        if (redisAvailable) {
+            List<Long> redisResults = redisChatUnreadService.getUnreadCounts(chatRooms.stream().map(ChatRoom::get_id).toList(), userId);
+            missedRooms = new ArrayList<>();
+            for (int i = 0; i < chatRooms.size(); i++) {
+                Long unreadCount = redisResults.get(i);
+                if (unreadCount != null) unreadCounts.put(chatRooms.get(i).get_id(), unreadCount.intValue());
+                else missedRooms.add(chatRooms.get(i));
+            }
+        }
+
+        if (!missedRooms.isEmpty()) {
+            List<ObjectId> missedRoomIds = missedRooms.stream().map(ChatRoom::get_id).toList();
+            Map<ObjectId, ParticipantInfo> participantInfos = new HashMap<>();
+            CounterVersions versions = CounterVersions.empty();
+            if (redisAvailable) {
+                // 전달받은 채팅방은 version 조회 전에 읽은 값이므로 watermark를 다시 조회
+                versions = redisChatUnreadService.getVersions(missedRoomIds, userId);
+                participantInfos.putAll(customChatRoomRepository.findParticipantInfos(missedRoomIds, userId));
+            } else {
+                missedRooms.forEach(chatRoom -> {
+                    ParticipantInfo participantInfo = chatRoom.getParticipants().getInfo().get(userId);
+                    if (participantInfo != null) participantInfos.put(chatRoom.get_id(), participantInfo);
+                });
+            }
+
+            Map<ObjectId, Integer> recovered = new HashMap<>();
+            Map<ObjectId, LocalDateTime> lastReadAts = new HashMap<>();
+            for (ObjectId chatRoomId : missedRoomIds) {
+                ParticipantInfo participantInfo = participantInfos.get(chatRoomId);
+                //채팅방에 입장해 있으면 모두 읽은 상태 (입장 여부는 presence 기준, 저장된 isConnected는 사용하지 않음)
+                if (participantInfo == null || chatPresenceService.isInRoom(chatRoomId, participantInfo)) recovered.put(chatRoomId, 0);
+                else if (participantInfo.getLastReadAt() == null) recovered.put(chatRoomId, participantInfo.getUnreadMessage());
+                else lastReadAts.put(chatRoomId, participantInfo.getLastReadAt());
+            }
+            Map<ObjectId, Integer> dbCounts = customChattingRepository.countUnread(userId, lastReadAts);
+            lastReadAts.keySet().forEach(chatRoomId -> recovered.put(chatRoomId, dbCounts.getOrDefault(chatRoomId, 0)));
+            unreadCounts.putAll(recovered);
+            if (redisAvailable) redisChatUnreadService.recoveryUnreadCounts(recovered, userId, versions);
+        }
+        return unreadCounts;
+    }
+
+    private void ifRedisAvailable(Runnable redisOperation) {
+        if (redisHealthChecker.isRedisAvailable()) {
+            redisOperation.run();
+        }
+    }
+}
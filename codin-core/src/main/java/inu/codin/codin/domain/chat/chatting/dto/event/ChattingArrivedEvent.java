@@ -1,16 +1,24 @@
 package inu.codin.codin.domain.chat.chatting.dto.event;
 
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
 import inu.codin.codin.domain.chat.chatting.entity.Chatting;
 import lombok.Getter;
+import org.bson.types.ObjectId;
 import org.springframework.context.ApplicationEvent;
 
+import java.util.List;
+
 @Getter
 public class ChattingArrivedEvent extends ApplicationEvent {
 
     private final Chatting chatting;
+    private final ChatRoom chatRoom; //메시지가 반영된 채팅방
+    private final List<ObjectId> receiverIds; //접속하지 않아 unread가 증가한 수신자
 
-    public ChattingArrivedEvent(Object source, Chatting chatting) {
+    public ChattingArrivedEvent(Object source, Chatting chatting, ChatRoom chatRoom, List<ObjectId> receiverIds) {
         super(source);
         this.chatting = chatting;
+        this.chatRoom = chatRoom;
+        this.receiverIds = receiverIds;
     }
 }
@@ -1,5 +1,6 @@
 package inu.codin.codin.domain.chat.chatting.dto.event;
 
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
 import inu.codin.codin.domain.chat.chatting.entity.Chatting;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
@@ -10,11 +11,11 @@ import java.util.List;
 public class UpdateUnreadCountEvent extends ApplicationEvent {
 
     private final List<Chatting> chattingList;
-    private final String chatRoomId;
+    private final ChatRoom chatRoom; //읽음 처리가 반영된 채팅방
 
-    public UpdateUnreadCountEvent(Object source, List<Chatting> chattingList, String chatRoomId) {
+    public UpdateUnreadCountEvent(Object source, List<Chatting> chattingList, ChatRoom chatRoom) {
         super(source);
         this.chattingList = chattingList;
-        this.chatRoomId = chatRoomId;
+        this.chatRoom = chatRoom;
     }
 }
@@ -64,6 +64,18 @@ public class ChattingResponseDto {
                 .build();
     }
 
+    public static ChattingResponseDto of(Chatting chatting, int unread){
+        return ChattingResponseDto.builder()
+                .id(chatting.get_id().toString())
+                .senderId(chatting.getSenderId().toString())
+                .content(chatting.getContent())
+                .createdAt(chatting.getCreatedAt())
+                .contentType(chatting.getContentType())
+                .chatRoomId(chatting.getChatRoomId().toString())
+                .unread(unread)
+                .build();
+    }
+
     public static ChattingResponseDto of(Chatting chatting, ObjectId currentUserId){
         return ChattingResponseDto.builder()
                 .id(chatting.get_id().toString())
@@ -1,13 +1,20 @@
 package inu.codin.codin.domain.chat.chatting.repository;
 
 import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Repository
 public class CustomChattingRepository {
 
@@ -24,4 +31,54 @@ public class CustomChattingRepository {
         return mongoTemplate.findOne(query, Chatting.class);
     }
 
+    /**
+     * 마지막으로 읽은 시각 이후 상대가 보낸 최신 메시지 조회 (채팅방 입장 시 새로 읽은 메시지)
+     * (chatRoomId, createdAt) index로 최신 메시지부터 limit개만 조회하므로 채팅방의 전체 메시지 수와 무관
+     * @param readerId 입장한 유저 _id
+     * @param lastReadAt 마지막으로 읽은 시각, 없으면 최신 메시지부터 limit개
+     * @param limit 읽지 않은 메시지 수
+     * @return 메시지 (_id, senderId, createdAt, unreadCount만 포함)
+     */
+    public List<Chatting> findUnreadChattings(ObjectId chatRoomId, ObjectId readerId, LocalDateTime lastReadAt, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        Criteria criteria = Criteria.where("chatRoomId").is(chatRoomId).and("senderId").ne(readerId);
+        if (lastReadAt != null) {
+            criteria.and("createdAt").gt(lastReadAt);
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(limit);
+        query.fields().include("_id", "senderId", "createdAt", "unreadCount");
+        return mongoTemplate.find(query, Chatting.class);
+    }
+
+    /**
+     * 여러 채팅방에서 마지막으로 읽은 시각 이후 상대가 보낸 메시지 수를 한 번의 aggregation으로 조회
+     * 채팅방별 조건은 $or로 묶여 각각 (chatRoomId, createdAt) index 범위로 조회
+     * @param userId 유저 _id
+     * @param lastReadAts Key : 채팅방 _id, Value : 마지막으로 읽은 시각
+     * @return Key : 채팅방 _id, Value : 읽지 않은 메시지 수 (읽지 않은 메시지가 없는 채팅방은 포함되지 않음)
+     */
+    public Map<ObjectId, Integer> countUnread(ObjectId userId, Map<ObjectId, LocalDateTime> lastReadAts) {
+        if (lastReadAts.isEmpty()) {
+            return Map.of();
+        }
+
+        Criteria[] unreadInRooms = lastReadAts.entrySet().stream()
+                .map(entry -> Criteria.where("chatRoomId").is(entry.getKey())
+                        .and("createdAt").gt(entry.getValue()))
+                .toArray(Criteria[]::new);
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(new Criteria().orOperator(unreadInRooms).and("senderId").ne(userId)),
+                Aggregation.group("chatRoomId").count().as("count")
+        );
+
+        Map<ObjectId, Integer> counts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, Chatting.class, Document.class).getMappedResults()
+                .forEach(result -> counts.put(result.getObjectId("_id"), result.get("count", Number.class).intValue()));
+        return counts;
+    }
 }
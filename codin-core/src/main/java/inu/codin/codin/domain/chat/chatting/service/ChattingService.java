@@ -5,7 +5,9 @@ import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
 import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
 import inu.codin.codin.domain.chat.chatroom.exception.ChatRoomNotFoundException;
 import inu.codin.codin.domain.chat.chatroom.repository.ChatRoomRepository;
-import inu.codin.codin.domain.chat.chatroom.service.ChatRoomService;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
+import inu.codin.codin.domain.chat.chatroom.service.ChatUnreadCountService;
 import inu.codin.codin.domain.chat.chatting.dto.event.ChattingArrivedEvent;
 import inu.codin.codin.domain.chat.chatting.dto.event.ChattingNotificationEvent;
 import inu.codin.codin.domain.chat.chatting.dto.request.ChattingRequestDto;
@@ -13,7 +15,6 @@ import inu.codin.codin.domain.chat.chatting.dto.response.ChattingAndUserIdRespon
 import inu.codin.codin.domain.chat.chatting.dto.response.ChattingResponseDto;
 import inu.codin.codin.domain.chat.chatting.entity.Chatting;
 import inu.codin.codin.domain.chat.chatting.repository.ChattingRepository;
-import inu.codin.codin.domain.notification.service.NotificationService;
 import inu.codin.codin.domain.user.security.CustomUserDetails;
 import inu.codin.codin.infra.s3.S3Service;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +29,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 
@@ -38,37 +41,63 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 public class ChattingService {
 
     private final ChatRoomRepository chatRoomRepository;
+    private final CustomChatRoomRepository customChatRoomRepository;
+    private final ChatUnreadCountService chatUnreadCountService;
+    private final ChatPresenceService chatPresenceService;
     private final ChattingRepository chattingRepository;
     private final S3Service s3Service;
-    private final NotificationService notificationService;
-    private final ChatRoomService chatRoomService;
     private final ApplicationEventPublisher eventPublisher;
 
     public ChattingResponseDto sendMessage(String id, ChattingRequestDto chattingRequestDto, Authentication authentication) {
-        ChatRoom chatRoom = chatRoomRepository.findById(new ObjectId(id))
+        ObjectId userId = ((CustomUserDetails) authentication.getPrincipal()).getId();
+        return sendMessage(new ObjectId(id), userId, chattingRequestDto);
+    }
+
+    /**
+     * 채팅 송신
+     * 채팅방 조회 1번, 채팅 insert 1번, 채팅방 마지막 메시지/unread/재참여 update 1번으로 처리하고
+     * 상대방 채팅방 목록 갱신과 알림은 이벤트로 요청 스레드 밖에서 처리
+     * @param chatRoomId 채팅방 _id
+     * @param userId 송신자 _id
+     */
+    public ChattingResponseDto sendMessage(ObjectId chatRoomId, ObjectId userId, ChattingRequestDto chattingRequestDto) {
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
                 .orElseThrow(() -> {
-                    log.warn("[채팅방 조회 실패] 채팅방 ID: {}를 찾을 수 없습니다.", id);
+                    log.warn("[채팅방 조회 실패] 채팅방 ID: {}를 찾을 수 없습니다.", chatRoomId);
                     return new ChatRoomNotFoundException("채팅방을 찾을 수 없습니다.");
                 });
-        ObjectId userId = ((CustomUserDetails) authentication.getPrincipal()).getId();
-        Integer countOfParticipating = chatRoomService.countOfParticipating(chatRoom.get_id()); //접속해 있는 사람 수 빼기 (읽은 count)
-        Chatting chatting = Chatting.of(chatRoom.get_id(), chattingRequestDto, userId,
-                chatRoom.getParticipants().getInfo().size()-countOfParticipating);
 
-        log.info("[메시지 전송 성공] 메시지: [{}], 송신자 ID: {}, 채팅방 ID: {}", chattingRequestDto.getContent(), userId, id);
-
-        chattingRepository.save(chatting);
+        Collection<ParticipantInfo> participants = chatRoom.getParticipants().getInfo().values();
+        LocalDateTime sentAt = LocalDateTime.now();
+        //상대 유저가 채팅방에 입장해 있지 않다면 unread 증가 (입장 여부는 presence registry 기준)
+        List<ObjectId> unreadReceivers = participants.stream()
+                .filter(info -> !info.getUserId().equals(userId) && !chatPresenceService.isInRoom(chatRoom, info.getUserId()))
+                .map(ParticipantInfo::getUserId)
+                .toList();
+        //송신자와 접속해 있는 사람 빼기 (읽은 count)
+        Chatting chatting = Chatting.of(chatRoomId, chattingRequestDto, userId, unreadReceivers.size());
+        chattingRepository.insert(chatting);
 
         //상대가 채팅방을 나간 상태라면 다시 불러와서 채팅 시작
-        chatRoom.getParticipants().getInfo().values().stream()
+        List<ObjectId> returningReceivers = participants.stream()
                 .filter(info -> !info.getUserId().equals(userId) && info.isLeaved())
-                .forEach(ParticipantInfo::remain);
-        chatRoomRepository.save(chatRoom);
-
-        //상대 유저가 접속하지 않은 상태라면 unread 개수 업데이트 및 마지막 대화 내용 업데이트
-        eventPublisher.publishEvent(new ChattingArrivedEvent(this, chatting));
+                .map(ParticipantInfo::getUserId)
+                .toList();
+        ChatRoom updatedChatRoom = customChatRoomRepository.applyNewMessage(chatRoomId, chatting.getContent(),
+                sentAt, unreadReceivers, returningReceivers);
+        if (updatedChatRoom == null) {
+            log.warn("[채팅방 업데이트 실패] 메시지 전송 중 채팅방이 삭제되었습니다. 채팅방 ID: {}", chatRoomId);
+            return ChattingResponseDto.of(chatting);
+        }
+        //unread Counter는 증가시키지 않고 무효화 (그 사이 수신자가 입장해 읽음 처리했어도 watermark 기준으로 다시 계산)
+        chatUnreadCountService.invalidate(chatRoomId, unreadReceivers);
+
+        log.info("[메시지 전송 성공] 메시지: [{}], 송신자 ID: {}, 채팅방 ID: {}", chattingRequestDto.getContent(), userId, chatRoomId);
+
+        //상대 유저의 채팅방 목록 unread 및 마지막 대화 내용 실시간 업데이트
+        eventPublisher.publishEvent(new ChattingArrivedEvent(this, chatting, updatedChatRoom, unreadReceivers));
         //알림 보내기
-        eventPublisher.publishEvent(new ChattingNotificationEvent(this, userId, chatRoom));
+        eventPublisher.publishEvent(new ChattingNotificationEvent(this, userId, updatedChatRoom));
 
         return ChattingResponseDto.of(chatting);
     }
@@ -88,13 +117,18 @@ public class ChattingService {
                     return new ChatRoomNotFoundException("채팅방을 찾을 수 없습니다.");
                 });
 
-        List<ChattingResponseDto> chattingResponseDto;
+        List<Chatting> chattings;
         LocalDateTime whenLeaved = chatRoom.getParticipants().getInfo().get(userId).getWhenLeaved();
         if (whenLeaved!= null) //나간 적이 있다면 그 이후의 채팅 내역만 반환
-            chattingResponseDto = chattingRepository.findAllByChatRoomIdAndCreatedAtAfter(new ObjectId(id), whenLeaved, pageable)
-                    .stream().map(ChattingResponseDto::of).toList();
-        else chattingResponseDto = chattingRepository.findAllByChatRoomId(new ObjectId(id), pageable)
-                .stream().map(ChattingResponseDto::of).toList();
+            chattings = chattingRepository.findAllByChatRoomIdAndCreatedAtAfter(new ObjectId(id), whenLeaved, pageable);
+        else chattings = chattingRepository.findAllByChatRoomId(new ObjectId(id), pageable);
+        //채팅별 unread는 참여자들의 마지막으로 읽은 시각으로 계산 (watermark가 없는 참여자가 있으면 저장된 unread 사용)
+        Set<ObjectId> inRoomUserIds = chatPresenceService.findUsersInRoom(chatRoom);
+        List<ChattingResponseDto> chattingResponseDto = chattings.stream()
+                .map(chatting -> ChattingResponseDto.of(chatting,
+                        chatRoom.getParticipants().countUnread(chatting.getSenderId(), chatting.getCreatedAt(),
+                                chatting.getUnreadCount(), inRoomUserIds)))
+                .toList();
 
 
         log.info("[메시지 조회 성공] 채팅방 ID: {}, 메시지 개수: {}", id, chattingResponseDto.size());
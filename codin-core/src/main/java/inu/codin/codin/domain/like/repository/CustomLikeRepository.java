@@ -0,0 +1,71 @@
+package inu.codin.codin.domain.like.repository;
+
+import inu.codin.codin.domain.like.entity.LikeEntity;
+import inu.codin.codin.domain.like.entity.LikeType;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class CustomLikeRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomLikeRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 여러 entity의 좋아요 개수를 한 번의 aggregation으로 조회
+     * @return Key : likeTypeId, Value : 좋아요 개수 (좋아요가 없는 entity는 포함되지 않음)
+     */
+    public Map<String, Integer> countGroupByLikeTypeId(LikeType likeType, Collection<String> likeTypeIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("likeType").is(likeType)
+                        .and("likeTypeId").in(likeTypeIds)
+                        .and("deletedAt").is(null)),
+                Aggregation.group("likeTypeId").count().as("count")
+        );
+
+        Map<String, Integer> result = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, LikeEntity.class, Document.class)
+                .getMappedResults()
+                .forEach(doc -> result.put(String.valueOf(doc.get("_id")), doc.getInteger("count")));
+        return result;
+    }
+
+    /**
+     * 여러 종류의 entity 좋아요 개수를 한 번의 aggregation으로 조회
+     * @return Key : likeType, Value : (Key : likeTypeId, Value : 좋아요 개수) (좋아요가 없는 entity는 포함되지 않음)
+     */
+    public Map<LikeType, Map<String, Integer>> countGroupByLikeTypeAndLikeTypeId(Map<LikeType, ? extends Collection<String>> likeTypeIds) {
+        List<Criteria> criteria = likeTypeIds.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(entry -> Criteria.where("likeType").is(entry.getKey()).and("likeTypeId").in(entry.getValue()))
+                .toList();
+        Map<LikeType, Map<String, Integer>> result = new EnumMap<>(LikeType.class);
+        if (criteria.isEmpty()) return result;
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(new Criteria().orOperator(criteria).and("deletedAt").is(null)),
+                Aggregation.group("likeType", "likeTypeId").count().as("count")
+        );
+
+        mongoTemplate.aggregate(aggregation, LikeEntity.class, Document.class)
+                .getMappedResults()
+                .forEach(doc -> {
+                    Document id = doc.get("_id", Document.class);
+                    result.computeIfAbsent(LikeType.valueOf(id.getString("likeType")), likeType -> new HashMap<>())
+                            .put(String.valueOf(id.get("likeTypeId")), doc.getInteger("count"));
+                });
+        return result;
+    }
+}
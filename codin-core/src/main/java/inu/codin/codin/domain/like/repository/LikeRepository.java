@@ -4,12 +4,11 @@ import inu.codin.codin.domain.like.dto.LikedResponseDto;
 import inu.codin.codin.domain.like.entity.LikeEntity;
 import inu.codin.codin.domain.like.entity.LikeType;
 import org.bson.types.ObjectId;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,8 +19,15 @@ public interface LikeRepository extends MongoRepository<LikeEntity, ObjectId> {
     int countByLikeTypeAndLikeTypeIdAndDeletedAtIsNull(LikeType likeType, String likeTypeId);
     boolean existsByLikeTypeAndLikeTypeIdAndUserIdAndDeletedAtIsNull(LikeType likeType, String id, ObjectId userId);
     Optional<LikeEntity> findByLikeTypeAndLikeTypeIdAndUserId(LikeType likeType, String likeTypeId, ObjectId userId);
-    Page<LikeEntity> findAllByUserIdAndLikeTypeAndDeletedAtIsNullOrderByCreatedAt(ObjectId userId, LikeType likeType, Pageable pageable);
 
     @Query(value = "{ 'likeType': ?0, 'userId': ?1, 'deletedAt': null }", fields = "{ 'likeTypeId': 1, '_id': 0 }")
     List<LikedResponseDto> findLikeTypeIdByLikeTypeAndUserId(LikeType likeType, ObjectId userId);
+
+    // 여러 entity 중 유저가 좋아요를 누른 entity의 ID만 조회
+    @Query(value = "{ 'likeType': ?0, 'likeTypeId': { $in: ?1 }, 'userId': ?2, 'deletedAt': null }", fields = "{ 'likeTypeId': 1, '_id': 0 }")
+    List<LikedResponseDto> findLikeTypeIdByLikeTypeAndLikeTypeIdInAndUserId(LikeType likeType, Collection<String> likeTypeIds, ObjectId userId);
+
+    // 여러 종류의 entity 중 유저가 좋아요를 누른 entity의 ID만 조회
+    @Query(value = "{ 'likeType': { $in: ?0 }, 'likeTypeId': { $in: ?1 }, 'userId': ?2, 'deletedAt': null }", fields = "{ 'likeTypeId': 1, '_id': 0 }")
+    List<LikedResponseDto> findLikeTypeIdByLikeTypeInAndLikeTypeIdInAndUserId(Collection<LikeType> likeTypes, Collection<String> likeTypeIds, ObjectId userId);
 }
@@ -7,21 +7,30 @@ import inu.codin.codin.domain.like.dto.LikedResponseDto;
 import inu.codin.codin.domain.like.dto.request.LikeRequestDto;
 import inu.codin.codin.domain.like.entity.LikeEntity;
 import inu.codin.codin.domain.like.entity.LikeType;
+import inu.codin.codin.domain.like.repository.CustomLikeRepository;
 import inu.codin.codin.domain.like.repository.LikeRepository;
 import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
 import inu.codin.codin.domain.post.domain.comment.reply.repository.ReplyCommentRepository;
+import inu.codin.codin.domain.post.entity.PostCounterType;
 import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.domain.post.service.PostCounterService;
 import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.dto.CounterVersions;
 import inu.codin.codin.infra.redis.service.RedisBestService;
 import inu.codin.codin.infra.redis.service.RedisLikeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 
@@ -30,9 +39,11 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 @Slf4j
 public class LikeService {
     private final LikeRepository likeRepository;
+    private final CustomLikeRepository customLikeRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final ReplyCommentRepository replyCommentRepository;
+    private final PostCounterService postCounterService;
 
     private final RedisLikeService redisLikeService;
     private final RedisBestService redisBestService;
@@ -65,19 +76,16 @@ public class LikeService {
     }
 
     /*
-        총 좋아요 개수는 Redis에, 누가 눌렀는지는 DB에 저장
+        누가 눌렀는지는 DB에 저장, 총 좋아요 개수는 DB 저장 후 Redis Cache 무효화
      */
     public void addLike(LikeType likeType, String likeTypeId, ObjectId userId){
-        if (redisHealthChecker.isRedisAvailable()) {
-            redisLikeService.addLike(likeType.name(), likeTypeId);
-            log.info("Redis에 좋아요 추가 - likeType: {}, likeId: {}, userId: {}", likeType, likeTypeId, userId);
-        }
-
         likeRepository.save(LikeEntity.builder()
                 .likeType(likeType)
                 .likeTypeId(likeTypeId)
                 .userId(userId)
                 .build());
+        recordPostLike(likeType, likeTypeId, 1);
+        ifRedisAvailableInvalidateLike(likeType, likeTypeId);
         if (likeType == LikeType.POST) {
             redisBestService.applyBestScore(1, new ObjectId(likeTypeId));
             log.info("Redis에 Best Score 적용 - postId: {}", likeTypeId);
@@ -85,50 +93,151 @@ public class LikeService {
     }
 
     public void restoreLike(LikeEntity like) {
-        ifRedisAvailableAddLike(like.getLikeType(), like.getLikeTypeId());
-
         like.recreatedAt();
         like.restore();
         likeRepository.save(like);
+        recordPostLike(like.getLikeType(), like.getLikeTypeId(), 1);
+        ifRedisAvailableInvalidateLike(like.getLikeType(), like.getLikeTypeId());
         log.info("좋아요 복구 완료 - likeId: {}, userId: {}", like.get_id(), like.getUserId());
 
     }
 
-    private void ifRedisAvailableAddLike(LikeType likeType, String likeId) {
-        if (redisHealthChecker.isRedisAvailable()) {
-            redisLikeService.addLike(likeType.name(), likeId);
-            log.info("Redis에 좋아요 추가 - likeType: {}, likeId: {}", likeType, likeId);
-        }
-    }
-
     public void removeLike(LikeEntity like) {
-        if (redisHealthChecker.isRedisAvailable()) {
-            redisLikeService.removeLike(like.getLikeType().name(), like.getLikeTypeId());
-            log.info("Redis에서 좋아요 삭제 - likeType: {}, likeId: {}, userId: {}", like.getLikeType(), like.getLikeTypeId(), like.getUserId());
-        }
         like.delete();
         likeRepository.save(like);
+        recordPostLike(like.getLikeType(), like.getLikeTypeId(), -1);
+        ifRedisAvailableInvalidateLike(like.getLikeType(), like.getLikeTypeId());
         log.info("좋아요 삭제 완료 - likeId: {}, userId: {}", like.get_id(), like.getUserId());
     }
 
+    /*
+        DB 저장 이후에 무효화해야 무효화 전에 DB를 읽은 조회가 오래된 값을 복구하지 못함
+     */
+    private void ifRedisAvailableInvalidateLike(LikeType likeType, String likeId) {
+        if (redisHealthChecker.isRedisAvailable()) {
+            redisLikeService.invalidateLike(likeType.name(), likeId);
+            log.info("Redis 좋아요 수 무효화 - likeType: {}, likeId: {}", likeType, likeId);
+        }
+    }
+
     public int getLikeCount(LikeType likeType, String likeTypeId) {
         //Redis가 사용 가능하면 Redis 시도
-        Object redisResult = null;
-        if (redisHealthChecker.isRedisAvailable()) {
-            redisResult = redisLikeService.getLikeCount(likeType.name(), likeTypeId);
+        boolean redisAvailable = redisHealthChecker.isRedisAvailable();
+        if (redisAvailable) {
+            Long redisResult = redisLikeService.getLikeCount(likeType.name(), likeTypeId);
             if (redisResult != null)
-                return Integer.parseInt(String.valueOf(redisResult));
+                return redisResult.intValue();
         }
 
-        //Redis가 꺼져 있거나 cache가 없을 경우 -> DB 조회
-        int likeCount = likeRepository.countByLikeTypeAndLikeTypeIdAndDeletedAtIsNull(likeType, likeTypeId);
-        recoveryLike(likeType, likeTypeId, likeCount);
+        //Redis가 꺼져 있거나 cache가 없을 경우 -> DB 조회 후 cache 복구 (이미 key가 생겼거나 그 사이 무효화되었다면 복구하지 않음)
+        //게시글은 PostEntity에 저장된 카운트를 우선 사용하고, 초기화되지 않은 게시글만 컬렉션 count
+        CounterVersions versions = redisAvailable ? redisLikeService.getLikeVersion(likeType.name(), likeTypeId) : null;
+        Integer storedCount = likeType == LikeType.POST
+                ? postCounterService.getStoredCount(new ObjectId(likeTypeId), PostCounterType.LIKE)
+                : null;
+        int likeCount = storedCount != null
+                ? storedCount
+                : likeRepository.countByLikeTypeAndLikeTypeIdAndDeletedAtIsNull(likeType, likeTypeId);
+        if (redisAvailable)
+            redisLikeService.recoveryLike(likeType.name(), likeTypeId, likeCount, versions);
         return likeCount;
     }
 
-    @Async
-    protected void recoveryLike(LikeType entityType, String entityId, int likeCount) {
-        redisLikeService.recoveryLike(entityType.name(), entityId, likeCount);
+    /**
+     * 여러 entity의 좋아요 수를 일괄 조회
+     * @return Key : likeTypeId, Value : 좋아요 수
+     */
+    public Map<String, Integer> getLikeCounts(LikeType likeType, List<String> likeTypeIds) {
+        return getLikeCounts(Map.of(likeType, likeTypeIds)).get(likeType);
+    }
+
+    /**
+     * 여러 종류의 entity 좋아요 수를 일괄 조회
+     * 댓글/대댓글처럼 종류가 섞여 있어도 Redis 한 번의 호출로 조회 후,
+     * Cache miss는 DB aggregation 한 번으로 조회하여 한 번의 호출로 Cache 복구
+     * 게시글은 PostEntity에 저장된 카운트를 우선 사용
+     * @param likeTypeIds Key : likeType, Value : likeTypeId 리스트
+     * @return Key : likeType, Value : (Key : likeTypeId, Value : 좋아요 수)
+     */
+    public Map<LikeType, Map<String, Integer>> getLikeCounts(Map<LikeType, List<String>> likeTypeIds) {
+        Map<LikeType, Map<String, Integer>> likeCounts = new EnumMap<>(LikeType.class);
+        likeTypeIds.keySet().forEach(likeType -> likeCounts.put(likeType, new HashMap<>()));
+        Map<LikeType, List<String>> missedIds = likeTypeIds;
+
+        boolean redisAvailable = redisHealthChecker.isRedisAvailable();
+        if (redisAvailable) {
+            Map<String, List<String>> entityIds = new HashMap<>();
+            likeTypeIds.forEach((likeType, ids) -> entityIds.put(likeType.name(), ids));
+            Map<String, List<Long>> redisResults = redisLikeService.getLikeCounts(entityIds);
+
+            missedIds = new EnumMap<>(LikeType.class);
+            for (Map.Entry<LikeType, List<String>> entry : likeTypeIds.entrySet()) {
+                List<String> ids = entry.getValue();
+                List<Long> results = redisResults.get(entry.getKey().name());
+                List<String> missed = new ArrayList<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    Long redisResult = results.get(i);
+                    if (redisResult != null) likeCounts.get(entry.getKey()).put(ids.get(i), redisResult.intValue());
+                    else missed.add(ids.get(i));
+                }
+                if (!missed.isEmpty()) missedIds.put(entry.getKey(), missed);
+            }
+        }
+
+        if (missedIds.isEmpty()) return likeCounts;
+        //DB 조회 전에 version을 읽어, 조회 중 무효화된 entity는 복구하지 않음
+        CounterVersions versions = CounterVersions.empty();
+        if (redisAvailable) {
+            Map<String, List<String>> missedEntityIds = new HashMap<>();
+            missedIds.forEach((likeType, ids) -> missedEntityIds.put(likeType.name(), ids));
+            versions = redisLikeService.getLikeVersions(missedEntityIds);
+        }
+        Map<LikeType, Map<String, Integer>> recovered = recoverLikeCounts(missedIds);
+        if (recovered.isEmpty()) return likeCounts;
+        recovered.forEach((likeType, counts) -> likeCounts.get(likeType).putAll(counts));
+        if (redisAvailable) {
+            Map<String, Map<String, Integer>> values = new HashMap<>();
+            recovered.forEach((likeType, counts) -> values.put(likeType.name(), counts));
+            redisLikeService.recoveryLikes(values, versions);
+        }
+        return likeCounts;
+    }
+
+    /**
+     * Cache miss된 entity의 좋아요 수를 DB에서 조회
+     * 게시글은 PostEntity의 카운트, 나머지는 모든 종류를 묶어 aggregation 한 번으로 조회
+     */
+    private Map<LikeType, Map<String, Integer>> recoverLikeCounts(Map<LikeType, List<String>> missedIds) {
+        Map<LikeType, Map<String, Integer>> recovered = new EnumMap<>(LikeType.class);
+        Map<LikeType, List<String>> uncountedIds = new EnumMap<>(LikeType.class);
+        missedIds.forEach((likeType, ids) -> {
+            if (ids.isEmpty()) return;
+            Map<String, Integer> counts = new HashMap<>();
+            if (likeType == LikeType.POST) {
+                postCounterService.getStoredCounts(ids.stream().map(ObjectId::new).toList(), PostCounterType.LIKE)
+                        .forEach((postId, count) -> counts.put(postId.toString(), count));
+            }
+            List<String> uncounted = ids.stream().filter(id -> !counts.containsKey(id)).toList();
+            if (!uncounted.isEmpty()) uncountedIds.put(likeType, uncounted);
+            recovered.put(likeType, counts);
+        });
+
+        if (!uncountedIds.isEmpty()) {
+            Map<LikeType, Map<String, Integer>> dbCounts = customLikeRepository.countGroupByLikeTypeAndLikeTypeId(uncountedIds);
+            uncountedIds.forEach((likeType, ids) -> {
+                Map<String, Integer> typeCounts = dbCounts.getOrDefault(likeType, Map.of());
+                ids.forEach(id -> recovered.get(likeType).put(id, typeCounts.getOrDefault(id, 0)));
+            });
+        }
+        return recovered;
+    }
+
+    /**
+     * 게시글 좋아요는 PostEntity의 likeCount에 Write-Behind로 반영
+     */
+    private void recordPostLike(LikeType likeType, String likeTypeId, long delta) {
+        if (likeType == LikeType.POST)
+            postCounterService.record(new ObjectId(likeTypeId), PostCounterType.LIKE, delta);
     }
 
     public boolean isLiked(LikeType likeType, String likeTypeId, ObjectId userId){
@@ -139,6 +248,31 @@ public class LikeService {
         return likeRepository.existsByLikeTypeAndLikeTypeIdAndUserIdAndDeletedAtIsNull(likeType, likeTypeId, new ObjectId(userId));
     }
 
+    /**
+     * 여러 entity 중 유저가 좋아요를 누른 entity의 ID를 한 번의 조회로 반환
+     */
+    public Set<String> getLikedIds(LikeType likeType, List<String> likeTypeIds, ObjectId userId) {
+        return likeRepository.findLikeTypeIdByLikeTypeAndLikeTypeIdInAndUserId(likeType, likeTypeIds, userId)
+                .stream()
+                .map(LikedResponseDto::getLikeTypeId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 여러 종류의 entity 중 유저가 좋아요를 누른 entity의 ID를 한 번의 조회로 반환
+     * 댓글/대댓글 ID는 서로 다른 컬렉션의 ObjectId이므로 종류를 구분하지 않고 반환
+     */
+    public Set<String> getLikedIds(Map<LikeType, List<String>> likeTypeIds, ObjectId userId) {
+        List<String> ids = likeTypeIds.values().stream()
+                .flatMap(List::stream)
+                .toList();
+        if (ids.isEmpty()) return Set.of();
+        return likeRepository.findLikeTypeIdByLikeTypeInAndLikeTypeIdInAndUserId(likeTypeIds.keySet(), ids, userId)
+                .stream()
+                .map(LikedResponseDto::getLikeTypeId)
+                .collect(Collectors.toSet());
+    }
+
     private void isEntityNotDeleted(LikeRequestDto likeRequestDto){
         LikeType likeType = likeRequestDto.getLikeType();
         if (likeType.equals(LikeType.POST) || likeType.equals(LikeType.REPLY) || likeType.equals(LikeType.COMMENT)) {
@@ -101,6 +101,18 @@ public class PostController {
                 .body(new SingleResponse<>(200, "카테고리별 삭제 되지 않은 모든 게시물 조회 성공", postpages));
     }
 
+    @Operation(
+            summary = "카테고리별 삭제 되지 않은 모든 게시물 Cursor 기반 조회",
+            description = "첫 페이지는 cursor 없이 요청, 이후 응답의 nextCursor를 전달 (nextCursor가 null이면 마지막 페이지)"
+    )
+    @GetMapping("/category/cursor")
+    public ResponseEntity<SingleResponse<PostPageResponse>> getAllPostsByCursor(@RequestParam PostCategory postCategory,
+                                                                                @RequestParam(required = false) String cursor) {
+        PostPageResponse postpages = postQueryService.getAllPostsByCursor(postCategory, cursor);
+        return ResponseEntity.ok()
+                .body(new SingleResponse<>(200, "카테고리별 삭제 되지 않은 모든 게시물 조회 성공", postpages));
+    }
+
 
     @Operation(summary = "해당 게시물 상세 조회 (댓글 조회는 Comment에서 따로 조회)")
     @GetMapping("/{postId}")
@@ -0,0 +1,25 @@
+package inu.codin.codin.domain.post.domain.best;
+
+import inu.codin.codin.domain.post.dto.event.PostDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class BestEventListener {
+
+    private final BestService bestService;
+    private final BestSnapshotService bestSnapshotService;
+
+    /**
+     * 삭제된 게시글을 Best 랭킹과 스냅샷에서 제외
+     */
+    @Async
+    @EventListener
+    public void handlePostDeletedEvent(PostDeletedEvent event) {
+        bestService.deleteBestPost(event.getPostId().toString());
+        bestSnapshotService.evictTop3Snapshot();
+    }
+}
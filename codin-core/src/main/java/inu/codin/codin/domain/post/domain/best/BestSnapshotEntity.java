@@ -0,0 +1,51 @@
+package inu.codin.codin.domain.post.domain.best;
+
+import inu.codin.codin.domain.post.dto.response.PostPageItemResponseDTO;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 홈 화면용 베스트 게시물 스냅샷
+ * 랭킹 순서대로 조립된 게시물 DTO(비로그인 기준)를 한 문서에 저장하여 한 번의 조회로 응답
+ */
+@Document(collection = "best_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BestSnapshotEntity {
+
+    @Id
+    private String _id;
+
+    private List<String> rankedPostIds;
+
+    private List<PostPageItemResponseDTO> items;
+
+    private LocalDateTime refreshedAt;
+
+    @Builder
+    public BestSnapshotEntity(String _id, List<String> rankedPostIds, List<PostPageItemResponseDTO> items, LocalDateTime refreshedAt) {
+        this._id = _id;
+        this.rankedPostIds = rankedPostIds;
+        this.items = items;
+        this.refreshedAt = refreshedAt;
+    }
+
+    /**
+     * 스냅샷 생성 시점의 랭킹과 현재 랭킹이 같은지 확인
+     */
+    public boolean isRankedAs(List<String> postIds) {
+        return rankedPostIds != null && rankedPostIds.equals(postIds);
+    }
+
+    public boolean isOlderThan(Duration maxAge, LocalDateTime now) {
+        return refreshedAt == null || refreshedAt.plus(maxAge).isBefore(now);
+    }
+}
@@ -0,0 +1,6 @@
+package inu.codin.codin.domain.post.domain.best;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface BestSnapshotRepository extends MongoRepository<BestSnapshotEntity, String> {
+}
@@ -0,0 +1,110 @@
+package inu.codin.codin.domain.post.domain.best;
+
+import inu.codin.common.util.ObjectIdUtil;
+import inu.codin.codin.domain.post.dto.response.PostPageItemResponseDTO;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.domain.post.service.PostDtoAssembler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 베스트 게시물 스냅샷 관리
+ * 랭킹이 바뀌거나 스냅샷이 오래된 경우에만 게시물을 조립하고, 조회 시에는 유저별 반응 여부만 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BestSnapshotService {
+
+    public static final String TOP3_SNAPSHOT_ID = "top3";
+    // 좋아요/조회수 등 카운트가 반영되는 최대 지연
+    private static final Duration SNAPSHOT_MAX_AGE = Duration.ofMinutes(5);
+
+    private final BestService bestService;
+    private final BestSnapshotRepository bestSnapshotRepository;
+    private final PostRepository postRepository;
+    private final PostDtoAssembler postDtoAssembler;
+
+    /**
+     * Top 3 베스트 게시물 조회
+     * 스냅샷 한 건을 읽고 현재 유저의 좋아요/스크랩/투표 여부만 덧씌움, 스냅샷이 없으면 즉시 생성
+     * @param currentUserId 현재 유저 _id (비로그인 시 null)
+     */
+    public List<PostPageItemResponseDTO> getTop3BestPosts(ObjectId currentUserId) {
+        BestSnapshotEntity snapshot = bestSnapshotRepository.findById(TOP3_SNAPSHOT_ID)
+                .orElseGet(() -> rebuildTop3Snapshot(bestService.getTop3BestPostIds()));
+        return postDtoAssembler.overlayViewer(snapshot.getItems(), currentUserId);
+    }
+
+    /**
+     * Top 3 랭킹이 스냅샷과 다르거나 스냅샷이 오래된 경우 재생성
+     * @return 재생성 여부
+     */
+    public boolean refreshTop3Snapshot() {
+        List<String> rankedPostIds = bestService.getTop3BestPostIds();
+        Optional<BestSnapshotEntity> snapshot = bestSnapshotRepository.findById(TOP3_SNAPSHOT_ID);
+        if (snapshot.isPresent()
+                && snapshot.get().isRankedAs(rankedPostIds)
+                && !snapshot.get().isOlderThan(SNAPSHOT_MAX_AGE, LocalDateTime.now())) {
+            return false;
+        }
+        rebuildTop3Snapshot(rankedPostIds);
+        return true;
+    }
+
+    /**
+     * 스냅샷 삭제, 다음 조회 시 재생성
+     */
+    public void evictTop3Snapshot() {
+        bestSnapshotRepository.deleteById(TOP3_SNAPSHOT_ID);
+    }
+
+    /**
+     * 랭킹 순서대로 게시물을 한 번에 조회
+     * 삭제/비활성 게시물은 결과에서 제외하고 Best 랭킹에서도 삭제
+     * @param rankedPostIds 랭킹 순 게시물 _id (중복 가능)
+     */
+    public List<PostEntity> findRankedPosts(List<ObjectId> rankedPostIds) {
+        if (rankedPostIds.isEmpty()) {
+            return List.of();
+        }
+        Map<ObjectId, PostEntity> postMap = postRepository.findAllByIdInAndNotDeleted(rankedPostIds.stream().distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(PostEntity::get_id, Function.identity()));
+
+        List<PostEntity> posts = new ArrayList<>();
+        for (ObjectId postId : rankedPostIds) {
+            PostEntity post = postMap.get(postId);
+            if (post == null) {
+                bestService.deleteBestPost(postId.toString()); // 검증 실패시 삭제
+            } else {
+                posts.add(post);
+            }
+        }
+        return posts;
+    }
+
+    private BestSnapshotEntity rebuildTop3Snapshot(List<String> rankedPostIds) {
+        List<PostEntity> posts = findRankedPosts(rankedPostIds.stream().map(ObjectIdUtil::toObjectId).toList());
+        BestSnapshotEntity snapshot = BestSnapshotEntity.builder()
+                ._id(TOP3_SNAPSHOT_ID)
+                .rankedPostIds(rankedPostIds)
+                .items(postDtoAssembler.toPageItemList(posts, null))
+                .refreshedAt(LocalDateTime.now())
+                .build();
+        log.info("[Best 스냅샷] Top 3 스냅샷 생성 - postIds: {}", rankedPostIds);
+        return bestSnapshotRepository.save(snapshot);
+    }
+}
@@ -6,6 +6,7 @@ import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +16,8 @@ public interface ReplyCommentRepository extends MongoRepository<ReplyCommentEnti
     Optional<ReplyCommentEntity> findByIdAndNotDeleted(ObjectId id);
 
     List<ReplyCommentEntity> findByCommentId(ObjectId commentId);
+
+    // 여러 댓글의 대댓글을 작성 순서대로 한 번에 조회
+    @Query(value = "{ 'commentId': { $in: ?0 } }", sort = "{ '_id': 1 }")
+    List<ReplyCommentEntity> findByCommentIdIn(Collection<ObjectId> commentIds);
 }
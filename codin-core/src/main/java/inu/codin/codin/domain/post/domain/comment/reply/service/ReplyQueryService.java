@@ -12,8 +12,8 @@ import inu.codin.codin.domain.post.dto.UserDto;
 import inu.codin.codin.domain.post.dto.UserInfo;
 import inu.codin.codin.domain.post.entity.PostAnonymous;
 import inu.codin.codin.domain.post.service.PostQueryService;
-import inu.codin.codin.domain.user.entity.UserEntity;
-import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.user.dto.UserProfile;
+import inu.codin.codin.domain.user.service.UserProfileService;
 import inu.codin.codin.infra.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Service;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static inu.codin.common.util.ObjectIdUtil.toObjectId;
@@ -33,7 +34,7 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 public class ReplyQueryService {
 
     private final ReplyCommentRepository replyCommentRepository;
-    private final UserRepository userRepository;
+    private final UserProfileService userProfileService;
     private final PostQueryService postQueryService;
 
     private final LikeService likeService;
@@ -45,6 +46,7 @@ public class ReplyQueryService {
 
     /**
      * 특정 댓글의 대댓글 조회
+     * 작성자, 좋아요 수, 유저의 좋아요 여부는 대댓글 수와 무관하게 각각 일괄 조회
      */
     public List<CommentResponseDTO> getRepliesByCommentId(PostAnonymous postAnonymous, ObjectId commentId) {
         // 1. 대댓글 목록 조회
@@ -54,33 +56,48 @@ public class ReplyQueryService {
         }
 
         // 2. 사용자 정보 맵 생성
-        Map<ObjectId, UserEntity> userMap = createUserMapFromReplies(replies);
+        Map<ObjectId, UserProfile> userMap = createUserMapFromReplies(replies);
         String defaultImageUrl = s3Service.getDefaultProfileImageUrl();
 
-        // 3. 대댓글 DTO 변환
+        // 3. 좋아요 수 및 유저의 좋아요 여부 일괄 조회
+        List<String> replyIds = replies.stream()
+                .map(reply -> reply.get_id().toString())
+                .toList();
+        Map<String, Integer> likeCounts = likeService.getLikeCounts(LikeType.REPLY, replyIds);
+        String userIdStr = SecurityUtil.getCurrentUserIdOrNull();
+        Set<String> likedIds = (userIdStr == null)
+                ? Set.of()
+                : likeService.getLikedIds(LikeType.REPLY, replyIds, toObjectId(userIdStr));
+
+        // 4. 대댓글 DTO 변환
         return replies.stream()
-                .map(reply -> buildReplyResponseDTO(reply, postAnonymous, userMap, defaultImageUrl))
+                .map(reply -> buildReplyResponseDTO(reply, postAnonymous, userMap, defaultImageUrl, likeCounts, likedIds))
                 .toList();
     }
 
+    /**
+     * 여러 댓글의 대댓글을 한 번의 조회로 반환
+     * @return Key : 댓글 _id, Value : 작성 순서대로 정렬된 대댓글 리스트
+     */
+    public Map<ObjectId, List<ReplyCommentEntity>> getRepliesGroupByCommentId(List<ObjectId> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return replyCommentRepository.findByCommentIdIn(commentIds)
+                .stream()
+                .collect(Collectors.groupingBy(ReplyCommentEntity::getCommentId));
+    }
+
     /**
      * 대댓글 작성자들의 사용자 정보 맵 생성
      */
-    private Map<ObjectId, UserEntity> createUserMapFromReplies(List<ReplyCommentEntity> replies) {
-        List<ObjectId> userIdsInOrder = replies.stream()
+    private Map<ObjectId, UserProfile> createUserMapFromReplies(List<ReplyCommentEntity> replies) {
+        List<ObjectId> distinctIds = replies.stream()
                 .map(ReplyCommentEntity::getUserId)
-                .toList();
-
-        List<ObjectId> distinctIds = userIdsInOrder.stream()
                 .distinct()
                 .toList();
 
-        return userRepository.findAllById(distinctIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        UserEntity::get_id,
-                        user -> user
-                ));
+        return userProfileService.getProfiles(distinctIds);
     }
 
     /**
@@ -89,20 +106,23 @@ public class ReplyQueryService {
     private CommentResponseDTO buildReplyResponseDTO(
             ReplyCommentEntity reply,
             PostAnonymous postAnonymous,
-            Map<ObjectId, UserEntity> userMap,
-            String defaultImageUrl) {
+            Map<ObjectId, UserProfile> userMap,
+            String defaultImageUrl,
+            Map<String, Integer> likeCounts,
+            Set<String> likedIds) {
 
         ObjectId userId = reply.getUserId();
-        UserEntity user = userMap.get(userId);
+        UserProfile user = userMap.get(userId);
         int anonNum = postQueryService.getUserAnonymousNumber(postAnonymous, reply.getUserId());
 
         UserDto replyUserDto = UserDto.forReply(reply, user, anonNum, defaultImageUrl);
+        String replyId = reply.get_id().toString();
 
         return CommentResponseDTO.replyOf(
                 reply,
                 replyUserDto,
-                likeService.getLikeCount(LikeType.REPLY, reply.get_id().toString()),
-                getUserInfoAboutReply(reply.get_id())
+                likeCounts.getOrDefault(replyId, 0),
+                UserInfo.ofComment(likedIds.contains(replyId))
         );
     }
 
@@ -2,8 +2,6 @@ package inu.codin.codin.domain.post.domain.comment.repository;
 
 import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
 import org.bson.types.ObjectId;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -20,6 +18,4 @@ public interface CommentRepository extends MongoRepository<CommentEntity, Object
 
     @Query("{ 'postId': ?0 }")
     List<CommentEntity> findByPostId(ObjectId postId);
-
-    Page<CommentEntity> findAllByUserIdOrderByCreatedAt(ObjectId userId, PageRequest pageRequest);
 }
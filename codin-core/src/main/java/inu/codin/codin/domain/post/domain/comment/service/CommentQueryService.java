@@ -9,14 +9,15 @@ import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
 import inu.codin.codin.domain.post.domain.comment.exception.CommentErrorCode;
 import inu.codin.codin.domain.post.domain.comment.exception.CommentException;
 import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
+import inu.codin.codin.domain.post.domain.comment.reply.entity.ReplyCommentEntity;
 import inu.codin.codin.domain.post.domain.comment.reply.service.ReplyQueryService;
 import inu.codin.codin.domain.post.dto.UserDto;
 import inu.codin.codin.domain.post.dto.UserInfo;
 import inu.codin.codin.domain.post.entity.PostAnonymous;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.service.PostQueryService;
-import inu.codin.codin.domain.user.entity.UserEntity;
-import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.user.dto.UserProfile;
+import inu.codin.codin.domain.user.service.UserProfileService;
 import inu.codin.codin.infra.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +27,9 @@ import org.springframework.stereotype.Service;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 
@@ -35,7 +38,7 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 @Slf4j
 public class CommentQueryService {
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final UserProfileService userProfileService;
 
     private final LikeService likeService;
     private final PostQueryService postQueryService;
@@ -44,75 +47,120 @@ public class CommentQueryService {
 
     /**
      * 특정 게시물의 댓글 및 대댓글 조회
+     * 댓글/대댓글 수와 무관하게 댓글, 대댓글, 작성자, 좋아요 수, 유저의 좋아요 여부를 각각 한 번씩 일괄 조회하여 트리 조립
      */
     public List<CommentResponseDTO> getCommentsByPostId(String id) {
         // 1. 입력 검증 및 게시물 조회
         ObjectId postId = ObjectIdUtil.toObjectId(id);
         PostEntity post = postQueryService.findPostById(postId);
 
-        // 2. 댓글 목록 조회
+        // 2. 댓글 및 대댓글 목록 조회
         List<CommentEntity> comments = commentRepository.findByPostId(postId);
         if (comments.isEmpty()) {
             return Collections.emptyList();
         }
+        List<ObjectId> commentIds = comments.stream()
+                .map(CommentEntity::get_id)
+                .toList();
+        Map<ObjectId, List<ReplyCommentEntity>> repliesByCommentId = replyQueryService.getRepliesGroupByCommentId(commentIds);
+        List<ReplyCommentEntity> replies = repliesByCommentId.values().stream()
+                .flatMap(List::stream)
+                .toList();
 
-        // 3. 사용자 정보 맵 생성
-        Map<ObjectId, UserEntity> userMap = createUserMap(comments);
+        // 3. 댓글 및 대댓글 작성자의 사용자 정보 맵 생성
+        Map<ObjectId, UserProfile> userMap = createUserMap(comments, replies);
         String defaultImageUrl = s3Service.getDefaultProfileImageUrl();
 
-        // 4. 댓글 DTO 변환
+        // 4. 좋아요 수 및 유저의 좋아요 여부 일괄 조회
+        Map<LikeType, List<String>> likeTypeIds = Map.of(
+                LikeType.COMMENT, commentIds.stream().map(ObjectId::toString).toList(),
+                LikeType.REPLY, replies.stream().map(reply -> reply.get_id().toString()).toList());
+        Map<LikeType, Map<String, Integer>> likeCounts = likeService.getLikeCounts(likeTypeIds);
+        String userIdStr = SecurityUtil.getCurrentUserIdOrNull();
+        Set<String> likedIds = (userIdStr == null)
+                ? Set.of()
+                : likeService.getLikedIds(likeTypeIds, toObjectId(userIdStr));
+
+        // 5. 댓글 DTO 변환
+        CommentTreeContext context = new CommentTreeContext(post.getAnonymous(), userMap, defaultImageUrl, likeCounts, likedIds);
         return comments.stream()
-                .map(comment -> buildCommentResponseDTO(post.getAnonymous(), comment, userMap, defaultImageUrl))
+                .map(comment -> buildCommentResponseDTO(
+                        comment, repliesByCommentId.getOrDefault(comment.get_id(), List.of()), context))
                 .collect(Collectors.toList());
     }
 
-
-
     /**
-     * 댓글 작성자들의 사용자 정보 맵 생성
+     * 댓글 및 대댓글 작성자들의 사용자 정보 맵 생성
      */
-    private Map<ObjectId, UserEntity> createUserMap(List<CommentEntity> comments) {
-        List<ObjectId> userIdsInOrder = comments.stream()
-                .map(CommentEntity::getUserId)
-                .toList();
-
-        List<ObjectId> distinctIds = userIdsInOrder.stream()
+    private Map<ObjectId, UserProfile> createUserMap(List<CommentEntity> comments, List<ReplyCommentEntity> replies) {
+        List<ObjectId> distinctIds = Stream.concat(
+                        comments.stream().map(CommentEntity::getUserId),
+                        replies.stream().map(ReplyCommentEntity::getUserId))
                 .distinct()
                 .toList();
 
-        return userRepository.findAllById(distinctIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        UserEntity::get_id,
-                        user -> user
-                ));
+        return userProfileService.getProfiles(distinctIds);
     }
 
     /**
      * 댓글 응답 DTO 생성
      */
     private CommentResponseDTO buildCommentResponseDTO(
-            PostAnonymous postAnonymous,
             CommentEntity comment,
-            Map<ObjectId, UserEntity> userMap,
-            String defaultImageUrl) {
+            List<ReplyCommentEntity> replies,
+            CommentTreeContext context) {
 
-        int anonNum = postQueryService.getUserAnonymousNumber(postAnonymous, comment.getUserId());
+        int anonNum = postQueryService.getUserAnonymousNumber(context.postAnonymous(), comment.getUserId());
 
-        UserEntity user = userMap.get(comment.getUserId());
+        UserProfile user = context.userMap().get(comment.getUserId());
 
         // 댓글용 사용자 DTO 생성
-        UserDto commentUserDto = UserDto.forComment(comment, user, anonNum ,defaultImageUrl);
+        UserDto commentUserDto = UserDto.forComment(comment, user, anonNum, context.defaultImageUrl());
+        String commentId = comment.get_id().toString();
 
         return CommentResponseDTO.commentOf(
                 comment,
                 commentUserDto,
-                replyQueryService.getRepliesByCommentId(postAnonymous, comment.get_id()),
-                likeService.getLikeCount(LikeType.COMMENT, comment.get_id().toString()),
-                getUserInfoAboutComment(comment.get_id())
+                replies.stream()
+                        .map(reply -> buildReplyResponseDTO(reply, context))
+                        .toList(),
+                context.likeCount(LikeType.COMMENT, commentId),
+                UserInfo.ofComment(context.likedIds().contains(commentId))
+        );
+    }
+
+    /**
+     * 대댓글 응답 DTO 생성
+     */
+    private CommentResponseDTO buildReplyResponseDTO(ReplyCommentEntity reply, CommentTreeContext context) {
+        int anonNum = postQueryService.getUserAnonymousNumber(context.postAnonymous(), reply.getUserId());
+
+        UserProfile user = context.userMap().get(reply.getUserId());
+        UserDto replyUserDto = UserDto.forReply(reply, user, anonNum, context.defaultImageUrl());
+        String replyId = reply.get_id().toString();
+
+        return CommentResponseDTO.replyOf(
+                reply,
+                replyUserDto,
+                context.likeCount(LikeType.REPLY, replyId),
+                UserInfo.ofComment(context.likedIds().contains(replyId))
         );
     }
 
+    /**
+     * 댓글 트리 조립 시 일괄 조회한 결과
+     */
+    private record CommentTreeContext(
+            PostAnonymous postAnonymous,
+            Map<ObjectId, UserProfile> userMap,
+            String defaultImageUrl,
+            Map<LikeType, Map<String, Integer>> likeCounts,
+            Set<String> likedIds) {
+
+        int likeCount(LikeType likeType, String likeTypeId) {
+            return likeCounts.getOrDefault(likeType, Map.of()).getOrDefault(likeTypeId, 0);
+        }
+    }
 
     public UserInfo getUserInfoAboutComment(ObjectId commentId) {
         String userIdStr = SecurityUtil.getCurrentUserIdOrNull();
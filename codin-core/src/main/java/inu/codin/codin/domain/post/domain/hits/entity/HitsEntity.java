@@ -21,9 +21,12 @@ public class HitsEntity {
 
     private ObjectId postId;
 
+    private boolean pendingMerge; // Redis 장애 중 기록되어 아직 Redis 집계에 합산되지 않은 조회
+
     @Builder
-    public HitsEntity(ObjectId userId, ObjectId postId) {
+    public HitsEntity(ObjectId userId, ObjectId postId, boolean pendingMerge) {
         this.userId = userId;
         this.postId = postId;
+        this.pendingMerge = pendingMerge;
     }
 }
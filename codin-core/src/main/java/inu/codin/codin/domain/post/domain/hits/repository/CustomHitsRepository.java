@@ -0,0 +1,82 @@
+package inu.codin.codin.domain.post.domain.hits.repository;
+
+import inu.codin.codin.domain.post.domain.hits.entity.HitsEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class CustomHitsRepository {
+
+    public static final String PENDING_MERGE_INDEX_NAME = "hits_pending_merge_idx";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomHitsRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 여러 게시글의 조회수를 한 번의 aggregation으로 조회
+     * @return Key : postId, Value : 조회수 (조회 기록이 없는 게시글은 포함되지 않음)
+     */
+    public Map<ObjectId, Integer> countGroupByPostId(Collection<ObjectId> postIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("postId").in(postIds)),
+                Aggregation.group("postId").count().as("count")
+        );
+
+        Map<ObjectId, Integer> result = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, HitsEntity.class, Document.class)
+                .getMappedResults()
+                .forEach(doc -> result.put(doc.getObjectId("_id"), doc.getInteger("count")));
+        return result;
+    }
+
+    /**
+     * 게시글을 조회한 로그인 유저 _id를 중복 없이 조회
+     */
+    public List<ObjectId> findViewerIds(ObjectId postId) {
+        Query query = Query.query(Criteria.where("postId").is(postId).and("userId").ne(null));
+        return mongoTemplate.findDistinct(query, "userId", HitsEntity.class, ObjectId.class);
+    }
+
+    /**
+     * Redis 집계에 처음 포함된 조회 유저를 기록, 이미 기록된 유저면 무시
+     * Redis 집계 만료 후 초기화와 Redis 장애 중 중복 확인이 hits 컬렉션 기준이므로 Redis로 집계한 유저도 남김
+     */
+    public void insertViewerIfAbsent(ObjectId postId, ObjectId userId) {
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("postId").is(postId).and("userId").is(userId)),
+                new Update().setOnInsert("pendingMerge", false),
+                HitsEntity.class);
+    }
+
+    /**
+     * Redis 장애 중 기록되어 아직 Redis 집계에 합산되지 않은 조회
+     */
+    public List<HitsEntity> findPendingMerge(int limit) {
+        return mongoTemplate.find(Query.query(Criteria.where("pendingMerge").is(true)).limit(limit), HitsEntity.class);
+    }
+
+    /**
+     * Redis 집계에 합산된 조회 표시
+     */
+    public void markMerged(Collection<ObjectId> hitsIds) {
+        if (hitsIds.isEmpty()) return;
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(hitsIds)),
+                new Update().set("pendingMerge", false),
+                HitsEntity.class);
+    }
+}
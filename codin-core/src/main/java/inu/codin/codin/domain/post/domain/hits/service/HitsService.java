@@ -1,43 +1,92 @@
 package inu.codin.codin.domain.post.domain.hits.service;
 
 import inu.codin.codin.domain.post.domain.hits.entity.HitsEntity;
+import inu.codin.codin.domain.post.domain.hits.repository.CustomHitsRepository;
 import inu.codin.codin.domain.post.domain.hits.repository.HitsRepository;
-import inu.codin.codin.domain.post.domain.hits.exception.HitsException;
-import inu.codin.codin.domain.post.domain.hits.exception.HitsErrorCode;
+import inu.codin.codin.domain.post.entity.PostCounterType;
+import inu.codin.codin.domain.post.service.PostCounterService;
 import inu.codin.codin.infra.redis.config.RedisHealthChecker;
 import inu.codin.codin.infra.redis.service.RedisHitsService;
+import inu.codin.codin.infra.redis.service.RedisHitsService.ViewResult;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
- * Look Aside
- * - Cache miss -> DB 조회 및 Cache 등록
- * Write Back
- * - SyncScheduler 동기화
+ * 조회 기록
+ * - Redis HyperLogLog에 조회 유저를 기록 (한 번의 호출), 유저당 한 번 집계는 표준 오차 약 0.81% 내에서 보장
+ * - 처음 집계된 로그인 유저는 hits 컬렉션에도 기록하여, Redis 집계 만료 후 초기화와 장애 중 중복 확인에 사용
+ * - Redis 장애 시 hits 컬렉션 기준으로 중복 확인 후 기록, 장애 중 조회는 복구 후 Redis 집계에 합산
+ * Compaction
+ * - SyncScheduler가 조회수가 변경된 게시글의 조회수를 주기적으로 PostEntity.hitCount에 반영
+ * 조회
+ * - Redis 집계 값, 초기화 전 게시글은 PostEntity에 저장된 조회수(초기화 전 게시글은 컬렉션 count)
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class HitsService {
 
+    private static final int COMPACT_BATCH_SIZE = 500;
+    private static final int MERGE_BATCH_SIZE = 1000;
+
     private final RedisHitsService redisHitsService;
     private final RedisHealthChecker redisHealthChecker;
 
     private final HitsRepository hitsRepository;
+    private final CustomHitsRepository customHitsRepository;
+    private final PostCounterService postCounterService;
 
     /**
-     * 게시글 조회수 추가
-     * Cache 업데이트 후 DB 업데이트
+     * 게시글 조회 기록
+     * 비로그인(null) → 항상 집계, 로그인 → 유저당 한 번만 집계
+     * Redis 집계가 초기화되지 않은 게시글은 hits 컬렉션 기준으로 초기화 후 기록
+     * @param postId 게시글 _id
+     * @param userId 유저 _id
+     */
+    public void recordView(ObjectId postId, ObjectId userId) {
+        ViewResult result = redisHealthChecker.isRedisAvailable() ? recordRedisView(postId, userId) : null;
+        if (result == ViewResult.NEW_VIEWER) customHitsRepository.insertViewerIfAbsent(postId, userId);
+        if (result != null && result != ViewResult.NOT_SEEDED) return;
+
+        if (!validateHits(postId, userId)) addHits(postId, userId);
+    }
+
+    /**
+     * @return Redis 기록 결과, Redis 오류 시 null
+     */
+    private ViewResult recordRedisView(ObjectId postId, ObjectId userId) {
+        try {
+            ViewResult result = redisHitsService.recordView(postId, userId);
+            if (result != ViewResult.NOT_SEEDED) return result;
+            seedViewers(postId);
+            return redisHitsService.recordView(postId, userId);
+        } catch (Exception e) {
+            log.warn("[조회 기록] Redis 기록 실패, DB에 기록 - postId: {}, userId: {}", postId, userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 게시글 조회수 추가 (Redis를 사용할 수 없을 때)
+     * Redis 복구 후 Redis 집계에 합산할 수 있도록 합산 대기로 저장
      * @param postId 게시글 _id
      * @param userId 유저 _id
      */
     public void addHits(ObjectId postId, ObjectId userId){
-        if (redisHealthChecker.isRedisAvailable())
-            redisHitsService.addHits(postId);
         HitsEntity hitsEntity = HitsEntity.builder()
-                .postId(postId).userId(userId).build();
+                .postId(postId).userId(userId).pendingMerge(true).build();
         hitsRepository.save(hitsEntity);
+        postCounterService.record(postId, PostCounterType.HITS, 1);
     }
 
     /**
@@ -53,29 +102,124 @@ public class HitsService {
 
     /**
      * 게시글 조회수 반환
-     * null : Cache miss로 @Async로 Cache 복구 및 DB 조회
+     * null : Redis 집계 전 게시글로 PostEntity에 저장된 조회수(초기화 전 게시글은 컬렉션 count) 조회
      * @param postId 게시글 _id
      * @return 게시글 조회수
      */
     public int getHitsCount(ObjectId postId) {
-        Object hits = null;
-        if (redisHealthChecker.isRedisAvailable())
-            hits = redisHitsService.getHitsCount(postId);
-        if (hits == null) {
-            recoveryHits(postId);
-            return hitsRepository.countAllByPostId(postId);
+        if (redisHealthChecker.isRedisAvailable()) {
+            Long hits = redisHitsService.getHitsCount(postId);
+            if (hits != null) return hits.intValue();
         }
-        else return Integer.parseInt((String)hits);
+
+        Integer storedHits = postCounterService.getStoredCount(postId, PostCounterType.HITS);
+        return storedHits != null ? storedHits : hitsRepository.countAllByPostId(postId);
     }
 
     /**
-     * Cache miss로 인한 DB로부터 Cache 복구
-     * @param postId 게시글 _id
+     * 여러 게시글의 조회수 일괄 반환
+     * Redis 한 번의 호출로 조회 후, 집계 전 게시글은 PostEntity에 저장된 조회수로,
+     * 조회수가 초기화되지 않은 게시글은 DB aggregation 한 번으로 조회
+     * @param postIds 게시글 _id 리스트
+     * @return Key : 게시글 _id, Value : 조회수
+     */
+    public Map<ObjectId, Integer> getHitsCounts(List<ObjectId> postIds) {
+        Map<ObjectId, Integer> hitsCounts = new HashMap<>();
+        List<ObjectId> missedIds = postIds;
+
+        if (redisHealthChecker.isRedisAvailable()) {
+            List<Long> redisResults = redisHitsService.getHitsCounts(postIds);
+            missedIds = new ArrayList<>();
+            for (int i = 0; i < postIds.size(); i++) {
+                Long hits = redisResults.get(i);
+                if (hits != null) hitsCounts.put(postIds.get(i), hits.intValue());
+                else missedIds.add(postIds.get(i));
+            }
+        }
+
+        if (!missedIds.isEmpty()) {
+            hitsCounts.putAll(postCounterService.getStoredCounts(missedIds, PostCounterType.HITS));
+            List<ObjectId> uncountedIds = missedIds.stream().filter(postId -> !hitsCounts.containsKey(postId)).toList();
+            if (!uncountedIds.isEmpty()) {
+                Map<ObjectId, Integer> dbCounts = customHitsRepository.countGroupByPostId(uncountedIds);
+                uncountedIds.forEach(postId -> hitsCounts.put(postId, dbCounts.getOrDefault(postId, 0)));
+            }
+        }
+        return hitsCounts;
+    }
+
+    /**
+     * 조회수가 변경된 게시글의 Redis 집계 값을 PostEntity.hitCount에 반영
+     * 반영에 실패한 배치는 다시 반영 대상으로 등록하고 다음 주기로 넘김
+     * Redis 장애 중 DB에만 기록된 조회를 먼저 Redis 집계에 합산하여, 저장된 조회수보다 작은 집계 값이 무시되지 않도록 함
+     * @return 반영된 게시글 수
      */
-    @Async
-    protected void recoveryHits(ObjectId postId) {
-        int hits = hitsRepository.countAllByPostId(postId);
-        redisHitsService.recoveryHits(postId, hits);
+    public int compactHits() {
+        mergeOutageViews();
+        int compacted = 0;
+        while (true) {
+            List<ObjectId> postIds = redisHitsService.drainDirtyPosts(COMPACT_BATCH_SIZE);
+            if (postIds.isEmpty()) break;
+            try {
+                List<Long> counts = redisHitsService.getHitsCounts(postIds);
+                Map<ObjectId, Integer> hits = new HashMap<>();
+                for (int i = 0; i < postIds.size(); i++) {
+                    if (counts.get(i) != null) hits.put(postIds.get(i), counts.get(i).intValue());
+                }
+                postCounterService.raiseStoredCounts(hits, PostCounterType.HITS);
+                compacted += hits.size();
+            } catch (Exception e) {
+                log.error("[조회수 반영] 게시글 조회수 반영 실패 - 게시글 수: {}", postIds.size(), e);
+                redisHitsService.markDirty(postIds);
+                break;
+            }
+            if (postIds.size() < COMPACT_BATCH_SIZE) break;
+        }
+        return compacted;
     }
 
+    /**
+     * Redis 장애 중 기록된 조회(hits 컬렉션의 합산 대기)를 Redis 집계에 합산
+     * 조회 유저는 HyperLogLog에, 비로그인 조회는 base에 더하므로 장애 전 Redis에만 집계된 조회수도 유지
+     * 초기화 전(만료 포함) 게시글은 다음 조회 시 장애 중 조회가 포함된 DB 기준으로 초기화되므로 합산하지 않음
+     * 합산 대기는 DB에 남아 있으므로 서버가 재시작되어도 유실되지 않으며,
+     * 합산 후 표시 전에 중단되면 다음 주기에 다시 합산 (조회 유저는 중복 제거, 비로그인 조회는 다시 더해짐)
+     */
+    private void mergeOutageViews() {
+        while (true) {
+            List<HitsEntity> pending = customHitsRepository.findPendingMerge(MERGE_BATCH_SIZE);
+            if (pending.isEmpty()) return;
+
+            Map<ObjectId, List<HitsEntity>> pendingByPost = new LinkedHashMap<>();
+            pending.forEach(hits -> pendingByPost.computeIfAbsent(hits.getPostId(), id -> new ArrayList<>()).add(hits));
+            for (Map.Entry<ObjectId, List<HitsEntity>> entry : pendingByPost.entrySet()) {
+                Set<ObjectId> viewers = new HashSet<>();
+                long anonymousViews = 0;
+                for (HitsEntity hits : entry.getValue()) {
+                    if (hits.getUserId() == null) anonymousViews++;
+                    else viewers.add(hits.getUserId());
+                }
+                try {
+                    redisHitsService.mergeViews(entry.getKey(), viewers, anonymousViews);
+                } catch (Exception e) {
+                    log.error("[조회수 반영] 장애 중 조회 합산 실패 - postId: {}", entry.getKey(), e);
+                    return;
+                }
+                customHitsRepository.markMerged(entry.getValue().stream().map(HitsEntity::get_id).toList());
+            }
+            if (pending.size() < MERGE_BATCH_SIZE) return;
+        }
+    }
+
+    /**
+     * hits 컬렉션의 조회 유저와 게시글에 저장된 조회수로 Redis 집계 초기화
+     * 저장된 조회수 중 조회 유저 수를 제외한 나머지(비로그인 조회 등)는 base로 유지
+     */
+    private void seedViewers(ObjectId postId) {
+        List<ObjectId> viewers = customHitsRepository.findViewerIds(postId);
+        Integer storedHits = postCounterService.getStoredCount(postId, PostCounterType.HITS);
+        int hits = storedHits != null ? storedHits : hitsRepository.countAllByPostId(postId);
+        redisHitsService.seedViewers(postId, viewers, Math.max(0, hits - viewers.size()));
+        log.info("[조회 기록] 조회수 집계 초기화 - postId: {}, 조회 유저 수: {}", postId, viewers.size());
+    }
 }
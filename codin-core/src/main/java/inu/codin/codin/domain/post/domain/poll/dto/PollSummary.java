@@ -0,0 +1,18 @@
+package inu.codin.codin.domain.post.domain.poll.dto;
+
+import inu.codin.codin.domain.post.domain.poll.entity.PollEntity;
+
+import java.util.List;
+
+/**
+ * 투표와 참여자 수, 유저의 투표 내역을 한 번의 aggregation으로 조회한 결과
+ * @param poll 투표
+ * @param totalParticipants 참여자 수
+ * @param userVotes 유저가 선택한 옵션 인덱스, 투표하지 않았거나 비로그인이면 null
+ */
+public record PollSummary(PollEntity poll, long totalParticipants, List<Integer> userVotes) {
+
+    public boolean hasUserVoted() {
+        return userVotes != null;
+    }
+}
@@ -0,0 +1,85 @@
+package inu.codin.codin.domain.post.domain.poll.repository;
+
+import inu.codin.codin.domain.post.domain.poll.dto.PollSummary;
+import inu.codin.codin.domain.post.domain.poll.entity.PollEntity;
+import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class CustomPollRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomPollRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 여러 게시글의 투표, 참여자 수, 유저의 투표 내역을 한 번의 aggregation으로 조회
+     * 투표마다 poll_votes를 pollId index로 $lookup 하여 참여자 수와 유저의 선택 옵션을 함께 집계
+     * @param postIds 게시글 _id 리스트
+     * @param userId 현재 유저 _id (비로그인 시 null)
+     * @return Key : 게시글 _id, Value : 투표 요약 (투표가 없는 게시글은 포함되지 않음)
+     */
+    public Map<ObjectId, PollSummary> findSummariesByPostIds(Collection<ObjectId> postIds, ObjectId userId) {
+        Document userVotes = new Document("$cond", Arrays.asList(
+                new Document("$eq", Arrays.asList("$userId", userId)), "$selectedOptions", null));
+        AggregationOperation lookupVotes = context -> new Document("$lookup", new Document()
+                .append("from", mongoTemplate.getCollectionName(PollVoteEntity.class))
+                .append("localField", "_id")
+                .append("foreignField", "pollId")
+                .append("pipeline", List.of(new Document("$group", new Document("_id", null)
+                        .append("total", new Document("$sum", 1))
+                        .append("userVotes", new Document("$max", userVotes))))) // $max는 null을 무시
+                .append("as", "votes"));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("postId").in(postIds)),
+                lookupVotes
+        );
+
+        Map<ObjectId, PollSummary> result = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, PollEntity.class, Document.class)
+                .getMappedResults()
+                .forEach(doc -> {
+                    PollEntity poll = mongoTemplate.getConverter().read(PollEntity.class, doc);
+                    List<Document> votes = doc.getList("votes", Document.class);
+                    Document vote = votes.isEmpty() ? null : votes.get(0);
+                    result.putIfAbsent(poll.getPostId(), new PollSummary(
+                            poll,
+                            vote == null ? 0L : vote.get("total", Number.class).longValue(),
+                            vote == null || userId == null ? null : vote.getList("userVotes", Integer.class)));
+                });
+        return result;
+    }
+
+    /**
+     * 선택한 옵션들의 투표 수를 한 번의 update로 증감
+     * 투표 기록의 저장/삭제에 성공한 요청만 호출하므로 하한 조건 없이 반영
+     * (투표 기록 저장 직후 증가 전에 취소가 끼어들면 잠시 음수가 될 수 있으나 증가 반영 후 일치)
+     * @param pollId 투표 _id
+     * @param options 선택한 옵션 인덱스
+     * @param delta 증감값 (1 : 투표, -1 : 투표 취소)
+     * @return 반영 여부, 투표가 없으면 false
+     */
+    public boolean incrementVoteCounts(ObjectId pollId, Collection<Integer> options, int delta) {
+        Update update = new Update();
+        options.forEach(option -> update.inc("pollVotesCounts." + option, delta));
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(pollId)), update, PollEntity.class)
+                .getMatchedCount() > 0;
+    }
+}
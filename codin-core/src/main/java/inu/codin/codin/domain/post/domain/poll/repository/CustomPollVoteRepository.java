@@ -0,0 +1,53 @@
+package inu.codin.codin.domain.post.domain.poll.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class CustomPollVoteRepository {
+
+    public static final String VOTER_INDEX_NAME = "poll_vote_user_unique_idx";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomPollVoteRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 투표 기록이 없을 때만 저장 (upsert + $setOnInsert)
+     * 같은 유저의 동시 요청은 unique index에 의해 하나만 저장됨
+     * @return 저장 여부, 이미 투표한 유저면 false
+     */
+    public boolean insertIfAbsent(ObjectId pollId, ObjectId userId, List<Integer> selectedOptions) {
+        try {
+            UpdateResult result = mongoTemplate.upsert(
+                    Query.query(Criteria.where("pollId").is(pollId).and("userId").is(userId)),
+                    new Update().setOnInsert("selectedOptions", selectedOptions),
+                    PollVoteEntity.class);
+            return result.getUpsertedId() != null;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 투표 기록을 조회와 동시에 삭제 (findAndRemove)
+     * 같은 유저의 동시 취소 요청 중 하나만 삭제된 기록을 받음
+     * @return 삭제된 투표 기록, 없으면 null
+     */
+    public PollVoteEntity deleteVote(ObjectId pollId, ObjectId userId) {
+        return mongoTemplate.findAndRemove(
+                Query.query(Criteria.where("pollId").is(pollId).and("userId").is(userId)),
+                PollVoteEntity.class);
+    }
+}
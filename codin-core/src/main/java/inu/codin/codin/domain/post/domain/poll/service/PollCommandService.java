@@ -8,8 +8,9 @@ import inu.codin.codin.domain.post.domain.poll.entity.PollEntity;
 import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
 import inu.codin.codin.domain.post.domain.poll.exception.PollErrorCode;
 import inu.codin.codin.domain.post.domain.poll.exception.PollException;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollRepository;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollVoteRepository;
 import inu.codin.codin.domain.post.domain.poll.repository.PollRepository;
-import inu.codin.codin.domain.post.domain.poll.repository.PollVoteRepository;
 import inu.codin.codin.domain.post.dto.request.PostCreateRequestDTO;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.service.PostCommandService;
@@ -33,7 +34,8 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 public class PollCommandService {
 
     private final PollRepository pollRepository;
-    private final PollVoteRepository pollVoteRepository;
+    private final CustomPollRepository customPollRepository;
+    private final CustomPollVoteRepository customPollVoteRepository;
 
     private final PostCommandService postCommandService;
     private final PostQueryService postQueryService;
@@ -56,18 +58,11 @@ public class PollCommandService {
         PollEntity poll = getActivePollByPostId(postId);
         ObjectId userId = toObjectId(SecurityUtil.getCurrentUserId());
 
-        ensureNotDuplicatedVote(poll.get_id(), userId);
-
         List<Integer> selectedOptions = pollRequestDTO.getSelectedOptions();
         // 단일,복수 선택 규칙 + 인덱스 범위 검증
         validateSelections(poll, selectedOptions);
 
-        PollVoteEntity vote = PollVoteEntity.from(poll.get_id(), userId, selectedOptions);
-        pollVoteRepository.save(vote);
-        log.info("투표 기록 저장 완료 - pollId: {}, userId: {}", poll.get_id(), userId);
-
-        // 카운트 반영 (원자적 증감)
-        incVote(poll, selectedOptions);
+        castVote(poll, userId, selectedOptions);
         log.info("투표 완료 - pollId: {}, userId: {}", poll.get_id(), userId);
     }
 
@@ -77,15 +72,46 @@ public class PollCommandService {
         PollEntity poll = getActivePollByPostId(postId);
         ObjectId userId = toObjectId(SecurityUtil.getCurrentUserId());
 
-        PollVoteEntity vote = requireUserVote(poll.get_id(), userId);
-
-        // 카운트 롤백 (원자적 증감)
-        dcrVote(poll, vote.getSelectedOptions());
-        pollVoteRepository.delete(vote);
+        cancelVote(poll, userId);
         log.info("투표 취소 완료 - pollId: {}, userId: {}", poll.get_id(), userId);
     }
 
+    /**
+     * 투표 기록 저장(유저당 하나) 후 선택한 옵션들의 투표 수를 한 번의 update로 증가
+     * 이미 투표한 유저의 재요청은 투표 수를 변경하지 않고 예외
+     * 투표 수 반영에 실패하면 저장한 투표 기록을 삭제
+     * @param poll 투표
+     * @param userId 유저 _id
+     * @param selectedOptions 검증된 선택 옵션 인덱스
+     */
+    public void castVote(PollEntity poll, ObjectId userId, List<Integer> selectedOptions) {
+        if (!customPollVoteRepository.insertIfAbsent(poll.get_id(), userId, selectedOptions)) {
+            log.warn("중복 투표 - pollId: {}, userId: {}", poll.get_id(), userId);
+            throw new PollException(PollErrorCode.POLL_DUPLICATED);
+        }
+        if (!customPollRepository.incrementVoteCounts(poll.get_id(), selectedOptions, 1)) {
+            log.warn("투표 증가 실패 - pollId: {}, selections: {}", poll.get_id(), selectedOptions);
+            customPollVoteRepository.deleteVote(poll.get_id(), userId);
+            throw new PollException(PollErrorCode.POLL_VOTE_STATE_CONFLICT);
+        }
+    }
 
+    /**
+     * 투표 기록을 조회와 동시에 삭제한 요청만 투표 수를 감소시켜, 동시 취소 요청에도 한 번만 반영
+     * 투표 기록이 투표 수의 기준이므로 castVote와 겹쳐도 최종 투표 수는 투표 기록과 일치
+     * @param poll 투표
+     * @param userId 유저 _id
+     */
+    public void cancelVote(PollEntity poll, ObjectId userId) {
+        PollVoteEntity vote = customPollVoteRepository.deleteVote(poll.get_id(), userId);
+        if (vote == null) {
+            log.warn("투표 내역 없음 - pollId: {}, userId: {}", poll.get_id(), userId);
+            throw new PollException(PollErrorCode.POLL_VOTE_USER_NOT_FOUND);
+        }
+        if (!customPollRepository.incrementVoteCounts(poll.get_id(), vote.getSelectedOptions(), -1)) {
+            log.warn("투표 감소 실패, 투표 없음 - pollId: {}, selections: {}", poll.get_id(), vote.getSelectedOptions());
+        }
+    }
 
     // ---- 비즈니스 규칙 검증 / 조회 컨텍스트 ----
     private PollEntity findPollByPostId(ObjectId postId) {
@@ -108,6 +134,10 @@ public class PollCommandService {
     }
 
     private void validateSelections(PollEntity poll, List<Integer> selected) {
+        if (selected.isEmpty()) {
+            log.warn("선택지 없음 - pollId: {}", poll.get_id());
+            throw new PollException(PollErrorCode.INVALID_OPTION);
+        }
         if (!poll.isMultipleChoice() && selected.size() > 1) {
             log.warn("복수 선택 허용 안됨 - pollId: {}", poll.get_id());
             throw new PollException(PollErrorCode.MULTIPLE_CHOICE_NOT_ALLOWED);
@@ -126,50 +156,4 @@ public class PollCommandService {
         }
     }
 
-    private void ensureNotDuplicatedVote(ObjectId pollId, ObjectId userId) {
-        if (pollVoteRepository.existsByPollIdAndUserId(pollId, userId)) {
-            log.warn("중복 투표 - pollId: {}, userId: {}", pollId, userId);
-            throw new PollException(PollErrorCode.POLL_DUPLICATED);
-        }
-    }
-
-    private PollVoteEntity requireUserVote(ObjectId pollId, ObjectId userId) {
-        return pollVoteRepository.findByPollIdAndUserId(pollId, userId)
-                .orElseThrow(() -> {
-                    log.warn("투표 내역 없음 - pollId: {}, userId: {}", pollId, userId);
-                    return new PollException(PollErrorCode.POLL_VOTE_USER_NOT_FOUND);
-                });
-    }
-
-    // ---- 투표 수 카운트 갱신 ----
-    private void incVote(PollEntity poll, List<Integer> selected) {
-        final int size = poll.getPollOptions().size();
-        selected.forEach(idx -> {
-            validateIndex(size, idx);
-            long result = pollRepository.incOption(poll.get_id(), idx);
-            if (result == 0) {
-                log.warn("투표 증가 실패 - pollId: {}, optionIndex: {}", poll.get_id(), idx);
-                throw new PollException(PollErrorCode.POLL_VOTE_STATE_CONFLICT);
-            }
-        });
-    }
-
-    private void dcrVote(PollEntity poll, List<Integer> selected) {
-        final int size = poll.getPollOptions().size();
-        selected.forEach(idx -> {
-            validateIndex(size, idx);
-            long result = pollRepository.dcrOptionIfPositive(poll.get_id(), idx);
-            if (result == 0) {
-                log.warn("투표 감소 실패 - pollId: {}, optionIndex: {}", poll.get_id(), idx);
-                throw new PollException(PollErrorCode.POLL_VOTE_STATE_CONFLICT);
-            }
-        });
-    }
-
-    private void validateIndex(int size, Integer idx) {
-        if (idx == null || idx < 0 || idx >= size) {
-            throw new PollException(PollErrorCode.INVALID_OPTION);
-        }
-    }
-
 }
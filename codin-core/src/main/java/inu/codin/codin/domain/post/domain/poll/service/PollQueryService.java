@@ -1,11 +1,10 @@
 package inu.codin.codin.domain.post.domain.poll.service;
 
+import inu.codin.codin.domain.post.domain.poll.dto.PollSummary;
 import inu.codin.codin.domain.post.domain.poll.entity.PollEntity;
-import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
 import inu.codin.codin.domain.post.domain.poll.exception.PollErrorCode;
 import inu.codin.codin.domain.post.domain.poll.exception.PollException;
-import inu.codin.codin.domain.post.domain.poll.repository.PollRepository;
-import inu.codin.codin.domain.post.domain.poll.repository.PollVoteRepository;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollRepository;
 import inu.codin.codin.domain.post.dto.response.PollInfoResponseDTO;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import lombok.RequiredArgsConstructor;
@@ -15,27 +14,65 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PollQueryService {
 
-    private final PollRepository pollRepository;
-    private final PollVoteRepository pollVoteRepository;
+    private final CustomPollRepository customPollRepository;
 
+    /**
+     * 투표 게시글의 투표 정보 조회
+     * 투표, 참여자 수, 유저 투표 내역을 한 번의 aggregation으로 조회
+     * @param post 투표 게시글
+     * @param userId 현재 유저 _id (비로그인 시 null)
+     */
     public PollInfoResponseDTO getPollInfo(PostEntity post, ObjectId userId) {
-        PollEntity poll = pollRepository.findByPostId(post.get_id())
-                .orElseThrow(() -> new PollException(PollErrorCode.POLL_NOT_FOUND));
-        long totalParticipants = pollVoteRepository.countByPollId(poll.get_id());
-        List<Integer> userVotes = pollVoteRepository.findByPollIdAndUserId(poll.get_id(), userId)
-                .map(PollVoteEntity::getSelectedOptions)
-                .orElse(Collections.emptyList());
-        boolean pollFinished = poll.getPollEndTime() != null && LocalDateTime.now().isAfter(poll.getPollEndTime());
-        boolean hasUserVoted = pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId);
-        return PollInfoResponseDTO.of(
-                poll.getPollOptions(), poll.getPollEndTime(), poll.isMultipleChoice(),
-                poll.getPollVotesCounts(), userVotes, totalParticipants, hasUserVoted, pollFinished);
+        return getPollInfos(List.of(post), userId).get(post.get_id());
+    }
+
+    /**
+     * 여러 투표 게시글의 투표 정보를 일괄 조회
+     * 게시글 수와 무관하게 한 번의 aggregation으로 처리
+     * @param posts 투표 게시글 리스트
+     * @param userId 현재 유저 _id (비로그인 시 null)
+     * @return Key : 게시글 _id, Value : 투표 정보
+     */
+    public Map<ObjectId, PollInfoResponseDTO> getPollInfos(List<PostEntity> posts, ObjectId userId) {
+        return getPollInfosByPostIds(posts.stream().map(PostEntity::get_id).toList(), userId);
+    }
+
+    /**
+     * 게시글 _id 목록으로 투표 정보를 일괄 조회
+     * @param postIds 투표 게시글 _id 리스트
+     * @param userId 현재 유저 _id (비로그인 시 null)
+     * @return Key : 게시글 _id, Value : 투표 정보
+     */
+    public Map<ObjectId, PollInfoResponseDTO> getPollInfosByPostIds(List<ObjectId> postIds, ObjectId userId) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<ObjectId, PollSummary> summaries = customPollRepository.findSummariesByPostIds(postIds, userId);
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<ObjectId, PollInfoResponseDTO> pollInfos = new HashMap<>();
+        for (ObjectId postId : postIds) {
+            PollSummary summary = summaries.get(postId);
+            if (summary == null) {
+                throw new PollException(PollErrorCode.POLL_NOT_FOUND);
+            }
+            PollEntity poll = summary.poll();
+            boolean pollFinished = poll.getPollEndTime() != null && now.isAfter(poll.getPollEndTime());
+            pollInfos.put(postId, PollInfoResponseDTO.of(
+                    poll.getPollOptions(), poll.getPollEndTime(), poll.isMultipleChoice(),
+                    poll.getPollVotesCounts(), summary.hasUserVoted() ? summary.userVotes() : Collections.emptyList(),
+                    summary.totalParticipants(), summary.hasUserVoted(), pollFinished));
+        }
+        return pollInfos;
     }
 }
@@ -3,7 +3,7 @@ package inu.codin.codin.domain.post.dto;
 import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
 import inu.codin.codin.domain.post.domain.comment.reply.entity.ReplyCommentEntity;
 import inu.codin.codin.domain.post.entity.PostEntity;
-import inu.codin.codin.domain.user.entity.UserEntity;
+import inu.codin.codin.domain.user.dto.UserProfile;
 import lombok.Getter;
 
 @Getter
@@ -20,7 +20,7 @@ public class UserDto {
     }
 
     /** 게시물용 사용자 DTO */
-    public static UserDto forPost(PostEntity post, UserEntity user, String defaultProfileImageUrl) {
+    public static UserDto forPost(PostEntity post, UserProfile user, String defaultProfileImageUrl) {
         if (isDeleted(user)) return deletedUser(user, defaultProfileImageUrl);
         if (post.isAnonymous()) {
             return of("익명", defaultProfileImageUrl, false);
@@ -29,7 +29,7 @@ public class UserDto {
     }
 
     /** 댓글용 사용자 DTO */
-    public static UserDto forComment(CommentEntity comment, UserEntity user, int anonNum, String defaultProfileImageUrl) {
+    public static UserDto forComment(CommentEntity comment, UserProfile user, int anonNum, String defaultProfileImageUrl) {
         if (isDeleted(user)) return deletedUser(user, defaultProfileImageUrl);
         if (comment.isAnonymous()) {
             String nick = anonNickname(anonNum);
@@ -39,7 +39,7 @@ public class UserDto {
     }
 
     /** 대댓글용 사용자 DTO */
-    public static UserDto forReply(ReplyCommentEntity reply, UserEntity user, int anonNum, String defaultProfileImageUrl) {
+    public static UserDto forReply(ReplyCommentEntity reply, UserProfile user, int anonNum, String defaultProfileImageUrl) {
         if (isDeleted(user)) return deletedUser(user, defaultProfileImageUrl);
         if (reply.isAnonymous()) {
             String nick = anonNickname(anonNum);
@@ -49,18 +49,18 @@ public class UserDto {
     }
 
     // ---------- Private helpers ----------
-    private static boolean isDeleted(UserEntity user) {
-        return user.getDeletedAt() != null;
+    private static boolean isDeleted(UserProfile user) {
+        return user.deleted();
     }
 
-    private static UserDto deletedUser(UserEntity user, String defaultProfileImageUrl) {
-        String image = withDefault(user.getProfileImageUrl(), defaultProfileImageUrl);
-        return of(user.getNickname(), image, true);
+    private static UserDto deletedUser(UserProfile user, String defaultProfileImageUrl) {
+        String image = withDefault(user.profileImageUrl(), defaultProfileImageUrl);
+        return of(user.nickname(), image, true);
     }
 
-    private static UserDto normalUser(UserEntity user, String defaultProfileImageUrl) {
-        String image = withDefault(user.getProfileImageUrl(), defaultProfileImageUrl);
-        return of(user.getNickname(), image, false);
+    private static UserDto normalUser(UserProfile user, String defaultProfileImageUrl) {
+        String image = withDefault(user.profileImageUrl(), defaultProfileImageUrl);
+        return of(user.nickname(), image, false);
     }
 
     private static String anonNickname(int anonNum) {
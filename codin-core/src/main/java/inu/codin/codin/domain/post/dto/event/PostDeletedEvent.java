@@ -0,0 +1,18 @@
+package inu.codin.codin.domain.post.dto.event;
+
+import lombok.Getter;
+import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 게시글이 삭제되거나 비활성화되어 더 이상 노출되지 않을 때 발행
+ */
+@Getter
+public class PostDeletedEvent extends ApplicationEvent {
+    private final ObjectId postId;
+
+    public PostDeletedEvent(Object source, ObjectId postId) {
+        super(source);
+        this.postId = postId;
+    }
+}
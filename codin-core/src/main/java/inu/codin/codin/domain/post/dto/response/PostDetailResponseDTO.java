@@ -69,7 +69,7 @@ public class PostDetailResponseDTO {
     @Schema(description = "해당 게시글에 대한 유저 반응 여부")
     private final UserInfo userInfo;
 
-    @Builder
+    @Builder(toBuilder = true)
     private PostDetailResponseDTO(String userId, String _id, String title, String content, String nickname , PostCategory postCategory, String userImageUrl, List<String> postImageUrl,
                                  boolean isAnonymous, int likeCount, int scrapCount, int hits, LocalDateTime createdAt, int commentCount, UserInfo userInfo){
         this.userId = userId;
@@ -109,6 +109,15 @@ public class PostDetailResponseDTO {
                 .build();
     }
 
+    /**
+     * 유저 반응 여부만 교체한 복사본 반환
+     */
+    public PostDetailResponseDTO withUserInfo(UserInfo userInfo) {
+        return toBuilder()
+                .userInfo(userInfo)
+                .build();
+    }
+
 
 }
 
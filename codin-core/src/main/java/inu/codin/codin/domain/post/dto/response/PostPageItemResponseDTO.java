@@ -1,5 +1,6 @@
 package inu.codin.codin.domain.post.dto.response;
 
+import inu.codin.codin.domain.post.dto.UserInfo;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -20,4 +21,11 @@ public class PostPageItemResponseDTO {
                 .poll(poll)
                 .build();
     }
+
+    /**
+     * 유저별 반응 여부와 투표 정보만 교체한 복사본 반환
+     */
+    public PostPageItemResponseDTO withViewer(UserInfo userInfo, PollInfoResponseDTO poll) {
+        return of(post.withUserInfo(userInfo), poll);
+    }
 } 
\ No newline at end of file
@@ -14,12 +14,14 @@ public class PostPageResponse {
     private List<PostPageItemResponseDTO> contents = new ArrayList<>();
     private long lastPage;
     private long nextPage;
+    private String nextCursor;
 
     @Builder
-    private PostPageResponse(List<PostPageItemResponseDTO> contents, long lastPage, long nextPage) {
+    private PostPageResponse(List<PostPageItemResponseDTO> contents, long lastPage, long nextPage, String nextCursor) {
         this.contents = contents;
         this.lastPage = lastPage;
         this.nextPage = nextPage;
+        this.nextCursor = nextCursor;
     }
 
     public static PostPageResponse of(List<PostPageItemResponseDTO> postPaging, long totalElements, long nextPage) {
@@ -30,4 +32,17 @@ public class PostPageResponse {
                 .build();
     }
 
+    /**
+     * Cursor 기반 페이징 응답, 페이지 번호 정보는 -1
+     * @param nextCursor 다음 페이지 Cursor, 마지막 페이지면 null
+     */
+    public static PostPageResponse ofCursor(List<PostPageItemResponseDTO> postPaging, String nextCursor) {
+        return PostPageResponse.builder()
+                .contents(postPaging)
+                .lastPage(-1)
+                .nextPage(-1)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package inu.codin.codin.domain.post.entity;
 
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Getter
 public enum PostCategory {
 
@@ -34,4 +37,14 @@ public enum PostCategory {
     PostCategory(String description) {
         this.description = description;
     }
+
+    /**
+     * 해당 카테고리와 하위 카테고리 반환
+     * ex) REQUEST -> REQUEST, REQUEST_STUDY, REQUEST_PROJECT, ...
+     */
+    public List<PostCategory> withSubCategories() {
+        return Arrays.stream(values())
+                .filter(category -> category.name().startsWith(name()))
+                .toList();
+    }
 }
\ No newline at end of file
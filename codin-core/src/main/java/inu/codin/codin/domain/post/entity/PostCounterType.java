@@ -0,0 +1,21 @@
+package inu.codin.codin.domain.post.entity;
+
+import lombok.Getter;
+
+/**
+ * PostEntity에 비정규화되어 저장되는 카운터 종류
+ * field : PostEntity의 카운터 필드명
+ */
+@Getter
+public enum PostCounterType {
+    LIKE("likeCount"),
+    SCRAP("scrapCount"),
+    HITS("hitCount");
+
+    private final String field;
+
+    PostCounterType(String field) {
+        this.field = field;
+    }
+
+}
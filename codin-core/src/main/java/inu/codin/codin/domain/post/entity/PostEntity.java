@@ -6,6 +6,7 @@ import inu.codin.codin.domain.post.exception.PostErrorCode;
 import inu.codin.codin.domain.post.exception.PostException;
 import inu.codin.codin.domain.post.scheduler.exception.SchedulerErrorCode;
 import inu.codin.codin.domain.post.scheduler.exception.SchedulerException;
+import inu.codin.codin.domain.post.util.PostSearchTokenizer;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -43,8 +44,18 @@ public class PostEntity extends BaseTimeEntity {
     private int commentCount = 0; // 댓글 + 대댓글 카운트
     private int reportCount = 0; // 신고 카운트
 
+    // Redis 카운터를 주기적으로 반영하는 비정규화 카운트 (PostCounterService)
+    // null : 아직 좋아요/스크랩/조회 컬렉션 기준으로 초기화되지 않은 게시글
+    private Integer likeCount;
+    private Integer scrapCount;
+    private Integer hitCount;
+    private String counterFlushId; // 마지막으로 반영된 Redis 증감분의 flushId (같은 증감분 중복 반영 방지)
+
     private PostAnonymous anonymous = new PostAnonymous();
 
+    // 검색용 2-gram 토큰 (PostSearchTokenizer), 제목/내용 변경 시 갱신
+    private String searchText;
+
     @Builder
     public PostEntity(ObjectId userId, PostCategory postCategory, String title, String content, List<String> postImageUrls ,boolean isAnonymous, PostStatus postStatus) {
         this.userId = userId;
@@ -54,6 +65,10 @@ public class PostEntity extends BaseTimeEntity {
         this.isAnonymous = isAnonymous;
         this.postCategory = postCategory;
         this.postStatus = postStatus;
+        this.likeCount = 0;
+        this.scrapCount = 0;
+        this.hitCount = 0;
+        refreshSearchText();
     }
 
     public static PostEntity create(ObjectId userId, PostCreateRequestDTO dto, List<String> imageUrls) {
@@ -72,11 +87,17 @@ public class PostEntity extends BaseTimeEntity {
         this.title = title;
         this.content = content;
         this.postImageUrls.addAll(postImageUrls);
+        refreshSearchText();
     }
 
     public void updatePostContent(String content, List<String> postImageUrls) {
         this.content = content;
         this.postImageUrls = postImageUrls != null ? new ArrayList<>(postImageUrls) : new ArrayList<>();
+        refreshSearchText();
+    }
+
+    private void refreshSearchText() {
+        this.searchText = PostSearchTokenizer.tokenize(this.title, this.content);
     }
 
     public void updatePostAnonymous(boolean isAnonymous) {
@@ -0,0 +1,324 @@
+package inu.codin.codin.domain.post.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import inu.codin.codin.domain.post.entity.PostCategory;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.post.util.PostCursor;
+import inu.codin.codin.infra.redis.dto.CounterDeltas;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class CustomPostRepository {
+
+    public static final String SEARCH_INDEX_NAME = "post_search_text_idx";
+    public static final String FEED_INDEX_NAME = "post_category_created_idx";
+    public static final String SEARCH_LANGUAGE = "none"; // 2-gram 토큰을 그대로 색인 (stemming, 불용어 제외 X)
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomPostRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 게시글별 카운터 증감분을 BulkOperations 한 번으로 반영
+     * 카운터 필드가 없는(초기화 전) 게시글은 건너뛰며, 초기화 시 컬렉션 기준으로 계산됨
+     * 게시글마다 증감분의 flushId를 함께 저장하여, 반영 후 Redis 삭제 전에 중단되어 같은 증감분을 다시 반영해도 한 번만 더해짐
+     * @param deltas Key : 게시글 _id, Value : flushId와 (카운터 필드명 - 증감분)
+     */
+    public void bulkIncrementCounters(Map<ObjectId, CounterDeltas> deltas) {
+        List<Pair<Query, UpdateDefinition>> updates = new ArrayList<>();
+        deltas.forEach((postId, counterDeltas) -> {
+            Criteria criteria = Criteria.where("_id").is(postId).and("counterFlushId").ne(counterDeltas.flushId());
+            Update update = new Update().set("counterFlushId", counterDeltas.flushId());
+            counterDeltas.deltas().forEach((field, delta) -> {
+                if (delta == 0) return;
+                criteria.and(field).exists(true);
+                update.inc(field, delta);
+            });
+            if (update.getUpdateObject().containsKey("$inc"))
+                updates.add(Pair.of(Query.query(criteria), update));
+        });
+        if (updates.isEmpty()) return;
+
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostEntity.class)
+                .updateOne(updates)
+                .execute();
+    }
+
+    /**
+     * Redis를 사용할 수 없을 때 카운터를 게시글에 바로 반영
+     */
+    public void incrementCounter(ObjectId postId, String field, long delta) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(postId).and(field).exists(true)),
+                new Update().inc(field, delta),
+                PostEntity.class);
+    }
+
+    /**
+     * 여러 게시글에 저장된 카운터를 한 번에 조회
+     * @return Key : 게시글 _id, Value : 카운터 값 (카운터 필드가 없는 게시글은 포함되지 않음)
+     */
+    public Map<ObjectId, Integer> findCounters(Collection<ObjectId> postIds, String field) {
+        Query query = Query.query(Criteria.where("_id").in(postIds).and(field).exists(true));
+        query.fields().include(field);
+
+        Map<ObjectId, Integer> result = new HashMap<>();
+        mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(PostEntity.class))
+                .forEach(doc -> result.put(doc.getObjectId("_id"), ((Number) doc.get(field)).intValue()));
+        return result;
+    }
+
+    /**
+     * 카운터 필드가 초기화되지 않은 게시글의 _id 조회
+     */
+    public List<ObjectId> findIdsWithoutCounters(int limit) {
+        Query query = Query.query(new Criteria().orOperator(
+                Criteria.where("likeCount").exists(false),
+                Criteria.where("scrapCount").exists(false),
+                Criteria.where("hitCount").exists(false)))
+                .limit(limit);
+        query.fields().include("_id");
+
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(PostEntity.class))
+                .stream()
+                .map(doc -> doc.getObjectId("_id"))
+                .toList();
+    }
+
+    /**
+     * Redis에서 집계한 카운터를 BulkOperations 한 번으로 반영
+     * 저장된 값보다 클 때만 갱신($max)하여, Redis 장애 중 게시글에 바로 반영된 증가분을 덮어쓰지 않음
+     * @param counts Key : 게시글 _id, Value : 카운터 값
+     */
+    public void bulkRaiseCounters(Map<ObjectId, Integer> counts, String field) {
+        if (counts.isEmpty()) return;
+        List<Pair<Query, UpdateDefinition>> updates = new ArrayList<>();
+        counts.forEach((postId, count) -> updates.add(Pair.of(
+                Query.query(Criteria.where("_id").is(postId).and(field).exists(true)),
+                new Update().max(field, count))));
+
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostEntity.class)
+                .updateOne(updates)
+                .execute();
+    }
+
+    /**
+     * 컬렉션 기준으로 계산한 카운터를 BulkOperations 한 번으로 설정
+     * @param counters Key : 게시글 _id, Value : (카운터 필드명 - 값)
+     */
+    public void bulkSetCounters(Map<ObjectId, Map<String, Integer>> counters) {
+        if (counters.isEmpty()) return;
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostEntity.class);
+        counters.forEach((postId, fields) -> {
+            Update update = new Update();
+            fields.forEach(update::set);
+            bulkOps.updateOne(Query.query(Criteria.where("_id").is(postId)), update);
+        });
+        bulkOps.execute();
+    }
+
+    /**
+     * 댓글 작성 시 댓글 수 증가와 익명 번호 할당을 findAndModify 한 번으로 처리
+     * 익명 게시글이면 update pipeline에서 유저의 번호 유무를 확인하여
+     * - 번호가 있으면 유지
+     * - 글쓴이는 0
+     * - 그 외 유저는 현재 anonymousNumber를 할당하고 1 증가
+     * 게시글 문서 단위로 원자적으로 처리되어 동시에 댓글을 작성해도 번호가 중복되지 않음
+     * @param postId 게시글 _id
+     * @param userId 댓글 작성 유저 _id
+     * @param anonymous 익명 게시글 여부
+     * @param writer 게시글 작성자 여부
+     * @return 변경 후 게시글, 게시글이 없으면 null
+     */
+    public PostEntity incrementCommentCount(ObjectId postId, ObjectId userId, boolean anonymous, boolean writer) {
+        Document set = new Document("commentCount", new Document("$add", List.of(ifNull("$commentCount", 0), 1)));
+        if (anonymous) {
+            String numberField = "anonymous.userAnonymousMap." + userId.toHexString();
+            Document unassigned = new Document("$eq", List.of(new Document("$type", "$" + numberField), "missing"));
+            Document nextNumber = ifNull("$anonymous.anonymousNumber", 1);
+            set.append(numberField, new Document("$cond", List.of(unassigned, writer ? 0 : nextNumber, "$" + numberField)));
+            if (!writer) {
+                set.append("anonymous.anonymousNumber", new Document("$cond", List.of(
+                        unassigned, new Document("$add", List.of(nextNumber, 1)), nextNumber)));
+            }
+        }
+        AggregationOperation setStage = context -> new Document("$set", set);
+
+        return mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(postId)),
+                AggregationUpdate.from(List.of(setStage)),
+                FindAndModifyOptions.options().returnNew(true),
+                PostEntity.class);
+    }
+
+    /**
+     * 댓글 삭제 시 댓글 수 감소, 0 미만으로 내려가지 않음
+     */
+    public void decrementCommentCount(ObjectId postId) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(postId).and("commentCount").gt(0)),
+                new Update().inc("commentCount", -1),
+                PostEntity.class);
+    }
+
+    /*
+     * 게시글 수정은 변경한 필드만 $set
+     * 전체 저장(save)은 조회 이후 다른 요청이 반영한 카운터(좋아요/스크랩/조회/댓글 수)와 익명 번호를 덮어씀
+     */
+
+    /**
+     * 게시글 제목/내용/이미지/검색 토큰 수정
+     * @param post 수정 내용이 반영된 게시글
+     */
+    public void updateContent(PostEntity post) {
+        updatePost(post.get_id(), new Update()
+                .set("title", post.getTitle())
+                .set("content", post.getContent())
+                .set("postImageUrls", post.getPostImageUrls())
+                .set("searchText", post.getSearchText()));
+    }
+
+    public void updateAnonymous(ObjectId postId, boolean anonymous) {
+        updatePost(postId, new Update().set("isAnonymous", anonymous));
+    }
+
+    public void updateStatus(ObjectId postId, PostStatus postStatus) {
+        updatePost(postId, new Update().set("postStatus", postStatus));
+    }
+
+    /**
+     * 게시글 소프트 삭제 (deletedAt 설정)
+     * @return 게시글이 존재하여 삭제했는지 여부
+     */
+    public boolean softDelete(ObjectId postId) {
+        return updatePost(postId, new Update().set("deletedAt", LocalDateTime.now()));
+    }
+
+    /**
+     * 게시글 이미지 목록에서 이미지 제거
+     */
+    public void removeImage(ObjectId postId, String imageUrl) {
+        updatePost(postId, new Update().pull("postImageUrls", imageUrl));
+    }
+
+    /**
+     * 게시글 신고 수 1 증가
+     * @return 게시글이 존재하여 증가했는지 여부
+     */
+    public boolean incrementReportCount(ObjectId postId) {
+        return updatePost(postId, new Update().inc("reportCount", 1));
+    }
+
+    private boolean updatePost(ObjectId postId, Update update) {
+        UpdateResult result = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(postId)),
+                update.set("updatedAt", LocalDateTime.now()),
+                PostEntity.class);
+        return result.getMatchedCount() > 0;
+    }
+
+    private static Document ifNull(String field, Object defaultValue) {
+        return new Document("$ifNull", List.of(field, defaultValue));
+    }
+
+    /**
+     * 카테고리별 게시글을 Cursor 이후부터 최신순(createdAt, _id 내림차순)으로 조회
+     * 카테고리를 $in 동등 조건으로 전달하여 복합 index의 정렬 순서를 그대로 사용 (정렬을 위한 메모리 SORT 없음)
+     * @param categories 조회할 카테고리 (하위 카테고리 포함)
+     * @param blockedUsersId 차단한 유저 _id 리스트
+     * @param cursor 이전 페이지의 마지막 게시글 위치, 첫 페이지는 null
+     * @param limit 조회할 최대 게시글 수
+     */
+    public List<PostEntity> findByCategoriesAfterCursor(Collection<PostCategory> categories, List<ObjectId> blockedUsersId,
+                                                        PostCursor cursor, int limit) {
+        Criteria criteria = Criteria.where("postCategory").in(categories)
+                .and("deletedAt").is(null)
+                .and("postStatus").is(PostStatus.ACTIVE)
+                .and("userId").nin(blockedUsersId);
+        if (cursor != null) {
+            criteria = new Criteria().andOperator(criteria, new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(cursor.createdAt()),
+                    Criteria.where("createdAt").is(cursor.createdAt()).and("_id").lt(cursor.id())));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, PostEntity.class);
+    }
+
+    /**
+     * 2-gram 토큰을 모두 포함하는 게시글을 text index로 검색
+     * 관련도(textScore) 내림차순, 같으면 최신순
+     * @param tokens 검색어의 2-gram 토큰 (PostSearchTokenizer.tokenizeKeyword)
+     * @param blockedUsersId 차단한 유저 _id 리스트
+     */
+    public Page<PostEntity> searchByTokens(List<String> tokens, List<ObjectId> blockedUsersId, Pageable pageable) {
+        TextCriteria textCriteria = TextCriteria.forLanguage(SEARCH_LANGUAGE);
+        tokens.forEach(textCriteria::matchingPhrase); // 여러 phrase는 AND 조건
+
+        Query query = TextQuery.queryText(textCriteria)
+                .sortByScore()
+                .addCriteria(Criteria.where("deletedAt").is(null)
+                        .and("postStatus").is(PostStatus.ACTIVE)
+                        .and("userId").nin(blockedUsersId))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .with(pageable);
+
+        List<PostEntity> posts = mongoTemplate.find(query, PostEntity.class);
+        return PageableExecutionUtils.getPage(posts, pageable,
+                () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), PostEntity.class));
+    }
+
+    /**
+     * searchText가 없는 게시글(외부 스크립트로 등록되었거나 기존 게시글)의 제목/내용 조회
+     */
+    public List<Document> findWithoutSearchText(int limit) {
+        Query query = Query.query(Criteria.where("searchText").exists(false)).limit(limit);
+        query.fields().include("title", "content");
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(PostEntity.class));
+    }
+
+    /**
+     * 게시글별 searchText를 BulkOperations 한 번으로 설정
+     * @param searchTexts Key : 게시글 _id, Value : 2-gram 토큰 문자열
+     */
+    public void bulkSetSearchText(Map<ObjectId, String> searchTexts) {
+        if (searchTexts.isEmpty()) return;
+        List<Pair<Query, UpdateDefinition>> updates = new ArrayList<>();
+        searchTexts.forEach((postId, searchText) -> updates.add(Pair.of(
+                Query.query(Criteria.where("_id").is(postId)),
+                new Update().set("searchText", searchText))));
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostEntity.class)
+                .updateOne(updates)
+                .execute();
+    }
+}
@@ -17,7 +17,8 @@ public interface PostRepository extends MongoRepository<PostEntity, ObjectId> {
     @Query("{'_id':  ?0, 'deletedAt': null, 'postStatus':  { $in:  ['ACTIVE'] }}")
     Optional<PostEntity> findByIdAndNotDeleted(ObjectId Id);
 
-    List<PostEntity> findBy_idInAndDeletedAtIsNull(List<ObjectId> ids);
+    @Query("{'_id': { $in: ?0 }, 'deletedAt': null, 'postStatus': { $in: ['ACTIVE'] }}")
+    List<PostEntity> findAllByIdInAndNotDeleted(List<ObjectId> ids);
 
     @Query("{'deletedAt': null, 'postStatus':  { $in:  ['ACTIVE'] }, 'userId': ?0 }")
     Page<PostEntity> findAllByUserIdOrderByCreatedAt(ObjectId userId, PageRequest pageRequest);
@@ -0,0 +1,29 @@
+package inu.codin.codin.domain.post.scheduler;
+
+import inu.codin.codin.domain.post.service.PostSearchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    검색 토큰이 없는 게시글 (비교과/학과 공지 스크립트 등록 게시글, 기존 게시글) 색인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexScheduler {
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final PostSearchIndexService postSearchIndexService;
+
+    @Async
+    @Scheduled(fixedDelay = 300000, initialDelay = 30000) // 이전 실행 종료 5분 후 실행
+    public void backfillSearchText() {
+        int indexed = postSearchIndexService.backfillSearchText(BACKFILL_BATCH_SIZE);
+        if (indexed > 0)
+            log.info("[PostSearchIndexScheduler] 게시글 검색 토큰 생성 완료 - 게시글 수: {}", indexed);
+    }
+}
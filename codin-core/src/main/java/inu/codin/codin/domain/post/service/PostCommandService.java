@@ -7,16 +7,21 @@ import inu.codin.common.util.ObjectIdUtil;
 import inu.codin.codin.domain.post.dto.request.PostAnonymousUpdateRequestDTO;
 import inu.codin.codin.domain.post.dto.request.PostContentUpdateRequestDTO;
 import inu.codin.codin.domain.post.dto.request.PostCreateRequestDTO;
+import inu.codin.codin.domain.post.dto.event.PostDeletedEvent;
 import inu.codin.codin.domain.post.dto.request.PostStatusUpdateRequestDTO;
-import inu.codin.codin.domain.post.entity.PostAnonymous;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.post.exception.PostErrorCode;
+import inu.codin.codin.domain.post.exception.PostException;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.domain.post.security.OwnershipPolicy;
 import inu.codin.security.entity.UserRole;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -29,8 +34,10 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 @RequiredArgsConstructor
 public class PostCommandService {
     private final PostRepository postRepository;
+    private final CustomPostRepository customPostRepository;
     private final PostInteractionService postInteractionService;
     private final OwnershipPolicy ownershipPolicy;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 생성
@@ -44,7 +51,7 @@ public class PostCommandService {
         ObjectId userId = validateUserAndPost(postCreateRequestDTO.getPostCategory());
 
         PostEntity postEntity = PostEntity.create(userId, postCreateRequestDTO, imageUrls);
-        postRepository.save(postEntity);
+        postRepository.insert(postEntity);
 
         log.info("게시물 성공적으로 생성됨. PostId: {}, UserId: {}", postEntity.get_id(), userId);
     }
@@ -52,7 +59,7 @@ public class PostCommandService {
     public ObjectId createPostWithoutImagesAndReturn(PostCreateRequestDTO dto) {
         ObjectId userId = validateUserAndPost(dto.getPostCategory());
         PostEntity post = PostEntity.create(userId, dto, List.of());
-        PostEntity saved = postRepository.save(post);
+        PostEntity saved = postRepository.insert(post);
         return saved.get_id();
     }
 
@@ -66,7 +73,7 @@ public class PostCommandService {
 
         List<String> imageUrls = postInteractionService.handleImageUpload(postImages);
         post.updatePostContent(requestDTO.getContent(), imageUrls);
-        postRepository.save(post);
+        customPostRepository.updateContent(post);
         log.info("게시물 수정 성공. PostId: {}", postId);
     }
 
@@ -76,7 +83,7 @@ public class PostCommandService {
     public void updatePostAnonymous(String postId, PostAnonymousUpdateRequestDTO requestDTO) {
         PostEntity post = assertPostOwner(ObjectIdUtil.toObjectId(postId));
         post.updatePostAnonymous(requestDTO.isAnonymous());
-        postRepository.save(post);
+        customPostRepository.updateAnonymous(post.get_id(), requestDTO.isAnonymous());
         log.info("게시물 익명 수정 성공.PostId: {}", postId);
     }
 
@@ -86,7 +93,9 @@ public class PostCommandService {
     public void updatePostStatus(String postId, PostStatusUpdateRequestDTO requestDTO) {
         PostEntity post = assertPostOwner(ObjectIdUtil.toObjectId(postId));
         post.updatePostStatus(requestDTO.getPostStatus());
-        postRepository.save(post);
+        customPostRepository.updateStatus(post.get_id(), requestDTO.getPostStatus());
+        if (requestDTO.getPostStatus() != PostStatus.ACTIVE)
+            eventPublisher.publishEvent(new PostDeletedEvent(this, post.get_id()));
         log.info("게시물 상태 수정 성공.  PostId: {}, Status: {}",  postId, requestDTO.getPostStatus());
     }
 
@@ -98,7 +107,8 @@ public class PostCommandService {
     public void softDeletePost(String postId) {
         PostEntity post = assertPostOwner(ObjectIdUtil.toObjectId(postId));
         post.delete();
-        postRepository.save(post);
+        customPostRepository.softDelete(post.get_id());
+        eventPublisher.publishEvent(new PostDeletedEvent(this, post.get_id()));
         log.info("게시물 안전 삭제. PostId: {}",  postId);
     }
 
@@ -113,52 +123,25 @@ public class PostCommandService {
 
     /**
      * 댓글 생성시 필요한 모든 처리를 한 번에
+     * 댓글 수 증가와 익명 번호 할당을 게시글 전체 저장 없이 findAndModify 한 번으로 처리
      */
     public void handleCommentCreation(PostEntity post, ObjectId userId) {
-        assignAnonymousNumber(post, userId);
-        increaseCommentCount(post);
-        postRepository.save(post);
-    }
+        PostEntity updated = customPostRepository.incrementCommentCount(
+                post.get_id(), userId, post.isAnonymous(), post.isWriter(userId));
+        if (updated == null) throw new PostException(PostErrorCode.POST_NOT_FOUND);
 
-    /**
-     * 댓글/ 대댓글 작성시 댓글/대댓글 작성수 증가
-     * @param post - postEntity
-     */
-    public void increaseCommentCount(PostEntity post) {
-        post.plusCommentCount();
-        log.info("댓글 수 증가. PostId: {}, 현재: {}", post.get_id(), post.getCommentCount());
+        log.info("댓글 수 증가. PostId: {}, 현재: {}", post.get_id(), updated.getCommentCount());
+        if (post.isAnonymous())
+            log.info("익명 번호 할당. PostId: {}, UserId: {}, 번호: {}", post.get_id(), userId, updated.getAnonymous().getAnonNumber(userId));
     }
 
     /**
-     * 댓글/ 대댓글 작성시 댓글/대댓글 작성수 감소
+     * 댓글/ 대댓글 삭제시 댓글/대댓글 작성수 감소
      * @param post - postEntity
      */
     public void decreaseCommentCount(PostEntity post) {
-        post.minusCommentCount();
-        postRepository.save(post);
-        log.info("댓글 수 감소. PostId: {}, 현재: {}", post.get_id(), post.getCommentCount());
-    }
-
-    /**
-     * 익명 번호 할당
-     */
-    public void assignAnonymousNumber(PostEntity post, ObjectId userId) {
-        if (!post.isAnonymous()) {
-            return;
-        }
-
-        PostAnonymous anonymous = post.getAnonymous();
-
-        // 이미 익명 번호가 있으면 할당하지 않음
-        if (anonymous.hasAnonNumber(userId)) {
-            return;
-        }
-
-        if (post.isWriter(userId)) {
-            anonymous.setWriter(userId);
-        } else {anonymous.setAnonNumber(userId);
-        }
-        log.info("익명 번호 할당. PostId: {}, UserId: {}", post.get_id(), userId);
+        customPostRepository.decrementCommentCount(post.get_id());
+        log.info("댓글 수 감소. PostId: {}", post.get_id());
     }
 
 
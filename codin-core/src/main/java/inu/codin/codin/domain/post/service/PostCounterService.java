@@ -0,0 +1,167 @@
+package inu.codin.codin.domain.post.service;
+
+import inu.codin.codin.domain.like.entity.LikeType;
+import inu.codin.codin.domain.like.repository.CustomLikeRepository;
+import inu.codin.codin.domain.post.domain.hits.repository.CustomHitsRepository;
+import inu.codin.codin.domain.post.entity.PostCounterType;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
+import inu.codin.codin.domain.scrap.repository.CustomScrapRepository;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.dto.CounterDeltas;
+import inu.codin.codin.infra.redis.service.RedisCounterSyncService;
+import inu.codin.codin.infra.redis.service.RedisLikeService;
+import inu.codin.codin.infra.redis.service.RedisScrapService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostEntity의 좋아요/스크랩/조회 카운트 Write-Behind 관리
+ * - 기록 : Redis에 증감분과 dirty 게시글 _id 기록, Redis 장애 시 게시글에 바로 $inc
+ * - 반영 : SyncScheduler가 주기적으로 증감분을 수거하여 BulkOperations로 반영, 반영이 끝난 후에 Redis에서 삭제
+ * - 조회 : 게시글의 카운트 + 반영 대기/반영 중인 증감분
+ *
+ * 카운터 필드가 없는 기존 게시글은 backfill 전까지 조회 대상에서 제외되며 (호출 측에서 컬렉션 count),
+ * 게시글 수정은 변경된 필드만 $set 하므로 반영된 카운트를 덮어쓰지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostCounterService {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final CustomPostRepository customPostRepository;
+    private final CustomLikeRepository customLikeRepository;
+    private final CustomScrapRepository customScrapRepository;
+    private final CustomHitsRepository customHitsRepository;
+
+    private final RedisCounterSyncService redisCounterSyncService;
+    private final RedisLikeService redisLikeService;
+    private final RedisScrapService redisScrapService;
+    private final RedisHealthChecker redisHealthChecker;
+
+    /**
+     * 게시글 카운터 증감 기록
+     * @param postId 게시글 _id
+     * @param type 카운터 종류
+     * @param delta 증감 값 (음수 가능)
+     */
+    public void record(ObjectId postId, PostCounterType type, long delta) {
+        if (redisHealthChecker.isRedisAvailable()) {
+            try {
+                redisCounterSyncService.recordDelta(postId, type.getField(), delta);
+                return;
+            } catch (Exception e) {
+                log.warn("[Counter 기록] Redis 기록 실패, DB에 바로 반영 - postId: {}, type: {}", postId, type, e);
+            }
+        }
+        customPostRepository.incrementCounter(postId, type.getField(), delta);
+    }
+
+    /**
+     * 게시글에 저장된 카운트 반환
+     * @return 카운트, 카운터 필드가 초기화되지 않은 게시글은 null
+     */
+    public Integer getStoredCount(ObjectId postId, PostCounterType type) {
+        return getStoredCounts(List.of(postId), type).get(postId);
+    }
+
+    /**
+     * 여러 게시글에 저장된 카운트를 일괄 반환
+     * @return Key : 게시글 _id, Value : 카운트 (카운터 필드가 초기화되지 않은 게시글은 포함되지 않음)
+     */
+    public Map<ObjectId, Integer> getStoredCounts(List<ObjectId> postIds, PostCounterType type) {
+        Map<ObjectId, Integer> counts = customPostRepository.findCounters(postIds, type.getField());
+        if (counts.isEmpty() || !redisHealthChecker.isRedisAvailable()) return counts;
+
+        List<ObjectId> storedIds = List.copyOf(counts.keySet());
+        List<Long> pending = redisCounterSyncService.getPendingDeltas(storedIds, type.getField());
+        for (int i = 0; i < storedIds.size(); i++) {
+            ObjectId postId = storedIds.get(i);
+            counts.put(postId, (int) Math.max(0, counts.get(postId) + pending.get(i)));
+        }
+        return counts;
+    }
+
+    /**
+     * Redis에 쌓인 증감분을 모두 수거하여 게시글에 반영
+     * 반영에 실패한 배치는 Redis에 남겨두고 다음 주기에 같은 flushId로 다시 반영
+     * 반영 후 좋아요/스크랩 수 Cache를 무효화하여, DB 조회와 증감분 조회 사이에 반영이 끝나
+     * 반영 전 카운트 + 0을 읽은 조회가 그 값으로 Cache를 복구하지 못하도록 함 (version 변경)
+     * @return 반영된 게시글 수
+     */
+    public int flushPendingDeltas() {
+        int flushed = 0;
+        while (true) {
+            Map<ObjectId, CounterDeltas> deltas = redisCounterSyncService.drainDeltas(FLUSH_BATCH_SIZE);
+            if (deltas.isEmpty()) break;
+            try {
+                customPostRepository.bulkIncrementCounters(deltas);
+            } catch (Exception e) {
+                log.error("[Counter 반영] 게시글 카운트 반영 실패, 다음 주기에 다시 반영 - 게시글 수: {}", deltas.size(), e);
+                break;
+            }
+            redisCounterSyncService.acknowledge(deltas.keySet());
+            invalidateCachedCounts(deltas);
+            flushed += deltas.size();
+            if (deltas.size() < FLUSH_BATCH_SIZE) break;
+        }
+        return flushed;
+    }
+
+    private void invalidateCachedCounts(Map<ObjectId, CounterDeltas> deltas) {
+        List<String> likedPostIds = new ArrayList<>();
+        List<ObjectId> scrapedPostIds = new ArrayList<>();
+        deltas.forEach((postId, counterDeltas) -> {
+            if (counterDeltas.deltas().containsKey(PostCounterType.LIKE.getField())) likedPostIds.add(postId.toString());
+            if (counterDeltas.deltas().containsKey(PostCounterType.SCRAP.getField())) scrapedPostIds.add(postId);
+        });
+        redisLikeService.invalidateLikes(LikeType.POST.name(), likedPostIds);
+        redisScrapService.invalidateScraps(scrapedPostIds);
+    }
+
+    /**
+     * Redis에서 집계한 카운트를 게시글에 반영, 저장된 값보다 작으면 무시
+     * @param counts Key : 게시글 _id, Value : 카운트
+     */
+    public void raiseStoredCounts(Map<ObjectId, Integer> counts, PostCounterType type) {
+        customPostRepository.bulkRaiseCounters(counts, type.getField());
+    }
+
+    /**
+     * 카운터 필드가 없는 기존 게시글을 좋아요/스크랩/조회 컬렉션 기준으로 초기화
+     * 증감분은 DB 저장 이후에 기록되므로 count 전에 기록된 증감분은 모두 count에 포함됨
+     * -> count 직후 반영 대기 중인 증감분을 삭제하여, 초기화 이후 count에 포함된 증감분이 한 번 더 더해지지 않도록 함
+     * (count 이전에 삭제하면 삭제와 count 사이에 기록된 증감분이 count에도 포함되고 초기화 이후에도 반영됨)
+     * count와 삭제 사이의 짧은 구간에 DB 저장과 증감분 기록이 걸친 요청만 오차가 생길 수 있음
+     * Redis 장애 중에는 증감분을 삭제할 수 없으므로 초기화하지 않음
+     * @param limit 한 번에 초기화할 최대 게시글 수
+     * @return 초기화된 게시글 수
+     */
+    public int backfillCounters(int limit) {
+        if (!redisHealthChecker.isRedisAvailable()) return 0;
+        List<ObjectId> postIds = customPostRepository.findIdsWithoutCounters(limit);
+        if (postIds.isEmpty()) return 0;
+
+        Map<String, Integer> likeCounts = customLikeRepository.countGroupByLikeTypeId(
+                LikeType.POST, postIds.stream().map(ObjectId::toString).toList());
+        Map<ObjectId, Integer> scrapCounts = customScrapRepository.countGroupByPostId(postIds);
+        Map<ObjectId, Integer> hitsCounts = customHitsRepository.countGroupByPostId(postIds);
+        redisCounterSyncService.discardDeltas(postIds);
+
+        Map<ObjectId, Map<String, Integer>> counters = new HashMap<>();
+        postIds.forEach(postId -> counters.put(postId, Map.of(
+                PostCounterType.LIKE.getField(), likeCounts.getOrDefault(postId.toString(), 0),
+                PostCounterType.SCRAP.getField(), scrapCounts.getOrDefault(postId, 0),
+                PostCounterType.HITS.getField(), hitsCounts.getOrDefault(postId, 0))));
+        customPostRepository.bulkSetCounters(counters);
+        return postIds.size();
+    }
+}
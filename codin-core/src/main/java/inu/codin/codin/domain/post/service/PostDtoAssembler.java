@@ -15,8 +15,8 @@ import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.exception.PostErrorCode;
 import inu.codin.codin.domain.post.exception.PostException;
 import inu.codin.codin.domain.scrap.service.ScrapService;
-import inu.codin.codin.domain.user.entity.UserEntity;
-import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.user.dto.UserProfile;
+import inu.codin.codin.domain.user.service.UserProfileService;
 import inu.codin.codin.infra.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +24,9 @@ import org.bson.types.ObjectId;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 
@@ -37,7 +39,7 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 @RequiredArgsConstructor
 public class PostDtoAssembler {
 
-    private final UserRepository userRepository;
+    private final UserProfileService userProfileService;
     private final LikeService likeService;
     private final ScrapService scrapService;
     private final S3Service s3Service;
@@ -78,8 +80,96 @@ public class PostDtoAssembler {
                 ? null
                 : toObjectId(currentUserIdStr);
 
+        return toPageItemList(posts, currentUserId);
+    }
+
+    /**
+     * PostEntity 리스트를 PostPageItemResponseDTO 리스트로 일괄 변환
+     * 게시글 수와 무관하게 작성자, 좋아요/스크랩/조회수, 유저 반응 여부, Poll 정보를 각각 일괄 조회
+     * 반환 리스트는 입력 리스트의 순서를 유지
+     */
+    public List<PostPageItemResponseDTO> toPageItemList(List<PostEntity> posts, ObjectId currentUserId) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        List<ObjectId> postIds = posts.stream().map(PostEntity::get_id).toList();
+        List<String> postIdStrings = postIds.stream().map(ObjectId::toString).toList();
+
+        Map<ObjectId, UserProfile> userMap = userProfileService.getProfiles(
+                posts.stream().map(PostEntity::getUserId).toList());
+        String defaultImageUrl = s3Service.getDefaultProfileImageUrl();
+        Map<String, Integer> likeCounts = likeService.getLikeCounts(LikeType.POST, postIdStrings);
+        Map<ObjectId, Integer> scrapCounts = scrapService.getScrapCounts(postIds);
+        Map<ObjectId, Integer> hitsCounts = hitsService.getHitsCounts(postIds);
+
+        Set<String> likedIds = (currentUserId == null)
+                ? Set.of()
+                : likeService.getLikedIds(LikeType.POST, postIdStrings, currentUserId);
+        Set<ObjectId> scrapedIds = (currentUserId == null)
+                ? Set.of()
+                : scrapService.getScrapedPostIds(postIds, currentUserId);
+
+        List<PostEntity> pollPosts = posts.stream()
+                .filter(post -> post.getPostCategory() == PostCategory.POLL)
+                .toList();
+        Map<ObjectId, PollInfoResponseDTO> pollInfos = pollQueryService.getPollInfos(pollPosts, currentUserId);
+
         return posts.stream()
-                .map(post -> toPageItem(post, currentUserId))
+                .map(post -> {
+                    UserProfile user = userMap.get(post.getUserId());
+                    if (user == null) {
+                        throw new PostException(PostErrorCode.USER_NOT_FOUND);
+                    }
+                    String postId = post.get_id().toString();
+                    UserInfo userInfo = UserInfo.ofPost(
+                            likedIds.contains(postId),
+                            scrapedIds.contains(post.get_id()),
+                            Objects.equals(post.getUserId(), currentUserId));
+
+                    PostDetailResponseDTO postDTO = PostDetailResponseDTO.of(
+                            post,
+                            UserDto.forPost(post, user, defaultImageUrl),
+                            likeCounts.getOrDefault(postId, 0),
+                            scrapCounts.getOrDefault(post.get_id(), 0),
+                            hitsCounts.getOrDefault(post.get_id(), 0),
+                            post.getCommentCount(),
+                            userInfo
+                    );
+                    return PostPageItemResponseDTO.of(postDTO, pollInfos.get(post.get_id()));
+                })
+                .toList();
+    }
+
+    /**
+     * 비로그인 기준으로 미리 조립된 DTO 리스트에 현재 유저의 좋아요/스크랩/작성자 여부, 투표 내역만 일괄 반영
+     * 카운트와 작성자 정보는 그대로 사용하고, 투표 게시글만 투표 정보를 다시 조회
+     */
+    public List<PostPageItemResponseDTO> overlayViewer(List<PostPageItemResponseDTO> items, ObjectId currentUserId) {
+        if (currentUserId == null || items.isEmpty()) {
+            return items;
+        }
+
+        List<String> postIdStrings = items.stream().map(item -> item.getPost().get_id()).toList();
+        List<ObjectId> postIds = postIdStrings.stream().map(ObjectId::new).toList();
+
+        Set<String> likedIds = likeService.getLikedIds(LikeType.POST, postIdStrings, currentUserId);
+        Set<ObjectId> scrapedIds = scrapService.getScrapedPostIds(postIds, currentUserId);
+        List<ObjectId> pollPostIds = items.stream()
+                .filter(item -> item.getPoll() != null)
+                .map(item -> new ObjectId(item.getPost().get_id()))
+                .toList();
+        Map<ObjectId, PollInfoResponseDTO> pollInfos = pollQueryService.getPollInfosByPostIds(pollPostIds, currentUserId);
+
+        return items.stream()
+                .map(item -> {
+                    ObjectId postId = new ObjectId(item.getPost().get_id());
+                    UserInfo userInfo = UserInfo.ofPost(
+                            likedIds.contains(item.getPost().get_id()),
+                            scrapedIds.contains(postId),
+                            Objects.equals(item.getPost().getUserId(), currentUserId.toString()));
+                    return item.withViewer(userInfo, pollInfos.getOrDefault(postId, item.getPoll()));
+                })
                 .toList();
     }
 
@@ -87,7 +177,7 @@ public class PostDtoAssembler {
      * 사용자 프로필 정보 결정 (익명/실명, 닉네임/이미지)
      */
     private UserDto resolveUserProfile(PostEntity post) {
-        UserEntity user = userRepository.findById(post.getUserId())
+        UserProfile user = userProfileService.getProfile(post.getUserId())
                 .orElseThrow(() -> new PostException(PostErrorCode.USER_NOT_FOUND));
         return UserDto.forPost(post, user, s3Service.getDefaultProfileImageUrl());
     }
@@ -1,7 +1,7 @@
 package inu.codin.codin.domain.post.service;
 import inu.codin.codin.domain.post.domain.hits.service.HitsService;
 import inu.codin.codin.domain.post.entity.PostEntity;
-import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.infra.s3.S3Service;
 import inu.codin.codin.infra.s3.exception.ImageRemoveException;
 import inu.codin.codin.domain.post.exception.PostException;
@@ -20,7 +20,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostInteractionService {
     private final S3Service s3Service;
-    private final PostRepository postRepository;
+    private final CustomPostRepository customPostRepository;
     private final HitsService hitsService;
 
 
@@ -37,7 +37,7 @@ public class PostInteractionService {
         }
         try {
             post.removePostImage(imageUrl);
-            postRepository.save(post);
+            customPostRepository.removeImage(post.get_id(), imageUrl);
             log.info("이미지 삭제 성공. PostId: {}, ImageUrl: {}", post.get_id(), imageUrl);
             s3Service.deleteFile(imageUrl);
         } catch (Exception e) {
@@ -49,10 +49,7 @@ public class PostInteractionService {
     // [HitsService] - 조회수 증가 처리
     // 비로그인(null) → 무조건 증가, 로그인 → 중복 아닐 때만 증가
     public void increaseHits(PostEntity post, ObjectId userId) {
-        if (userId==null || !hitsService.validateHits(post.get_id(), userId)) {
-            hitsService.addHits(post.get_id(), userId);
-            log.info("조회수 업데이트. PostId: {}, UserId: {}", post.get_id(), userId);
-        }
+        hitsService.recordView(post.get_id(), userId);
     }
 
 }
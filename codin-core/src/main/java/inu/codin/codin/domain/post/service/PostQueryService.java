@@ -5,6 +5,7 @@ import inu.codin.common.util.ObjectIdUtil;
 import inu.codin.codin.domain.block.service.BlockService;
 import inu.codin.codin.domain.post.domain.best.BestEntity;
 import inu.codin.codin.domain.post.domain.best.BestService;
+import inu.codin.codin.domain.post.domain.best.BestSnapshotService;
 import inu.codin.codin.domain.post.dto.response.PostPageItemResponseDTO;
 import inu.codin.codin.domain.post.dto.response.PostPageResponse;
 import inu.codin.codin.domain.post.entity.PostAnonymous;
@@ -12,7 +13,10 @@ import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.exception.PostException;
 import inu.codin.codin.domain.post.exception.PostErrorCode;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.domain.post.util.PostCursor;
+import inu.codin.codin.domain.post.util.PostSearchTokenizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
@@ -22,7 +26,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -34,10 +37,15 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 public class PostQueryService
 {
     private final PostRepository postRepository;
+    private final CustomPostRepository customPostRepository;
     private final BlockService blockService;
     private final PostInteractionService postInteractionService;
     private final BestService bestService;
+    private final BestSnapshotService bestSnapshotService;
     private final PostDtoAssembler postDtoAssembler;
+
+    private static final int PAGE_SIZE = 20;
+
     /**
      * 카테고리별 삭제되지 않은 게시물 목록 조회
      * @return PostPageResponse (불변 리스트)
@@ -51,6 +59,23 @@ public class PostQueryService
     }
 
 
+    /**
+     * 카테고리별 삭제되지 않은 게시물 목록을 Cursor 기반으로 조회
+     * 전체 개수를 세지 않고 (createdAt, _id) 기준으로 이어서 조회하므로, 새 게시물이 등록되어도 다음 페이지가 밀리지 않음
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     */
+    public PostPageResponse getAllPostsByCursor(PostCategory postCategory, String cursor) {
+        List<ObjectId> blockedUsersId = blockService.getBlockedUsers();
+        List<PostEntity> posts = customPostRepository.findByCategoriesAfterCursor(
+                postCategory.withSubCategories(), blockedUsersId, PostCursor.decode(cursor), PAGE_SIZE + 1);
+
+        boolean hasNext = posts.size() > PAGE_SIZE;
+        List<PostEntity> contents = hasNext ? posts.subList(0, PAGE_SIZE) : posts;
+        String nextCursor = hasNext ? PostCursor.from(contents.get(PAGE_SIZE - 1)).encode() : null;
+        log.info("모든 글 반환 성공 Category: {}, Cursor: {}", postCategory, cursor);
+        return PostPageResponse.ofCursor(postDtoAssembler.toPageItemList(contents), nextCursor);
+    }
+
     /**
      * 게시물 상세 조회
      */
@@ -80,58 +105,50 @@ public class PostQueryService
 
     /**
      * 키워드 기반 게시물 검색
+     * 검색어의 2-gram 토큰으로 text index 검색 (관련도순),
+     * 1글자 단어가 포함된 검색어는 2-gram으로 찾을 수 없으므로 정규식 검색 (최신순)
      */
     public PostPageResponse searchPosts(String keyword, int pageNumber) {
         List<ObjectId> blockedUsersId = blockService.getBlockedUsers();
         log.info("blockedUsersId: {}", blockedUsersId.size());
 
-        String pattern = Pattern.quote(keyword);
-
-        PageRequest pageRequest = PageRequest.of(pageNumber, 20, Sort.by("createdAt").descending());
-        Page<PostEntity> page = postRepository.findAllByKeywordAndDeletedAtIsNull(pattern, blockedUsersId, pageRequest);
-        log.info("키워드 기반 게시물 검색: {}, Page: {}", pattern, pageNumber);
+        List<String> tokens = PostSearchTokenizer.tokenizeKeyword(keyword);
+        Page<PostEntity> page;
+        if (!tokens.isEmpty()) {
+            page = customPostRepository.searchByTokens(tokens, blockedUsersId, PageRequest.of(pageNumber, 20));
+            log.info("키워드 기반 게시물 검색 (text index): {}, Page: {}", keyword, pageNumber);
+        } else {
+            String pattern = Pattern.quote(keyword);
+            PageRequest pageRequest = PageRequest.of(pageNumber, 20, Sort.by("createdAt").descending());
+            page = postRepository.findAllByKeywordAndDeletedAtIsNull(pattern, blockedUsersId, pageRequest);
+            log.info("키워드 기반 게시물 검색 (regex): {}, Page: {}", pattern, pageNumber);
+        }
         return PostPageResponse.of(postDtoAssembler.toPageItemList(page.getContent()), page.getTotalPages() - 1, page.hasNext() ? page.getPageable().getPageNumber() + 1 : -1);
     }
 
     /**
      * Top 3 베스트 게시물 조회 (불변 리스트)
+     * 미리 조립된 스냅샷을 읽고 현재 유저의 반응 여부만 반영
      */
     public List<PostPageItemResponseDTO> getTop3BestPosts() {
-        List<String> bestPostIds = bestService.getTop3BestPostIds();
-
-        List<PostEntity> validPosts = bestPostIds.stream()
-                .map(postId -> {
-                    try {
-                        return findPostById(ObjectIdUtil.toObjectId(postId));
-                    } catch (PostException e) {
-                        bestService.deleteBestPost(postId); // 검증 실패시 삭제
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        String userIdStr = SecurityUtil.getCurrentUserIdOrNull();
+        ObjectId userId = (userIdStr == null)
+                ? null
+                : toObjectId(userIdStr);
 
         log.info("Top 3 베스트 게시물 반환.");
-        return postDtoAssembler.toPageItemList(validPosts);
+        return bestSnapshotService.getTop3BestPosts(userId);
     }
 
     /**
      * 베스트 게시물 페이지 조회
+     * 페이지의 게시물을 한 번에 조회하며 랭킹 순서 유지
      */
     public PostPageResponse getBestPosts(int pageNumber) {
         Page<BestEntity> bestEntities = bestService.getBestEntities(pageNumber);
 
-        List<PostEntity> validPosts = bestEntities.getContent().stream()
-                .map(bestEntity -> {
-                    try {
-                        return findPostById(bestEntity.getPostId());
-                    } catch (PostException e) {
-                        bestService.deleteBestPost(bestEntity.getPostId().toString());
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        List<PostEntity> validPosts = bestSnapshotService.findRankedPosts(
+                bestEntities.getContent().stream().map(BestEntity::getPostId).toList());
 
         return PostPageResponse.of(
                 postDtoAssembler.toPageItemList(validPosts),
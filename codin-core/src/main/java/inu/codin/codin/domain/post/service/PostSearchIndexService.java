@@ -0,0 +1,42 @@
+package inu.codin.codin.domain.post.service;
+
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
+import inu.codin.codin.domain.post.util.PostSearchTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 검색 색인 관리
+ * 게시글 생성/수정 시 PostEntity가 searchText를 갱신하고,
+ * 외부 스크립트로 등록된 게시글과 기존 게시글은 PostSearchIndexScheduler가 주기적으로 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchIndexService {
+
+    private final CustomPostRepository customPostRepository;
+
+    /**
+     * searchText가 없는 게시글의 검색 토큰 생성
+     * @param limit 한 번에 처리할 최대 게시글 수
+     * @return 처리된 게시글 수
+     */
+    public int backfillSearchText(int limit) {
+        List<Document> posts = customPostRepository.findWithoutSearchText(limit);
+        if (posts.isEmpty()) return 0;
+
+        Map<ObjectId, String> searchTexts = new HashMap<>();
+        posts.forEach(post -> searchTexts.put(post.getObjectId("_id"),
+                PostSearchTokenizer.tokenize(post.getString("title"), post.getString("content"))));
+        customPostRepository.bulkSetSearchText(searchTexts);
+        return posts.size();
+    }
+}
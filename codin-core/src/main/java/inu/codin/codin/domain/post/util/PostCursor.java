@@ -0,0 +1,44 @@
+package inu.codin.codin.domain.post.util;
+
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.exception.PostErrorCode;
+import inu.codin.codin.domain.post.exception.PostException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 Cursor 기반 페이징의 위치 (createdAt, _id)
+ * 클라이언트에는 내부 구조를 알 수 없도록 Base64(URL-safe)로 인코딩한 문자열로 전달
+ * ex) "2024-12-05T02:22:48.123|675123abc..." -> "MjAyNC0xMi0wNVQwMjoy..."
+ */
+public record PostCursor(LocalDateTime createdAt, ObjectId id) {
+
+    private static final String DELIMITER = "|";
+
+    public static PostCursor from(PostEntity post) {
+        return new PostCursor(post.getCreatedAt(), post.get_id());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 인코딩된 Cursor, 첫 페이지는 null 또는 빈 문자열
+     * @return Cursor, 첫 페이지는 null
+     */
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, index)), new ObjectId(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new PostException(PostErrorCode.INVALID_CURSOR);
+        }
+    }
+}
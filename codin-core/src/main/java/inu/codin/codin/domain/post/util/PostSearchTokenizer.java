@@ -0,0 +1,65 @@
+package inu.codin.codin.domain.post.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 검색용 2-gram 토크나이저
+ * MongoDB text index는 공백 기준으로만 단어를 나누어 한국어 부분 검색이 되지 않으므로,
+ * 제목과 내용을 2글자 단위로 나눈 토큰을 PostEntity.searchText에 저장하여 색인
+ * ex) "학과 공지사항" -> "학과 공지 지사 사항"
+ */
+public final class PostSearchTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    private PostSearchTokenizer() {
+    }
+
+    /**
+     * 색인할 텍스트를 공백으로 구분된 중복 없는 2-gram 토큰 문자열로 변환
+     */
+    public static String tokenize(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            tokens.addAll(toGrams(text));
+        }
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * 검색어를 2-gram 토큰 리스트로 변환
+     * @return 토큰 리스트, 2글자 미만의 단어가 포함되어 있으면 2-gram으로 검색할 수 없으므로 빈 리스트
+     */
+    public static List<String> tokenizeKeyword(String keyword) {
+        List<String> words = normalize(keyword);
+        if (words.isEmpty() || words.stream().anyMatch(word -> word.length() < GRAM_SIZE)) return List.of();
+        return List.copyOf(toGrams(keyword));
+    }
+
+    private static Set<String> toGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : normalize(text)) {
+            if (word.length() < GRAM_SIZE) {
+                grams.add(word);
+                continue;
+            }
+            for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+                grams.add(word.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> normalize(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+        return normalized.isEmpty() ? List.of() : List.of(normalized.split(" "));
+    }
+}
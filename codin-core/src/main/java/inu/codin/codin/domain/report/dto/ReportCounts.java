@@ -0,0 +1,13 @@
+package inu.codin.codin.domain.report.dto;
+
+import inu.codin.codin.domain.report.entity.ReportStatus;
+import inu.codin.codin.domain.report.entity.ReportType;
+
+import java.util.Map;
+
+/**
+ * 신고 대상의 신고 유형별, 처리 상태별 신고 개수
+ * 신고가 없는 유형/상태는 포함하지 않음
+ */
+public record ReportCounts(Map<ReportType, Integer> byType, Map<ReportStatus, Integer> byStatus) {
+}
@@ -1,5 +1,7 @@
 package inu.codin.codin.domain.report.dto.response;
 
+import inu.codin.codin.domain.report.dto.ReportCounts;
+import inu.codin.codin.domain.report.entity.ReportStatus;
 import inu.codin.codin.domain.report.entity.ReportType;
 import lombok.Getter;
 
@@ -8,9 +10,15 @@ import java.util.Map;
 @Getter
 public class ReportSummaryResponseDTO {
     private final Map<ReportType, Integer> reportTypeCounts;
+    private final Map<ReportStatus, Integer> reportStatusCounts;
 
-    public ReportSummaryResponseDTO(Map<ReportType, Integer> reportTypeCounts) {
+    public ReportSummaryResponseDTO(Map<ReportType, Integer> reportTypeCounts, Map<ReportStatus, Integer> reportStatusCounts) {
         this.reportTypeCounts = reportTypeCounts;
+        this.reportStatusCounts = reportStatusCounts;
+    }
+
+    public static ReportSummaryResponseDTO from(ReportCounts counts) {
+        return new ReportSummaryResponseDTO(counts.byType(), counts.byStatus());
     }
 }
 
@@ -6,15 +6,17 @@ import lombok.Getter;
 @Getter
 public class ReportedCommentDetailResponseDTO extends CommentResponseDTO {
     private final boolean isReported;
+    private final int reportCount;
 
-    private ReportedCommentDetailResponseDTO(CommentResponseDTO base, boolean isReported) {
+    private ReportedCommentDetailResponseDTO(CommentResponseDTO base, int reportCount) {
         super(base.get_id(), base.getUserId(), base.getContent(), base.getNickname(),
                 base.getUserImageUrl(), base.isAnonymous(), base.getReplies(),
                 base.getLikeCount(), base.isDeleted(), base.getCreatedAt(), base.getUserInfo());
-        this.isReported = isReported;
+        this.isReported = reportCount > 0;
+        this.reportCount = reportCount;
     }
 
-    public static ReportedCommentDetailResponseDTO from(CommentResponseDTO base, boolean isReported) {
-        return new ReportedCommentDetailResponseDTO(base, isReported);
+    public static ReportedCommentDetailResponseDTO from(CommentResponseDTO base, int reportCount) {
+        return new ReportedCommentDetailResponseDTO(base, reportCount);
     }
 }
@@ -1,19 +1,36 @@
 package inu.codin.codin.domain.report.repository;
 
+import inu.codin.codin.domain.report.dto.ReportCounts;
+import inu.codin.codin.domain.report.dto.ReportInfo;
 import inu.codin.codin.domain.report.entity.ReportEntity;
+import inu.codin.codin.domain.report.entity.ReportStatus;
+import inu.codin.codin.domain.report.entity.ReportType;
 import org.bson.Document;
-import org.springframework.data.domain.Sort;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class CustomReportRepository {
 
+    public static final String QUEUE_INDEX_NAME = "report_queue_idx";
+    public static final String TARGET_INDEX_NAME = "report_target_idx";
+
     private final MongoTemplate mongoTemplate;
 
     public CustomReportRepository(MongoTemplate mongoTemplate) {
@@ -21,16 +38,107 @@ public class CustomReportRepository {
         this.mongoTemplate = mongoTemplate;
     }
 
-    public List<Document> findPendingReportsOrderedGroupedBy() {
+    /**
+     * 처리 대기 신고를 신고 대상별로 묶어 신고 수 내림차순으로 페이지 조회
+     * 요청한 페이지와 전체 신고 대상 수를 $facet으로 한 번에 조회하여, 요청한 페이지의 신고 대상만 애플리케이션으로 전달
+     * 신고 수가 같은 대상은 신고 대상 _id 순으로 정렬하여 페이지 간 중복/누락이 없도록 함
+     * @param pageable 페이지 번호, 페이지 크기
+     */
+    public Page<ReportInfo> findPendingReportInfos(Pageable pageable) {
+        AggregationOperation facet = context -> new Document("$facet", new Document()
+                .append("contents", List.of(
+                        new Document("$sort", new Document("reportCount", -1).append("_id", 1)),
+                        new Document("$skip", pageable.getOffset()),
+                        new Document("$limit", pageable.getPageSize()),
+                        new Document("$project", new Document("_id", 0)
+                                .append("reportedEntityId", "$_id")
+                                .append("reportCount", 1)
+                                .append("entityType", 1)
+                                .append("userId", 1))))
+                .append("total", List.of(new Document("$count", "count"))));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("reportStatus").is(ReportStatus.PENDING)),
+                Aggregation.group("reportTargetId")
+                        .count().as("reportCount")
+                        .first("reportTargetType").as("entityType")
+                        .first("reportedUserId").as("userId"),
+                facet
+        );
+
+        Document result = mongoTemplate.aggregate(aggregation, ReportEntity.class, Document.class).getUniqueMappedResult();
+        if (result == null) {
+            return Page.empty(pageable);
+        }
+
+        List<ReportInfo> contents = result.getList("contents", Document.class).stream()
+                .map(document -> mongoTemplate.getConverter().read(ReportInfo.class, document))
+                .toList();
+        List<Document> total = result.getList("total", Document.class);
+        long totalCount = total.isEmpty() ? 0 : total.get(0).get("count", Number.class).longValue();
+        return new PageImpl<>(contents, pageable, totalCount);
+    }
+
+    /**
+     * 신고 대상의 신고 유형별, 처리 상태별 신고 개수를 한 번의 aggregation으로 조회
+     * @param reportTargetId 신고 대상 _id
+     */
+    public ReportCounts countByTypeAndStatus(ObjectId reportTargetId) {
+        AggregationOperation facet = context -> new Document("$facet", new Document()
+                .append("byType", List.of(new Document("$group", new Document("_id", "$reportType")
+                        .append("count", new Document("$sum", 1)))))
+                .append("byStatus", List.of(new Document("$group", new Document("_id", "$reportStatus")
+                        .append("count", new Document("$sum", 1))))));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("reportTargetId").is(reportTargetId)),
+                facet
+        );
+
+        Document result = mongoTemplate.aggregate(aggregation, ReportEntity.class, Document.class).getUniqueMappedResult();
+        Map<ReportType, Integer> byType = new EnumMap<>(ReportType.class);
+        Map<ReportStatus, Integer> byStatus = new EnumMap<>(ReportStatus.class);
+        if (result != null) {
+            result.getList("byType", Document.class).forEach(document ->
+                    byType.put(ReportType.valueOf(document.getString("_id")), document.getInteger("count")));
+            result.getList("byStatus", Document.class).forEach(document ->
+                    byStatus.put(ReportStatus.valueOf(document.getString("_id")), document.getInteger("count")));
+        }
+        return new ReportCounts(byType, byStatus);
+    }
+
+    /**
+     * 여러 신고 대상의 신고 개수를 한 번의 $in aggregation으로 조회
+     * @param reportTargetIds 신고 대상 _id 목록
+     * @return Key : 신고 대상 _id, Value : 신고 개수 (신고되지 않은 대상은 포함하지 않음)
+     */
+    public Map<ObjectId, Integer> countByReportTargetIds(Collection<ObjectId> reportTargetIds) {
+        if (reportTargetIds.isEmpty()) {
+            return Map.of();
+        }
         Aggregation aggregation = Aggregation.newAggregation(
-                Aggregation.match(Criteria.where("reportStatus").is("PENDING")),  // 'PENDING' 상태인 항목만 필터링
-                Aggregation.group("reportTargetId")  // reportTargetId 기준으로 그룹화
-                        .count().as("count")  // 신고 개수 카운팅
-                        .push("$$ROOT").as("reports"),  // 신고 목록을 reports 필드로 밀어넣기
-                Aggregation.sort(Sort.by(Sort.Order.desc("count")))  // 신고 개수 기준 내림차순 정렬
+                Aggregation.match(Criteria.where("reportTargetId").in(reportTargetIds)),
+                Aggregation.group("reportTargetId").count().as("count")
         );
 
-        AggregationResults<Document> results = mongoTemplate.aggregate(aggregation, ReportEntity.class, Document.class);
-        return results.getMappedResults();  // Document로 결과 반환
+        Map<ObjectId, Integer> counts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, ReportEntity.class, Document.class)
+                .forEach(document -> counts.put(document.getObjectId("_id"), document.getInteger("count")));
+        return counts;
+    }
+
+    /**
+     * 정지 종료일이 지난 정지 신고를 한 번의 updateMulti로 처리 완료 상태로 변경
+     * 정지 상태와 정지 종료일을 조건에 포함하여, 중단 후 다시 실행해도 남은 신고만 변경
+     * @param now 기준 시각
+     * @return 처리 완료로 변경된 신고 수
+     */
+    public long resolveExpiredSuspensions(LocalDateTime now) {
+        Query query = Query.query(Criteria.where("reportStatus").is(ReportStatus.SUSPENDED)
+                .and("action.suspensionEndDate").lt(now));
+        Update update = new Update()
+                .set("reportStatus", ReportStatus.RESOLVED)
+                .set("updated_at", now);
+        return mongoTemplate.updateMulti(query, update, ReportEntity.class).getModifiedCount();
     }
 }
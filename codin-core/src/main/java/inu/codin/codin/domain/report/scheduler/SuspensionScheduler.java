@@ -17,7 +17,8 @@ public class SuspensionScheduler {
 //    @Scheduled(cron = "0 * * * * ?") // 매 1분마다 실행(테스트)
     public void checkAndReleaseSuspendedUsers() {
         log.info("정지 해제 스케줄러 실행...");
-        suspensionService.releaseSuspendedReports(); //정지 중이던 게시글 해제
-        suspensionService.releaseSuspendedUsers(); //정지 중이던 유저 해제
+        long reports = suspensionService.releaseSuspendedReports(); //정지 중이던 게시글 해제
+        long users = suspensionService.releaseSuspendedUsers(); //정지 중이던 유저 해제
+        log.info("정지 해제 스케줄러 완료 - 신고: {}건, 유저: {}명", reports, users);
     }
 }
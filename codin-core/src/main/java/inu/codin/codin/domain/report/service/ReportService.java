@@ -1,5 +1,7 @@
 package inu.codin.codin.domain.report.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import inu.codin.common.exception.NotFoundException;
 import inu.codin.security.util.SecurityUtil;
 import inu.codin.codin.domain.post.domain.comment.dto.response.CommentResponseDTO;
@@ -8,10 +10,10 @@ import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
 import inu.codin.codin.domain.post.domain.comment.service.CommentQueryService;
 import inu.codin.codin.domain.post.domain.comment.reply.entity.ReplyCommentEntity;
 import inu.codin.codin.domain.post.domain.comment.reply.repository.ReplyCommentRepository;
-import inu.codin.codin.domain.post.domain.comment.reply.service.ReplyQueryService;
+import inu.codin.codin.domain.post.dto.event.PostDeletedEvent;
 import inu.codin.codin.domain.post.dto.response.PostDetailResponseDTO;
-import inu.codin.codin.domain.post.entity.PostAnonymous;
 import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.domain.post.service.PostQueryService;
 import inu.codin.codin.domain.report.dto.ReportInfo;
@@ -29,17 +31,18 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import inu.codin.codin.domain.post.dto.response.PostPageItemResponseDTO;
 
 import static inu.codin.common.util.ObjectIdUtil.toObjectId;
@@ -51,16 +54,26 @@ public class ReportService {
 
     private final PostQueryService postQueryService;
     private final CommentQueryService commentQueryService;
-    private final ReplyQueryService replyQueryService;
 
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final CustomPostRepository customPostRepository;
     private final CommentRepository commentRepository;
     private final ReplyCommentRepository replyRepository;
     private final ReplyCommentRepository replyCommentRepository;
     private final CustomReportRepository customReportRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 신고 요약 Local Cache
+     * 이 서버에서 신고를 생성/처리하면 즉시 삭제, 다른 서버의 변경은 최대 SUMMARY_CACHE_TTL 동안 반영되지 않을 수 있음
+     */
+    private static final Duration SUMMARY_CACHE_TTL = Duration.ofSeconds(5);
+    private final Cache<ObjectId, ReportSummaryResponseDTO> summaryCache = Caffeine.newBuilder()
+            .expireAfterWrite(SUMMARY_CACHE_TTL)
+            .maximumSize(1_000)
+            .build();
 
     public void createReport(@Valid ReportCreateRequestDto reportCreateRequestDto) {
         /***
@@ -102,6 +115,7 @@ public class ReportService {
 
         // 신고 저장
         reportRepository.save(report);
+        summaryCache.invalidate(reportTargetId);
         log.info("신고 저장 완료: reportId={}, reportingUserId={}, reportTargetId={}",
                 report.get_id(),
                 userId,
@@ -116,15 +130,9 @@ public class ReportService {
 
     //post 총 신고수 증가
     private void updatePostReportCount(ObjectId postId) {
-        // 게시물 조회
-        PostEntity post = postRepository.findById(postId)
-                .orElseThrow(() -> new NotFoundException("게시물을 찾을 수 없습니다."));
-
-        // 신고 수 업데이트
-        post.updateReportCount(post.getReportCount() + 1);
-
-        // 게시물 저장
-        postRepository.save(post);
+        // 신고 수만 증가 (게시글 전체 저장 시 다른 요청이 반영한 카운터를 덮어씀)
+        if (!customPostRepository.incrementReportCount(postId))
+            throw new NotFoundException("게시물을 찾을 수 없습니다.");
     }
 
     /**
@@ -215,25 +223,21 @@ public class ReportService {
         // 업데이트된 신고 저장
         reportRepository.saveAll(pendingReports);
         userRepository.save(user);
+        summaryCache.invalidate(targetObjectId);
         log.info(" 신고 처리 완료: 신고 대상 ID: {}, reportedUserId: {}", requestDto.getReportTargetId(), reportedUserId);
 
     }
 
 
 
+    /**
+     * 신고 대상의 신고 유형별, 처리 상태별 신고 개수 조회
+     * 관리자 화면 새로고침마다 aggregation을 실행하지 않도록 SUMMARY_CACHE_TTL 동안 Local Cache에 저장
+     */
     public ReportSummaryResponseDTO getReportSummary(String reportTargetId) {
         ObjectId targetId = new ObjectId(reportTargetId);
-
-        // 모든 ReportType에 대해 개수 조회
-        Map<ReportType, Integer> reportTypeCounts = new HashMap<>();
-        for (ReportType reportType : ReportType.values()) {
-            int count =  reportRepository.countByReportTargetIdAndReportType(targetId, reportType);
-            if (count > 0) { // 개수가 0이면 굳이 넣을 필요 없음
-                reportTypeCounts.put(reportType, count);
-            }
-        }
-
-        return new ReportSummaryResponseDTO(reportTypeCounts);
+        return summaryCache.get(targetId,
+                id -> ReportSummaryResponseDTO.from(customReportRepository.countByTypeAndStatus(id)));
     }
 
     @Transactional
@@ -241,10 +245,9 @@ public class ReportService {
 
         switch (targetType) {
             case POST -> {
-                PostEntity post = postRepository.findById(reportTargetId)
-                        .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
-                post.delete();
-                postRepository.save(post);
+                if (!customPostRepository.softDelete(reportTargetId))
+                    throw new NotFoundException("게시글을 찾을 수 없습니다.");
+                eventPublisher.publishEvent(new PostDeletedEvent(this, reportTargetId));
                 log.info(" 신고된 게시글 삭제: {}", reportTargetId);
             }
             case COMMENT -> {
@@ -287,6 +290,7 @@ public class ReportService {
                 });
 
         reportRepository.saveAll(reports);
+        summaryCache.invalidate(targetObjectId);
 
         log.info("총 {}개의 신고가 유지 처리되었습니다. 대상 ID: {}", reports.size(), reportTargetId);
     }
@@ -298,15 +302,12 @@ public class ReportService {
      *
      */
 
+    /**
+     * 처리 대기 신고 대상 페이지 조회 (신고 수 내림차순)
+     * 요청한 페이지의 신고 대상만 DB에서 조회
+     */
     public ReportPageResponse getAllReportedPosts(int pageNumber) {
-        PageRequest pageRequest = PageRequest.of(pageNumber, 20, Sort.by("createdAt").descending());
-
-        List<ReportInfo> reportInfos = reportRepository.findAllReportedEntities();
-
-        // 페이지 변환
-        int start = Math.min((int) pageRequest.getOffset(), reportInfos.size());
-        int end = Math.min((start + pageRequest.getPageSize()), reportInfos.size());
-        Page<ReportInfo> reportInfoPage = new PageImpl<>(reportInfos.subList(start, end), pageRequest, reportInfos.size());
+        Page<ReportInfo> reportInfoPage = customReportRepository.findPendingReportInfos(PageRequest.of(pageNumber, 20));
 
         // 신고된 엔터티 조회 및 변환
         List<ReportListResponseDto> reportedPosts = reportInfoPage.getContent().stream()
@@ -358,42 +359,36 @@ public class ReportService {
     }
 
 
+    /**
+     * 게시글의 댓글/대댓글 트리에 신고 여부와 신고 개수 표시
+     * 댓글/대댓글 수와 무관하게 모든 댓글, 대댓글의 신고 개수를 한 번의 aggregation으로 조회
+     */
     public List<ReportedCommentDetailResponseDTO> getReportedCommentsByPostId(String postId, String reportedEntityId) {
-        List<CommentResponseDTO> comments = commentQueryService.getCommentsByPostId(postId);
-        PostEntity post = postRepository.findByIdAndNotDeleted(new ObjectId(postId))
+        postRepository.findByIdAndNotDeleted(new ObjectId(postId))
                 .orElseThrow(() -> new NotFoundException("게시물을 찾을 수 없습니다."));
+        List<CommentResponseDTO> comments = commentQueryService.getCommentsByPostId(postId);
+
+        List<ObjectId> targetIds = comments.stream()
+                .flatMap(comment -> Stream.concat(Stream.of(comment), comment.getReplies().stream()))
+                .map(comment -> new ObjectId(comment.get_id()))
+                .toList();
+        Map<ObjectId, Integer> reportCounts = customReportRepository.countByReportTargetIds(targetIds);
+        log.info("신고 댓글 조회 - postId: {}, reportedEntityId: {}, 신고된 댓글/대댓글 수: {}", postId, reportedEntityId, reportCounts.size());
 
         return comments.stream()
                 .map(comment -> {
-                    ObjectId ReportTargetId = new ObjectId(reportedEntityId);
-                    boolean existsInReportDB = reportRepository.existsByReportTargetId(ReportTargetId);
-                    boolean isCommentReported = existsInReportDB && comment.get_id().equals(reportedEntityId);
-                    log.info("🔸 댓글 ID: {}, 신고 여부: {}", comment.get_id(), isCommentReported);
-
                     // 대댓글 리스트 변환 (신고 여부 반영)
-                    List<ReportedCommentDetailResponseDTO> reportedReplies = getReportedRepliesByCommentId(post.getAnonymous(), comment.get_id(), reportedEntityId);
+                    List<ReportedCommentDetailResponseDTO> reportedReplies = comment.getReplies().stream()
+                            .map(reply -> toReportedComment(reply, reportCounts))
+                            .toList();
 
                     // `CommentResponseDTO`에서 `ReportedCommentResponseDTO`로 변환하여 신고 여부 추가
-                    return ReportedCommentDetailResponseDTO.from(comment.repliesFrom(reportedReplies), isCommentReported);
+                    return toReportedComment(comment.repliesFrom(reportedReplies), reportCounts);
                 })
                 .toList();
     }
 
-    public List<ReportedCommentDetailResponseDTO> getReportedRepliesByCommentId(PostAnonymous postAnonymous, String id, String reportedEntityId) {
-        ObjectId commentId = new ObjectId(id);
-        List<CommentResponseDTO> replies = replyQueryService.getRepliesByCommentId(postAnonymous, commentId);
-
-        return replies.stream()
-                .map(reply -> {
-                    ObjectId ReportTargetId = new ObjectId(reportedEntityId);
-                    boolean existsInReportDB = reportRepository.existsByReportTargetId(ReportTargetId);
-                    boolean isReplyReported = existsInReportDB && reply.get_id().equals(reportedEntityId);
-
-                    log.info("🔹 대댓글 ID: {}, 신고 여부: {}", reply.get_id(), isReplyReported);
-
-                    return ReportedCommentDetailResponseDTO.from(reply, isReplyReported);
-                })
-                .toList();
+    private ReportedCommentDetailResponseDTO toReportedComment(CommentResponseDTO comment, Map<ObjectId, Integer> reportCounts) {
+        return ReportedCommentDetailResponseDTO.from(comment, reportCounts.getOrDefault(new ObjectId(comment.get_id()), 0));
     }
 }
-
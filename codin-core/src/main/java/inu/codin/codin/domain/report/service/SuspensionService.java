@@ -1,11 +1,10 @@
 package inu.codin.codin.domain.report.service;
 
-import inu.codin.codin.domain.report.entity.ReportEntity;
-import inu.codin.codin.domain.report.repository.ReportRepository;
-import inu.codin.codin.domain.user.entity.UserEntity;
-import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.report.repository.CustomReportRepository;
+import inu.codin.codin.domain.user.repository.CustomUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -16,28 +15,39 @@ import java.util.List;
 @Slf4j
 public class SuspensionService {
 
-    private final ReportRepository reportRepository;
-    private final UserRepository userRepository;
+    private static final int RELEASE_BATCH_SIZE = 500;
 
-    public void releaseSuspendedReports() {
-        LocalDateTime now = LocalDateTime.now();
-        List<ReportEntity> suspendedUsers = reportRepository.findSuspendedReports(now);
+    private final CustomReportRepository customReportRepository;
+    private final CustomUserRepository customUserRepository;
 
-        for (ReportEntity report : suspendedUsers) {
-            report.updateReportResolved();
-            reportRepository.save(report);
-            log.info("신고 {} 정지 중 -> 처리 완료", report.get_id());
-        }
+    /**
+     * 정지 종료일이 지난 신고를 처리 완료로 변경
+     * @return 처리 완료로 변경된 신고 수
+     */
+    public long releaseSuspendedReports() {
+        long released = customReportRepository.resolveExpiredSuspensions(LocalDateTime.now());
+        log.info("신고 정지 중 -> 처리 완료: {}건", released);
+        return released;
     }
 
-    public void releaseSuspendedUsers() {
+    /**
+     * 정지 종료일이 지난 유저의 정지 해제
+     * RELEASE_BATCH_SIZE 단위로 대상 유저를 조회하여 BulkOperations로 해제하며,
+     * 해제 조건을 update 조건에 포함하므로 중단 후 다시 실행해도 남은 유저만 해제
+     * @return 정지 해제된 유저 수
+     */
+    public long releaseSuspendedUsers() {
         LocalDateTime now = LocalDateTime.now();
-        List<UserEntity> userEntities = userRepository.findSuspendedUsers(now);
-        for (UserEntity user : userEntities) {
-            user.activateUser(); // 정지 해제
-            user.updateTotalSuspensionEndDate(null);
-            userRepository.save(user); // DB 반영
-            log.info("유저 {} 정지 해제", user.get_id());
+        long released = 0;
+        while (true) {
+            List<ObjectId> userIds = customUserRepository.findExpiredSuspendedUserIds(now, RELEASE_BATCH_SIZE);
+            if (userIds.isEmpty()) break;
+
+            int count = customUserRepository.releaseSuspensions(userIds, now);
+            released += count;
+            log.info("유저 정지 해제: {}명, userIds: {}", count, userIds);
+            if (count == 0) break; // 조회한 유저가 해제되지 않으면 같은 유저를 반복 조회하므로 중단
         }
+        return released;
     }
 }
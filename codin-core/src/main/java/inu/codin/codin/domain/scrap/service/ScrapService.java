@@ -2,16 +2,28 @@ package inu.codin.codin.domain.scrap.service;
 
 import inu.codin.common.exception.NotFoundException;
 import inu.codin.security.util.SecurityUtil;
+import inu.codin.codin.domain.post.entity.PostCounterType;
 import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.domain.post.service.PostCounterService;
 import inu.codin.codin.domain.scrap.entity.ScrapEntity;
+import inu.codin.codin.domain.scrap.repository.CustomScrapRepository;
 import inu.codin.codin.domain.scrap.repository.ScrapRepository;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.dto.CounterVersions;
 import inu.codin.codin.infra.redis.service.RedisBestService;
+import inu.codin.codin.infra.redis.service.RedisScrapService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 
@@ -20,9 +32,13 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 @Slf4j
 public class ScrapService {
     private final ScrapRepository scrapRepository;
+    private final CustomScrapRepository customScrapRepository;
     private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
 
     private final RedisBestService redisBestService;
+    private final RedisScrapService redisScrapService;
+    private final RedisHealthChecker redisHealthChecker;
 
     /**
      * 하나의 모듈로 스크랩 추가, 삭제 toggle 동작
@@ -68,10 +84,15 @@ public class ScrapService {
         return "스크랩이 추가되었습니다.";
     }
 
+    /*
+        스크랩 수 Cache는 DB 저장 이후에 무효화해야 무효화 전에 DB를 읽은 조회가 오래된 값을 복구하지 못함
+     */
     private void restoreScrap(ScrapEntity scrap) {
         scrap.recreatedAt();
         scrap.restore();
         scrapRepository.save(scrap);
+        postCounterService.record(scrap.getPostId(), PostCounterType.SCRAP, 1);
+        ifRedisAvailable(() -> redisScrapService.invalidateScrap(scrap.getPostId()));
         log.info("스크랩 복원 완료 - postId: {}, userId: {}", scrap.getPostId(), scrap.getUserId());
 
     }
@@ -81,6 +102,8 @@ public class ScrapService {
                 .postId(postId)
                 .userId(userId)
                 .build());
+        postCounterService.record(postId, PostCounterType.SCRAP, 1);
+        ifRedisAvailable(() -> redisScrapService.invalidateScrap(postId));
         redisBestService.applyBestScore(2, postId); //Best 게시글에 적용
         log.info("스크랩 추가 완료 - postId: {}, userId: {}", postId, userId);
         log.info("Redis에 Best Score 적용 - postId: {}", postId);
@@ -90,14 +113,87 @@ public class ScrapService {
     private void removeScrap(ScrapEntity scrap) {
         scrap.delete();
         scrapRepository.save(scrap);
+        postCounterService.record(scrap.getPostId(), PostCounterType.SCRAP, -1);
+        ifRedisAvailable(() -> redisScrapService.invalidateScrap(scrap.getPostId()));
         log.info("스크랩 삭제 완료 - postId: {}, userId: {}", scrap.getPostId(), scrap.getUserId());
     }
 
+    /**
+     * 게시글 스크랩 수 반환
+     * Cache miss 시 PostEntity에 저장된 카운트(초기화 전 게시글은 컬렉션 count) 조회 후 Cache 복구
+     */
     public int getScrapCount(ObjectId postId) {
-        return scrapRepository.countByPostIdAndDeletedAtIsNull(postId);
+        boolean redisAvailable = redisHealthChecker.isRedisAvailable();
+        if (redisAvailable) {
+            Long scrapCount = redisScrapService.getScrapCount(postId);
+            if (scrapCount != null) return scrapCount.intValue();
+        }
+
+        //DB 조회 전에 version을 읽어, 조회 중 무효화되었다면 복구하지 않음
+        CounterVersions versions = redisAvailable ? redisScrapService.getScrapVersions(List.of(postId)) : null;
+        Integer storedCount = postCounterService.getStoredCount(postId, PostCounterType.SCRAP);
+        int scrapCount = storedCount != null
+                ? storedCount
+                : scrapRepository.countByPostIdAndDeletedAtIsNull(postId);
+        if (redisAvailable) redisScrapService.recoveryScrap(postId, scrapCount, versions);
+        return scrapCount;
     }
 
+    /**
+     * 유저의 게시글 스크랩 여부, 스크랩 취소(deletedAt)된 기록은 제외 (getScrapedPostIds와 같은 기준)
+     */
     public boolean isPostScraped(ObjectId postId, ObjectId userId){
-        return scrapRepository.existsByPostIdAndUserId(postId, userId);
+        return scrapRepository.existsByPostIdAndUserIdAndDeletedAtIsNull(postId, userId);
+    }
+
+    /**
+     * 여러 게시글의 스크랩 수를 일괄 조회
+     * Redis 한 번의 호출로 조회 후, Cache miss는 PostEntity에 저장된 카운트로,
+     * 카운트가 초기화되지 않은 게시글은 DB aggregation 한 번으로 조회하여 Cache 복구
+     * @return Key : postId, Value : 스크랩 수
+     */
+    public Map<ObjectId, Integer> getScrapCounts(List<ObjectId> postIds) {
+        Map<ObjectId, Integer> scrapCounts = new HashMap<>();
+        List<ObjectId> missedIds = postIds;
+
+        boolean redisAvailable = redisHealthChecker.isRedisAvailable();
+        if (redisAvailable) {
+            List<Long> redisResults = redisScrapService.getScrapCounts(postIds);
+            missedIds = new ArrayList<>();
+            for (int i = 0; i < postIds.size(); i++) {
+                Long scrapCount = redisResults.get(i);
+                if (scrapCount != null) scrapCounts.put(postIds.get(i), scrapCount.intValue());
+                else missedIds.add(postIds.get(i));
+            }
+        }
+
+        if (!missedIds.isEmpty()) {
+            CounterVersions versions = redisAvailable ? redisScrapService.getScrapVersions(missedIds) : null;
+            Map<ObjectId, Integer> recovered = new HashMap<>(postCounterService.getStoredCounts(missedIds, PostCounterType.SCRAP));
+            List<ObjectId> uncountedIds = missedIds.stream().filter(postId -> !recovered.containsKey(postId)).toList();
+            if (!uncountedIds.isEmpty()) {
+                Map<ObjectId, Integer> dbCounts = customScrapRepository.countGroupByPostId(uncountedIds);
+                uncountedIds.forEach(postId -> recovered.put(postId, dbCounts.getOrDefault(postId, 0)));
+            }
+            scrapCounts.putAll(recovered);
+            if (redisAvailable) redisScrapService.recoveryScraps(recovered, versions);
+        }
+        return scrapCounts;
+    }
+
+    /**
+     * 여러 게시글 중 유저가 스크랩한 게시글의 _id를 한 번의 조회로 반환
+     */
+    public Set<ObjectId> getScrapedPostIds(List<ObjectId> postIds, ObjectId userId) {
+        return scrapRepository.findAllByPostIdInAndUserIdAndDeletedAtIsNull(postIds, userId)
+                .stream()
+                .map(ScrapEntity::getPostId)
+                .collect(Collectors.toSet());
+    }
+
+    private void ifRedisAvailable(Runnable redisOperation) {
+        if (redisHealthChecker.isRedisAvailable()) {
+            redisOperation.run();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package inu.codin.codin.domain.user.dto;
+
+import inu.codin.codin.domain.user.entity.UserEntity;
+import org.bson.types.ObjectId;
+
+/**
+ * 게시글, 댓글, 공지사항 등의 작성자 표시에 필요한 유저 프로필
+ * @param userId 유저 _id
+ * @param nickname 닉네임
+ * @param profileImageUrl 프로필 이미지 url (없으면 null)
+ * @param deleted 탈퇴 여부
+ */
+public record UserProfile(ObjectId userId, String nickname, String profileImageUrl, boolean deleted) {
+
+    public static UserProfile from(UserEntity user) {
+        return new UserProfile(user.get_id(), user.getNickname(), user.getProfileImageUrl(), user.getDeletedAt() != null);
+    }
+}
@@ -8,6 +8,7 @@ import inu.codin.codin.domain.user.internal.inbound.dto.AdminLoginMaterialRespon
 import inu.codin.codin.domain.user.internal.inbound.dto.CompleteProfileResponse;
 import inu.codin.codin.domain.user.internal.inbound.dto.UserTokenInfoResponse;
 import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.user.service.UserProfileService;
 import inu.codin.codin.infra.s3.S3Service;
 import inu.codin.common.entity.College;
 import inu.codin.common.entity.Department;
@@ -25,6 +26,7 @@ import java.time.LocalDateTime;
 public class UserInternalService {
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final UserProfileService userProfileService;
 
     /**
      * USER 책임: 프로필 완성 (닉네임 중복 체크 + 이미지 업로드 + 활성화)
@@ -68,6 +70,7 @@ public class UserInternalService {
         user.updateProfileImageUrl(imageUrl);
         user.activation();
         userRepository.save(user);
+        userProfileService.evict(user.get_id());
 
         log.info("[USER] completeProfile done: email={}", user.getEmail());
         return new CompleteProfileResponse(
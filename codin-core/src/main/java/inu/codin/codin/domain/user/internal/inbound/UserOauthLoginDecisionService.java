@@ -1,5 +1,6 @@
 package inu.codin.codin.domain.user.internal.inbound;
 
+import inu.codin.codin.domain.block.service.BlockService;
 import inu.codin.codin.domain.user.internal.inbound.dto.OauthDecisionRequest;
 import inu.codin.codin.domain.user.internal.inbound.dto.OauthDecisionResponse;
 import inu.codin.codin.domain.user.entity.UserEntity;
@@ -19,6 +20,7 @@ public class UserOauthLoginDecisionService {
 
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final BlockService blockService;
 
     public OauthDecisionResponse decideOauthAction(OauthDecisionRequest request) {
         return switch (request.provider()) {
@@ -32,6 +34,8 @@ public class UserOauthLoginDecisionService {
         return userRepository.findByEmailAndStatusAll(identifier)
                 .map(user -> {
                     log.info("[USER] 기존 Apple 회원 조회: identifier={}, status={}", identifier, user.getStatus());
+                    if (user.getStatus() == UserStatus.ACTIVE)
+                        blockService.preloadBlockedUsers(user.get_id()); // 로그인 후 목록 조회 시 DB 조회 생략
                     return new OauthDecisionResponse(
                             user.getStatus().name(),
                             false,
@@ -72,6 +76,8 @@ public class UserOauthLoginDecisionService {
         return userRepository.findByEmailAndStatusAll(identifier)
                 .map(user -> {
                     log.info("[USER] 기존 Google 회원 조회: identifier={}, status={}", identifier, user.getStatus());
+                    if (user.getStatus() == UserStatus.ACTIVE)
+                        blockService.preloadBlockedUsers(user.get_id()); // 로그인 후 목록 조회 시 DB 조회 생략
                     return new OauthDecisionResponse(
                             user.getStatus().name(),
                             false,
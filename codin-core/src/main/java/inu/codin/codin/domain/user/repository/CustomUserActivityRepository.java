@@ -0,0 +1,137 @@
+package inu.codin.codin.domain.user.repository;
+
+import inu.codin.codin.domain.like.entity.LikeEntity;
+import inu.codin.codin.domain.like.entity.LikeType;
+import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.scrap.entity.ScrapEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 유저 활동(좋아요, 스크랩, 댓글) 게시글 목록 조회
+ * 활동 컬렉션에서 최신순으로 페이지를 먼저 자른 뒤 해당 페이지의 게시글만 $lookup 하여, 유저의 활동 수와 관계없이 페이지 크기만큼만 join
+ * 전체 수는 활동 컬렉션 기준으로 따로 count 하며, 삭제된 게시글은 페이지에서만 제외되므로 페이지 크기보다 적게 조회될 수 있음
+ */
+@Repository
+public class CustomUserActivityRepository {
+
+    public static final String LIKE_ACTIVITY_INDEX_NAME = "like_activity_idx";
+    public static final String SCRAP_ACTIVITY_INDEX_NAME = "scrap_activity_idx";
+    public static final String COMMENT_ACTIVITY_INDEX_NAME = "comment_activity_idx";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomUserActivityRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 유저가 좋아요한 게시글을 좋아요 최신순으로 페이지 조회
+     * likeTypeId는 문자열로 저장되므로 ObjectId로 변환하여 게시글과 join (변환할 수 없는 값은 제외)
+     */
+    public Page<PostEntity> findLikedPosts(ObjectId userId, Pageable pageable) {
+        Criteria liked = Criteria.where("userId").is(userId)
+                .and("likeType").is(LikeType.POST)
+                .and("deletedAt").is(null);
+        Document postId = new Document("$convert", new Document("input", "$likeTypeId")
+                .append("to", "objectId")
+                .append("onError", null)
+                .append("onNull", null));
+        List<PostEntity> posts = findActivityPosts(LikeEntity.class, List.of(
+                Aggregation.match(liked),
+                latestFirst("created_at", "_id")
+        ), postId, pageable);
+        return new PageImpl<>(posts, pageable, mongoTemplate.count(Query.query(liked), LikeEntity.class));
+    }
+
+    /**
+     * 유저가 스크랩한 게시글을 스크랩 최신순으로 페이지 조회
+     */
+    public Page<PostEntity> findScrappedPosts(ObjectId userId, Pageable pageable) {
+        Criteria scrapped = Criteria.where("userId").is(userId)
+                .and("deletedAt").is(null);
+        List<PostEntity> posts = findActivityPosts(ScrapEntity.class, List.of(
+                Aggregation.match(scrapped),
+                latestFirst("created_at", "_id")
+        ), "$postId", pageable);
+        return new PageImpl<>(posts, pageable, mongoTemplate.count(Query.query(scrapped), ScrapEntity.class));
+    }
+
+    /**
+     * 유저가 댓글을 작성한 게시글을 마지막 댓글 최신순으로 페이지 조회
+     * 한 게시글에 여러 댓글을 작성한 경우 게시글별로 하나만 포함
+     * 게시글별 $group은 댓글 컬렉션 안에서만 처리하고, 게시글 $lookup은 잘라낸 페이지에만 적용
+     */
+    public Page<PostEntity> findCommentedPosts(ObjectId userId, Pageable pageable) {
+        AggregationOperation groupByPost = context -> new Document("$group", new Document("_id", "$postId")
+                .append("lastCommentedAt", new Document("$max", "$created_at"))
+                .append("lastCommentId", new Document("$max", "$_id")));
+        List<PostEntity> posts = findActivityPosts(CommentEntity.class, List.of(
+                Aggregation.match(Criteria.where("userId").is(userId)),
+                groupByPost,
+                latestFirst("lastCommentedAt", "lastCommentId")
+        ), "$_id", pageable);
+        return new PageImpl<>(posts, pageable, countCommentedPosts(userId));
+    }
+
+    /**
+     * 유저가 댓글을 작성한 게시글 수 (게시글 $lookup 없이 댓글 컬렉션에서 집계)
+     */
+    private long countCommentedPosts(ObjectId userId) {
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(userId)),
+                Aggregation.group("postId"),
+                Aggregation.count().as("count")
+        ), CommentEntity.class, Document.class).getUniqueMappedResult();
+        return result == null ? 0 : result.get("count", Number.class).longValue();
+    }
+
+    /**
+     * 정렬된 활동에서 요청한 페이지만 자른 뒤 게시글 $lookup, 삭제된 게시글 제외
+     * @param activityType 활동 entity
+     * @param activityStages 유저 활동 조회 및 정렬 stage
+     * @param postId 활동 문서에서 게시글 _id를 가리키는 expression
+     */
+    private List<PostEntity> findActivityPosts(Class<?> activityType, List<AggregationOperation> activityStages,
+                                               Object postId, Pageable pageable) {
+        AggregationOperation lookupPost = context -> new Document("$lookup", new Document()
+                .append("from", mongoTemplate.getCollectionName(PostEntity.class))
+                .append("let", new Document("postId", postId))
+                .append("pipeline", List.of(new Document("$match", new Document()
+                        .append("$expr", new Document("$eq", List.of("$_id", "$$postId")))
+                        .append("deleted_at", null))))
+                .append("as", "post"));
+        AggregationOperation unwindPost = context -> new Document("$unwind", "$post");
+        AggregationOperation replaceRoot = context -> new Document("$replaceRoot", new Document("newRoot", "$post"));
+
+        List<AggregationOperation> stages = new ArrayList<>(activityStages);
+        stages.add(Aggregation.skip(pageable.getOffset()));
+        stages.add(Aggregation.limit(pageable.getPageSize()));
+        stages.add(lookupPost);
+        stages.add(unwindPost);
+        stages.add(replaceRoot);
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(stages), activityType, PostEntity.class)
+                .getMappedResults();
+    }
+
+    /**
+     * 최신순 정렬, 같은 시각은 활동 _id 내림차순으로 정렬하여 페이지 간 순서 고정
+     */
+    private static AggregationOperation latestFirst(String timeField, String idField) {
+        return context -> new Document("$sort", new Document(timeField, -1).append(idField, -1));
+    }
+}
@@ -0,0 +1,67 @@
+package inu.codin.codin.domain.user.repository;
+
+import inu.codin.codin.domain.user.entity.UserEntity;
+import inu.codin.codin.domain.user.entity.UserStatus;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class CustomUserRepository {
+
+    public static final String SUSPENSION_INDEX_NAME = "user_suspension_idx";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomUserRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 정지 종료일이 지난 정지 유저의 _id 조회
+     * @param now 기준 시각
+     * @param limit 최대 조회 수
+     */
+    public List<ObjectId> findExpiredSuspendedUserIds(LocalDateTime now, int limit) {
+        Query query = Query.query(expiredSuspension(now)).limit(limit);
+        query.fields().include("_id");
+
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(UserEntity.class))
+                .stream()
+                .map(doc -> doc.getObjectId("_id"))
+                .toList();
+    }
+
+    /**
+     * 정지 종료일이 지난 유저들의 정지를 BulkOperations 한 번으로 해제
+     * 정지 상태와 정지 종료일을 조건에 포함하여, 이미 해제되었거나 그 사이 다시 정지된 유저는 변경하지 않음
+     * @param userIds 정지 해제 대상 유저 _id
+     * @param now 기준 시각
+     * @return 정지 해제된 유저 수
+     */
+    public int releaseSuspensions(List<ObjectId> userIds, LocalDateTime now) {
+        if (userIds.isEmpty()) return 0;
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserEntity.class)
+                .updateMulti(
+                        Query.query(Criteria.where("_id").in(userIds).andOperator(expiredSuspension(now))),
+                        new Update()
+                                .set("status", UserStatus.ACTIVE)
+                                .unset("totalSuspensionEndDate")
+                                .set("updated_at", now))
+                .execute()
+                .getModifiedCount();
+    }
+
+    private Criteria expiredSuspension(LocalDateTime now) {
+        return Criteria.where("status").is(UserStatus.SUSPENDED)
+                .and("totalSuspensionEndDate").lt(now);
+    }
+}
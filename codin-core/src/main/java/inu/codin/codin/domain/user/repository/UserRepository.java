@@ -6,7 +6,6 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,11 +25,6 @@ public interface UserRepository extends MongoRepository<UserEntity, ObjectId> {
     @Query("{'email':  ?0, 'deletedAt': null }")
     Optional<UserEntity> findByEmailAndStatusAll(String email);
 
-    // 현재 정지 상태이며, 정지 종료일이 아직 남아있는 유저 조회
-    //정지 종료일(suspensionEndDate)이 현재 날짜보다 이전($lt)
-    @Query("{'status': 'SUSPENDED', 'totalSuspensionEndDate': { $lt: ?0 }}")
-    List<UserEntity> findSuspendedUsers(LocalDateTime now);
-
     // 이름이 정확히 1글자(한글/영문), role=USER, status=ACTIVE
     @Query("{ 'role': 'USER', 'status': 'ACTIVE', 'name': { $regex: '^[A-Za-z가-힣]$' } }")
     List<UserEntity> findActiveUsersWithOneCharName();
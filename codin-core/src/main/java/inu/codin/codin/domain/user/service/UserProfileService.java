@@ -0,0 +1,125 @@
+package inu.codin.codin.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import inu.codin.codin.domain.user.dto.UserProfile;
+import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisUserProfileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 작성자 프로필(닉네임, 프로필 이미지, 탈퇴 여부) 조회 Service
+ * 게시글/댓글/공지사항 목록 조회 시 유저 조회를 대신함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProfileService {
+
+    private final UserRepository userRepository;
+    private final RedisUserProfileService redisUserProfileService;
+    private final RedisHealthChecker redisHealthChecker;
+
+    /**
+     * 작성자 프로필 Near Cache (Local -> Redis -> DB)
+     * 다른 서버에서 프로필을 변경한 경우 최대 NEAR_CACHE_TTL 동안 이전 프로필이 보일 수 있음
+     */
+    private static final Duration NEAR_CACHE_TTL = Duration.ofSeconds(30);
+    private final Cache<ObjectId, UserProfile> nearCache = Caffeine.newBuilder()
+            .expireAfterWrite(NEAR_CACHE_TTL)
+            .maximumSize(50_000)
+            .build();
+
+    /**
+     * 여러 유저의 프로필 일괄 조회
+     * Local Cache -> Redis -> DB 순으로 조회하며, 하위 단계에서 조회한 프로필은 상위 Cache에 저장
+     * @param userIds 유저 _id (중복, null 허용)
+     * @return Key : 유저 _id, Value : 프로필 (존재하지 않는 유저는 포함하지 않음)
+     */
+    public Map<ObjectId, UserProfile> getProfiles(Collection<ObjectId> userIds) {
+        Set<ObjectId> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+        return nearCache.getAll(distinctIds, this::loadProfiles);
+    }
+
+    /**
+     * 유저 프로필 조회
+     * @param userId 유저 _id
+     */
+    public Optional<UserProfile> getProfile(ObjectId userId) {
+        return Optional.ofNullable(getProfiles(List.of(userId)).get(userId));
+    }
+
+    /**
+     * 닉네임/프로필 이미지 변경, 탈퇴 후 Local Cache와 Redis Cache 삭제
+     */
+    public void evict(ObjectId userId) {
+        nearCache.invalidate(userId);
+        if (redisHealthChecker.isRedisAvailable()) redisUserProfileService.evict(userId);
+    }
+
+    /**
+     * Local Cache miss된 유저의 프로필을 Redis, DB 순으로 조회
+     * DB 조회 전에 version을 읽어, 조회 도중 프로필이 변경된 유저는 오래된 프로필을 Redis에 저장하지 않음
+     * Redis 조회/저장 실패 시 DB 조회 결과만 반환
+     */
+    private Map<ObjectId, UserProfile> loadProfiles(Set<? extends ObjectId> userIds) {
+        List<ObjectId> requestedIds = List.copyOf(userIds);
+        Map<ObjectId, UserProfile> profiles = new HashMap<>();
+        Map<ObjectId, Long> versions = null;
+        if (redisHealthChecker.isRedisAvailable()) {
+            try {
+                profiles.putAll(redisUserProfileService.getProfiles(requestedIds));
+                versions = redisUserProfileService.getVersions(requestedIds.stream()
+                        .filter(userId -> !profiles.containsKey(userId))
+                        .toList());
+            } catch (Exception e) {
+                log.warn("[UserProfile] Redis 조회 실패, DB 조회 - 요청: {}", requestedIds.size(), e);
+                profiles.clear();
+                versions = null;
+            }
+        }
+
+        List<ObjectId> missedIds = requestedIds.stream()
+                .filter(userId -> !profiles.containsKey(userId))
+                .toList();
+        if (missedIds.isEmpty()) {
+            return profiles;
+        }
+
+        List<UserProfile> loaded = userRepository.findAllById(missedIds).stream()
+                .map(UserProfile::from)
+                .toList();
+        loaded.forEach(profile -> profiles.put(profile.userId(), profile));
+        if (versions != null && !loaded.isEmpty()) cacheProfiles(loaded, versions);
+        log.debug("[UserProfile] DB 조회 - 요청: {}, 조회: {}", missedIds.size(), loaded.size());
+        return profiles;
+    }
+
+    private void cacheProfiles(List<UserProfile> profiles, Map<ObjectId, Long> versions) {
+        try {
+            redisUserProfileService.cacheProfiles(profiles, versions);
+        } catch (Exception e) {
+            log.warn("[UserProfile] Redis 저장 실패 - 프로필 수: {}", profiles.size(), e);
+        }
+    }
+}
@@ -1,22 +1,16 @@
 package inu.codin.codin.domain.user.service;
 
-import inu.codin.codin.domain.like.entity.LikeEntity;
-import inu.codin.codin.domain.like.entity.LikeType;
-import inu.codin.codin.domain.like.repository.LikeRepository;
-import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
-import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
 import inu.codin.codin.domain.post.dto.response.PostPageResponse;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.domain.post.service.PostDtoAssembler;
-import inu.codin.codin.domain.scrap.entity.ScrapEntity;
-import inu.codin.codin.domain.scrap.repository.ScrapRepository;
 import inu.codin.codin.domain.user.dto.request.*;
 import inu.codin.codin.domain.user.dto.response.UserInfoResponseDto;
 import inu.codin.codin.domain.user.dto.response.UserTicketingParticipationInfoResponse;
 import inu.codin.codin.domain.user.entity.UserEntity;
 import inu.codin.codin.domain.user.exception.AdminInfoUpdateNotAllowedException;
 import inu.codin.codin.domain.user.exception.UserNicknameDuplicateException;
+import inu.codin.codin.domain.user.repository.CustomUserActivityRepository;
 import inu.codin.codin.domain.user.repository.UserRepository;
 import inu.codin.codin.infra.s3.S3Service;
 import inu.codin.common.exception.NotFoundException;
@@ -49,12 +43,11 @@ import static inu.codin.common.util.ObjectIdUtil.toObjectId;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final LikeRepository likeRepository;
     private final PostRepository postRepository;
-    private final ScrapRepository scrapRepository;
-    private final CommentRepository commentRepository;
+    private final CustomUserActivityRepository customUserActivityRepository;
 
     private final PostDtoAssembler postDtoAssembler;
+    private final UserProfileService userProfileService;
     private final S3Service s3Service;
     private final JwtService jwtService;
 
@@ -71,7 +64,7 @@ public class UserService {
 
         log.info("[게시글 조회 성공] 조회된 게시글 수: {}, 총 페이지 수: {}", page.getContent().size(), page.getTotalPages());
         return PostPageResponse.of(
-                postDtoAssembler.toPageItemList(page.getContent()),
+                postDtoAssembler.toPageItemList(page.getContent(), userId),
                 page.getTotalPages() - 1,
                 page.hasNext() ? page.getPageable().getPageNumber() + 1 : -1
         );
@@ -81,50 +74,19 @@ public class UserService {
         ObjectId userId = toObjectId(SecurityUtil.getCurrentUserId());
         log.info("[유저 상호작용 조회] 유저 ID: {}, 타입: {}, 페이지 번호: {}", userId, interactionType, pageNumber);
 
-        PageRequest pageRequest = PageRequest.of(pageNumber, 20, Sort.by("createdAt").descending());
-        switch (interactionType) {
-            case LIKE -> {
-                log.info("[좋아요 조회 시작] 유저 ID: {}, 타입: {}", userId, interactionType);
-                Page<LikeEntity> likePage = likeRepository.findAllByUserIdAndLikeTypeAndDeletedAtIsNullOrderByCreatedAt(userId, LikeType.valueOf("POST"), pageRequest);
-
-                List<ObjectId> postIds = likePage.getContent().stream()
-                        .map(likeEntity -> new ObjectId(likeEntity.getLikeTypeId()))
-                        .toList();
-                List<PostEntity> postUserLike = postRepository.findBy_idInAndDeletedAtIsNull(postIds);
-
-                log.info("[좋아요 조회 완료] 총 페이지 수: {}, 다음 페이지 여부: {}", likePage.getTotalPages(), likePage.hasNext());
-                return PostPageResponse.of(postDtoAssembler.toPageItemList(postUserLike), likePage.getTotalPages() - 1, likePage.hasNext() ? likePage.getPageable().getPageNumber() + 1 : -1);
-            }
-            case SCRAP -> {
-                log.info("[스크랩 조회 시작] 유저 ID: {}, 타입: {}", userId, interactionType);
-                Page<ScrapEntity> scrapPage = scrapRepository.findAllByUserIdAndDeletedAtIsNullOrderByCreatedAt(userId, pageRequest);
-
-                List<ObjectId> postIds = scrapPage.getContent().stream()
-                        .map(ScrapEntity::getPostId)
-                        .toList();
-                List<PostEntity> postUserScrap = postRepository.findBy_idInAndDeletedAtIsNull(postIds);
+        PageRequest pageRequest = PageRequest.of(pageNumber, 20);
+        Page<PostEntity> postPage = switch (interactionType) {
+            case LIKE -> customUserActivityRepository.findLikedPosts(userId, pageRequest);
+            case SCRAP -> customUserActivityRepository.findScrappedPosts(userId, pageRequest);
+            case COMMENT -> customUserActivityRepository.findCommentedPosts(userId, pageRequest);
+        };
 
-                log.info("[스크랩 조회 완료] 총 페이지 수: {}, 다음 페이지 여부: {}", scrapPage.getTotalPages(), scrapPage.hasNext());
-                return PostPageResponse.of(postDtoAssembler.toPageItemList(postUserScrap), scrapPage.getTotalPages() - 1, scrapPage.hasNext() ? scrapPage.getPageable().getPageNumber() + 1 : -1);
-            }
-            case COMMENT -> {
-                log.info("[댓글 조회 시작] 유저 ID: {}, 타입: {}", userId, interactionType);
-                Page<CommentEntity> commentPage = commentRepository.findAllByUserIdOrderByCreatedAt(userId, pageRequest);
-
-                List<ObjectId> commentedPostIds = commentPage.getContent().stream()
-                        .map(CommentEntity::getPostId)
-                        .distinct() // 한 게시글에 여러 댓글을 달았을 경우 중복 제거
-                        .toList();
-                List<PostEntity> postUserComment = postRepository.findBy_idInAndDeletedAtIsNull(commentedPostIds);
-
-                log.info("[댓글 조회 완료] 총 페이지 수: {}, 다음 페이지 여부: {}", commentPage.getTotalPages(), commentPage.hasNext());
-                return PostPageResponse.of(postDtoAssembler.toPageItemList(postUserComment), commentPage.getTotalPages() - 1, commentPage.hasNext() ? commentPage.getPageable().getPageNumber() + 1 : -1);
-            }
-            default -> {
-                log.warn("[유효하지 않은 상호작용 타입] 유저 ID: {}, 상호작용 타입: {}", userId, interactionType);
-                throw new IllegalArgumentException("지원하지 않는 타입입니다.");
-            }
-        }
+        log.info("[유저 상호작용 조회 완료] 타입: {}, 총 페이지 수: {}, 다음 페이지 여부: {}", interactionType, postPage.getTotalPages(), postPage.hasNext());
+        return PostPageResponse.of(
+                postDtoAssembler.toPageItemList(postPage.getContent(), userId),
+                postPage.getTotalPages() - 1,
+                postPage.hasNext() ? pageNumber + 1 : -1
+        );
     }
 
     public void deleteUser(HttpServletRequest request, HttpServletResponse response) {
@@ -139,6 +101,7 @@ public class UserService {
         user.updateNickname("탈퇴한 사용자");
         user.updateProfileImageUrl(s3Service.getDefaultProfileImageUrl());
         userRepository.save(user);
+        userProfileService.evict(userId);
 
         String domain = BASEURL.replaceFirst("https?://", "").split(":")[0];
         CookieUtil.expireCookie(response, "x-access-token", domain);
@@ -174,6 +137,7 @@ public class UserService {
 
         user.setUserInfo(setUserInfoRequestDto);
         userRepository.save(user);
+        userProfileService.evict(userId);
     }
 
     @Transactional
@@ -224,6 +188,7 @@ public class UserService {
         }
 
         userRepository.save(user);
+        userProfileService.evict(userId);
         log.info("[유저 정보 업데이트 성공] 사용자 ID: {}, 업데이트된 정보: {}", userId, updateUserInfoRequestDto);
     }
 
@@ -245,6 +210,7 @@ public class UserService {
 
         user.updateNickname(userNicknameRequestDto.getNickname());
         userRepository.save(user);
+        userProfileService.evict(userId);
         log.info("[유저 정보 업데이트 성공] 사용자 ID: {}, 업데이트된 정보: {}", userId, userNicknameRequestDto);
     }
 
@@ -261,6 +227,7 @@ public class UserService {
         String profileImageUrl = s3Service.handleImageUpload(List.of(profileImage)).get(0);
         user.updateProfileImageUrl(profileImageUrl);
         userRepository.save(user);
+        userProfileService.evict(userId);
         log.info("[프로필 이미지 업데이트 성공] 사용자 ID: {}, 프로필 이미지 URL: {}", userId, profileImageUrl);
     }
 
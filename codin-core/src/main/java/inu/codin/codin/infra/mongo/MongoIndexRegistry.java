@@ -0,0 +1,147 @@
+package inu.codin.codin.infra.mongo;
+
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.like.entity.LikeEntity;
+import inu.codin.codin.domain.notification.entity.NotificationEntity;
+import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
+import inu.codin.codin.domain.post.domain.hits.entity.HitsEntity;
+import inu.codin.codin.domain.post.domain.hits.repository.CustomHitsRepository;
+import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollVoteRepository;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
+import inu.codin.codin.domain.report.entity.ReportEntity;
+import inu.codin.codin.domain.report.repository.CustomReportRepository;
+import inu.codin.codin.domain.scrap.entity.ScrapEntity;
+import inu.codin.codin.domain.user.entity.UserEntity;
+import inu.codin.codin.domain.user.repository.CustomUserActivityRepository;
+import inu.codin.codin.domain.user.repository.CustomUserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 자주 호출되는 Repository 조회용 Mongo index 목록
+ * 서버 시작 시 모두 생성하며, 이미 존재하면 무시
+ * 필드명은 entity 필드명 기준 (@Field로 저장명이 다른 경우 변환되어 생성)
+ * index 이름은 해당 index를 사용하는 Custom Repository의 상수 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexRegistry {
+
+    public static final List<MongoIndex> INDEXES = List.of(
+            // PostRepository.findAllByUserIdOrderByCreatedAt : 유저가 작성한 게시글 최신순
+            new MongoIndex(PostEntity.class, new Index()
+                    .on("userId", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .named("post_user_idx")),
+            // ChattingRepository.findAllByChatRoomId : 채팅방 메시지 최신순, CustomChattingRepository.findUnreadChattings, countUnread : 마지막으로 읽은 시각 이후 메시지
+            new MongoIndex(Chatting.class, new Index()
+                    .on("chatRoomId", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .named("chatting_room_idx")),
+            // NotificationRepository 읽지 않은 알림 조회/개수
+            new MongoIndex(NotificationEntity.class, new Index()
+                    .on("userId", Sort.Direction.ASC)
+                    .on("isRead", Sort.Direction.ASC)
+                    .on("deletedAt", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .named("notification_unread_idx")),
+            // HitsRepository.existsByPostIdAndUserId, countAllByPostId
+            new MongoIndex(HitsEntity.class, new Index()
+                    .on("postId", Sort.Direction.ASC)
+                    .on("userId", Sort.Direction.ASC)
+                    .named("hits_post_user_idx")),
+            // CustomHitsRepository.findPendingMerge : Redis 장애 중 기록된 조회만 색인
+            new MongoIndex(HitsEntity.class, new Index()
+                    .on("pendingMerge", Sort.Direction.ASC)
+                    .partial(PartialIndexFilter.of(Criteria.where("pendingMerge").is(true)))
+                    .named(CustomHitsRepository.PENDING_MERGE_INDEX_NAME)),
+            // ScrapRepository.existsByPostIdAndUserIdAndDeletedAtIsNull, 게시글별 스크랩 수
+            new MongoIndex(ScrapEntity.class, new Index()
+                    .on("postId", Sort.Direction.ASC)
+                    .on("userId", Sort.Direction.ASC)
+                    .named("scrap_post_user_idx")),
+            // CustomPostRepository.searchByTokens : searchText 검색, 2-gram 토큰을 그대로 색인 (stemming, 불용어 제외 X)
+            new MongoIndex(PostEntity.class, TextIndexDefinition.builder()
+                    .onField("searchText")
+                    .withDefaultLanguage(CustomPostRepository.SEARCH_LANGUAGE)
+                    .named(CustomPostRepository.SEARCH_INDEX_NAME)
+                    .build()),
+            // CustomPostRepository.findByCategoriesAfterCursor : 카테고리별 목록 Cursor 페이징
+            new MongoIndex(PostEntity.class, new Index()
+                    .on("postCategory", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)
+                    .named(CustomPostRepository.FEED_INDEX_NAME)),
+            // CustomPollVoteRepository.insertIfAbsent : 유저당 하나의 투표 기록만 남도록 unique
+            // 기존 중복 투표 기록이 있으면 생성 실패, 이 경우에도 upsert로 순차 요청의 중복 투표는 막음
+            new MongoIndex(PollVoteEntity.class, new Index()
+                    .on("pollId", Sort.Direction.ASC)
+                    .on("userId", Sort.Direction.ASC)
+                    .unique()
+                    .named(CustomPollVoteRepository.VOTER_INDEX_NAME)),
+            // CustomUserActivityRepository.findLikedPosts : 유저가 좋아요한 게시글 최신순
+            new MongoIndex(LikeEntity.class, new Index()
+                    .on("userId", Sort.Direction.ASC)
+                    .on("likeType", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .named(CustomUserActivityRepository.LIKE_ACTIVITY_INDEX_NAME)),
+            // CustomUserActivityRepository.findScrappedPosts : 유저가 스크랩한 게시글 최신순
+            new MongoIndex(ScrapEntity.class, new Index()
+                    .on("userId", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .named(CustomUserActivityRepository.SCRAP_ACTIVITY_INDEX_NAME)),
+            // CustomUserActivityRepository.findCommentedPosts : 유저가 댓글을 작성한 게시글 최신순
+            new MongoIndex(CommentEntity.class, new Index()
+                    .on("userId", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .named(CustomUserActivityRepository.COMMENT_ACTIVITY_INDEX_NAME)),
+            // CustomUserRepository.findExpiredSuspendedUserIds : 정지 종료일이 지난 정지 유저
+            new MongoIndex(UserEntity.class, new Index()
+                    .on("status", Sort.Direction.ASC)
+                    .on("totalSuspensionEndDate", Sort.Direction.ASC)
+                    .named(CustomUserRepository.SUSPENSION_INDEX_NAME)),
+            // CustomReportRepository.findPendingReportInfos : 처리 대기 신고의 $match와 신고 대상별 $group을 index만으로 집계
+            new MongoIndex(ReportEntity.class, new Index()
+                    .on("reportStatus", Sort.Direction.ASC)
+                    .on("reportTargetId", Sort.Direction.ASC)
+                    .on("reportTargetType", Sort.Direction.ASC)
+                    .on("reportedUserId", Sort.Direction.ASC)
+                    .named(CustomReportRepository.QUEUE_INDEX_NAME)),
+            // CustomReportRepository.countByTypeAndStatus, countByReportTargetIds : 신고 대상별 신고 조회/요약
+            new MongoIndex(ReportEntity.class, new Index()
+                    .on("reportTargetId", Sort.Direction.ASC)
+                    .named(CustomReportRepository.TARGET_INDEX_NAME))
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void ensureIndexes() {
+        for (MongoIndex mongoIndex : INDEXES) {
+            try {
+                mongoTemplate.indexOps(mongoIndex.entityClass()).ensureIndex(mongoIndex.index());
+            } catch (Exception e) {
+                log.error("[MongoIndex] index 생성 실패 - collection: {}, index: {}",
+                        mongoTemplate.getCollectionName(mongoIndex.entityClass()), mongoIndex.index().getIndexKeys(), e);
+            }
+        }
+        log.info("[MongoIndex] index {}개 확인 완료", INDEXES.size());
+    }
+
+    public record MongoIndex(Class<?> entityClass, IndexDefinition index) {
+    }
+}
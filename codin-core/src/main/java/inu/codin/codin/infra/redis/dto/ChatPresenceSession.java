@@ -0,0 +1,20 @@
+package inu.codin.codin.infra.redis.dto;
+
+import org.bson.types.ObjectId;
+
+/**
+ * STOMP session의 접속 정보
+ * @param sessionId STOMP session id
+ * @param userId 접속한 유저 _id
+ * @param chatRoomId 입장한 채팅방 _id, 채팅방에 입장하지 않았으면 null
+ */
+public record ChatPresenceSession(String sessionId, ObjectId userId, ObjectId chatRoomId) {
+
+    public ChatPresenceSession enter(ObjectId chatRoomId) {
+        return new ChatPresenceSession(sessionId, userId, chatRoomId);
+    }
+
+    public ChatPresenceSession exit() {
+        return new ChatPresenceSession(sessionId, userId, null);
+    }
+}
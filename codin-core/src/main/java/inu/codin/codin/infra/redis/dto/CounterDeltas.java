@@ -0,0 +1,12 @@
+package inu.codin.codin.infra.redis.dto;
+
+import java.util.Map;
+
+/**
+ * DB 반영을 위해 수거한 게시글 하나의 카운터 증감분
+ * 반영이 끝날 때까지 Redis에 남아 있으며, 실패/중단 시 같은 flushId로 다시 반영
+ * @param flushId 수거 시 부여한 _id, 게시글에 함께 저장하여 같은 증감분이 두 번 반영되지 않도록 함
+ * @param deltas Key : 카운터 필드명, Value : 증감분
+ */
+public record CounterDeltas(String flushId, Map<String, Long> deltas) {
+}
@@ -0,0 +1,19 @@
+package inu.codin.codin.infra.redis.dto;
+
+import java.util.Map;
+
+/**
+ * Cache miss된 Counter의 version, DB 조회 전에 읽어 두었다가 Cache 복구 시 함께 전달
+ * 복구 전에 Counter가 무효화되었다면 (version 변경) DB에서 읽은 값이 오래된 값일 수 있으므로 복구하지 않음
+ * @param versions Key : Redis Key, Value : version
+ */
+public record CounterVersions(Map<String, Long> versions) {
+
+    public static CounterVersions empty() {
+        return new CounterVersions(Map.of());
+    }
+
+    public long get(String key) {
+        return versions.getOrDefault(key, 0L);
+    }
+}
@@ -1,5 +1,8 @@
 package inu.codin.codin.infra.redis.scheduler;
 
+import inu.codin.codin.domain.post.domain.best.BestSnapshotService;
+import inu.codin.codin.domain.post.domain.hits.service.HitsService;
+import inu.codin.codin.domain.post.service.PostCounterService;
 import inu.codin.codin.infra.redis.config.RedisHealthChecker;
 import inu.codin.codin.infra.redis.service.RedisBestService;
 import jakarta.annotation.PostConstruct;
@@ -18,25 +21,67 @@ public class SyncScheduler {
 
     private final RedisBestService redisBestService;
     private final RedisHealthChecker redisHealthChecker;
+    private final PostCounterService postCounterService;
+    private final HitsService hitsService;
+    private final BestSnapshotService bestSnapshotService;
 
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    /**
+     * Redis에 쌓인 좋아요/스크랩/조회수 증감분을 PostEntity 카운트에 반영
+     */
     @Async
-    @Scheduled(fixedRate = 43200000) // 12시간 마다 실행
-    public void syncLikes() {
+    @Scheduled(fixedDelay = 60000) // 이전 실행 종료 1분 후 실행
+    public void syncPostCounters() {
         if (!redisHealthChecker.isRedisAvailable()) {
             log.warn("Redis 비활성화 상태, 동기화 작업 중지");
             return;
         }
+        int flushed = postCounterService.flushPendingDeltas();
+        if (flushed > 0)
+            log.info("[Counter 동기화] 게시글 카운트 반영 완료 - 게시글 수: {}", flushed);
+        int compacted = hitsService.compactHits();
+        if (compacted > 0)
+            log.info("[Counter 동기화] 게시글 조회수 반영 완료 - 게시글 수: {}", compacted);
     }
 
+    /**
+     * 카운터 필드가 없는 기존 게시글을 컬렉션 기준으로 초기화
+     */
+    @Async
+    @Scheduled(fixedDelay = 600000, initialDelay = 60000) // 이전 실행 종료 10분 후 실행
+    public void backfillPostCounters() {
+        int backfilled = postCounterService.backfillCounters(BACKFILL_BATCH_SIZE);
+        if (backfilled > 0)
+            log.info("[Counter 초기화] 게시글 카운트 초기화 완료 - 게시글 수: {}", backfilled);
+    }
+
+    /**
+     * 24시간이 지난 점수를 Best 랭킹에서 제외하고, 현재 Top 3를 Best 게시글 기록에 저장
+     */
     @Async
     @PostConstruct
     @Scheduled(cron = "0 0 * * * ?") // 1시간 마다 실행
     public void getTop3BestPosts() {
         if (redisHealthChecker.isRedisAvailable()) {
-            Map<String, Double> posts = redisBestService.delicatedBestsScheduler(3);
-            redisBestService.resetBests(posts);
+            redisBestService.rollWindow();
+            Map<String, Double> posts = redisBestService.getTopBests(3);
             posts.forEach((key, value) -> redisBestService.saveBests(key, value.intValue()));
+            bestSnapshotService.refreshTop3Snapshot();
+        }
+    }
+
+    /**
+     * Top 3 랭킹이 바뀌었거나 스냅샷이 오래된 경우 홈 화면용 베스트 스냅샷 재생성
+     */
+    @Async
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000) // 이전 실행 종료 1분 후 실행
+    public void refreshBestSnapshot() {
+        if (!redisHealthChecker.isRedisAvailable()) {
+            return;
         }
+        if (bestSnapshotService.refreshTop3Snapshot())
+            log.info("[Best 스냅샷] Top 3 베스트 스냅샷 갱신 완료");
     }
 
 }
\ No newline at end of file
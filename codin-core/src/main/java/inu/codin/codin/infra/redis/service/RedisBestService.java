@@ -4,19 +4,19 @@ package inu.codin.codin.infra.redis.service;
 import inu.codin.codin.domain.post.domain.best.BestEntity;
 import inu.codin.codin.domain.post.domain.best.BestRepository;
 import inu.codin.codin.domain.post.domain.hits.service.HitsService;
-import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.infra.redis.config.RedisHealthChecker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,180 +25,93 @@ import java.util.stream.Collectors;
 public class RedisBestService {
     /**
      * Redis Best 게시글 관리
-     * Best 게시글은 어떠한 게시글이 관심을 받았을 때부터 ~ 24시간 동안 게시글에 점수가 매겨짐
+     * 최근 24시간 동안 게시글이 받은 점수로 순위를 매김
      * Score {좋아요, 댓글, 대댓글 : 1 / 스크랩 : 2}
      * 24시간 실시간 반영으로 3위까지 나타냄
+     *
+     * - post:best:bucket:{epochHour} (ZSet) : 해당 시간대에 게시글이 받은 점수, 25시간 후 만료
+     * - post:best:window (ZSet) : 최근 24시간 점수 합계
+     * 점수 반영 시 시간대 bucket과 window를 Lua Script 한 번의 호출로 함께 증가시키고,
+     * 매 시 스케줄러가 최근 24개 bucket을 ZUNIONSTORE하여 24시간이 지난 점수를 window에서 제외
      */
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisHealthChecker redisHealthChecker;
 
     private final HitsService hitsService;
     private final BestRepository bestRepository;
-    private final PostRepository postRepository;
-    private final String BEST_KEY = "post:top3";
-    private final int SCORE_THRESHOLD = 4;
+
+    private static final String BUCKET_KEY = "post:best:bucket:";
+    private static final String WINDOW_KEY = "post:best:window";
+    private static final int WINDOW_HOURS = 24;
+    private static final Duration BUCKET_TTL = Duration.ofHours(WINDOW_HOURS + 1);
+    private static final int SCORE_THRESHOLD = 4;
+    private static final int TOP_N = 3;
+
+    private static final RedisScript<Void> APPLY_SCORE_SCRIPT = RedisScript.of("""
+            redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('ZINCRBY', KEYS[2], ARGV[1], ARGV[2])
+            """);
 
     /**
-     * 이전 1시간 동안의 가장 score가 높은 게시글 N개를 반환, DB 조회가 안된다면 삭제
+     * 최근 24시간 bucket을 합산하여 window를 다시 계산
+     * 24시간이 지난 bucket의 점수가 window에서 빠짐
+     */
+    public void rollWindow() {
+        List<String> bucketKeys = recentBucketKeys();
+        redisTemplate.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), WINDOW_KEY);
+    }
+
+    /**
+     * 최근 24시간 동안 score가 가장 높은 게시글 N개를 반환
+     * 점수가 같으면 조회수 기준 내림차순, 4점 미만은 Best 게시글로 취급하지 않음
      * @param N 순위
      * @return N개의 Key : postId, Value : score 의 score 기준 내림차순 Map
      */
-    public Map<String, Double> delicatedBestsScheduler(int N) {
-        LocalDateTime now = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd/HH");
-
-        //24시간 동안의 게시글들의 score들을 모으기
-        Map<String, Double> result = new HashMap<>();
-        for (int i = 0; i < 24; i++) {
-            String redisKey = now.minusHours(i).format(formatter);
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))) { //해당 시각의 key가 존재한다면
-                Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet().reverseRangeWithScores(redisKey, 0, -1); //value 반환
-                if (members != null) {
-                    for (ZSetOperations.TypedTuple<String> member : members) {
-                        String postId = member.getValue();
-                        Double score = member.getScore();
-                        //post가 삭제되었는지 확인하고, 삭제되었다면 지우기
-                        if (!postRepository.existsBy_idAndDeletedAtIsNull(new ObjectId(postId))){
-                            redisTemplate.opsForZSet().remove(redisKey, postId);
-                            deleteBest(postId);
-                            continue;
-                        }
-                        if (score >= SCORE_THRESHOLD) {
-                            result.put(postId, score);
-                            // 만약 Best 게시글에 포함되어 있지 않다면 저장
-                        }
-                    }
-                }
-            }
+    public Map<String, Double> getTopBests(int N) {
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        Set<ZSetOperations.TypedTuple<String>> top = zSet.reverseRangeByScoreWithScores(
+                WINDOW_KEY, SCORE_THRESHOLD, Double.POSITIVE_INFINITY, 0, N);
+        if (top == null || top.isEmpty()) return new LinkedHashMap<>();
+
+        //N번째 게시글과 점수가 같은 게시글까지 후보에 포함하여 조회수로 비교
+        List<ZSetOperations.TypedTuple<String>> candidates = new ArrayList<>(top);
+        if (candidates.size() == N) {
+            Double lastScore = candidates.get(N - 1).getScore();
+            Set<ZSetOperations.TypedTuple<String>> ties = zSet.rangeByScoreWithScores(WINDOW_KEY, lastScore, lastScore);
+            if (ties != null) ties.stream()
+                    .filter(tie -> top.stream().noneMatch(member -> Objects.equals(member.getValue(), tie.getValue())))
+                    .forEach(candidates::add);
         }
-
-        return result.entrySet().stream()
-                .sorted((e1, e2) -> {
-                    //1. 점수 기준 내림차순
-                    int scoreComparison = Double.compare(e2.getValue(), e1.getValue());
-
-                    // 2. 점수가 동일하면 조회수 기준 내림차순 정렬
-                    return scoreComparison != 0 ? scoreComparison :
-                            Integer.compare(hitsService.getHitsCount(new ObjectId(e2.getKey())),
-                                    hitsService.getHitsCount(new ObjectId(e1.getKey())));
-                })
-                .limit(N).collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
+        return sortByScoreAndHits(candidates, N);
     }
 
     /**
-     * Cache에서 저장 중인 Best 게시글 정보 정렬 및 반환
+     * 최근 24시간 Best 게시글 정보 정렬 및 반환
      * @return Key : PostId (게시글_id) - Value : Score (점수)
      */
     public Map<String, Double> getBests(){
         if (redisHealthChecker.isRedisAvailable()){
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(BEST_KEY))){
-                Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet().rangeWithScores(BEST_KEY, 0, - 1);
-                if (members!=null && !members.isEmpty())
-                    return members.stream()
-                            .sorted((e1, e2) -> {
-                                //1. 점수 기준 내림차순
-                                int scoreComparison = Double.compare(Double.parseDouble(String.valueOf(e2.getScore())), Double.parseDouble(String.valueOf(e1.getScore())));
-
-                                // 2. 점수가 동일하면 조회수 기준 내림차순 정렬
-                                return scoreComparison != 0 ? scoreComparison :
-                                        Integer.compare(hitsService.getHitsCount(new ObjectId(e2.getValue())),
-                                                hitsService.getHitsCount(new ObjectId(e1.getValue())));
-                            }).collect(Collectors.toMap(
-                                    ZSetOperations.TypedTuple::getValue,
-                                    ZSetOperations.TypedTuple::getScore,
-                                    (existing, replacement) -> existing,
-                                    LinkedHashMap::new
-                            ));
-            } else log.warn("[getBests] Best 게시글이 없습니다.");
+            Map<String, Double> bests = getTopBests(TOP_N);
+            if (bests.isEmpty()) log.warn("[getBests] Best 게시글이 없습니다.");
+            return bests;
         }
         return new HashMap<>();
     }
+
     /**
-     * Cache에 저장된 24시간 데이터 중 해당 게시글의 score가 존재하면 점수 반영
-     * 만약 새로운 게시글이라면 현재 시간대로 새로 생성하여 게시글 점수 저장
+     * 현재 시간대 bucket과 24시간 window에 게시글 점수 반영
      * @param score 게시글에 더할 점수
      * @param postId 게시글 _id
      */
     public void applyBestScore(int score, ObjectId postId){
-        LocalDateTime now = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd/HH");
-
-        String redisKey;
         if (redisHealthChecker.isRedisAvailable()) {
-            //이전 24시간대에서 해당 게시글의 score를 찾기
-            for (int i = 0; i < 24; i++) {
-                redisKey = now.minusHours(i).format(formatter);
-                if (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))) {
-                    Double scoreOfBest = redisTemplate.opsForZSet().score(redisKey, postId.toString());
-                    if (scoreOfBest != null) { //score가 존재하면 업데이트
-                        redisTemplate.opsForZSet().incrementScore(redisKey, postId.toString(), score);
-                        updateBests(redisKey, postId.toString());
-                        return;
-                    }
-                }
-            }
-            //score가 존재하지 않으면 현재 시간대로 새로 생성, 새로 생성되면 4점 미만이기 때문에 best 게시글에 포함되지 않음
-            redisKey = now.format(formatter);
-            redisTemplate.expire(redisKey, 1, TimeUnit.DAYS); //하루가 지나면 필요없는 데이터
-            redisTemplate.opsForZSet().add(redisKey, postId.toString(), score);
+            redisTemplate.execute(APPLY_SCORE_SCRIPT,
+                    List.of(makeBucketKey(currentEpochHour()), WINDOW_KEY),
+                    String.valueOf(score), postId.toString(), String.valueOf(BUCKET_TTL.toSeconds()));
         }
     }
 
-    /**
-     * 게시글에 점수가 반영 될 때마다 베스트 게시글을 관리하는 ZSet에서 업데이트
-     * 4점 미만이라면 Best 게시글로 취급하지 않음
-     * 베스트 게시글에서 최소 점수보다 같거나 크거나, 베스트 게시글이 3개 이하거나 할 때 베스트 게시글에 포함
-     *
-     * 만약 포함 후 3개 초과라면
-     * 새로 적용된 게시글의 점수와 최소 점수와 같으면 조회수로 판단
-     * 상위 3개를 제외한 나머지 삭제 후 DB 저장
-     */
-    private void updateBests(String redisKey, String postId){
-        Double score = redisTemplate.opsForZSet().score(redisKey, postId);
-        if (score < SCORE_THRESHOLD) return; //총 점수가 4점 미만이면 Best 게시글로 취급하지 않음
-
-        Set<ZSetOperations.TypedTuple<String>> minEntry = redisTemplate.opsForZSet().rangeWithScores(BEST_KEY, 0, 0);
-        if (minEntry!=null && !minEntry.isEmpty()){
-            ZSetOperations.TypedTuple<String> minTuple = minEntry.iterator().next(); //최소 score의 Tuple
-            Double min = minTuple.getScore(); //Best 게시글 중 최소 score
-            Long totalSize = redisTemplate.opsForZSet().size(BEST_KEY); //현재 Best 게시글 개수
-
-            //최소 점수보다 같거나 큰 값이거나, 총 베스트 게시글 개수가 3개 미만 이면 포함
-            if (score >= min || totalSize < 3)
-                redisTemplate.opsForZSet().add(BEST_KEY, postId, score);
-
-            totalSize = redisTemplate.opsForZSet().size(BEST_KEY);
-            if (totalSize > 3) { //3개가 넘어가면
-                if (score.equals(min)) //만약 최소값끼리 같으면 조회수로 비교
-                    checkHits(postId, minTuple.getValue());
-                else redisTemplate.opsForZSet().removeRange(BEST_KEY, 0, totalSize-4); //상위 3개를 제외하고 삭제
-            }
-
-            Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet().rangeWithScores(BEST_KEY, 0, - 1);
-            members.forEach(member -> saveBests(member.getValue(), member.getScore().intValue()));
-        } else
-            redisTemplate.opsForZSet().add(BEST_KEY, postId, score);
-    }
-
-    /**
-     * 베스트 게시글에 처음 적용된 게시글과 기존에 있던 최소 점수 게시글의 조회수 비교
-     * @param postId 점수가 적용된 게시글 _id
-     * @param minPostId 베스트 게시글 중에서 가장 최소 점수를 가진 게시글 _id
-     */
-    private void checkHits(String postId, String minPostId) {
-        if (hitsService.getHitsCount(new ObjectId(minPostId)) > hitsService.getHitsCount(new ObjectId(postId))) {
-            redisTemplate.opsForZSet().remove(BEST_KEY, postId);
-        } else {
-            redisTemplate.opsForZSet().remove(BEST_KEY, minPostId);
-        }
-
-    }
-
     /**
      * 만약 bestEntity에 없다면 저장, 있는데 score가 변경되었다면 업데이트
      */
@@ -218,23 +131,51 @@ public class RedisBestService {
     }
 
     /**
-     * 동기화 과정에서 기존에 있던 값을 지우고 새롭게 등록
-     * 스케줄러를 통해 매 시마다 전 1시간 동안의 베스트 게시글을 등록
+     * 삭제된 게시글을 window와 최근 24시간 bucket에서 pipeline으로 한 번에 삭제
+     * @param postId 게시글 _id
      */
-    public void resetBests(Map<String, Double> posts) {
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(BEST_KEY))) {
-            redisTemplate.opsForZSet().removeRange(BEST_KEY, 0 ,-1);
-        }
-        posts.forEach((key, value) -> redisTemplate.opsForZSet().add(BEST_KEY, key, value));
+    public void deleteBest(String postId){
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        byte[] member = postId.getBytes(StandardCharsets.UTF_8);
+        List<String> keys = new ArrayList<>(recentBucketKeys());
+        keys.add(WINDOW_KEY);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.zSetCommands().zRem(key.getBytes(StandardCharsets.UTF_8), member));
+            return null;
+        });
     }
 
-    /**
-     * 만약 post:top3에 포함된 게시글이 삭제되었다면 삭제
-     * @param postId
-     */
-    public void deleteBest(String postId){
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(BEST_KEY))){
-            redisTemplate.opsForZSet().remove(BEST_KEY, postId);
+    private Map<String, Double> sortByScoreAndHits(List<ZSetOperations.TypedTuple<String>> candidates, int N) {
+        Map<ObjectId, Integer> hits = hitsService.getHitsCounts(candidates.stream()
+                .map(member -> new ObjectId(member.getValue()))
+                .toList());
+        return candidates.stream()
+                .sorted(Comparator.<ZSetOperations.TypedTuple<String>>comparingDouble(ZSetOperations.TypedTuple::getScore)
+                        .thenComparingInt(member -> hits.getOrDefault(new ObjectId(member.getValue()), 0))
+                        .reversed())
+                .limit(N)
+                .collect(Collectors.toMap(
+                        ZSetOperations.TypedTuple::getValue,
+                        ZSetOperations.TypedTuple::getScore,
+                        (existing, replacement) -> existing,
+                        LinkedHashMap::new
+                ));
+    }
+
+    private List<String> recentBucketKeys() {
+        long epochHour = currentEpochHour();
+        List<String> keys = new ArrayList<>(WINDOW_HOURS);
+        for (int i = 0; i < WINDOW_HOURS; i++) {
+            keys.add(makeBucketKey(epochHour - i));
         }
+        return keys;
+    }
+
+    private static long currentEpochHour() {
+        return System.currentTimeMillis() / Duration.ofHours(1).toMillis();
+    }
+
+    private static String makeBucketKey(long epochHour) {
+        return BUCKET_KEY + epochHour;
     }
 }
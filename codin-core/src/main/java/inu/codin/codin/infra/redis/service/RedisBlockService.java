@@ -0,0 +1,110 @@
+package inu.codin.codin.infra.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisBlockService {
+    /**
+     * Redis 기반 차단 유저 목록 Cache
+     * user:blocked:{userId} (Set) : 차단한 유저 _id
+     * 차단한 유저가 없어도 Cache miss와 구분하기 위해 EMPTY_MARKER를 함께 저장
+     * 차단/차단 해제 시 Cache 삭제와 함께 version(user:blocked:{userId}:version)을 올리고,
+     * DB 조회 전에 읽은 version이 바뀌었으면 Cache를 저장하지 않음 (삭제 이전에 DB를 읽은 요청이 오래된 목록을 저장하는 것을 방지)
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String BLOCKED_KEY = "user:blocked:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final String EMPTY_MARKER = "-";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    /*
+        KEYS[1] : 차단 유저 목록 Key, KEYS[2] : version Key
+        ARGV[1] : TTL(초), ARGV[2] : DB 조회 전 version, ARGV[3..] : EMPTY_MARKER와 차단한 유저 _id
+     */
+    private static final RedisScript<Long> REPLACE_SCRIPT = RedisScript.of("""
+            local version = redis.call('GET', KEYS[2]) or '0'
+            if version ~= ARGV[2] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 차단 유저 목록 반환
+     * @param userId 유저 _id
+     * @return 차단한 유저 _id 리스트, Cache miss는 null
+     */
+    public List<ObjectId> getBlockedUsers(ObjectId userId) {
+        Set<String> members = redisTemplate.opsForSet().members(makeRedisKey(userId));
+        if (members == null || members.isEmpty()) return null;
+        return members.stream()
+                .filter(member -> !EMPTY_MARKER.equals(member))
+                .map(ObjectId::new)
+                .toList();
+    }
+
+    /**
+     * 차단 유저 목록 Cache의 version 조회, DB 조회 전에 호출
+     */
+    public long getVersion(ObjectId userId) {
+        String version = redisTemplate.opsForValue().get(makeVersionKey(userId));
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    /**
+     * DB에서 조회한 차단 유저 목록으로 Cache를 한 번의 호출로 교체
+     * DB 조회 이후 차단/차단 해제로 Cache가 삭제되었으면 (version 변경) 무시
+     * @param version DB 조회 전에 getVersion으로 읽은 version
+     * @return 저장 여부
+     */
+    public boolean cacheBlockedUsers(ObjectId userId, Collection<ObjectId> blockedUsers, long version) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TTL.toSeconds()));
+        args.add(String.valueOf(version));
+        args.add(EMPTY_MARKER);
+        blockedUsers.forEach(blockedUser -> args.add(blockedUser.toString()));
+        Long result = redisTemplate.execute(REPLACE_SCRIPT,
+                List.of(makeRedisKey(userId), makeVersionKey(userId)), args.toArray());
+        return result != null && result > 0;
+    }
+
+    /**
+     * 차단/차단 해제의 DB 저장 후 Cache 삭제 및 version 증가
+     */
+    public void evict(ObjectId userId) {
+        redisTemplate.execute(EVICT_SCRIPT, List.of(makeRedisKey(userId), makeVersionKey(userId)),
+                String.valueOf(TTL.toSeconds()));
+    }
+
+    private static String makeRedisKey(ObjectId userId) {
+        return BLOCKED_KEY + userId.toString();
+    }
+
+    private static String makeVersionKey(ObjectId userId) {
+        return makeRedisKey(userId) + VERSION_SUFFIX;
+    }
+}
@@ -0,0 +1,154 @@
+package inu.codin.codin.infra.redis.service;
+
+import inu.codin.codin.infra.redis.dto.ChatPresenceSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisChatPresenceService {
+    /**
+     * Redis 기반 채팅 접속 상태 (서버 인스턴스와 관계없이 공유)
+     * chat:presence:session:{sessionId} (Hash) : session의 userId, chatRoomId
+     * chat:presence:user:{userId} (Sorted Set) : 유저의 접속 중인 session, score = 만료 시각
+     * chat:presence:room:{chatRoomId}:{userId} (Sorted Set) : 채팅방에 입장한 유저의 session, score = 만료 시각
+     *
+     * 각 서버가 자신의 session을 주기적으로 갱신(heartbeat)하며,
+     * 서버가 비정상 종료되어 갱신이 멈춘 session은 만료 시각 이후 조회에서 제외되고 TTL로 삭제됨
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public static final Duration SESSION_TTL = Duration.ofSeconds(90);
+
+    private static final String SESSION_KEY = "chat:presence:session:";
+    private static final String USER_KEY = "chat:presence:user:";
+    private static final String ROOM_KEY = "chat:presence:room:";
+
+    /*
+        KEYS[1] : session Hash, KEYS[2..] : session을 등록할 Sorted Set
+        ARGV : sessionId, 만료 시각, 현재 시각, TTL(초), userId, chatRoomId(없으면 빈 문자열)
+     */
+    private static final RedisScript<Long> REGISTER_SCRIPT = RedisScript.of("""
+            redis.call('HSET', KEYS[1], 'userId', ARGV[5])
+            if ARGV[6] == '' then
+                redis.call('HDEL', KEYS[1], 'chatRoomId')
+            else
+                redis.call('HSET', KEYS[1], 'chatRoomId', ARGV[6])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            for i = 2, #KEYS do
+                redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1])
+                redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', ARGV[3])
+                redis.call('EXPIRE', KEYS[i], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    /*
+        KEYS[1] : session Hash, KEYS[2..] : session을 제거할 Sorted Set
+        ARGV : sessionId, session 삭제 여부(1 : 삭제, 0 : chatRoomId만 제거)
+     */
+    private static final RedisScript<Long> UNREGISTER_SCRIPT = RedisScript.of("""
+            for i = 2, #KEYS do
+                redis.call('ZREM', KEYS[i], ARGV[1])
+            end
+            if ARGV[2] == '1' then
+                redis.call('DEL', KEYS[1])
+            else
+                redis.call('HDEL', KEYS[1], 'chatRoomId')
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * session 등록 및 만료 시각 갱신 (접속, 채팅방 입장, heartbeat)
+     */
+    public void register(ChatPresenceSession session) {
+        List<String> keys = new ArrayList<>();
+        keys.add(makeSessionKey(session.sessionId()));
+        keys.add(makeUserKey(session.userId()));
+        if (session.chatRoomId() != null) keys.add(makeRoomKey(session.chatRoomId(), session.userId()));
+
+        long now = System.currentTimeMillis();
+        redisTemplate.execute(REGISTER_SCRIPT, keys,
+                session.sessionId(),
+                String.valueOf(now + SESSION_TTL.toMillis()),
+                String.valueOf(now),
+                String.valueOf(SESSION_TTL.toSeconds()),
+                session.userId().toString(),
+                session.chatRoomId() == null ? "" : session.chatRoomId().toString());
+    }
+
+    /**
+     * 채팅방 퇴장, session은 유지
+     */
+    public void exit(String sessionId, ObjectId userId, ObjectId chatRoomId) {
+        redisTemplate.execute(UNREGISTER_SCRIPT,
+                List.of(makeSessionKey(sessionId), makeRoomKey(chatRoomId, userId)),
+                sessionId, "0");
+    }
+
+    /**
+     * session 삭제 (접속 종료)
+     */
+    public void remove(ChatPresenceSession session) {
+        List<String> keys = new ArrayList<>();
+        keys.add(makeSessionKey(session.sessionId()));
+        keys.add(makeUserKey(session.userId()));
+        if (session.chatRoomId() != null) keys.add(makeRoomKey(session.chatRoomId(), session.userId()));
+        redisTemplate.execute(UNREGISTER_SCRIPT, keys, session.sessionId(), "1");
+    }
+
+    /**
+     * @return session의 접속 정보, 없거나 만료되었으면 null
+     */
+    public ChatPresenceSession getSession(String sessionId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(makeSessionKey(sessionId));
+        Object userId = entries.get("userId");
+        if (userId == null) return null;
+        Object chatRoomId = entries.get("chatRoomId");
+        return new ChatPresenceSession(sessionId, new ObjectId(userId.toString()),
+                chatRoomId == null ? null : new ObjectId(chatRoomId.toString()));
+    }
+
+    /**
+     * 유저가 채팅방에 입장해 있는지 여부 (만료되지 않은 session이 하나라도 있으면 true)
+     */
+    public boolean isInRoom(ObjectId chatRoomId, ObjectId userId) {
+        return hasLiveSession(makeRoomKey(chatRoomId, userId));
+    }
+
+    /**
+     * 유저가 STOMP로 접속해 있는지 여부
+     */
+    public boolean isOnline(ObjectId userId) {
+        return hasLiveSession(makeUserKey(userId));
+    }
+
+    private boolean hasLiveSession(String key) {
+        Long count = redisTemplate.opsForZSet().count(key, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return count != null && count > 0;
+    }
+
+    private static String makeSessionKey(String sessionId) {
+        return SESSION_KEY + sessionId;
+    }
+
+    private static String makeUserKey(ObjectId userId) {
+        return USER_KEY + userId.toString();
+    }
+
+    private static String makeRoomKey(ObjectId chatRoomId, ObjectId userId) {
+        return ROOM_KEY + chatRoomId.toString() + ":" + userId.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package inu.codin.codin.infra.redis.service;
+
+import inu.codin.codin.infra.redis.dto.CounterVersions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisChatUnreadService {
+    /**
+     * Redis 기반 채팅방 참여자별 읽지 않은 메시지 수 관리 Service, TTL = 1DAYS
+     * 값은 read watermark 기준 DB 집계의 Cache이며, 메시지 송신/읽음 처리 시 증감하지 않고 무효화
+     * (증감은 읽음 처리와 순서가 뒤바뀌면 watermark와 어긋난 값이 TTL 동안 남음)
+     */
+    private final RedisCounterService redisCounterService;
+
+    private static final String UNREAD_KEY = "chat:unread:";
+
+    /**
+     * 읽지 않은 메시지 수 무효화 (chat:unread:{chatRoomId}:{userId}), 다음 조회 시 watermark 기준으로 복구
+     */
+    public void invalidate(ObjectId chatRoomId, Collection<ObjectId> userIds) {
+        redisCounterService.invalidateAll(userIds.stream()
+                .map(userId -> makeRedisKey(chatRoomId, userId))
+                .toList());
+    }
+
+    /**
+     * @return chatRoomIds 순서와 동일한 읽지 않은 메시지 수 리스트, Cache miss는 null
+     */
+    public List<Long> getUnreadCounts(List<ObjectId> chatRoomIds, ObjectId userId) {
+        return redisCounterService.getAll(makeRedisKeys(chatRoomIds, userId));
+    }
+
+    /**
+     * Cache miss 시 watermark 조회 전에 호출
+     */
+    public CounterVersions getVersions(List<ObjectId> chatRoomIds, ObjectId userId) {
+        return redisCounterService.getVersions(makeRedisKeys(chatRoomIds, userId));
+    }
+
+    /**
+     * @param unreadCounts Key : 채팅방 _id, Value : 읽지 않은 메시지 수
+     */
+    public void recoveryUnreadCounts(Map<ObjectId, Integer> unreadCounts, ObjectId userId, CounterVersions versions) {
+        Map<String, Long> values = new HashMap<>();
+        unreadCounts.forEach((chatRoomId, count) -> values.put(makeRedisKey(chatRoomId, userId), count.longValue()));
+        redisCounterService.initializeAll(values, versions);
+    }
+
+    private static List<String> makeRedisKeys(List<ObjectId> chatRoomIds, ObjectId userId) {
+        return chatRoomIds.stream()
+                .map(chatRoomId -> makeRedisKey(chatRoomId, userId))
+                .toList();
+    }
+
+    private static String makeRedisKey(ObjectId chatRoomId, ObjectId userId) {
+        return UNREAD_KEY + chatRoomId.toString() + ":" + userId.toString();
+    }
+}
@@ -0,0 +1,165 @@
+package inu.codin.codin.infra.redis.service;
+
+import inu.codin.codin.infra.redis.dto.CounterVersions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCounterService {
+    /**
+     * Lua Script 기반 Redis Counter
+     * 모든 연산은 한 번의 호출로 원자적으로 처리되어, 다른 요청이 초기화 중인 Key를 보는 일이 없음
+     * Counter를 직접 증감하지 않고 DB 저장 후 무효화하므로, 쓰기 이후 첫 조회는 DB에서 다시 집계
+     *
+     * - 무효화 : DB 저장 후 Key 삭제 및 version 증가, 다음 조회 시 DB 기준으로 다시 초기화
+     * - 초기화 : Key가 없고 DB 조회 이후 무효화되지 않았을 때만 DB 값으로 설정 (오래된 값 복구 방지)
+     * - 조회 : 단건/다건 모두 한 번의 호출로 값 조회 및 TTL 갱신
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public static final Duration DEFAULT_TTL = Duration.ofDays(1);
+
+    private static final String VERSION_SUFFIX = ":version";
+
+    /*
+        KEYS : (Counter Key, version Key) 쌍
+        ARGV[1] : version TTL(초)
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = RedisScript.of("""
+            for i = 1, #KEYS, 2 do
+                redis.call('DEL', KEYS[i])
+                redis.call('INCR', KEYS[i + 1])
+                redis.call('EXPIRE', KEYS[i + 1], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    /*
+        KEYS : (Counter Key, version Key) 쌍
+        ARGV[1] : TTL(초), ARGV[2..] : (DB 값, DB 조회 전 version) 쌍
+        DB 조회 이후 version이 바뀌지 않았고 Key가 없을 때만 설정
+     */
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = RedisScript.of("""
+            local initialized = 0
+            for i = 1, #KEYS, 2 do
+                local version = redis.call('GET', KEYS[i + 1]) or '0'
+                local arg = i + 1
+                if version == ARGV[arg + 1] then
+                    if redis.call('SET', KEYS[i], ARGV[arg], 'NX', 'EX', ARGV[1]) then
+                        initialized = initialized + 1
+                    end
+                end
+            end
+            return initialized
+            """, Long.class);
+
+    private static final RedisScript<List> GET_ALL_SCRIPT = RedisScript.of("""
+            local result = {}
+            for i, key in ipairs(KEYS) do
+                local current = redis.call('GET', key)
+                if current then
+                    redis.call('EXPIRE', key, ARGV[1])
+                    result[i] = current
+                else
+                    result[i] = false
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * DB 저장 후 Counter 무효화, 다음 조회 시 DB 기준으로 다시 초기화
+     * 무효화 전에 DB를 읽은 요청은 version이 달라 오래된 값을 복구하지 못함
+     */
+    public void invalidate(String key) {
+        invalidateAll(List.of(key));
+    }
+
+    public void invalidateAll(Collection<String> keys) {
+        if (keys.isEmpty()) return;
+        List<String> scriptKeys = new ArrayList<>();
+        keys.forEach(key -> {
+            scriptKeys.add(key);
+            scriptKeys.add(key + VERSION_SUFFIX);
+        });
+        redisTemplate.execute(INVALIDATE_SCRIPT, scriptKeys, String.valueOf(DEFAULT_TTL.toSeconds()));
+    }
+
+    /**
+     * Cache miss된 Counter의 version 조회, DB 조회 전에 호출
+     */
+    public CounterVersions getVersions(Collection<String> keys) {
+        if (keys.isEmpty()) return CounterVersions.empty();
+        List<String> keyList = List.copyOf(keys);
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                keyList.stream().map(key -> key + VERSION_SUFFIX).toList());
+        Map<String, Long> versions = new HashMap<>();
+        for (int i = 0; i < keyList.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            versions.put(keyList.get(i), value == null ? 0L : Long.parseLong(value));
+        }
+        return new CounterVersions(versions);
+    }
+
+    /**
+     * Counter 조회 및 TTL 갱신
+     * @return Counter 값, Cache miss면 null
+     */
+    public Long get(String key) {
+        return getAll(List.of(key)).get(0);
+    }
+
+    /**
+     * 여러 Counter를 한 번의 호출로 조회 및 TTL 갱신
+     * @return keys 순서와 동일한 값 리스트, Cache miss는 null
+     */
+    public List<Long> getAll(List<String> keys) {
+        if (keys.isEmpty()) return List.of();
+        List<?> values = redisTemplate.execute(GET_ALL_SCRIPT, keys, String.valueOf(DEFAULT_TTL.toSeconds()));
+        if (values == null) return Collections.nCopies(keys.size(), null);
+        return values.stream()
+                .map(value -> value == null ? null : Long.valueOf(String.valueOf(value)))
+                .toList();
+    }
+
+    /**
+     * Cache miss 시 DB 값으로 Counter 초기화
+     * 이미 Key가 있거나 DB 조회 이후 무효화되었으면 (version 변경) 무시
+     * @param versions DB 조회 전에 getVersions로 읽은 version
+     */
+    public void initialize(String key, long value, CounterVersions versions) {
+        initializeAll(Map.of(key, value), versions);
+    }
+
+    /**
+     * 여러 Counter를 한 번의 호출로 초기화, 이미 Key가 있거나 DB 조회 이후 무효화된 Key는 무시
+     * @param values Key : Redis Key, Value : DB 값
+     * @param versions DB 조회 전에 getVersions로 읽은 version
+     */
+    public void initializeAll(Map<String, Long> values, CounterVersions versions) {
+        if (values.isEmpty()) return;
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(DEFAULT_TTL.toSeconds()));
+        values.forEach((key, value) -> {
+            keys.add(key);
+            keys.add(key + VERSION_SUFFIX);
+            args.add(String.valueOf(value));
+            args.add(String.valueOf(versions.get(key)));
+        });
+        redisTemplate.execute(INITIALIZE_SCRIPT, keys, args.toArray());
+    }
+}
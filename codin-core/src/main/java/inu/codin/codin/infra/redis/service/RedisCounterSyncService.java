@@ -0,0 +1,196 @@
+package inu.codin.codin.infra.redis.service;
+
+import inu.codin.codin.infra.redis.dto.CounterDeltas;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCounterSyncService {
+    /**
+     * 게시글 카운터 Write-Behind 저장소
+     * - post:counter:delta:{postId} (Hash) : 카운터 필드명 - 아직 DB에 반영되지 않은 증감분
+     * - post:counter:dirty (Set) : 증감분이 남아있는 게시글 _id
+     * - post:counter:flushing:{postId} (Hash) : 수거되어 DB에 반영 중인 증감분 + flushId
+     * - post:counter:inflight (Set) : 반영 중인 게시글 _id
+     * 수거는 증감분을 삭제하지 않고 flushing으로 옮기며, DB 반영 후 acknowledge 해야 삭제됨
+     * -> 반영 도중 조회해도 증감분이 보이고, 반영 전에 서버가 종료되어도 다음 수거 때 같은 flushId로 다시 반영
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String DIRTY_KEY = "post:counter:dirty";
+    private static final String DELTA_KEY = "post:counter:delta:";
+    private static final String IN_FLIGHT_KEY = "post:counter:inflight";
+    private static final String FLUSHING_KEY = "post:counter:flushing:";
+    private static final String FLUSH_ID_FIELD = "flushId";
+
+    private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of("""
+            local updated = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            return updated
+            """, Long.class);
+
+    /*
+        KEYS[1] : dirty Set, KEYS[2] : inflight Set
+        ARGV[1] : batchSize, ARGV[2] : delta Key prefix, ARGV[3] : flushing Key prefix, ARGV[4] : flushId
+        반영되지 못하고 남은 flushing이 있으면 먼저 반환, 없으면 dirty 게시글의 증감분을 flushing으로 옮겨 반환
+     */
+    private static final RedisScript<List> DRAIN_SCRIPT = RedisScript.of("""
+            local ids = redis.call('SRANDMEMBER', KEYS[2], ARGV[1])
+            if #ids == 0 then
+                ids = {}
+                for _, id in ipairs(redis.call('SPOP', KEYS[1], ARGV[1])) do
+                    local deltaKey = ARGV[2] .. id
+                    local flushingKey = ARGV[3] .. id
+                    if redis.call('EXISTS', deltaKey) == 1 then
+                        redis.call('RENAME', deltaKey, flushingKey)
+                        redis.call('HSET', flushingKey, 'flushId', ARGV[4])
+                        redis.call('SADD', KEYS[2], id)
+                        table.insert(ids, id)
+                    end
+                end
+            end
+            local result = {}
+            for _, id in ipairs(ids) do
+                table.insert(result, id)
+                table.insert(result, redis.call('HGETALL', ARGV[3] .. id))
+            end
+            return result
+            """, List.class);
+
+    /*
+        KEYS[1] : inflight Set, KEYS[2..] : flushing Key
+        ARGV : 게시글 _id
+     */
+    private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = RedisScript.of("""
+            for i = 2, #KEYS do
+                redis.call('DEL', KEYS[i])
+            end
+            redis.call('SREM', KEYS[1], unpack(ARGV))
+            return #ARGV
+            """, Long.class);
+
+    /*
+        KEYS[1] : dirty Set, KEYS[2] : inflight Set, KEYS[3..] : delta/flushing Key
+        ARGV : 게시글 _id
+     */
+    private static final RedisScript<Long> DISCARD_SCRIPT = RedisScript.of("""
+            for i = 3, #KEYS do
+                redis.call('DEL', KEYS[i])
+            end
+            redis.call('SREM', KEYS[1], unpack(ARGV))
+            redis.call('SREM', KEYS[2], unpack(ARGV))
+            return #ARGV
+            """, Long.class);
+
+    /**
+     * 게시글 카운터 증감분 기록
+     * @param postId 게시글 _id
+     * @param field PostEntity 카운터 필드명
+     * @param delta 증감 값 (음수 가능)
+     */
+    public void recordDelta(ObjectId postId, String field, long delta) {
+        redisTemplate.execute(RECORD_SCRIPT, List.of(makeDeltaKey(postId), DIRTY_KEY),
+                field, String.valueOf(delta), postId.toString());
+    }
+
+    /**
+     * 반영 대기 중인 증감분을 최대 batchSize개 게시글만큼 수거
+     * 이전에 수거되었지만 acknowledge 되지 않은 증감분이 있으면 그 증감분을 먼저 반환
+     * @return Key : 게시글 _id, Value : flushId와 (카운터 필드명 - 증감분)
+     */
+    public Map<ObjectId, CounterDeltas> drainDeltas(int batchSize) {
+        List<?> drained = redisTemplate.execute(DRAIN_SCRIPT, List.of(DIRTY_KEY, IN_FLIGHT_KEY),
+                String.valueOf(batchSize), DELTA_KEY, FLUSHING_KEY, new ObjectId().toString());
+
+        Map<ObjectId, CounterDeltas> deltas = new HashMap<>();
+        if (drained == null) return deltas;
+        for (int i = 0; i + 1 < drained.size(); i += 2) {
+            List<?> hash = (List<?>) drained.get(i + 1);
+            String flushId = null;
+            Map<String, Long> fields = new HashMap<>();
+            for (int j = 0; j + 1 < hash.size(); j += 2) {
+                String field = String.valueOf(hash.get(j));
+                String value = String.valueOf(hash.get(j + 1));
+                if (FLUSH_ID_FIELD.equals(field)) flushId = value;
+                else fields.put(field, Long.valueOf(value));
+            }
+            deltas.put(new ObjectId(String.valueOf(drained.get(i))), new CounterDeltas(flushId, fields));
+        }
+        return deltas;
+    }
+
+    /**
+     * DB에 반영된 증감분 삭제, DB 반영이 성공한 후에만 호출
+     */
+    public void acknowledge(Collection<ObjectId> postIds) {
+        if (postIds.isEmpty()) return;
+        List<String> keys = new ArrayList<>();
+        keys.add(IN_FLIGHT_KEY);
+        postIds.forEach(postId -> keys.add(makeFlushingKey(postId)));
+        redisTemplate.execute(ACKNOWLEDGE_SCRIPT, keys, postIds.stream().map(ObjectId::toString).toArray());
+    }
+
+    /**
+     * 반영 대기 중인 증감분을 반영하지 않고 삭제 (반영 중인 증감분 포함)
+     * 컬렉션 기준으로 카운터를 초기화할 게시글은 이미 기록된 증감분이 count에 포함되어 있으므로 삭제
+     */
+    public void discardDeltas(List<ObjectId> postIds) {
+        if (postIds.isEmpty()) return;
+        List<String> keys = new ArrayList<>();
+        keys.add(DIRTY_KEY);
+        keys.add(IN_FLIGHT_KEY);
+        postIds.forEach(postId -> {
+            keys.add(makeDeltaKey(postId));
+            keys.add(makeFlushingKey(postId));
+        });
+        redisTemplate.execute(DISCARD_SCRIPT, keys, postIds.stream().map(ObjectId::toString).toArray());
+    }
+
+    /**
+     * 여러 게시글의 반영 대기 중인 증감분을 pipeline으로 한 번에 조회
+     * 수거되어 DB에 반영 중인 증감분도 합산하여, 수거와 DB 반영 사이에 조회해도 증감분이 빠지지 않음
+     * @return postIds 순서와 동일한 증감분 리스트, 대기 중인 증감분이 없으면 0
+     */
+    public List<Long> getPendingDeltas(List<ObjectId> postIds, String field) {
+        if (postIds.isEmpty()) return List.of();
+        byte[] hashField = field.getBytes(StandardCharsets.UTF_8);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            postIds.forEach(postId -> {
+                connection.hashCommands().hGet(makeDeltaKey(postId).getBytes(StandardCharsets.UTF_8), hashField);
+                connection.hashCommands().hGet(makeFlushingKey(postId).getBytes(StandardCharsets.UTF_8), hashField);
+            });
+            return null;
+        });
+        List<Long> pending = new ArrayList<>();
+        for (int i = 0; i + 1 < results.size(); i += 2) {
+            pending.add(toLong(results.get(i)) + toLong(results.get(i + 1)));
+        }
+        return pending;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : Long.parseLong(String.valueOf(value));
+    }
+
+    private static String makeDeltaKey(ObjectId postId) {
+        return DELTA_KEY + postId.toString();
+    }
+
+    private static String makeFlushingKey(ObjectId postId) {
+        return FLUSHING_KEY + postId.toString();
+    }
+}
@@ -5,9 +5,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -15,47 +20,193 @@ import java.util.concurrent.TimeUnit;
 public class RedisHitsService {
     /**
      * Redis 기반 Hits(조회수) 관리 Service
+     * - post:hits:viewers:{postId} (HyperLogLog) : 게시글을 조회한 유저 _id
+     * - post:hits:base:{postId} (String) : HyperLogLog에 포함되지 않는 조회수 (비로그인 조회 + 집계 시작 전 조회수)
+     * - post:hits:dirty (Set) : 조회수가 변경되어 PostEntity에 반영해야 하는 게시글 _id
+     *
+     * 조회수 = PFCOUNT(viewers) + base
+     * 유저당 한 번 집계는 HyperLogLog 표준 오차(약 0.81%) 내에서 보장되며,
+     * base Key가 없는 게시글은 초기화 전으로 취급하여 HitsService가 hits 컬렉션 기준으로 초기화
+     * viewers/base Key는 조회할 때마다 TTL(7일)을 갱신하며, 만료된 게시글은 다음 조회 시 저장된 조회수 기준으로 다시 초기화
+     * 처음 집계된 로그인 유저는 HitsService가 hits 컬렉션에도 기록하므로, 만료 후 초기화해도 이미 조회한 유저가 다시 집계되지 않음
      */
     private final RedisTemplate<String, String> redisTemplate;
 
-    private static final String HITS_KEY = "post:hits:";
+    private static final String VIEWERS_KEY = "post:hits:viewers:";
+    private static final String BASE_KEY = "post:hits:base:";
+    private static final String DIRTY_KEY = "post:hits:dirty";
+    private static final int SEED_CHUNK_SIZE = 1000;
+    private static final Duration HITS_TTL = Duration.ofDays(7);
+
+    private static final RedisScript<Long> RECORD_VIEW_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return -1
+            end
+            local added = 0
+            if ARGV[1] == '' then
+                redis.call('INCR', KEYS[2])
+            else
+                added = redis.call('PFADD', KEYS[1], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            redis.call('SADD', KEYS[3], ARGV[2])
+            return 1 + added
+            """, Long.class);
+
+    private static final RedisScript<Long> SEED_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+            local chunk = tonumber(ARGV[1])
+            redis.call('PFADD', KEYS[1])
+            for i = 4, #ARGV, chunk do
+                redis.call('PFADD', KEYS[1], unpack(ARGV, i, math.min(i + chunk - 1, #ARGV)))
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> MERGE_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return 0
+            end
+            local chunk = tonumber(ARGV[1])
+            for i = 5, #ARGV, chunk do
+                redis.call('PFADD', KEYS[1], unpack(ARGV, i, math.min(i + chunk - 1, #ARGV)))
+            end
+            redis.call('INCRBY', KEYS[2], ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            redis.call('SADD', KEYS[3], ARGV[4])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<List> COUNT_SCRIPT = RedisScript.of("""
+            local result = {}
+            for i = 1, #KEYS, 2 do
+                local base = redis.call('GET', KEYS[i + 1])
+                if base then
+                    result[#result + 1] = redis.call('PFCOUNT', KEYS[i]) + tonumber(base)
+                else
+                    result[#result + 1] = false
+                end
+            end
+            return result
+            """, List.class);
 
     /**
-     * 조회수 추가 (post:hits:{postId} - 조회수)
+     * 게시글 조회 기록, 한 번의 호출로 조회 유저 등록과 반영 대상 등록을 함께 처리
      * @param postId 게시글 _id
+     * @param userId 유저 _id, 비로그인은 null (항상 집계)
+     * @return 기록 결과, 초기화 전 게시글이면 NOT_SEEDED
      */
-    public void addHits(ObjectId postId){
-        String redisKey = HITS_KEY + postId.toString();
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey)))
-            redisTemplate.opsForValue().increment(redisKey);
-        else {
-            redisTemplate.opsForValue().set(redisKey, String.valueOf(1));
-        }
-        redisTemplate.expire(redisKey, 1, TimeUnit.DAYS);
+    public ViewResult recordView(ObjectId postId, ObjectId userId) {
+        Long result = redisTemplate.execute(RECORD_VIEW_SCRIPT,
+                List.of(makeViewersKey(postId), makeBaseKey(postId), DIRTY_KEY),
+                userId == null ? "" : userId.toString(), postId.toString(), String.valueOf(HITS_TTL.toSeconds()));
+        if (result == null || result < 0) return ViewResult.NOT_SEEDED;
+        return result > 1 ? ViewResult.NEW_VIEWER : ViewResult.RECORDED;
     }
 
     /**
-     * 게시글 조회수 반환
+     * hits 컬렉션 기준으로 게시글 조회수 초기화, 이미 초기화된 게시글이면 무시
+     * @param postId 게시글 _id
+     * @param viewers 게시글을 조회한 유저 _id
+     * @param base HyperLogLog에 포함되지 않는 조회수
+     */
+    public void seedViewers(ObjectId postId, Collection<ObjectId> viewers, long base) {
+        List<String> args = new ArrayList<>(viewers.size() + 3);
+        args.add(String.valueOf(SEED_CHUNK_SIZE));
+        args.add(String.valueOf(base));
+        args.add(String.valueOf(HITS_TTL.toSeconds()));
+        viewers.forEach(viewer -> args.add(viewer.toString()));
+        redisTemplate.execute(SEED_SCRIPT, List.of(makeViewersKey(postId), makeBaseKey(postId)), args.toArray());
+    }
+
+    /**
+     * Redis 장애 중 DB에만 기록된 조회를 Redis 집계에 합산하고 반영 대상으로 등록
+     * 이미 집계된 유저는 HyperLogLog에서 중복 제거되며, 초기화 전 게시글은 다음 조회 시 DB 기준으로 초기화되므로 무시
      * @param postId 게시글 _id
-     * @return int : 게시글 조회수
+     * @param viewers 장애 중 게시글을 조회한 유저 _id
+     * @param anonymousViews 장애 중 비로그인 조회수
+     * @return 합산 여부, 초기화 전 게시글이면 false
      */
-    public Object getHitsCount(ObjectId postId){
-        String redisKey = HITS_KEY + postId.toString();
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))){
-            redisTemplate.expire(redisKey, 1, TimeUnit.DAYS);
-            return redisTemplate.opsForValue().get(redisKey);
-        }
-        else return null;
+    public boolean mergeViews(ObjectId postId, Collection<ObjectId> viewers, long anonymousViews) {
+        List<String> args = new ArrayList<>(viewers.size() + 4);
+        args.add(String.valueOf(SEED_CHUNK_SIZE));
+        args.add(String.valueOf(anonymousViews));
+        args.add(String.valueOf(HITS_TTL.toSeconds()));
+        args.add(postId.toString());
+        viewers.forEach(viewer -> args.add(viewer.toString()));
+        Long result = redisTemplate.execute(MERGE_SCRIPT,
+                List.of(makeViewersKey(postId), makeBaseKey(postId), DIRTY_KEY), args.toArray());
+        return result != null && result > 0;
     }
 
     /**
-     * hits Collection 기반으로 Cache 복구
+     * 게시글 조회수 반환
      * @param postId 게시글 _id
-     * @param hits 해당 게시글의 조회수
+     * @return 게시글 조회수, 초기화 전 게시글은 null
+     */
+    public Long getHitsCount(ObjectId postId){
+        return getHitsCounts(List.of(postId)).get(0);
+    }
+
+    /**
+     * 여러 게시글의 조회수를 한 번의 호출로 조회
+     * @param postIds 게시글 _id 리스트
+     * @return postIds 순서와 동일한 조회수 리스트, 초기화 전 게시글은 null
+     */
+    public List<Long> getHitsCounts(List<ObjectId> postIds){
+        if (postIds.isEmpty()) return List.of();
+        List<String> keys = new ArrayList<>(postIds.size() * 2);
+        postIds.forEach(postId -> {
+            keys.add(makeViewersKey(postId));
+            keys.add(makeBaseKey(postId));
+        });
+        List<?> values = redisTemplate.execute(COUNT_SCRIPT, keys);
+        if (values == null) return Collections.nCopies(postIds.size(), null);
+        return values.stream()
+                .map(value -> value == null ? null : Long.valueOf(String.valueOf(value)))
+                .toList();
+    }
+
+    /**
+     * 조회수가 변경된 게시글을 최대 batchSize개 수거
+     * 수거된 게시글은 Redis에서 삭제되므로, DB 반영 실패 시 markDirty 필요
+     */
+    public List<ObjectId> drainDirtyPosts(int batchSize) {
+        List<String> drained = redisTemplate.opsForSet().pop(DIRTY_KEY, batchSize);
+        if (drained == null) return List.of();
+        return drained.stream()
+                .map(ObjectId::new)
+                .toList();
+    }
+
+    /**
+     * DB 반영에 실패한 게시글을 다시 반영 대상으로 등록
+     */
+    public void markDirty(Collection<ObjectId> postIds) {
+        if (postIds.isEmpty()) return;
+        redisTemplate.opsForSet().add(DIRTY_KEY, postIds.stream().map(ObjectId::toString).toArray(String[]::new));
+    }
+
+    private static String makeViewersKey(ObjectId postId) {
+        return VIEWERS_KEY + postId.toString();
+    }
+
+    private static String makeBaseKey(ObjectId postId) {
+        return BASE_KEY + postId.toString();
+    }
+
+    /**
+     * NOT_SEEDED : 초기화 전 게시글로 기록하지 않음
+     * RECORDED : 기록됨 (비로그인 조회 또는 이미 집계된 유저)
+     * NEW_VIEWER : 처음 집계된 로그인 유저 (HyperLogLog가 변경됨)
      */
-    public void recoveryHits(ObjectId postId, int hits){
-        String redisKey = HITS_KEY + postId.toString();
-        redisTemplate.expire(redisKey, 1, TimeUnit.DAYS);
-        redisTemplate.opsForValue().set(redisKey, String.valueOf(hits));
+    public enum ViewResult {
+        NOT_SEEDED, RECORDED, NEW_VIEWER
     }
 }
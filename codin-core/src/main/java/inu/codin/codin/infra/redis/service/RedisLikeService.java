@@ -1,12 +1,15 @@
 package inu.codin.codin.infra.redis.service;
 
-
+import inu.codin.codin.infra.redis.dto.CounterVersions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -14,40 +17,84 @@ import java.util.concurrent.TimeUnit;
 public class RedisLikeService {
     /**
      * Redis 기반 Like 관리 Service, TTL = 1DAYS
+     * 무효화 및 조회는 RedisCounterService를 통해 한 번의 호출로 원자적으로 처리
      */
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCounterService redisCounterService;
 
     private static final String LIKE_KEY=":likes:";
 
     //Like
-    public void addLike(String entityType, String entityId) {
-        String redisKey = makeRedisKey(entityType, entityId);
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey)))
-            redisTemplate.opsForValue().increment(redisKey);
-        else {
-            redisTemplate.opsForValue().set(redisKey, String.valueOf(1));
-        }
-        redisTemplate.expire(redisKey, 1, TimeUnit.DAYS);
+    /**
+     * 좋아요 추가/삭제 DB 저장 후 호출, 다음 조회 시 DB 기준으로 다시 초기화
+     */
+    public void invalidateLike(String entityType, String entityId) {
+        redisCounterService.invalidate(makeRedisKey(entityType, entityId));
+    }
+
+    /**
+     * 여러 entity의 좋아요 수를 한 번의 호출로 무효화
+     */
+    public void invalidateLikes(String entityType, Collection<String> entityIds) {
+        redisCounterService.invalidateAll(entityIds.stream()
+                .map(entityId -> makeRedisKey(entityType, entityId))
+                .toList());
     }
 
-    public void removeLike(String entityType, String entityId) {
-        String redisKey = makeRedisKey(entityType, entityId);
-        redisTemplate.opsForValue().decrement(redisKey, 1);
+    public Long getLikeCount(String entityType, String entityId) {
+        return redisCounterService.get(makeRedisKey(entityType, entityId));
     }
 
-    public Object getLikeCount(String entityType, String entityId) {
-        String redisKey = makeRedisKey(entityType, entityId);
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))){
-            redisTemplate.expire(redisKey, 1, TimeUnit.DAYS);
-            return redisTemplate.opsForValue().get(redisKey);
-        } else return null;
+    /**
+     * Cache miss 시 DB 조회 전에 호출
+     */
+    public CounterVersions getLikeVersion(String entityType, String entityId) {
+        return redisCounterService.getVersions(List.of(makeRedisKey(entityType, entityId)));
+    }
 
+    public void recoveryLike(String entityType, String entityId, int likeCount, CounterVersions versions) {
+        redisCounterService.initialize(makeRedisKey(entityType, entityId), likeCount, versions);
     }
 
-    public void recoveryLike(String entityType, String entityId, int likeCount) {
-        String redisKey = makeRedisKey(entityType, entityId);
-        redisTemplate.expire(redisKey, 1, TimeUnit.DAYS);
-        redisTemplate.opsForValue().set(redisKey, String.valueOf(likeCount));
+    /**
+     * 여러 종류의 entity 좋아요 수를 한 번의 호출로 조회
+     * @param entityIds Key : entityType, Value : entityId 리스트
+     * @return Key : entityType, Value : entityIds 순서와 동일한 좋아요 수 리스트, Cache miss는 null
+     */
+    public Map<String, List<Long>> getLikeCounts(Map<String, List<String>> entityIds) {
+        List<String> redisKeys = new ArrayList<>();
+        entityIds.forEach((entityType, ids) -> ids.forEach(entityId -> redisKeys.add(makeRedisKey(entityType, entityId))));
+        List<Long> values = redisCounterService.getAll(redisKeys);
+
+        Map<String, List<Long>> likeCounts = new HashMap<>();
+        int offset = 0;
+        for (Map.Entry<String, List<String>> entry : entityIds.entrySet()) {
+            int size = entry.getValue().size();
+            likeCounts.put(entry.getKey(), values.subList(offset, offset + size));
+            offset += size;
+        }
+        return likeCounts;
+    }
+
+    /**
+     * Cache miss된 entity의 version을 한 번의 호출로 조회, DB 조회 전에 호출
+     * @param entityIds Key : entityType, Value : entityId 리스트
+     */
+    public CounterVersions getLikeVersions(Map<String, List<String>> entityIds) {
+        List<String> redisKeys = new ArrayList<>();
+        entityIds.forEach((entityType, ids) -> ids.forEach(entityId -> redisKeys.add(makeRedisKey(entityType, entityId))));
+        return redisCounterService.getVersions(redisKeys);
+    }
+
+    /**
+     * Cache miss로 DB에서 조회한 좋아요 수를 한 번의 호출로 복구
+     * @param likeCounts Key : entityType, Value : (Key : entityId, Value : 좋아요 수)
+     * @param versions DB 조회 전에 읽은 version, 그 사이 무효화된 entity는 복구하지 않음
+     */
+    public void recoveryLikes(Map<String, Map<String, Integer>> likeCounts, CounterVersions versions) {
+        Map<String, Long> values = new HashMap<>();
+        likeCounts.forEach((entityType, counts) -> counts.forEach((entityId, likeCount) ->
+                values.put(makeRedisKey(entityType, entityId), likeCount.longValue())));
+        redisCounterService.initializeAll(values, versions);
     }
 
     private static String makeRedisKey(String entityType, String entityId) {
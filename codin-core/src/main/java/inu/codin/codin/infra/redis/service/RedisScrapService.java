@@ -0,0 +1,83 @@
+package inu.codin.codin.infra.redis.service;
+
+import inu.codin.codin.infra.redis.dto.CounterVersions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisScrapService {
+    /**
+     * Redis 기반 Scrap 수 관리 Service, TTL = 1DAYS
+     * 무효화 및 조회는 RedisCounterService를 통해 한 번의 호출로 원자적으로 처리
+     */
+    private final RedisCounterService redisCounterService;
+
+    private static final String SCRAP_KEY = "post:scraps:";
+
+    /**
+     * 스크랩 추가/삭제 DB 저장 후 호출 (post:scraps:{postId} - 스크랩 수)
+     * 다음 조회 시 DB 기준으로 다시 초기화
+     * @param postId 게시글 _id
+     */
+    public void invalidateScrap(ObjectId postId) {
+        redisCounterService.invalidate(makeRedisKey(postId));
+    }
+
+    /**
+     * 여러 게시글의 스크랩 수를 한 번의 호출로 무효화
+     */
+    public void invalidateScraps(Collection<ObjectId> postIds) {
+        redisCounterService.invalidateAll(postIds.stream().map(RedisScrapService::makeRedisKey).toList());
+    }
+
+    /**
+     * @return 게시글 스크랩 수, Cache miss는 null
+     */
+    public Long getScrapCount(ObjectId postId) {
+        return redisCounterService.get(makeRedisKey(postId));
+    }
+
+    /**
+     * Cache miss 시 DB 조회 전에 호출
+     */
+    public CounterVersions getScrapVersions(List<ObjectId> postIds) {
+        return redisCounterService.getVersions(postIds.stream().map(RedisScrapService::makeRedisKey).toList());
+    }
+
+    public void recoveryScrap(ObjectId postId, int scrapCount, CounterVersions versions) {
+        redisCounterService.initialize(makeRedisKey(postId), scrapCount, versions);
+    }
+
+    /**
+     * @return postIds 순서와 동일한 스크랩 수 리스트, Cache miss는 null
+     */
+    public List<Long> getScrapCounts(List<ObjectId> postIds) {
+        List<String> redisKeys = postIds.stream()
+                .map(RedisScrapService::makeRedisKey)
+                .toList();
+        return redisCounterService.getAll(redisKeys);
+    }
+
+    /**
+     * @param scrapCounts Key : 게시글 _id, Value : 스크랩 수
+     * @param versions DB 조회 전에 읽은 version, 그 사이 무효화된 게시글은 복구하지 않음
+     */
+    public void recoveryScraps(Map<ObjectId, Integer> scrapCounts, CounterVersions versions) {
+        Map<String, Long> values = new HashMap<>();
+        scrapCounts.forEach((postId, count) -> values.put(makeRedisKey(postId), count.longValue()));
+        redisCounterService.initializeAll(values, versions);
+    }
+
+    private static String makeRedisKey(ObjectId postId) {
+        return SCRAP_KEY + postId.toString();
+    }
+}
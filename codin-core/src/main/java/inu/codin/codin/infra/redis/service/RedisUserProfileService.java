@@ -0,0 +1,154 @@
+package inu.codin.codin.infra.redis.service;
+
+import inu.codin.codin.domain.user.dto.UserProfile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisUserProfileService {
+    /**
+     * Redis 기반 작성자 프로필 Cache
+     * user:profile:{userId} (Hash) : nickname, imageUrl, deleted(1/0)
+     * null 값은 빈 문자열로 저장하며, deleted 필드가 없으면 Cache miss로 취급
+     * 프로필 변경/탈퇴 시 Cache 삭제와 함께 version(user:profile:{userId}:version)을 올리고,
+     * DB 조회 전에 읽은 version이 바뀐 유저는 저장하지 않음 (삭제 이전에 DB를 읽은 요청이 오래된 프로필을 저장하는 것을 방지)
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String PROFILE_KEY = "user:profile:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private static final RedisScript<List> GET_SCRIPT = RedisScript.of("""
+            local result = {}
+            for i = 1, #KEYS do
+                result[i] = redis.call('HMGET', KEYS[i], 'nickname', 'imageUrl', 'deleted')
+            end
+            return result
+            """, List.class);
+
+    /*
+        KEYS : (프로필 Key, version Key) 쌍
+        ARGV[1] : TTL(초), ARGV[2..] : (DB 조회 전 version, nickname, imageUrl, deleted) 묶음
+        DB 조회 이후 version이 바뀌지 않은 유저만 저장
+     */
+    private static final RedisScript<Long> CACHE_SCRIPT = RedisScript.of("""
+            local cached = 0
+            for i = 1, #KEYS, 2 do
+                local offset = (i - 1) * 2 + 1
+                local version = redis.call('GET', KEYS[i + 1]) or '0'
+                if version == ARGV[offset + 1] then
+                    redis.call('HSET', KEYS[i], 'nickname', ARGV[offset + 2], 'imageUrl', ARGV[offset + 3], 'deleted', ARGV[offset + 4])
+                    redis.call('EXPIRE', KEYS[i], ARGV[1])
+                    cached = cached + 1
+                end
+            end
+            return cached
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 여러 유저의 프로필을 한 번의 호출로 조회
+     * @param userIds 유저 _id
+     * @return Key : 유저 _id, Value : 프로필 (Cache miss인 유저는 포함하지 않음)
+     */
+    public Map<ObjectId, UserProfile> getProfiles(Collection<ObjectId> userIds) {
+        Map<ObjectId, UserProfile> profiles = new HashMap<>();
+        if (userIds.isEmpty()) return profiles;
+
+        List<ObjectId> ids = List.copyOf(userIds);
+        List<?> result = redisTemplate.execute(GET_SCRIPT, ids.stream().map(RedisUserProfileService::makeRedisKey).toList());
+        if (result == null) return profiles;
+
+        for (int i = 0; i < ids.size() && i < result.size(); i++) {
+            if (!(result.get(i) instanceof List<?> fields) || fields.size() < 3 || fields.get(2) == null) continue;
+            ObjectId userId = ids.get(i);
+            profiles.put(userId, new UserProfile(
+                    userId, emptyToNull(fields.get(0)), emptyToNull(fields.get(1)), "1".equals(fields.get(2))));
+        }
+        return profiles;
+    }
+
+    /**
+     * Cache miss된 유저의 프로필 version 조회, DB 조회 전에 호출
+     * @return Key : 유저 _id, Value : version (삭제된 적 없으면 0)
+     */
+    public Map<ObjectId, Long> getVersions(Collection<ObjectId> userIds) {
+        Map<ObjectId, Long> versions = new HashMap<>();
+        if (userIds.isEmpty()) return versions;
+
+        List<ObjectId> ids = List.copyOf(userIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(RedisUserProfileService::makeVersionKey).toList());
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            versions.put(ids.get(i), value == null ? 0L : Long.parseLong(value));
+        }
+        return versions;
+    }
+
+    /**
+     * DB에서 조회한 프로필을 한 번의 호출로 Cache에 저장
+     * DB 조회 이후 프로필 변경/탈퇴로 Cache가 삭제된 유저는 (version 변경) 저장하지 않음
+     * @param versions DB 조회 전에 getVersions로 읽은 version
+     * @return 저장된 프로필 수
+     */
+    public long cacheProfiles(Collection<UserProfile> profiles, Map<ObjectId, Long> versions) {
+        if (profiles.isEmpty()) return 0;
+        List<String> keys = new ArrayList<>(profiles.size() * 2);
+        List<String> args = new ArrayList<>(profiles.size() * 4 + 1);
+        args.add(String.valueOf(TTL.toSeconds()));
+        for (UserProfile profile : profiles) {
+            keys.add(makeRedisKey(profile.userId()));
+            keys.add(makeVersionKey(profile.userId()));
+            args.add(String.valueOf(versions.getOrDefault(profile.userId(), 0L)));
+            args.add(nullToEmpty(profile.nickname()));
+            args.add(nullToEmpty(profile.profileImageUrl()));
+            args.add(profile.deleted() ? "1" : "0");
+        }
+        Long cached = redisTemplate.execute(CACHE_SCRIPT, keys, args.toArray());
+        return cached == null ? 0 : cached;
+    }
+
+    /**
+     * 프로필 변경/탈퇴의 DB 저장 후 Cache 삭제 및 version 증가
+     */
+    public void evict(ObjectId userId) {
+        redisTemplate.execute(EVICT_SCRIPT, List.of(makeRedisKey(userId), makeVersionKey(userId)),
+                String.valueOf(TTL.toSeconds()));
+    }
+
+    private static String emptyToNull(Object value) {
+        return (value == null || value.toString().isEmpty()) ? null : value.toString();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String makeRedisKey(ObjectId userId) {
+        return PROFILE_KEY + userId.toString();
+    }
+
+    private static String makeVersionKey(ObjectId userId) {
+        return makeRedisKey(userId) + VERSION_SUFFIX;
+    }
+}
@@ -0,0 +1,266 @@
+package inu.codin.codin.common.stomp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inu.codin.codin.common.stomp.relay.RedisStompRelayPublisher;
+import inu.codin.codin.common.stomp.relay.RedisStompRelaySubscriber;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.DefaultSimpUserRegistry;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Redis pub/sub STOMP 중계 멀티 인스턴스 테스트
+ * 서버 두 대(각자의 SimpleBroker)를 하나의 Redis에 연결하고,
+ * 한 서버에서 보낸 채팅방 메시지가 다른 서버의 구독자에게 정확히 한 번 전달되는지,
+ * /user 메시지가 유저가 연결된 다른 서버의 session에 전달되는지와 초당 전달 메시지 수를 검증
+ */
+@Testcontainers
+class RedisStompRelayTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisStompRelayTest.class);
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static final int MESSAGE_COUNT = 5_000;
+    private static final String ROOM_DESTINATION = "/queue/chatroom-relay-test";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node(true);
+        nodeB = new Node(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    void convertAndSend_다른서버구독자에게전달() throws Exception {
+        // Given
+        nodeA.subscribe("session-a", "/topic/notice");
+        nodeB.subscribe("session-b", "/topic/notice");
+
+        // When
+        nodeA.template.convertAndSend("/topic/notice", "안녕하세요");
+
+        // Then
+        Message<?> received = nodeB.delivered.poll(5, TimeUnit.SECONDS);
+        assertThat(received).isNotNull();
+        assertThat(new String((byte[]) received.getPayload(), StandardCharsets.UTF_8)).isEqualTo("안녕하세요");
+        assertThat(SimpMessageHeaderAccessor.getSessionId(received.getHeaders())).isEqualTo("session-b");
+
+        //보낸 서버의 구독자는 SimpleBroker에서 한 번만 받고, 중계된 메시지가 되돌아오지 않음
+        assertThat(nodeA.delivered.poll(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(nodeA.delivered.poll(500, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(nodeB.delivered.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void convertAndSendToUser_다른서버에연결된유저session에전달() throws Exception {
+        // Given : 유저는 B 서버에만 연결되어 /user/queue/chatroom/unread 구독
+        String email = "receiver@inu.ac.kr";
+        nodeB.connect("session-b", email);
+        nodeB.subscribe("session-b", "/user/queue/chatroom/unread", email);
+
+        // When : A 서버에서 읽지 않은 메시지 수 전송 (ChattingEventListener)
+        nodeA.template.convertAndSendToUser(email, "/queue/chatroom/unread", "3");
+
+        // Then
+        Message<?> received = nodeB.delivered.poll(5, TimeUnit.SECONDS);
+        assertThat(received).isNotNull();
+        assertThat(new String((byte[]) received.getPayload(), StandardCharsets.UTF_8)).isEqualTo("3");
+        assertThat(SimpMessageHeaderAccessor.getSessionId(received.getHeaders())).isEqualTo("session-b");
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(received);
+        assertThat(accessor.getDestination()).isEqualTo("/queue/chatroom/unread-usersession-b");
+        assertThat(accessor.getFirstNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION))
+                .isEqualTo("/user/queue/chatroom/unread");
+
+        //유저가 연결되지 않은 A 서버에는 전달되지 않고, B 서버의 해석 결과 메시지는 다시 중계되지 않음
+        assertThat(nodeA.delivered.poll(500, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(nodeB.delivered.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void convertAndSend_user해석결과메시지는중계하지않음() throws Exception {
+        // Given
+        nodeB.subscribe("session-b", "/queue/chatroom/unread-usersession-b");
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/queue/chatroom/unread-usersession-b");
+        accessor.setNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, "/user/queue/chatroom/unread");
+
+        // When
+        nodeA.brokerChannel.send(MessageBuilder.createMessage("unread".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+
+        // Then
+        assertThat(nodeB.delivered.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void convertAndSend_채팅방브로드캐스트_초당전달메시지수() throws Exception {
+        // Given : 중계 없는 단일 서버와 중계되는 두 서버
+        Node single = new Node(false);
+        single.subscribe("session-single", ROOM_DESTINATION);
+        nodeB.subscribe("session-b", ROOM_DESTINATION);
+        for (int i = 0; i < 100; i++) { //warm up
+            single.template.convertAndSend(ROOM_DESTINATION, "warm up");
+            nodeA.template.convertAndSend(ROOM_DESTINATION, "warm up");
+        }
+        awaitDelivered(single, 100);
+        awaitDelivered(nodeB, 100);
+
+        // When
+        long localStart = System.nanoTime();
+        for (int i = 0; i < MESSAGE_COUNT; i++) single.template.convertAndSend(ROOM_DESTINATION, "메시지" + i);
+        int localDelivered = awaitDelivered(single, MESSAGE_COUNT);
+        double localPerSecond = MESSAGE_COUNT / ((System.nanoTime() - localStart) / 1_000_000_000.0);
+
+        long relayStart = System.nanoTime();
+        for (int i = 0; i < MESSAGE_COUNT; i++) nodeA.template.convertAndSend(ROOM_DESTINATION, "메시지" + i);
+        int relayDelivered = awaitDelivered(nodeB, MESSAGE_COUNT);
+        double relayPerSecond = MESSAGE_COUNT / ((System.nanoTime() - relayStart) / 1_000_000_000.0);
+        single.stop();
+
+        // Then
+        log.info("[RedisStompRelay] messages={}, single-node={} msg/s, cross-node={} msg/s",
+                MESSAGE_COUNT, Math.round(localPerSecond), Math.round(relayPerSecond));
+        assertThat(localDelivered).isEqualTo(MESSAGE_COUNT);
+        assertThat(relayDelivered).isEqualTo(MESSAGE_COUNT);
+    }
+
+    private static int awaitDelivered(Node node, int expected) throws InterruptedException {
+        int delivered = 0;
+        while (delivered < expected && node.delivered.poll(10, TimeUnit.SECONDS) != null) delivered++;
+        return delivered;
+    }
+
+    /**
+     * 서버 한 대의 브로커 구성 (WebSocketConfig의 SimpleBroker, /user destination 해석과 brokerChannel 중계)
+     */
+    private static class Node {
+        final ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+        final ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        final BlockingQueue<Message<?>> delivered = new LinkedBlockingQueue<>();
+        final DefaultSimpUserRegistry userRegistry = new DefaultSimpUserRegistry();
+        final SimpleBrokerMessageHandler broker;
+        final UserDestinationMessageHandler userDestinationHandler;
+        final SimpMessagingTemplate template;
+        RedisMessageListenerContainer listenerContainer;
+
+        Node(boolean relay) {
+            clientOutboundChannel.subscribe(delivered::add);
+            broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel,
+                    List.of("/topic", "/queue"));
+            broker.start();
+            userDestinationHandler = new UserDestinationMessageHandler(clientInboundChannel, brokerChannel,
+                    new DefaultUserDestinationResolver(userRegistry));
+            userDestinationHandler.start();
+            template = new SimpMessagingTemplate(brokerChannel);
+            if (relay) startRelay();
+        }
+
+        private void startRelay() {
+            ObjectMapper objectMapper = new ObjectMapper();
+            RedisHealthChecker redisHealthChecker = mock(RedisHealthChecker.class);
+            given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+            RedisStompRelayPublisher publisher = new RedisStompRelayPublisher(redisTemplate, redisHealthChecker, objectMapper);
+            brokerChannel.addInterceptor(publisher);
+
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            listenerContainer.addMessageListener(new RedisStompRelaySubscriber(brokerChannel, publisher.getNodeId(), objectMapper),
+                    new ChannelTopic(RedisStompRelayPublisher.CHANNEL));
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        }
+
+        /**
+         * STOMP CONNECT 완료 시 user registry에 유저 session 등록
+         */
+        void connect(String sessionId, String email) {
+            Principal user = () -> email;
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT_ACK);
+            accessor.setSessionId(sessionId);
+            accessor.setUser(user);
+            userRegistry.onApplicationEvent(new SessionConnectedEvent(this,
+                    MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), user));
+        }
+
+        void subscribe(String sessionId, String destination) {
+            subscribe(sessionId, destination, null);
+        }
+
+        void subscribe(String sessionId, String destination, String email) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId("sub-" + sessionId);
+            accessor.setDestination(destination);
+            if (email != null) accessor.setUser(() -> email);
+            clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        void stop() throws Exception {
+            broker.stop();
+            userDestinationHandler.stop();
+            if (listenerContainer != null) listenerContainer.destroy();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package inu.codin.codin.common.stomp;
+
+import inu.codin.common.exception.NotFoundException;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
+import inu.codin.codin.domain.chat.chatroom.entity.Participants;
+import inu.codin.codin.domain.chat.chatroom.repository.ChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
+import inu.codin.codin.domain.chat.chatroom.service.ChatUnreadCountService;
+import inu.codin.codin.domain.chat.chatting.dto.event.UpdateUnreadCountEvent;
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.chat.chatting.repository.CustomChattingRepository;
+import inu.codin.codin.domain.user.entity.UserEntity;
+import inu.codin.codin.domain.user.repository.UserRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompMessageServiceTest {
+
+    @InjectMocks
+    private StompMessageService stompMessageService;
+
+    @Mock private ChatRoomRepository chatRoomRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private CustomChatRoomRepository customChatRoomRepository;
+    @Mock private CustomChattingRepository customChattingRepository;
+    @Mock private ChatUnreadCountService chatUnreadCountService;
+    @Mock private ChatPresenceService chatPresenceService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectId userId = new ObjectId();
+    private final ObjectId chatRoomId = new ObjectId();
+
+    @Test
+    void enterToChatRoom_presence등록전_읽지않은메시지조회() {
+        // Given
+        LocalDateTime lastReadAt = LocalDateTime.now().minusMinutes(5);
+        ChatRoom chatRoom = chatRoom(lastReadAt);
+        List<Chatting> chattings = List.of(Chatting.builder().senderId(new ObjectId()).chatRoomId(chatRoomId).content("안녕").build());
+        givenResult(chatRoom);
+        given(chatUnreadCountService.getUnreadCount(chatRoom, userId)).willReturn(1);
+        given(customChattingRepository.findUnreadChattings(chatRoomId, userId, lastReadAt, 1)).willReturn(chattings);
+
+        // When
+        stompMessageService.enterToChatRoom(subscribe());
+
+        // Then : 입장 등록 후에 조회하면 Cache miss 복구 시 입장 중으로 판단되어 0개로 계산됨
+        InOrder inOrder = inOrder(chatUnreadCountService, customChattingRepository, chatPresenceService, customChatRoomRepository);
+        inOrder.verify(chatUnreadCountService).getUnreadCount(chatRoom, userId);
+        inOrder.verify(customChattingRepository).findUnreadChattings(chatRoomId, userId, lastReadAt, 1);
+        inOrder.verify(chatPresenceService).enter("session-1", userId, chatRoomId);
+        inOrder.verify(customChatRoomRepository).updateReadState(eq(chatRoomId), eq(userId), eq(true), any());
+        verify(eventPublisher).publishEvent(any(UpdateUnreadCountEvent.class));
+    }
+
+    @Test
+    void enterToChatRoom_참여자아님_presence등록하지않음() {
+        // Given
+        ChatRoom chatRoom = chatRoom(LocalDateTime.now());
+        chatRoom.getParticipants().getInfo().clear();
+        givenResult(chatRoom);
+
+        // When & Then
+        assertThatThrownBy(() -> stompMessageService.enterToChatRoom(subscribe()))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(chatPresenceService, chatUnreadCountService, customChatRoomRepository, eventPublisher);
+    }
+
+    private void givenResult(ChatRoom chatRoom) {
+        UserEntity user = UserEntity.builder().email("user@inu.ac.kr").nickname("유저").build();
+        ReflectionTestUtils.setField(user, "_id", userId);
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(userRepository.findByEmailAndStatusAll("user@inu.ac.kr")).willReturn(Optional.of(user));
+    }
+
+    private StompHeaderAccessor subscribe() {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        headerAccessor.setSessionId("session-1");
+        headerAccessor.setUser(() -> "user@inu.ac.kr");
+        headerAccessor.setNativeHeader("chatRoomId", chatRoomId.toString());
+        return headerAccessor;
+    }
+
+    private ChatRoom chatRoom(LocalDateTime lastReadAt) {
+        Participants participants = new Participants();
+        participants.getInfo().put(userId, ParticipantInfo.builder().userId(userId).lastReadAt(lastReadAt).build());
+        ChatRoom chatRoom = ChatRoom.builder()
+                .roomName("채팅방")
+                .referenceId(new ObjectId())
+                .participants(participants)
+                .build();
+        ReflectionTestUtils.setField(chatRoom, "_id", chatRoomId);
+        return chatRoom;
+    }
+}
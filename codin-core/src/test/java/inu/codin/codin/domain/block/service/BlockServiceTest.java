@@ -7,6 +7,8 @@ import inu.codin.codin.domain.block.exception.BlockErrorCode;
 import inu.codin.codin.domain.block.exception.BlockException;
 import inu.codin.codin.domain.block.repository.BlockRepository;
 import inu.codin.codin.domain.user.service.UserValidator;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisBlockService;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +24,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +37,10 @@ class BlockServiceTest {
     BlockRepository blockRepository;
     @Mock
     UserValidator userValidator;
+    @Mock
+    RedisBlockService redisBlockService;
+    @Mock
+    RedisHealthChecker redisHealthChecker;
 
     private final ObjectId testUserId = ObjectIdUtil.toObjectId("686373fdaa87fd9618a63b49");
     private final ObjectId blockedUserId = ObjectIdUtil.toObjectId("6863740ceeb4a94ee959f592");
@@ -43,7 +50,7 @@ class BlockServiceTest {
     void blockUser_성공() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)){
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
 
             BlockEntity existingBlock = BlockEntity.ofNew(testUserId);
             when(blockRepository.findByUserId(testUserId)).thenReturn(Optional.of(existingBlock));
@@ -64,7 +71,7 @@ class BlockServiceTest {
     void blockUser_성공_새로운BlockEntity생성() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
 
             when(blockRepository.findByUserId(testUserId)).thenReturn(Optional.empty());
             when(blockRepository.save(any(BlockEntity.class))).thenReturn(BlockEntity.ofNew(testUserId));
@@ -82,7 +89,7 @@ class BlockServiceTest {
     void blockUser_실패_자기자신차단() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
 
             //when & then
             assertThatThrownBy(() -> blockService.blockUser(testUserId.toString()))
@@ -97,7 +104,7 @@ class BlockServiceTest {
     void blockUser_실패_차단유저X() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
 
             doNothing().when(userValidator).validateUserExists(eq(testUserId), any());
             doThrow(new BlockException(BlockErrorCode.BLOCKED_USER_NOT_FOUND))
@@ -116,7 +123,7 @@ class BlockServiceTest {
     void blockUser_실패_차단실행유저X() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
 
             doThrow(new BlockException(BlockErrorCode.BLOCKING_USER_NOT_FOUND))
                     .when(userValidator).validateUserExists(eq(testUserId), any());
@@ -134,7 +141,7 @@ class BlockServiceTest {
     void unblockUser_성공() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
 
             BlockEntity existingBlock = BlockEntity.ofNew(testUserId);
             existingBlock.addBlockedUser(blockedUserId);
@@ -156,7 +163,7 @@ class BlockServiceTest {
     void unblockUser_실패_자기자신차단해제() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
 
             //when & then
             assertThatThrownBy(() -> blockService.unblockUser(testUserId.toString()))
@@ -171,7 +178,7 @@ class BlockServiceTest {
     void unblockUser_실패_차단정보없음() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
 
             when(blockRepository.findByUserId(testUserId)).thenReturn(Optional.empty());
 
@@ -188,7 +195,7 @@ class BlockServiceTest {
     void blockUser_실패_이미차단된사용자() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
 
             BlockEntity existingBlock = BlockEntity.ofNew(testUserId);
             existingBlock.addBlockedUser(blockedUserId); // 이미 차단된 상태
@@ -213,7 +220,7 @@ class BlockServiceTest {
     void unblockUser_실패_차단되지않은사용자() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
 
             // 다른 사용자는 차단되어 있지만, 요청한 사용자는 차단되지 않은 상태
             ObjectId otherBlockedUserId = ObjectIdUtil.toObjectId("507f1f77bcf86cd799439011");
@@ -240,7 +247,7 @@ class BlockServiceTest {
     void getBlockedUsers_성공() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserIdOrNull).thenReturn(testUserId.toString());
 
             BlockEntity blockEntity = spy(BlockEntity.ofNew(testUserId));
             when(blockEntity.getBlockedUsers()).thenReturn(List.of(blockedUserId));
@@ -263,7 +270,7 @@ class BlockServiceTest {
     void getBlockedUsers_차단정보없음() {
         try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
             //given
-            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId);
+            mSecurityUtils.when(SecurityUtil::getCurrentUserIdOrNull).thenReturn(testUserId.toString());
 
             when(blockRepository.findByUserId(testUserId)).thenReturn(Optional.empty());
 
@@ -275,4 +282,128 @@ class BlockServiceTest {
             verify(blockRepository).findByUserId(testUserId);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("차단된 유저 목록 조회 - Redis Cache hit 시 DB 조회 생략")
+    void getBlockedUsers_Redis캐시히트() {
+        try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
+            //given
+            mSecurityUtils.when(SecurityUtil::getCurrentUserIdOrNull).thenReturn(testUserId.toString());
+            when(redisHealthChecker.isRedisAvailable()).thenReturn(true);
+            when(redisBlockService.getBlockedUsers(testUserId)).thenReturn(List.of(blockedUserId));
+
+            //when
+            List<ObjectId> result = blockService.getBlockedUsers();
+
+            //then
+            assertThat(result).containsExactly(blockedUserId);
+            verify(blockRepository, never()).findByUserId(any());
+        }
+    }
+
+    @Test
+    @DisplayName("차단된 유저 목록 조회 - Cache miss 시 DB 조회 전 version을 읽고 DB 조회 후 Redis 저장, 이후 요청은 Local Cache 사용")
+    void getBlockedUsers_캐시미스_DB조회후캐시저장() {
+        try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
+            //given
+            mSecurityUtils.when(SecurityUtil::getCurrentUserIdOrNull).thenReturn(testUserId.toString());
+            when(redisHealthChecker.isRedisAvailable()).thenReturn(true);
+            when(redisBlockService.getBlockedUsers(testUserId)).thenReturn(null);
+            when(redisBlockService.getVersion(testUserId)).thenReturn(3L);
+            BlockEntity blockEntity = BlockEntity.ofNew(testUserId).addBlockedUser(blockedUserId);
+            when(blockRepository.findByUserId(testUserId)).thenReturn(Optional.of(blockEntity));
+
+            //when
+            List<ObjectId> first = blockService.getBlockedUsers();
+            List<ObjectId> second = blockService.getBlockedUsers();
+
+            //then
+            assertThat(first).containsExactly(blockedUserId);
+            assertThat(second).containsExactly(blockedUserId);
+            verify(blockRepository, times(1)).findByUserId(testUserId);
+            verify(redisBlockService, times(1)).getBlockedUsers(testUserId);
+            verify(redisBlockService).cacheBlockedUsers(testUserId, List.of(blockedUserId), 3L);
+        }
+    }
+
+    @Test
+    @DisplayName("차단된 유저 목록 조회 - Redis 조회 실패 시 DB 조회 결과 반환, Redis에 저장하지 않음")
+    void getBlockedUsers_Redis조회실패_DB조회() {
+        try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
+            //given
+            mSecurityUtils.when(SecurityUtil::getCurrentUserIdOrNull).thenReturn(testUserId.toString());
+            when(redisHealthChecker.isRedisAvailable()).thenReturn(true);
+            when(redisBlockService.getBlockedUsers(testUserId)).thenThrow(new RuntimeException("connection refused"));
+            BlockEntity blockEntity = BlockEntity.ofNew(testUserId).addBlockedUser(blockedUserId);
+            when(blockRepository.findByUserId(testUserId)).thenReturn(Optional.of(blockEntity));
+
+            //when
+            List<ObjectId> result = blockService.getBlockedUsers();
+
+            //then
+            assertThat(result).containsExactly(blockedUserId);
+            verify(redisBlockService, never()).cacheBlockedUsers(any(), any(), anyLong());
+        }
+    }
+
+    @Test
+    @DisplayName("차단된 유저 목록 조회 - Redis 저장 실패 시에도 DB 조회 결과 반환")
+    void getBlockedUsers_Redis저장실패_DB조회결과반환() {
+        try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
+            //given
+            mSecurityUtils.when(SecurityUtil::getCurrentUserIdOrNull).thenReturn(testUserId.toString());
+            when(redisHealthChecker.isRedisAvailable()).thenReturn(true);
+            when(redisBlockService.getBlockedUsers(testUserId)).thenReturn(null);
+            when(redisBlockService.getVersion(testUserId)).thenReturn(3L);
+            BlockEntity blockEntity = BlockEntity.ofNew(testUserId).addBlockedUser(blockedUserId);
+            when(blockRepository.findByUserId(testUserId)).thenReturn(Optional.of(blockEntity));
+            doThrow(new RuntimeException("connection refused"))
+                    .when(redisBlockService).cacheBlockedUsers(testUserId, List.of(blockedUserId), 3L);
+
+            //when
+            List<ObjectId> result = blockService.getBlockedUsers();
+
+            //then
+            assertThat(result).containsExactly(blockedUserId);
+        }
+    }
+
+    @Test
+    @DisplayName("유저 차단 시 차단 유저 목록 Cache 삭제")
+    void blockUser_캐시삭제() {
+        try (MockedStatic<SecurityUtil> mSecurityUtils = mockStatic(SecurityUtil.class)) {
+            //given
+            mSecurityUtils.when(SecurityUtil::getCurrentUserId).thenReturn(testUserId.toString());
+            mSecurityUtils.when(SecurityUtil::getCurrentUserIdOrNull).thenReturn(testUserId.toString());
+            BlockEntity blockEntity = BlockEntity.ofNew(testUserId);
+            when(blockRepository.findByUserId(testUserId)).thenReturn(Optional.of(blockEntity));
+            when(redisHealthChecker.isRedisAvailable()).thenReturn(true);
+            when(redisBlockService.getBlockedUsers(testUserId)).thenReturn(List.of());
+            blockService.getBlockedUsers(); // Local Cache 적재
+
+            //when
+            blockService.blockUser(blockedUserId.toString());
+            when(redisBlockService.getBlockedUsers(testUserId)).thenReturn(List.of(blockedUserId));
+            List<ObjectId> result = blockService.getBlockedUsers();
+
+            //then
+            verify(redisBlockService).evict(testUserId);
+            assertThat(result).containsExactly(blockedUserId);
+        }
+    }
+
+    @Test
+    @DisplayName("로그인 시 차단 유저 목록 Redis 저장")
+    void preloadBlockedUsers_성공() {
+        //given
+        when(redisHealthChecker.isRedisAvailable()).thenReturn(true);
+        BlockEntity blockEntity = BlockEntity.ofNew(testUserId).addBlockedUser(blockedUserId);
+        when(blockRepository.findByUserId(testUserId)).thenReturn(Optional.of(blockEntity));
+
+        //when
+        blockService.preloadBlockedUsers(testUserId);
+
+        //then
+        verify(redisBlockService).cacheBlockedUsers(testUserId, List.of(blockedUserId), 0L);
+    }
+}
@@ -0,0 +1,194 @@
+package inu.codin.codin.domain.chat;
+
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
+import inu.codin.codin.domain.chat.chatroom.entity.Participants;
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.dto.ChatPresenceSession;
+import inu.codin.codin.infra.redis.service.RedisChatPresenceService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceServiceTest {
+
+    @InjectMocks
+    private ChatPresenceService chatPresenceService;
+
+    @Mock private RedisChatPresenceService redisChatPresenceService;
+    @Mock private RedisHealthChecker redisHealthChecker;
+
+    private final ObjectId userId = new ObjectId();
+    private final ObjectId chatRoomId = new ObjectId();
+
+    @Test
+    void enter_disconnect_입장한채팅방정보반환() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        chatPresenceService.connect("session-1", userId);
+        chatPresenceService.enter("session-1", userId, chatRoomId);
+
+        // When
+        ChatPresenceSession session = chatPresenceService.disconnect("session-1");
+
+        // Then
+        ChatPresenceSession expected = new ChatPresenceSession("session-1", userId, chatRoomId);
+        assertThat(session).isEqualTo(expected);
+        verify(redisChatPresenceService).register(expected);
+        verify(redisChatPresenceService).remove(expected);
+        verify(redisChatPresenceService, never()).getSession(any());
+    }
+
+    @Test
+    void enter_UNSUBSCRIBE없이다른채팅방입장_이전채팅방퇴장() {
+        // Given
+        ObjectId nextChatRoomId = new ObjectId();
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        chatPresenceService.enter("session-1", userId, chatRoomId);
+
+        // When
+        ObjectId previous = chatPresenceService.enter("session-1", userId, nextChatRoomId);
+        ObjectId same = chatPresenceService.enter("session-1", userId, nextChatRoomId);
+
+        // Then
+        assertThat(previous).isEqualTo(chatRoomId);
+        assertThat(same).isNull();
+        verify(redisChatPresenceService).exit("session-1", userId, chatRoomId);
+        verify(redisChatPresenceService, times(2)).register(new ChatPresenceSession("session-1", userId, nextChatRoomId));
+    }
+
+    @Test
+    void disconnect_다른서버session_Redis에서조회() {
+        // Given
+        ChatPresenceSession stored = new ChatPresenceSession("session-2", userId, chatRoomId);
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisChatPresenceService.getSession("session-2")).willReturn(stored);
+
+        // When
+        ChatPresenceSession session = chatPresenceService.disconnect("session-2");
+
+        // Then
+        assertThat(session).isEqualTo(stored);
+        verify(redisChatPresenceService).remove(stored);
+    }
+
+    @Test
+    void refreshLocalSessions_퇴장후session갱신() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        chatPresenceService.enter("session-1", userId, chatRoomId);
+        chatPresenceService.exit("session-1", userId, chatRoomId);
+        clearInvocations(redisChatPresenceService);
+
+        // When
+        int refreshed = chatPresenceService.refreshLocalSessions();
+
+        // Then
+        assertThat(refreshed).isEqualTo(1);
+        verify(redisChatPresenceService).register(new ChatPresenceSession("session-1", userId, null));
+    }
+
+    @Test
+    void refreshLocalSessions_재등록중퇴장_퇴장상태로되돌림() {
+        // Given : heartbeat 재등록과 채팅방 퇴장이 동시에 처리됨
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        chatPresenceService.enter("session-1", userId, chatRoomId);
+        ChatPresenceSession entered = new ChatPresenceSession("session-1", userId, chatRoomId);
+        clearInvocations(redisChatPresenceService);
+        doAnswer(invocation -> {
+            chatPresenceService.exit("session-1", userId, chatRoomId);
+            return null;
+        }).when(redisChatPresenceService).register(entered);
+
+        // When
+        chatPresenceService.refreshLocalSessions();
+
+        // Then : 퇴장 이후 덮어쓴 채팅방 입장 정보를 다시 제거
+        InOrder inOrder = inOrder(redisChatPresenceService);
+        inOrder.verify(redisChatPresenceService).register(entered);
+        inOrder.verify(redisChatPresenceService, times(2)).exit("session-1", userId, chatRoomId);
+        inOrder.verify(redisChatPresenceService).register(new ChatPresenceSession("session-1", userId, null));
+    }
+
+    @Test
+    void refreshLocalSessions_재등록중접속종료_session삭제() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        chatPresenceService.connect("session-1", userId);
+        ChatPresenceSession connected = new ChatPresenceSession("session-1", userId, null);
+        clearInvocations(redisChatPresenceService);
+        doAnswer(invocation -> chatPresenceService.disconnect("session-1")).when(redisChatPresenceService).register(connected);
+
+        // When
+        chatPresenceService.refreshLocalSessions();
+
+        // Then
+        verify(redisChatPresenceService, times(2)).remove(connected);
+    }
+
+    @Test
+    void isInRoom_Redis기준() {
+        // Given
+        ChatRoom chatRoom = chatRoom(true);
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisChatPresenceService.isInRoom(chatRoomId, userId)).willReturn(false);
+
+        // When
+        boolean result = chatPresenceService.isInRoom(chatRoom, userId);
+
+        // Then : 채팅방에 접속 중으로 남아 있어도 Redis에 살아있는 session이 없으면 입장하지 않은 상태
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void isInRoom_Redis사용불가_채팅방접속상태사용() {
+        // Given
+        ChatRoom chatRoom = chatRoom(true);
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+
+        // When
+        boolean result = chatPresenceService.isInRoom(chatRoom, userId);
+
+        // Then
+        assertThat(result).isTrue();
+        verifyNoInteractions(redisChatPresenceService);
+    }
+
+    @Test
+    void isInRoom_Redis조회실패_채팅방접속상태사용() {
+        // Given
+        ChatRoom chatRoom = chatRoom(false);
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisChatPresenceService.isInRoom(chatRoomId, userId)).willThrow(new RuntimeException("connection refused"));
+
+        // When
+        boolean result = chatPresenceService.isInRoom(chatRoom, userId);
+
+        // Then
+        assertThat(result).isFalse();
+    }
+
+    private ChatRoom chatRoom(boolean connected) {
+        Participants participants = new Participants();
+        participants.getInfo().put(userId, ParticipantInfo.builder().userId(userId).isConnected(connected).build());
+        ChatRoom chatRoom = ChatRoom.builder()
+                .roomName("채팅방")
+                .referenceId(new ObjectId())
+                .participants(participants)
+                .build();
+        ReflectionTestUtils.setField(chatRoom, "_id", chatRoomId);
+        return chatRoom;
+    }
+}
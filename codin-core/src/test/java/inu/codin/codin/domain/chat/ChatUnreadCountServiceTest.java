@@ -0,0 +1,167 @@
+package inu.codin.codin.domain.chat;
+
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
+import inu.codin.codin.domain.chat.chatroom.entity.Participants;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
+import inu.codin.codin.domain.chat.chatroom.service.ChatUnreadCountService;
+import inu.codin.codin.domain.chat.chatting.repository.CustomChattingRepository;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.dto.CounterVersions;
+import inu.codin.codin.infra.redis.service.RedisChatUnreadService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadCountServiceTest {
+
+    @InjectMocks
+    private ChatUnreadCountService chatUnreadCountService;
+
+    @Mock private CustomChatRoomRepository customChatRoomRepository;
+    @Mock private ChatPresenceService chatPresenceService;
+    @Mock private CustomChattingRepository customChattingRepository;
+    @Mock private RedisChatUnreadService redisChatUnreadService;
+    @Mock private RedisHealthChecker redisHealthChecker;
+
+    private final ObjectId userId = new ObjectId();
+
+    @Test
+    void getUnreadCounts_CacheHit_DB조회없음() {
+        // Given
+        ChatRoom chatRoom = chatRoom(ParticipantInfo.builder().userId(userId).lastReadAt(LocalDateTime.now()).build());
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisChatUnreadService.getUnreadCounts(List.of(chatRoom.get_id()), userId)).willReturn(List.of(4L));
+
+        // When
+        Map<ObjectId, Integer> result = chatUnreadCountService.getUnreadCounts(List.of(chatRoom), userId);
+
+        // Then
+        assertThat(result).containsExactlyEntriesOf(Map.of(chatRoom.get_id(), 4));
+        verify(customChattingRepository, never()).countUnread(any(), any());
+    }
+
+    @Test
+    void getUnreadCounts_CacheMiss_watermark이후메시지수로복구() {
+        // Given
+        LocalDateTime lastReadAt = LocalDateTime.now().minusHours(1);
+        //비정상 종료된 서버에 남은 접속 상태(isConnected)는 무시하고 presence 기준으로 판단
+        ChatRoom watermarked = chatRoom(ParticipantInfo.builder().userId(userId).isConnected(true).lastReadAt(lastReadAt).build());
+        ChatRoom legacy = chatRoom(ParticipantInfo.builder().userId(userId).unreadMessage(7).build());
+        ChatRoom connected = chatRoom(ParticipantInfo.builder().userId(userId).lastReadAt(lastReadAt).build());
+        List<ChatRoom> chatRooms = List.of(watermarked, legacy, connected);
+        List<ObjectId> chatRoomIds = chatRooms.stream().map(ChatRoom::get_id).toList();
+        CounterVersions versions = new CounterVersions(Map.of());
+
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisChatUnreadService.getUnreadCounts(chatRoomIds, userId)).willReturn(Arrays.asList(null, null, null));
+        given(redisChatUnreadService.getVersions(chatRoomIds, userId)).willReturn(versions);
+        given(customChatRoomRepository.findParticipantInfos(chatRoomIds, userId)).willReturn(Map.of(
+                watermarked.get_id(), participantInfo(watermarked),
+                legacy.get_id(), participantInfo(legacy),
+                connected.get_id(), participantInfo(connected)));
+        given(chatPresenceService.isInRoom(any(ObjectId.class), any(ParticipantInfo.class)))
+                .willAnswer(invocation -> connected.get_id().equals(invocation.getArgument(0)));
+        given(customChattingRepository.countUnread(userId, Map.of(watermarked.get_id(), lastReadAt)))
+                .willReturn(Map.of(watermarked.get_id(), 3));
+
+        // When
+        Map<ObjectId, Integer> result = chatUnreadCountService.getUnreadCounts(chatRooms, userId);
+
+        // Then
+        Map<ObjectId, Integer> expected = Map.of(watermarked.get_id(), 3, legacy.get_id(), 7, connected.get_id(), 0);
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(expected);
+        verify(redisChatUnreadService).recoveryUnreadCounts(expected, userId, versions);
+    }
+
+    @Test
+    void getUnreadCounts_CacheMiss_version조회이후watermark로계산() {
+        // Given : 채팅방 조회 이후 읽음 처리되어 watermark가 바뀐 경우
+        LocalDateTime staleReadAt = LocalDateTime.now().minusHours(1);
+        LocalDateTime lastReadAt = LocalDateTime.now();
+        ChatRoom chatRoom = chatRoom(ParticipantInfo.builder().userId(userId).lastReadAt(staleReadAt).build());
+        List<ObjectId> chatRoomIds = List.of(chatRoom.get_id());
+        InOrder inOrder = inOrder(redisChatUnreadService, customChatRoomRepository);
+
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisChatUnreadService.getUnreadCounts(chatRoomIds, userId)).willReturn(Arrays.asList((Long) null));
+        given(redisChatUnreadService.getVersions(chatRoomIds, userId)).willReturn(CounterVersions.empty());
+        given(customChatRoomRepository.findParticipantInfos(chatRoomIds, userId)).willReturn(Map.of(
+                chatRoom.get_id(), ParticipantInfo.builder().userId(userId).lastReadAt(lastReadAt).build()));
+        given(customChattingRepository.countUnread(userId, Map.of(chatRoom.get_id(), lastReadAt))).willReturn(Map.of());
+
+        // When
+        int result = chatUnreadCountService.getUnreadCount(chatRoom, userId);
+
+        // Then
+        assertThat(result).isZero();
+        inOrder.verify(redisChatUnreadService).getVersions(chatRoomIds, userId);
+        inOrder.verify(customChatRoomRepository).findParticipantInfos(chatRoomIds, userId);
+        verify(customChattingRepository, never()).countUnread(userId, Map.of(chatRoom.get_id(), staleReadAt));
+    }
+
+    @Test
+    void getUnreadCounts_Redis사용불가_DB기준() {
+        // Given
+        LocalDateTime lastReadAt = LocalDateTime.now().minusHours(1);
+        ChatRoom chatRoom = chatRoom(ParticipantInfo.builder().userId(userId).lastReadAt(lastReadAt).build());
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+        given(customChattingRepository.countUnread(userId, Map.of(chatRoom.get_id(), lastReadAt))).willReturn(Map.of());
+
+        // When
+        int result = chatUnreadCountService.getUnreadCount(chatRoom, userId);
+
+        // Then
+        assertThat(result).isZero();
+        verifyNoInteractions(redisChatUnreadService, customChatRoomRepository);
+    }
+
+    @Test
+    void invalidate_markAsRead_Counter무효화() {
+        // Given
+        ObjectId chatRoomId = new ObjectId();
+        ObjectId receiverId = new ObjectId();
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+
+        // When
+        chatUnreadCountService.invalidate(chatRoomId, List.of(receiverId));
+        chatUnreadCountService.markAsRead(chatRoomId, userId);
+
+        // Then
+        verify(redisChatUnreadService).invalidate(chatRoomId, List.of(receiverId));
+        verify(redisChatUnreadService).invalidate(chatRoomId, List.of(userId));
+    }
+
+    private ParticipantInfo participantInfo(ChatRoom chatRoom) {
+        return chatRoom.getParticipants().getInfo().get(userId);
+    }
+
+    private static ChatRoom chatRoom(ParticipantInfo participantInfo) {
+        Participants participants = new Participants();
+        participants.getInfo().put(participantInfo.getUserId(), participantInfo);
+        ChatRoom chatRoom = ChatRoom.builder()
+                .roomName("채팅방")
+                .referenceId(new ObjectId())
+                .participants(participants)
+                .build();
+        ReflectionTestUtils.setField(chatRoom, "_id", new ObjectId());
+        return chatRoom;
+    }
+}
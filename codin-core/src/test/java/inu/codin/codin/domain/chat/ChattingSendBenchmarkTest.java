@@ -0,0 +1,355 @@
+package inu.codin.codin.domain.chat;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
+import inu.codin.codin.domain.chat.chatroom.entity.Participants;
+import inu.codin.codin.domain.chat.chatroom.repository.ChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
+import inu.codin.codin.domain.chat.chatroom.service.ChatUnreadCountService;
+import inu.codin.codin.domain.chat.chatting.dto.ContentType;
+import inu.codin.codin.domain.chat.chatting.dto.event.ChattingArrivedEvent;
+import inu.codin.codin.domain.chat.chatting.dto.request.ChattingRequestDto;
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.chat.chatting.repository.ChattingRepository;
+import inu.codin.codin.domain.chat.chatting.repository.CustomChattingRepository;
+import inu.codin.codin.domain.chat.chatting.service.ChattingService;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 채팅 송신 벤치마크
+ * 채팅방 조회 1번, 채팅 insert 1번, 채팅방 update 1번으로 줄인 송신 경로가
+ * 기존 경로(채팅방 조회 3번, 저장 4번)와 같은 결과를 내고 메시지당 DB 왕복 수가 줄었는지 검증
+ * 초당 처리 메시지 수는 실행 환경에 따라 달라지므로 로그로만 남김
+ */
+@Testcontainers
+@DataMongoTest
+@Import({CustomChatRoomRepository.class, CustomChattingRepository.class, ChattingSendBenchmarkTest.MongoCommandCounter.class})
+class ChattingSendBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChattingSendBenchmarkTest.class);
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry r) {
+        r.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    private static final int MESSAGE_COUNT = 1_000;
+    private static final int CONCURRENT_SENDERS = 8;
+
+    @Autowired ChatRoomRepository chatRoomRepository;
+    @Autowired ChattingRepository chattingRepository;
+    @Autowired CustomChatRoomRepository customChatRoomRepository;
+    @Autowired CustomChattingRepository customChattingRepository;
+    @Autowired MongoCommandCounter mongoCommandCounter;
+
+    private final List<ChattingArrivedEvent> arrivedEvents = new ArrayList<>();
+    private ChattingService chattingService;
+    private ObjectId senderId;
+    private ObjectId receiverId;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomRepository.deleteAll();
+        chattingRepository.deleteAll();
+        arrivedEvents.clear();
+        //Redis 없이 채팅방에 저장된 접속 상태로 입장 여부 판단
+        ChatPresenceService chatPresenceService = new ChatPresenceService(null, mock(RedisHealthChecker.class));
+        ChatUnreadCountService chatUnreadCountService = new ChatUnreadCountService(customChatRoomRepository,
+                chatPresenceService, customChattingRepository, null, mock(RedisHealthChecker.class));
+        chattingService = new ChattingService(chatRoomRepository, customChatRoomRepository, chatUnreadCountService,
+                chatPresenceService, chattingRepository, null,
+                event -> {
+                    if (event instanceof ChattingArrivedEvent arrived) {
+                        synchronized (arrivedEvents) {
+                            arrivedEvents.add(arrived);
+                        }
+                    }
+                });
+        senderId = new ObjectId();
+        receiverId = new ObjectId();
+    }
+
+    @Test
+    void sendMessage_unread증가_마지막메시지_재참여_반영() {
+        // Given : 송신자는 접속 중, 수신자는 채팅방을 나간 상태
+        ChatRoom chatRoom = saveChatRoom();
+        chatRoom.getParticipants().enter(senderId);
+        chatRoom.getParticipants().getInfo().get(receiverId).leave();
+        chatRoomRepository.save(chatRoom);
+
+        // When
+        chattingService.sendMessage(chatRoom.get_id(), senderId, request("첫 번째"));
+        chattingService.sendMessage(chatRoom.get_id(), senderId, request("두 번째"));
+
+        // Then
+        ChatRoom result = chatRoomRepository.findById(chatRoom.get_id()).orElseThrow();
+        ParticipantInfo receiver = result.getParticipants().getInfo().get(receiverId);
+        assertThat(result.getLastMessage()).isEqualTo("두 번째");
+        assertThat(receiver.getUnreadMessage()).isEqualTo(2);
+        assertThat(receiver.isLeaved()).isFalse();
+        assertThat(result.getParticipants().getInfo().get(senderId).getUnreadMessage()).isZero();
+
+        List<Chatting> chattings = chattingRepository.findAll();
+        assertThat(chattings).hasSize(2);
+        assertThat(chattings).extracting(Chatting::getUnreadCount).containsOnly(1);
+
+        assertThat(arrivedEvents).hasSize(2);
+        assertThat(arrivedEvents.get(1).getReceiverIds()).containsExactly(receiverId);
+        assertThat(arrivedEvents.get(1).getChatRoom().getParticipants().getInfo().get(receiverId).getUnreadMessage()).isEqualTo(2);
+    }
+
+    @Test
+    void updateReadState_읽음처리_watermark이후메시지만unread() throws InterruptedException {
+        // Given
+        ChatRoom chatRoom = saveChatRoom();
+        chattingService.sendMessage(chatRoom.get_id(), senderId, request("읽은 메시지"));
+        Thread.sleep(5);
+
+        // When
+        boolean updated = customChatRoomRepository.updateReadState(chatRoom.get_id(), receiverId, false, LocalDateTime.now());
+        Thread.sleep(5);
+        chattingService.sendMessage(chatRoom.get_id(), senderId, request("읽지 않은 메시지"));
+
+        // Then
+        ChatRoom result = chatRoomRepository.findById(chatRoom.get_id()).orElseThrow();
+        ParticipantInfo receiver = result.getParticipants().getInfo().get(receiverId);
+        assertThat(updated).isTrue();
+        assertThat(receiver.getLastReadAt()).isNotNull();
+        assertThat(customChattingRepository.countUnread(receiverId, Map.of(chatRoom.get_id(), receiver.getLastReadAt())))
+                .containsExactlyEntriesOf(Map.of(chatRoom.get_id(), 1));
+        assertThat(chattingRepository.findAll())
+                .extracting(chatting -> result.getParticipants().countUnread(chatting.getSenderId(), chatting.getCreatedAt(), Set.of()))
+                .containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void countUnread_watermark없는참여자_저장된unread사용() {
+        // Given : read watermark 도입 전에 참여한 수신자
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .roomName("채팅방")
+                .referenceId(new ObjectId())
+                .participants(legacyParticipants())
+                .build());
+        //read watermark 도입 전에 수신자가 읽어 unread가 0으로 저장된 메시지
+        Chatting chatting = chattingRepository.save(Chatting.of(chatRoom.get_id(), request("읽은 메시지"), senderId, 0));
+
+        // When
+        Participants participants = chatRoomRepository.findById(chatRoom.get_id()).orElseThrow().getParticipants();
+        int unread = participants.countUnread(chatting.getSenderId(), chatting.getCreatedAt(), chatting.getUnreadCount(), Set.of());
+
+        // Then : watermark 기준이면 모든 메시지가 읽지 않은 것으로 계산됨
+        assertThat(participants.countUnread(chatting.getSenderId(), chatting.getCreatedAt(), Set.of())).isEqualTo(1);
+        assertThat(unread).isZero();
+    }
+
+    @Test
+    void leave_다른참여자읽음상태와마지막메시지유지() throws InterruptedException {
+        // Given : 나가기 요청이 채팅방을 조회한 뒤 상대가 읽음 처리하고 메시지 송신
+        ChatRoom chatRoom = saveChatRoom();
+        LocalDateTime senderReadAt = LocalDateTime.now().plusSeconds(1);
+        customChatRoomRepository.updateReadState(chatRoom.get_id(), senderId, true, senderReadAt);
+        chattingService.sendMessage(chatRoom.get_id(), senderId, request("마지막 메시지"));
+
+        // When
+        boolean leaved = customChatRoomRepository.leave(chatRoom.get_id(), receiverId, LocalDateTime.now());
+        boolean deletedAfterOne = customChatRoomRepository.deleteIfAllLeaved(chatRoom.get_id());
+
+        // Then
+        ChatRoom result = chatRoomRepository.findById(chatRoom.get_id()).orElseThrow();
+        ParticipantInfo sender = result.getParticipants().getInfo().get(senderId);
+        ParticipantInfo receiver = result.getParticipants().getInfo().get(receiverId);
+        assertThat(leaved).isTrue();
+        assertThat(deletedAfterOne).isFalse();
+        assertThat(result.getLastMessage()).isEqualTo("마지막 메시지");
+        assertThat(sender.isConnected()).isTrue();
+        assertThat(sender.getLastReadAt()).isNotNull();
+        assertThat(receiver.isLeaved()).isTrue();
+        assertThat(receiver.getWhenLeaved()).isNotNull();
+
+        // When : 남은 참여자도 나가면 채팅방 삭제
+        customChatRoomRepository.leave(chatRoom.get_id(), senderId, LocalDateTime.now());
+
+        // Then
+        assertThat(customChatRoomRepository.deleteIfAllLeaved(chatRoom.get_id())).isTrue();
+        assertThat(chatRoomRepository.findById(chatRoom.get_id())).isEmpty();
+    }
+
+    @Test
+    void sendMessage_동시송신_unread유실없음() throws InterruptedException {
+        // Given
+        ChatRoom chatRoom = saveChatRoom();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_SENDERS);
+        CountDownLatch latch = new CountDownLatch(MESSAGE_COUNT / 10);
+
+        // When
+        for (int i = 0; i < MESSAGE_COUNT / 10; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    chattingService.sendMessage(chatRoom.get_id(), senderId, request("메시지" + index));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        boolean completed = latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(completed).isTrue();
+        ChatRoom result = chatRoomRepository.findById(chatRoom.get_id()).orElseThrow();
+        assertThat(result.getParticipants().getInfo().get(receiverId).getUnreadMessage()).isEqualTo(MESSAGE_COUNT / 10);
+    }
+
+    @Test
+    void sendMessage_메시지당DB왕복수비교() {
+        // Given : warm up
+        ChatRoom legacyRoom = saveChatRoom();
+        ChatRoom leanRoom = saveChatRoom();
+        for (int i = 0; i < 20; i++) {
+            legacySendMessage(legacyRoom.get_id(), "warm up");
+            chattingService.sendMessage(leanRoom.get_id(), senderId, request("warm up"));
+        }
+
+        // When
+        int legacyCommands = countCommands(() -> legacySendMessage(legacyRoom.get_id(), "안녕하세요"));
+        int leanCommands = countCommands(() -> chattingService.sendMessage(leanRoom.get_id(), senderId, request("안녕하세요")));
+        double legacyPerSecond = measure(() -> legacySendMessage(legacyRoom.get_id(), "안녕하세요"));
+        double leanPerSecond = measure(() -> chattingService.sendMessage(leanRoom.get_id(), senderId, request("안녕하세요")));
+
+        // Then : 기존 경로는 조회 3번, 저장 4번 / 개선 경로는 조회 1번, insert 1번, findAndModify 1번
+        log.info("[ChattingSendBenchmark] messages={}, legacy={} commands/msg ({} msg/s), lean={} commands/msg ({} msg/s)",
+                MESSAGE_COUNT, legacyCommands, Math.round(legacyPerSecond), leanCommands, Math.round(leanPerSecond));
+        assertThat(legacyCommands).isEqualTo(7);
+        assertThat(leanCommands).isEqualTo(3);
+    }
+
+    /**
+     * 기존 송신 경로
+     * ChattingService.sendMessage(채팅방 조회, 접속자 수 조회, 채팅 저장, 채팅방 저장) 후
+     * 동기 이벤트 리스너(채팅방 조회, unread/마지막 메시지 변경, 채팅방 저장, 채팅 저장)
+     */
+    private void legacySendMessage(ObjectId chatRoomId, String content) {
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId).orElseThrow();
+        int countOfParticipating = (int) chatRoomRepository.findById(chatRoomId).orElseThrow()
+                .getParticipants().getInfo().values().stream().filter(ParticipantInfo::isConnected).count();
+        Chatting chatting = Chatting.of(chatRoomId, request(content), senderId,
+                chatRoom.getParticipants().getInfo().size() - countOfParticipating);
+        chattingRepository.save(chatting);
+        chatRoom.getParticipants().getInfo().values().stream()
+                .filter(info -> !info.getUserId().equals(senderId) && info.isLeaved())
+                .forEach(ParticipantInfo::remain);
+        chatRoomRepository.save(chatRoom);
+
+        ChatRoom arrived = chatRoomRepository.findById(chatRoomId).orElseThrow();
+        arrived.getParticipants().getInfo().values().stream()
+                .filter(info -> !info.getUserId().equals(senderId) && !info.isConnected())
+                .forEach(ParticipantInfo::plusUnread);
+        arrived.updateLastMessage(content);
+        chatRoomRepository.save(arrived);
+        chattingRepository.save(chatting);
+    }
+
+    /**
+     * 메시지 1건 송신 중 Mongo로 보낸 command 수
+     */
+    private int countCommands(Runnable send) {
+        mongoCommandCounter.reset();
+        send.run();
+        return mongoCommandCounter.count();
+    }
+
+    private double measure(Runnable send) {
+        long start = System.nanoTime();
+        for (int i = 0; i < MESSAGE_COUNT; i++) send.run();
+        return MESSAGE_COUNT / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private ChatRoom saveChatRoom() {
+        Participants participants = new Participants();
+        participants.create(senderId);
+        participants.create(receiverId);
+        return chatRoomRepository.save(ChatRoom.builder()
+                .roomName("채팅방")
+                .referenceId(new ObjectId())
+                .participants(participants)
+                .build());
+    }
+
+    private Participants legacyParticipants() {
+        Participants participants = new Participants();
+        participants.getInfo().put(senderId, ParticipantInfo.builder().userId(senderId).notificationsEnabled(true).build());
+        participants.getInfo().put(receiverId, ParticipantInfo.builder().userId(receiverId).notificationsEnabled(true).build());
+        return participants;
+    }
+
+    private static ChattingRequestDto request(String content) {
+        ChattingRequestDto request = new ChattingRequestDto();
+        request.setContent(content);
+        request.setContentType(ContentType.TEXT);
+        return request;
+    }
+
+    /**
+     * MongoClient에 등록되어 DB로 보낸 command 수를 세는 listener
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class MongoCommandCounter implements CommandListener {
+
+        private final AtomicInteger commands = new AtomicInteger();
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCounterCustomizer() {
+            return builder -> builder.addCommandListener(this);
+        }
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            commands.incrementAndGet();
+        }
+
+        void reset() {
+            commands.set(0);
+        }
+
+        int count() {
+            return commands.get();
+        }
+    }
+}
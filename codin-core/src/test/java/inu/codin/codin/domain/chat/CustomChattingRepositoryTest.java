@@ -0,0 +1,131 @@
+package inu.codin.codin.domain.chat;
+
+import inu.codin.codin.domain.chat.chatting.dto.ContentType;
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.chat.chatting.repository.ChattingRepository;
+import inu.codin.codin.domain.chat.chatting.repository.CustomChattingRepository;
+import inu.codin.codin.infra.mongo.MongoIndexRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅방 read watermark 기준 조회 테스트
+ * 마지막으로 읽은 시각 이후 상대가 보낸 메시지만 조회/집계되는지 검증
+ */
+@Testcontainers
+@DataMongoTest
+@Import({CustomChattingRepository.class, MongoIndexRegistry.class})
+class CustomChattingRepositoryTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry r) {
+        r.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    @Autowired ChattingRepository chattingRepository;
+    @Autowired CustomChattingRepository customChattingRepository;
+
+    private final ObjectId chatRoomId = new ObjectId();
+    private final ObjectId readerId = new ObjectId();
+    private final ObjectId senderId = new ObjectId();
+
+    @BeforeEach
+    void setUp() {
+        chattingRepository.deleteAll();
+    }
+
+    @Test
+    void findUnreadChattings_마지막으로읽은시각이후_상대메시지만() throws InterruptedException {
+        // Given : 읽은 메시지 3개, 읽지 않은 메시지 2개, 입장 유저가 보낸 메시지 1개
+        for (int i = 0; i < 3; i++) saveChatting(chatRoomId, senderId);
+        LocalDateTime lastReadAt = watermark();
+        List<Chatting> unread = new ArrayList<>();
+        for (int i = 0; i < 2; i++) unread.add(saveChatting(chatRoomId, senderId));
+        saveChatting(chatRoomId, readerId);
+        saveChatting(new ObjectId(), senderId);
+
+        // When
+        List<Chatting> result = customChattingRepository.findUnreadChattings(chatRoomId, readerId, lastReadAt, 10);
+
+        // Then
+        assertThat(result).extracting(Chatting::get_id)
+                .containsExactly(unread.get(1).get_id(), unread.get(0).get_id());
+        assertThat(result).allSatisfy(chatting -> {
+            assertThat(chatting.getSenderId()).isEqualTo(senderId);
+            assertThat(chatting.getCreatedAt()).isAfter(lastReadAt);
+        });
+    }
+
+    @Test
+    void findUnreadChattings_watermark없음_최신메시지limit개() {
+        // Given
+        List<Chatting> chattings = new ArrayList<>();
+        for (int i = 0; i < 5; i++) chattings.add(saveChatting(chatRoomId, senderId));
+
+        // When
+        List<Chatting> result = customChattingRepository.findUnreadChattings(chatRoomId, readerId, null, 2);
+        List<Chatting> none = customChattingRepository.findUnreadChattings(chatRoomId, readerId, null, 0);
+
+        // Then
+        assertThat(result).extracting(Chatting::get_id)
+                .containsExactly(chattings.get(4).get_id(), chattings.get(3).get_id());
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    void countUnread_채팅방별_watermark이후_메시지수() throws InterruptedException {
+        // Given
+        ObjectId otherRoomId = new ObjectId();
+        ObjectId readRoomId = new ObjectId();
+        saveChatting(chatRoomId, senderId);
+        saveChatting(readRoomId, senderId);
+        LocalDateTime lastReadAt = watermark();
+        saveChatting(chatRoomId, senderId);
+        saveChatting(chatRoomId, senderId);
+        saveChatting(chatRoomId, readerId);
+        saveChatting(otherRoomId, senderId);
+
+        // When
+        Map<ObjectId, Integer> result = customChattingRepository.countUnread(readerId,
+                Map.of(chatRoomId, lastReadAt, otherRoomId, lastReadAt, readRoomId, lastReadAt));
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(chatRoomId, 2, otherRoomId, 1));
+    }
+
+    private LocalDateTime watermark() throws InterruptedException {
+        Thread.sleep(5);
+        LocalDateTime lastReadAt = LocalDateTime.now();
+        Thread.sleep(5);
+        return lastReadAt;
+    }
+
+    private Chatting saveChatting(ObjectId roomId, ObjectId sender) {
+        return chattingRepository.insert(Chatting.builder()
+                .senderId(sender)
+                .chatRoomId(roomId)
+                .content("안녕하세요")
+                .contentType(ContentType.TEXT)
+                .unreadCount(1)
+                .build());
+    }
+}
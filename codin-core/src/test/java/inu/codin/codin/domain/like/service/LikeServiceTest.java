@@ -0,0 +1,119 @@
+package inu.codin.codin.domain.like.service;
+
+import inu.codin.codin.domain.like.entity.LikeType;
+import inu.codin.codin.domain.like.repository.CustomLikeRepository;
+import inu.codin.codin.domain.like.repository.LikeRepository;
+import inu.codin.codin.domain.post.domain.comment.reply.repository.ReplyCommentRepository;
+import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
+import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.domain.post.service.PostCounterService;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.dto.CounterVersions;
+import inu.codin.codin.infra.redis.service.RedisBestService;
+import inu.codin.codin.infra.redis.service.RedisLikeService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeServiceTest {
+
+    @InjectMocks
+    private LikeService likeService;
+
+    @Mock private LikeRepository likeRepository;
+    @Mock private CustomLikeRepository customLikeRepository;
+    @Mock private PostRepository postRepository;
+    @Mock private CommentRepository commentRepository;
+    @Mock private ReplyCommentRepository replyCommentRepository;
+    @Mock private PostCounterService postCounterService;
+    @Mock private RedisLikeService redisLikeService;
+    @Mock private RedisBestService redisBestService;
+    @Mock private RedisHealthChecker redisHealthChecker;
+
+    @Test
+    void getLikeCounts_댓글대댓글혼합_Redis한번DB한번조회() {
+        // Given
+        List<String> commentIds = List.of("c1", "c2");
+        List<String> replyIds = IntStream.range(0, 300).mapToObj(i -> "r" + i).toList();
+        Long[] replyCounts = new Long[replyIds.size()];
+        Arrays.fill(replyCounts, 1L);
+        replyCounts[0] = null;
+
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisLikeService.getLikeCounts(anyMap())).willReturn(Map.of(
+                "COMMENT", Arrays.asList(3L, null),
+                "REPLY", Arrays.asList(replyCounts)));
+        CounterVersions versions = new CounterVersions(Map.of("COMMENT:likes:c2", 2L));
+        given(redisLikeService.getLikeVersions(Map.of("COMMENT", List.of("c2"), "REPLY", List.of("r0"))))
+                .willReturn(versions);
+        given(customLikeRepository.countGroupByLikeTypeAndLikeTypeId(anyMap()))
+                .willReturn(Map.of(LikeType.COMMENT, Map.of("c2", 4)));
+
+        // When
+        Map<LikeType, Map<String, Integer>> result = likeService.getLikeCounts(Map.of(
+                LikeType.COMMENT, commentIds,
+                LikeType.REPLY, replyIds));
+
+        // Then
+        assertThat(result.get(LikeType.COMMENT)).containsOnly(Map.entry("c1", 3), Map.entry("c2", 4));
+        assertThat(result.get(LikeType.REPLY)).hasSize(300)
+                .containsEntry("r0", 0)
+                .containsEntry("r1", 1);
+
+        verify(redisLikeService, times(1)).getLikeCounts(anyMap());
+        verify(customLikeRepository, times(1)).countGroupByLikeTypeAndLikeTypeId(
+                Map.of(LikeType.COMMENT, List.of("c2"), LikeType.REPLY, List.of("r0")));
+        verify(redisLikeService, times(1)).recoveryLikes(
+                Map.of("COMMENT", Map.of("c2", 4), "REPLY", Map.of("r0", 0)), versions);
+        verify(redisLikeService, never()).getLikeCount(anyString(), anyString());
+        verify(likeRepository, never()).countByLikeTypeAndLikeTypeIdAndDeletedAtIsNull(any(), anyString());
+    }
+
+    @Test
+    void getLikeCounts_모두Cache적중_DB조회안함() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisLikeService.getLikeCounts(anyMap())).willReturn(Map.of("REPLY", List.of(2L, 5L)));
+
+        // When
+        Map<String, Integer> result = likeService.getLikeCounts(LikeType.REPLY, List.of("r1", "r2"));
+
+        // Then
+        assertThat(result).containsOnly(Map.entry("r1", 2), Map.entry("r2", 5));
+        verify(customLikeRepository, never()).countGroupByLikeTypeAndLikeTypeId(anyMap());
+        verify(redisLikeService, never()).getLikeVersions(anyMap());
+        verify(redisLikeService, never()).recoveryLikes(anyMap(), any());
+    }
+
+    @Test
+    void getLikeCounts_Redis사용불가_DB한번조회() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+        given(customLikeRepository.countGroupByLikeTypeAndLikeTypeId(anyMap()))
+                .willReturn(Map.of(LikeType.REPLY, Map.of("r1", 1)));
+
+        // When
+        Map<LikeType, Map<String, Integer>> result = likeService.getLikeCounts(Map.of(
+                LikeType.COMMENT, List.of("c1"),
+                LikeType.REPLY, List.of("r1")));
+
+        // Then
+        assertThat(result.get(LikeType.COMMENT)).containsOnly(Map.entry("c1", 0));
+        assertThat(result.get(LikeType.REPLY)).containsOnly(Map.entry("r1", 1));
+        verify(customLikeRepository, times(1)).countGroupByLikeTypeAndLikeTypeId(anyMap());
+        verifyNoInteractions(redisLikeService);
+    }
+}
@@ -0,0 +1,152 @@
+package inu.codin.codin.domain.post;
+
+import inu.codin.codin.domain.post.entity.PostCategory;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
+import inu.codin.codin.domain.post.repository.PostRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 작성 시 익명 번호 할당 동시성 테스트
+ * 여러 유저가 동시에 댓글을 작성해도 익명 번호가 중복/누락 없이 할당되고 댓글 수가 유실되지 않는지 검증
+ * 게시글 수정이 댓글 작성으로 변경된 익명 번호/댓글 수를 덮어쓰지 않는지 검증
+ */
+@Testcontainers
+@DataMongoTest
+@Import(CustomPostRepository.class)
+class PostAnonymousConcurrencyTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry r) {
+        r.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    private static final int USER_COUNT = 100;
+    private static final int COMMENTS_PER_USER = 3;
+
+    @Autowired PostRepository postRepository;
+    @Autowired CustomPostRepository customPostRepository;
+
+    private ObjectId writerId;
+    private PostEntity post;
+
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        writerId = new ObjectId();
+        post = postRepository.save(PostEntity.builder()
+                .userId(writerId)
+                .postCategory(PostCategory.COMMUNICATION)
+                .title("익명 게시글")
+                .content("내용")
+                .isAnonymous(true)
+                .postStatus(PostStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    void incrementCommentCount_동시댓글작성_익명번호중복없음() throws Exception {
+        // Given
+        List<ObjectId> users = IntStream.range(0, USER_COUNT).mapToObj(i -> new ObjectId()).toList();
+        List<ObjectId> commenters = new ArrayList<>();
+        for (int i = 0; i < COMMENTS_PER_USER; i++) {
+            commenters.addAll(users);
+            commenters.add(writerId);
+        }
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (ObjectId userId : commenters) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return customPostRepository.incrementCommentCount(post.get_id(), userId, true, userId.equals(writerId));
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) future.get();
+        executor.shutdown();
+
+        // Then
+        PostEntity result = postRepository.findById(post.get_id()).orElseThrow();
+        Collection<Integer> numbers = users.stream().map(userId -> result.getAnonymous().getAnonNumber(userId)).toList();
+
+        assertThat(result.getCommentCount()).isEqualTo(commenters.size());
+        assertThat(result.getAnonymous().getAnonNumber(writerId)).isZero();
+        assertThat(numbers).doesNotContainNull().doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, USER_COUNT).boxed().toList());
+        assertThat(result.getAnonymous().getAnonymousNumber()).isEqualTo(USER_COUNT + 1);
+    }
+
+    @Test
+    void incrementCommentCount_일반게시글_익명번호할당안함() {
+        // Given
+        ObjectId userId = new ObjectId();
+
+        // When
+        PostEntity result = customPostRepository.incrementCommentCount(post.get_id(), userId, false, false);
+
+        // Then
+        assertThat(result.getCommentCount()).isEqualTo(1);
+        assertThat(result.getAnonymous().hasAnonNumber(userId)).isFalse();
+    }
+
+    @Test
+    void updateContent_조회이후댓글작성_익명번호와댓글수유지() {
+        // Given : 게시글 수정 요청이 조회한 뒤 다른 유저가 댓글 작성
+        PostEntity stale = postRepository.findById(post.get_id()).orElseThrow();
+        ObjectId commenterId = new ObjectId();
+        customPostRepository.incrementCommentCount(post.get_id(), commenterId, true, false);
+
+        // When
+        stale.updatePostContent("수정된 내용", List.of("image.jpg"));
+        customPostRepository.updateContent(stale);
+        customPostRepository.updateAnonymous(post.get_id(), false);
+
+        // Then
+        PostEntity result = postRepository.findById(post.get_id()).orElseThrow();
+        assertThat(result.getContent()).isEqualTo("수정된 내용");
+        assertThat(result.getPostImageUrls()).containsExactly("image.jpg");
+        assertThat(result.isAnonymous()).isFalse();
+        assertThat(result.getCommentCount()).isEqualTo(1);
+        assertThat(result.getAnonymous().getAnonNumber(commenterId)).isEqualTo(1);
+        assertThat(result.getAnonymous().getAnonymousNumber()).isEqualTo(2);
+    }
+
+    @Test
+    void decrementCommentCount_0미만으로감소안함() {
+        // When
+        customPostRepository.incrementCommentCount(post.get_id(), new ObjectId(), true, false);
+        customPostRepository.decrementCommentCount(post.get_id());
+        customPostRepository.decrementCommentCount(post.get_id());
+
+        // Then
+        assertThat(postRepository.findById(post.get_id()).orElseThrow().getCommentCount()).isZero();
+    }
+}
@@ -2,11 +2,13 @@ package inu.codin.codin.domain.post;
 
 import inu.codin.security.exception.JwtException;
 import inu.codin.security.util.SecurityUtil;
+import inu.codin.codin.domain.post.dto.event.PostDeletedEvent;
 import inu.codin.codin.domain.post.dto.request.*;
-import inu.codin.codin.domain.post.entity.PostAnonymous;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.post.exception.PostException;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.domain.post.security.OwnershipPolicy;
 import inu.codin.codin.domain.post.service.PostCommandService;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.*;
@@ -32,8 +35,10 @@ class PostCommandServiceTest {
     private PostCommandService postCommandService;
     
     @Mock private PostRepository postRepository;
+    @Mock private CustomPostRepository customPostRepository;
     @Mock private PostInteractionService postInteractionService;
     @Mock private OwnershipPolicy ownershipPolicy;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private static AutoCloseable securityUtilsMock;
     
@@ -57,7 +62,7 @@ class PostCommandServiceTest {
         given(SecurityUtil.getCurrentUserId()).willReturn(userId);
         given(SecurityUtil.getCurrentUserRole()).willReturn(UserRole.ADMIN);
         given(postInteractionService.handleImageUpload(any())).willReturn(new ArrayList<>());
-        given(postRepository.save(any())).willAnswer(inv -> {
+        given(postRepository.insert(any(PostEntity.class))).willAnswer(inv -> {
             PostEntity entity = inv.getArgument(0);
             setIdField(entity, new ObjectId());
             return entity;
@@ -65,7 +70,7 @@ class PostCommandServiceTest {
         
         // When & Then
         assertThatCode(() -> postCommandService.createPost(dto, images)).doesNotThrowAnyException();
-        verify(postRepository).save(any(PostEntity.class));
+        verify(postRepository).insert(any(PostEntity.class));
     }
     
     @Test
@@ -97,11 +102,12 @@ class PostCommandServiceTest {
         given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
         given(SecurityUtil.getCurrentUserRole()).willReturn(UserRole.ADMIN);
         given(postInteractionService.handleImageUpload(any())).willReturn(imageUrls);
-        given(postRepository.save(any())).willReturn(post);
         
         // When & Then
         assertThatCode(() -> postCommandService.updatePostContent(postId, dto, images)).doesNotThrowAnyException();
-        verify(postRepository).save(post);
+        verify(customPostRepository).updateContent(post);
+        verify(postRepository, never()).save(any());
+        assertThat(post.getPostImageUrls()).containsExactlyElementsOf(imageUrls);
     }
     
     @Test
@@ -114,11 +120,11 @@ class PostCommandServiceTest {
         given(ownershipPolicy.assertPostOwner(any(ObjectId.class))).willReturn(post);
         given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
         given(SecurityUtil.getCurrentUserRole()).willReturn(UserRole.ADMIN);
-        given(postRepository.save(any())).willReturn(post);
         
         // When & Then
         assertThatCode(() -> postCommandService.updatePostAnonymous(postId, dto)).doesNotThrowAnyException();
-        verify(postRepository).save(post);
+        verify(customPostRepository).updateAnonymous(post.get_id(), true);
+        verify(postRepository, never()).save(any());
     }
     
     @Test
@@ -131,11 +137,12 @@ class PostCommandServiceTest {
         given(ownershipPolicy.assertPostOwner(any(ObjectId.class))).willReturn(post);
         given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
         given(SecurityUtil.getCurrentUserRole()).willReturn(UserRole.ADMIN);
-        given(postRepository.save(any())).willReturn(post);
         
         // When & Then
         assertThatCode(() -> postCommandService.updatePostStatus(postId, dto)).doesNotThrowAnyException();
-        verify(postRepository).save(post);
+        verify(customPostRepository).updateStatus(post.get_id(), PostStatus.ACTIVE);
+        verify(postRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(PostDeletedEvent.class));
     }
     
     @Test
@@ -147,11 +154,12 @@ class PostCommandServiceTest {
         given(ownershipPolicy.assertPostOwner(any(ObjectId.class))).willReturn(post);
         given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
         given(SecurityUtil.getCurrentUserRole()).willReturn(UserRole.ADMIN);
-        given(postRepository.save(any())).willReturn(post);
         
         // When & Then
         assertThatCode(() -> postCommandService.softDeletePost(postId)).doesNotThrowAnyException();
-        verify(postRepository).save(post);
+        verify(customPostRepository).softDelete(post.get_id());
+        verify(postRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(any(PostDeletedEvent.class));
     }
     
     @Test
@@ -172,108 +180,67 @@ class PostCommandServiceTest {
     }
     
     @Test
-    void handleCommentCreation_정상처리_성공() throws Exception {
+    void handleCommentCreation_익명게시글_익명번호할당요청() throws Exception {
         // Given
         PostEntity post = createPostEntityWithAnonymous();
         ObjectId userId = new ObjectId();
         
-        given(postRepository.save(any())).willReturn(post);
+        given(customPostRepository.incrementCommentCount(post.get_id(), userId, true, false)).willReturn(post);
         
         // When
         postCommandService.handleCommentCreation(post, userId);
         
         // Then
-        verify(postRepository).save(post);
-    }
-    
-    @Test
-    void increaseCommentCount_댓글수증가_성공() throws Exception {
-        // Given
-        PostEntity post = createPostEntity();
-        int initialCount = post.getCommentCount();
-        
-        // When
-        postCommandService.increaseCommentCount(post);
-        
-        // Then
-        assertThat(post.getCommentCount()).isEqualTo(initialCount + 1);
+        verify(customPostRepository).incrementCommentCount(post.get_id(), userId, true, false);
+        verify(postRepository, never()).save(any());
     }
     
     @Test
-    void decreaseCommentCount_댓글수감소_성공() throws Exception {
+    void handleCommentCreation_작성자_작성자로할당요청() throws Exception {
         // Given
-        PostEntity post = createPostEntityWithComments();
-        int initialCount = post.getCommentCount();
+        ObjectId userId = new ObjectId();
+        PostEntity post = PostEntity.builder()
+                .userId(userId)
+                .postCategory(PostCategory.COMMUNICATION)
+                .isAnonymous(true)
+                .build();
+        setIdField(post, new ObjectId());
         
-        given(postRepository.save(any())).willReturn(post);
+        given(customPostRepository.incrementCommentCount(post.get_id(), userId, true, true)).willReturn(post);
         
         // When
-        postCommandService.decreaseCommentCount(post);
+        postCommandService.handleCommentCreation(post, userId);
         
         // Then
-        assertThat(post.getCommentCount()).isEqualTo(initialCount - 1);
-        verify(postRepository).save(post);
+        verify(customPostRepository).incrementCommentCount(post.get_id(), userId, true, true);
     }
     
     @Test
-    void assignAnonymousNumber_익명아님_처리안함() throws Exception {
+    void handleCommentCreation_게시글없음_예외() throws Exception {
         // Given
-        PostEntity post = createPostEntity(); // anonymous = false
+        PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
         
-        // When
-        postCommandService.assignAnonymousNumber(post, userId);
+        given(customPostRepository.incrementCommentCount(any(), any(), anyBoolean(), anyBoolean())).willReturn(null);
         
-        // Then
-        verify(postRepository, never()).save(any());
+        // When & Then
+        assertThatThrownBy(() -> postCommandService.handleCommentCreation(post, userId))
+                .isInstanceOf(PostException.class);
     }
     
     @Test
-    void assignAnonymousNumber_이미할당됨_처리안함() throws Exception {
+    void decreaseCommentCount_댓글수감소_성공() throws Exception {
         // Given
-        PostEntity post = createPostEntityWithAnonymous();
-        ObjectId userId = new ObjectId();
-        PostAnonymous anonymous = post.getAnonymous();
-        anonymous.setAnonNumber(userId); // 이미 할당된 상태로 설정
+        PostEntity post = createPostEntityWithComments();
         
         // When
-        postCommandService.assignAnonymousNumber(post, userId);
+        postCommandService.decreaseCommentCount(post);
         
         // Then
+        verify(customPostRepository).decrementCommentCount(post.get_id());
         verify(postRepository, never()).save(any());
     }
     
-    @Test
-    void assignAnonymousNumber_작성자_익명할당_성공() throws Exception {
-        // Given
-        ObjectId userId = new ObjectId();
-        PostEntity post = PostEntity.builder()
-                .userId(userId)
-                .postCategory(PostCategory.COMMUNICATION)
-                .isAnonymous(true)
-                .build();
-
-        // When
-        postCommandService.assignAnonymousNumber(post, userId);
-        
-        // Then
-        assertThat(post.getAnonymous().hasAnonNumber(userId)).isEqualTo(true);
-    }
-    
-    @Test
-    void assignAnonymousNumber_일반사용자_익명번호할당_성공() throws Exception {
-        // Given
-        PostEntity post = createPostEntityWithAnonymous();
-        ObjectId userId = new ObjectId();
-
-        // When
-        postCommandService.assignAnonymousNumber(post, userId);
-        
-        // Then
-        assertThat(post.getAnonymous().hasAnonNumber(userId)).isEqualTo(true);
-
-    }
-    
     // Helper methods
     private PostCreateRequestDTO createPostCreateRequestDTO(String title, String content, boolean anonymous, PostCategory category) throws Exception {
         PostCreateRequestDTO dto = PostCreateRequestDTO.class.getDeclaredConstructor().newInstance();
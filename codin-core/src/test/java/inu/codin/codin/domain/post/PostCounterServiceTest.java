@@ -0,0 +1,165 @@
+package inu.codin.codin.domain.post;
+
+import inu.codin.codin.domain.like.repository.CustomLikeRepository;
+import inu.codin.codin.domain.post.domain.hits.repository.CustomHitsRepository;
+import inu.codin.codin.domain.post.entity.PostCounterType;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
+import inu.codin.codin.domain.post.service.PostCounterService;
+import inu.codin.codin.domain.scrap.repository.CustomScrapRepository;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.dto.CounterDeltas;
+import inu.codin.codin.infra.redis.service.RedisCounterSyncService;
+import inu.codin.codin.infra.redis.service.RedisLikeService;
+import inu.codin.codin.infra.redis.service.RedisScrapService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCounterServiceTest {
+
+    @InjectMocks
+    private PostCounterService postCounterService;
+
+    @Mock private CustomPostRepository customPostRepository;
+    @Mock private CustomLikeRepository customLikeRepository;
+    @Mock private CustomScrapRepository customScrapRepository;
+    @Mock private CustomHitsRepository customHitsRepository;
+    @Mock private RedisCounterSyncService redisCounterSyncService;
+    @Mock private RedisLikeService redisLikeService;
+    @Mock private RedisScrapService redisScrapService;
+    @Mock private RedisHealthChecker redisHealthChecker;
+
+    @Test
+    void record_Redis사용가능_증감분만기록() {
+        // Given
+        ObjectId postId = new ObjectId();
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+
+        // When
+        postCounterService.record(postId, PostCounterType.LIKE, 1);
+
+        // Then
+        verify(redisCounterSyncService).recordDelta(postId, "likeCount", 1);
+        verify(customPostRepository, never()).incrementCounter(any(), anyString(), anyLong());
+    }
+
+    @Test
+    void record_Redis사용불가_게시글에바로반영() {
+        // Given
+        ObjectId postId = new ObjectId();
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+
+        // When
+        postCounterService.record(postId, PostCounterType.SCRAP, -1);
+
+        // Then
+        verify(redisCounterSyncService, never()).recordDelta(any(), anyString(), anyLong());
+        verify(customPostRepository).incrementCounter(postId, "scrapCount", -1);
+    }
+
+    @Test
+    void getStoredCounts_반영대기증감분합산() {
+        // Given
+        ObjectId postId = new ObjectId();
+        ObjectId legacyPostId = new ObjectId();
+        Map<ObjectId, Integer> stored = new HashMap<>(Map.of(postId, 10));
+        given(customPostRepository.findCounters(List.of(postId, legacyPostId), "hitCount")).willReturn(stored);
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisCounterSyncService.getPendingDeltas(List.of(postId), "hitCount")).willReturn(List.of(3L));
+
+        // When
+        Map<ObjectId, Integer> result = postCounterService.getStoredCounts(List.of(postId, legacyPostId), PostCounterType.HITS);
+
+        // Then
+        assertThat(result).containsExactly(Map.entry(postId, 13));
+    }
+
+    @Test
+    void flushPendingDeltas_반영실패_Redis에남겨둠() {
+        // Given
+        Map<ObjectId, CounterDeltas> deltas = Map.of(new ObjectId(), new CounterDeltas("flush-1", Map.of("likeCount", 2L)));
+        given(redisCounterSyncService.drainDeltas(anyInt())).willReturn(deltas);
+        willThrow(new RuntimeException("bulk write failed")).given(customPostRepository).bulkIncrementCounters(deltas);
+
+        // When
+        int flushed = postCounterService.flushPendingDeltas();
+
+        // Then : acknowledge 하지 않아 다음 주기에 같은 flushId로 다시 수거됨
+        assertThat(flushed).isZero();
+        verify(redisCounterSyncService, never()).acknowledge(any());
+        verify(redisCounterSyncService, times(1)).drainDeltas(anyInt());
+        verifyNoInteractions(redisLikeService, redisScrapService);
+    }
+
+    @Test
+    void flushPendingDeltas_정상반영_반영후삭제및Cache무효화() {
+        // Given
+        ObjectId likedPostId = new ObjectId();
+        ObjectId viewedPostId = new ObjectId();
+        Map<ObjectId, CounterDeltas> deltas = Map.of(
+                likedPostId, new CounterDeltas("flush-1", Map.of("likeCount", 2L)),
+                viewedPostId, new CounterDeltas("flush-1", Map.of("hitCount", 5L, "scrapCount", -1L)));
+        given(redisCounterSyncService.drainDeltas(anyInt())).willReturn(deltas);
+
+        // When
+        int flushed = postCounterService.flushPendingDeltas();
+
+        // Then
+        assertThat(flushed).isEqualTo(2);
+        InOrder inOrder = inOrder(customPostRepository, redisCounterSyncService, redisLikeService, redisScrapService);
+        inOrder.verify(customPostRepository).bulkIncrementCounters(deltas);
+        inOrder.verify(redisCounterSyncService).acknowledge(deltas.keySet());
+        inOrder.verify(redisLikeService).invalidateLikes("POST", List.of(likedPostId.toString()));
+        inOrder.verify(redisScrapService).invalidateScraps(List.of(viewedPostId));
+    }
+
+    @Test
+    void backfillCounters_count직후반영대기증감분삭제() {
+        // Given : 카운터 필드가 없는 게시글에 이미 좋아요 증감분이 기록되어 있음 (좋아요 컬렉션 count에 포함)
+        ObjectId postId = new ObjectId();
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(customPostRepository.findIdsWithoutCounters(100)).willReturn(List.of(postId));
+        given(customLikeRepository.countGroupByLikeTypeId(any(), anyList())).willReturn(Map.of(postId.toString(), 3));
+        given(customScrapRepository.countGroupByPostId(anyList())).willReturn(Map.of());
+        given(customHitsRepository.countGroupByPostId(anyList())).willReturn(Map.of());
+
+        // When
+        int backfilled = postCounterService.backfillCounters(100);
+
+        // Then
+        assertThat(backfilled).isEqualTo(1);
+        InOrder inOrder = inOrder(redisCounterSyncService, customLikeRepository, customPostRepository);
+        inOrder.verify(customLikeRepository).countGroupByLikeTypeId(any(), anyList());
+        inOrder.verify(redisCounterSyncService).discardDeltas(List.of(postId));
+        inOrder.verify(customPostRepository).bulkSetCounters(Map.of(postId,
+                Map.of("likeCount", 3, "scrapCount", 0, "hitCount", 0)));
+    }
+
+    @Test
+    void backfillCounters_Redis사용불가_초기화하지않음() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+
+        // When
+        int backfilled = postCounterService.backfillCounters(100);
+
+        // Then
+        assertThat(backfilled).isZero();
+        verifyNoInteractions(customPostRepository, redisCounterSyncService);
+    }
+}
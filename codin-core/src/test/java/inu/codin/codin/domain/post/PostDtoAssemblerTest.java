@@ -5,6 +5,9 @@ import inu.codin.codin.domain.like.entity.LikeType;
 import inu.codin.codin.domain.like.service.LikeService;
 import inu.codin.codin.domain.post.domain.hits.service.HitsService;
 import inu.codin.codin.domain.post.domain.poll.service.PollQueryService;
+import inu.codin.codin.domain.post.dto.UserDto;
+import inu.codin.codin.domain.post.dto.UserInfo;
+import inu.codin.codin.domain.post.dto.response.PostDetailResponseDTO;
 import inu.codin.codin.domain.post.dto.response.PostPageItemResponseDTO;
 import inu.codin.codin.domain.post.dto.response.PollInfoResponseDTO;
 import inu.codin.codin.domain.post.entity.PostCategory;
@@ -12,8 +15,9 @@ import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.entity.PostStatus;
 import inu.codin.codin.domain.post.service.PostDtoAssembler;
 import inu.codin.codin.domain.scrap.service.ScrapService;
+import inu.codin.codin.domain.user.dto.UserProfile;
 import inu.codin.codin.domain.user.entity.UserEntity;
-import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.user.service.UserProfileService;
 import inu.codin.codin.infra.s3.S3Service;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.*;
@@ -23,7 +27,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,7 +47,7 @@ class PostDtoAssemblerTest {
     @InjectMocks
     private PostDtoAssembler postDtoAssembler;
 
-    @Mock private UserRepository userRepository;
+    @Mock private UserProfileService userProfileService;
     @Mock private LikeService likeService;
     @Mock private ScrapService scrapService;
     @Mock private S3Service s3Service;
@@ -65,7 +73,7 @@ class PostDtoAssemblerTest {
         ObjectId currentUserId = new ObjectId();
         UserEntity user = createUserEntity();
 
-        given(userRepository.findById(post.getUserId())).willReturn(Optional.of(user));
+        given(userProfileService.getProfile(post.getUserId())).willReturn(Optional.of(UserProfile.from(user)));
         given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
         given(likeService.getLikeCount(LikeType.POST, post.get_id().toString())).willReturn(5);
         given(scrapService.getScrapCount(post.get_id())).willReturn(3);
@@ -80,7 +88,7 @@ class PostDtoAssemblerTest {
         assertThat(result).isNotNull();
         assertThat(result.getPost()).isNotNull();
         assertThat(result.getPoll()).isNull(); // 일반 게시물은 Poll 정보 없음
-        verify(userRepository).findById(post.getUserId());
+        verify(userProfileService).getProfile(post.getUserId());
         verify(likeService).getLikeCount(LikeType.POST, post.get_id().toString());
         verify(scrapService).getScrapCount(post.get_id());
         verify(hitsService).getHitsCount(post.get_id());
@@ -94,7 +102,7 @@ class PostDtoAssemblerTest {
         UserEntity user = createUserEntity();
         PollInfoResponseDTO pollInfo = mock(PollInfoResponseDTO.class);
 
-        given(userRepository.findById(pollPost.getUserId())).willReturn(Optional.of(user));
+        given(userProfileService.getProfile(pollPost.getUserId())).willReturn(Optional.of(UserProfile.from(user)));
         given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
         given(likeService.getLikeCount(LikeType.POST, pollPost.get_id().toString())).willReturn(2);
         given(scrapService.getScrapCount(pollPost.get_id())).willReturn(1);
@@ -120,7 +128,7 @@ class PostDtoAssemblerTest {
         ObjectId currentUserId = new ObjectId();
         UserEntity user = createUserEntity();
 
-        given(userRepository.findById(anonymousPost.getUserId())).willReturn(Optional.of(user));
+        given(userProfileService.getProfile(anonymousPost.getUserId())).willReturn(Optional.of(UserProfile.from(user)));
         given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
         given(likeService.getLikeCount(LikeType.POST, anonymousPost.get_id().toString())).willReturn(0);
         given(scrapService.getScrapCount(anonymousPost.get_id())).willReturn(0);
@@ -135,7 +143,7 @@ class PostDtoAssemblerTest {
         assertThat(result).isNotNull();
         assertThat(result.getPost()).isNotNull();
         // UserDto.forPost에서 익명 처리 로직이 작동하는지는 UserDto 테스트에서 확인
-        verify(userRepository).findById(anonymousPost.getUserId());
+        verify(userProfileService).getProfile(anonymousPost.getUserId());
     }
 
     @Test
@@ -144,12 +152,12 @@ class PostDtoAssemblerTest {
         PostEntity post = createNormalPostEntity();
         ObjectId currentUserId = new ObjectId();
 
-        given(userRepository.findById(post.getUserId())).willReturn(Optional.empty());
+        given(userProfileService.getProfile(post.getUserId())).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> postDtoAssembler.toPageItem(post, currentUserId))
                 .isInstanceOf(RuntimeException.class); // PostException이 발생해야 함
-        verify(userRepository).findById(post.getUserId());
+        verify(userProfileService).getProfile(post.getUserId());
     }
 
     @Test
@@ -158,27 +166,171 @@ class PostDtoAssemblerTest {
         PostEntity post1 = createNormalPostEntity();
         PostEntity post2 = createPollPostEntity();
         List<PostEntity> posts = Arrays.asList(post1, post2);
-        UserEntity user = createUserEntity();
+        ObjectId currentUserId = new ObjectId();
 
-        given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
-        given(userRepository.findById(any())).willReturn(Optional.of(user));
-        given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
-        given(likeService.getLikeCount(any(), any())).willReturn(0);
-        given(scrapService.getScrapCount(any())).willReturn(0);
-        given(hitsService.getHitsCount(any())).willReturn(0);
-        given(likeService.isLiked(any(), any(), (ObjectId) any())).willReturn(false);
-        given(scrapService.isPostScraped(any(), any())).willReturn(false);
-        given(pollQueryService.getPollInfo(eq(post2), any())).willReturn(mock(PollInfoResponseDTO.class));
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(currentUserId.toHexString());
+        givenBulkLookups(posts);
+        given(likeService.getLikedIds(eq(LikeType.POST), anyList(), eq(currentUserId)))
+                .willReturn(Set.of(post1.get_id().toString()));
+        given(scrapService.getScrapedPostIds(anyList(), eq(currentUserId))).willReturn(Set.of(post2.get_id()));
+        given(pollQueryService.getPollInfos(List.of(post2), currentUserId))
+                .willReturn(Map.of(post2.get_id(), mock(PollInfoResponseDTO.class)));
 
         // When
         List<PostPageItemResponseDTO> results = postDtoAssembler.toPageItemList(posts);
 
         // Then
         assertThat(results).hasSize(2);
-        assertThat(results.get(0)).isNotNull();
-        assertThat(results.get(1)).isNotNull();
+        assertThat(results.get(0).getPost().get_id()).isEqualTo(post1.get_id().toString()); // 입력 순서 유지
+        assertThat(results.get(1).getPost().get_id()).isEqualTo(post2.get_id().toString());
         assertThat(results.get(0).getPoll()).isNull(); // 일반 게시물
         assertThat(results.get(1).getPoll()).isNotNull(); // 투표 게시물
+        assertThat(results.get(0).getPost().getUserInfo().getLike()).isTrue();
+        assertThat(results.get(1).getPost().getUserInfo().getScrap()).isTrue();
+    }
+
+    @Test
+    void toPageItemList_게시물수와무관하게_조회횟수일정() {
+        // Given
+        List<PostEntity> smallPage = List.of(createNormalPostEntity());
+        List<PostEntity> fullPage = IntStream.range(0, 20)
+                .mapToObj(i -> i % 4 == 0 ? createPollPostEntity() : createNormalPostEntity())
+                .toList();
+        ObjectId currentUserId = new ObjectId();
+
+        // When & Then
+        for (List<PostEntity> page : List.of(smallPage, fullPage)) {
+            Mockito.reset(userProfileService, likeService, scrapService, hitsService, pollQueryService);
+            givenBulkLookups(page);
+            given(likeService.getLikedIds(any(), anyList(), any())).willReturn(Set.of());
+            given(scrapService.getScrapedPostIds(anyList(), any())).willReturn(Set.of());
+            given(pollQueryService.getPollInfos(anyList(), any())).willAnswer(invocation -> {
+                List<PostEntity> pollPosts = invocation.getArgument(0);
+                return pollPosts.stream().collect(Collectors.toMap(PostEntity::get_id, post -> mock(PollInfoResponseDTO.class)));
+            });
+
+            List<PostPageItemResponseDTO> results = postDtoAssembler.toPageItemList(page, currentUserId);
+
+            assertThat(results).hasSize(page.size());
+            verify(userProfileService, times(1)).getProfiles(anyList());
+            verify(likeService, times(1)).getLikeCounts(eq(LikeType.POST), anyList());
+            verify(likeService, times(1)).getLikedIds(eq(LikeType.POST), anyList(), eq(currentUserId));
+            verify(scrapService, times(1)).getScrapCounts(anyList());
+            verify(scrapService, times(1)).getScrapedPostIds(anyList(), eq(currentUserId));
+            verify(hitsService, times(1)).getHitsCounts(anyList());
+            verify(pollQueryService, times(1)).getPollInfos(anyList(), eq(currentUserId));
+            verify(userProfileService, never()).getProfile(any());
+            verify(likeService, never()).getLikeCount(any(), any());
+            verify(likeService, never()).isLiked(any(), any(), (ObjectId) any());
+            verify(scrapService, never()).getScrapCount(any());
+            verify(scrapService, never()).isPostScraped(any(), any());
+            verify(hitsService, never()).getHitsCount(any());
+            verify(pollQueryService, never()).getPollInfo(any(), any());
+        }
+    }
+
+    @Test
+    void toPageItemList_비로그인_반응여부조회생략() {
+        // Given
+        List<PostEntity> posts = List.of(createNormalPostEntity());
+        givenBulkLookups(posts);
+        given(pollQueryService.getPollInfos(anyList(), isNull())).willReturn(Map.of());
+
+        // When
+        List<PostPageItemResponseDTO> results = postDtoAssembler.toPageItemList(posts, null);
+
+        // Then
+        assertThat(results.get(0).getPost().getUserInfo().getLike()).isFalse();
+        assertThat(results.get(0).getPost().getUserInfo().getScrap()).isFalse();
+        verify(likeService, never()).getLikedIds(any(), anyList(), any());
+        verify(scrapService, never()).getScrapedPostIds(anyList(), any());
+    }
+
+    @Test
+    void overlayViewer_로그인_유저반응과투표내역만교체() {
+        // Given
+        ObjectId currentUserId = new ObjectId();
+        PostEntity likedPost = createNormalPostEntity();
+        PostEntity myPollPost = PostEntity.builder()
+                .userId(currentUserId)
+                .postCategory(PostCategory.POLL)
+                .title("My Poll")
+                .content("My Poll Content")
+                .postStatus(PostStatus.ACTIVE)
+                .isAnonymous(false)
+                .build();
+        setIdFieldSafely(myPollPost, new ObjectId());
+        PollInfoResponseDTO snapshotPoll = createPollInfo(false);
+        PollInfoResponseDTO viewerPoll = createPollInfo(true);
+        List<PostPageItemResponseDTO> items = List.of(
+                createSnapshotItem(likedPost, null),
+                createSnapshotItem(myPollPost, snapshotPoll));
+
+        given(likeService.getLikedIds(LikeType.POST, List.of(likedPost.get_id().toString(), myPollPost.get_id().toString()), currentUserId))
+                .willReturn(Set.of(likedPost.get_id().toString()));
+        given(scrapService.getScrapedPostIds(List.of(likedPost.get_id(), myPollPost.get_id()), currentUserId))
+                .willReturn(Set.of(myPollPost.get_id()));
+        given(pollQueryService.getPollInfosByPostIds(List.of(myPollPost.get_id()), currentUserId))
+                .willReturn(Map.of(myPollPost.get_id(), viewerPoll));
+
+        // When
+        List<PostPageItemResponseDTO> results = postDtoAssembler.overlayViewer(items, currentUserId);
+
+        // Then
+        assertThat(results.get(0).getPost().getUserInfo().getLike()).isTrue();
+        assertThat(results.get(0).getPost().getUserInfo().getScrap()).isFalse();
+        assertThat(results.get(0).getPost().getUserInfo().getMine()).isFalse();
+        assertThat(results.get(0).getPost().getLikeCount()).isEqualTo(7);
+        assertThat(results.get(1).getPost().getUserInfo().getLike()).isFalse();
+        assertThat(results.get(1).getPost().getUserInfo().getScrap()).isTrue();
+        assertThat(results.get(1).getPost().getUserInfo().getMine()).isTrue();
+        assertThat(results.get(1).getPoll()).isSameAs(viewerPoll);
+        verify(userProfileService, never()).getProfiles(anyList());
+    }
+
+    @Test
+    void overlayViewer_비로그인_스냅샷그대로반환() {
+        // Given
+        List<PostPageItemResponseDTO> items = List.of(createSnapshotItem(createNormalPostEntity(), null));
+
+        // When
+        List<PostPageItemResponseDTO> results = postDtoAssembler.overlayViewer(items, null);
+
+        // Then
+        assertThat(results).isSameAs(items);
+        verify(likeService, never()).getLikedIds(any(), anyList(), any());
+        verify(scrapService, never()).getScrapedPostIds(anyList(), any());
+    }
+
+    private PostPageItemResponseDTO createSnapshotItem(PostEntity post, PollInfoResponseDTO poll) {
+        PostDetailResponseDTO postDTO = PostDetailResponseDTO.of(
+                post, UserDto.forPost(post, UserProfile.from(createUserEntity()), "default.jpg"), 7, 2, 30, 0, UserInfo.ofPost(false, false, false));
+        return PostPageItemResponseDTO.of(postDTO, poll);
+    }
+
+    private PollInfoResponseDTO createPollInfo(boolean hasUserVoted) {
+        return PollInfoResponseDTO.of(List.of("A", "B"), null, false, List.of(1, 0),
+                hasUserVoted ? List.of(0) : List.of(), 1L, hasUserVoted, false);
+    }
+
+    private void givenBulkLookups(List<PostEntity> posts) {
+        List<UserEntity> users = posts.stream()
+                .map(post -> {
+                    UserEntity author = createUserEntity();
+                    setIdFieldSafely(author, post.getUserId());
+                    return author;
+                })
+                .toList();
+        given(userProfileService.getProfiles(anyList())).willReturn(toProfileMap(users));
+        given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
+        given(likeService.getLikeCounts(eq(LikeType.POST), anyList())).willReturn(Map.of());
+        given(scrapService.getScrapCounts(anyList())).willReturn(Map.of());
+        given(hitsService.getHitsCounts(anyList())).willReturn(Map.of());
+    }
+
+    private Map<ObjectId, UserProfile> toProfileMap(List<UserEntity> users) {
+        return users.stream()
+                .collect(Collectors.toMap(UserEntity::get_id, UserProfile::from));
     }
 
     // Helper methods
@@ -4,7 +4,7 @@ import inu.codin.codin.domain.post.domain.hits.service.HitsService;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.exception.PostException;
-import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.post.service.PostInteractionService;
 import inu.codin.codin.infra.s3.S3Service;
 import inu.codin.codin.infra.s3.exception.ImageRemoveException;
@@ -28,7 +28,7 @@ class PostInteractionServiceTest {
     private PostInteractionService postInteractionService;
     
     @Mock private S3Service s3Service;
-    @Mock private PostRepository postRepository;
+    @Mock private CustomPostRepository customPostRepository;
     @Mock private HitsService hitsService;
     
     @Test
@@ -73,7 +73,6 @@ class PostInteractionServiceTest {
         PostEntity post = createPostEntityWithImages(Arrays.asList(imageUrl, "other-image.jpg"));
         
         doNothing().when(s3Service).deleteFile(imageUrl);
-        given(postRepository.save(any())).willReturn(post);
         
         // When
         assertThatCode(() -> postInteractionService.deletePostImageInternal(post, imageUrl))
@@ -81,7 +80,8 @@ class PostInteractionServiceTest {
         
         // Then
         verify(s3Service).deleteFile(imageUrl);
-        verify(postRepository).save(post);
+        verify(customPostRepository).removeImage(post.get_id(), imageUrl);
+        assertThat(post.getPostImageUrls()).containsExactly("other-image.jpg");
     }
     
     @Test
@@ -95,7 +95,7 @@ class PostInteractionServiceTest {
                 .isInstanceOf(PostException.class);
         
         verify(s3Service, never()).deleteFile(any());
-        verify(postRepository, never()).save(any());
+        verify(customPostRepository, never()).removeImage(any(), any());
     }
     
     @Test
@@ -113,83 +113,34 @@ class PostInteractionServiceTest {
                 .hasMessageContaining("이미지 삭제 중 오류 발생");
 
 
-        verify(postRepository, times(1)).save(post);
+        verify(customPostRepository, times(1)).removeImage(post.get_id(), imageUrl);
         verify(s3Service).deleteFile(imageUrl);
     }
     
     @Test
-    void increaseHits_조회수증가_성공() {
+    void increaseHits_로그인_조회기록위임() {
         // Given
         PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
         
-        given(hitsService.validateHits(post.get_id(), userId)).willReturn(false);
-        doNothing().when(hitsService).addHits(post.get_id(), userId);
-        
-        // When
-        postInteractionService.increaseHits(post, userId);
-        
-        // Then
-        verify(hitsService).validateHits(post.get_id(), userId);
-        verify(hitsService).addHits(post.get_id(), userId);
-    }
-    
-    @Test
-    void increaseHits_이미조회함_조회수증가안함() {
-        // Given
-        PostEntity post = createPostEntity();
-        ObjectId userId = new ObjectId();
-        
-        given(hitsService.validateHits(post.get_id(), userId)).willReturn(true);
-        
         // When
         postInteractionService.increaseHits(post, userId);
         
         // Then
-        verify(hitsService).validateHits(post.get_id(), userId);
-        verify(hitsService, never()).addHits(any(), any());
+        verify(hitsService).recordView(post.get_id(), userId);
+        verify(hitsService, never()).validateHits(any(), any());
     }
     
     @Test
-    void increaseHits_동일사용자_중복조회방지() {
+    void increaseHits_비로그인_조회기록위임() {
         // Given
         PostEntity post = createPostEntity();
-        ObjectId userId = new ObjectId();
-        
-        // 첫 번째 호출: 조회수 증가
-        given(hitsService.validateHits(post.get_id(), userId))
-            .willReturn(false)  // 첫 번째는 증가
-            .willReturn(true);  // 두 번째는 증가하지 않음
-        doNothing().when(hitsService).addHits(post.get_id(), userId);
-        
-        // When
-        postInteractionService.increaseHits(post, userId);  // 첫 번째 호출
-        postInteractionService.increaseHits(post, userId);  // 두 번째 호출
-        
-        // Then
-        verify(hitsService, times(2)).validateHits(post.get_id(), userId);
-        verify(hitsService, times(1)).addHits(post.get_id(), userId);  // 한 번만 호출
-    }
-    
-    @Test
-    void increaseHits_다른사용자_각각증가() {
-        // Given
-        PostEntity post = createPostEntity();
-        ObjectId userId1 = new ObjectId();
-        ObjectId userId2 = new ObjectId();
-        
-        given(hitsService.validateHits(any(), any())).willReturn(false);
-        doNothing().when(hitsService).addHits(any(), any());
         
         // When
-        postInteractionService.increaseHits(post, userId1);
-        postInteractionService.increaseHits(post, userId2);
+        postInteractionService.increaseHits(post, null);
         
         // Then
-        verify(hitsService).validateHits(post.get_id(), userId1);
-        verify(hitsService).validateHits(post.get_id(), userId2);
-        verify(hitsService).addHits(post.get_id(), userId1);
-        verify(hitsService).addHits(post.get_id(), userId2);
+        verify(hitsService).recordView(post.get_id(), null);
     }
     
     // Helper methods
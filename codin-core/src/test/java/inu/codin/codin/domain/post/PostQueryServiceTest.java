@@ -4,6 +4,7 @@ import inu.codin.security.util.SecurityUtil;
 import inu.codin.codin.domain.block.service.BlockService;
 import inu.codin.codin.domain.post.domain.best.BestEntity;
 import inu.codin.codin.domain.post.domain.best.BestService;
+import inu.codin.codin.domain.post.domain.best.BestSnapshotService;
 import inu.codin.codin.domain.post.dto.response.PostPageItemResponseDTO;
 import inu.codin.codin.domain.post.dto.response.PostPageResponse;
 import inu.codin.codin.domain.post.entity.PostAnonymous;
@@ -12,10 +13,12 @@ import inu.codin.codin.domain.user.entity.UserEntity;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.exception.PostException;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.domain.post.service.PostInteractionService;
 import inu.codin.codin.domain.post.service.PostQueryService;
 import inu.codin.codin.domain.post.service.PostDtoAssembler;
+import inu.codin.codin.domain.post.util.PostCursor;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +26,7 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -37,9 +41,11 @@ class PostQueryServiceTest {
     private PostQueryService postQueryService;
     
     @Mock private PostRepository postRepository;
+    @Mock private CustomPostRepository customPostRepository;
     @Mock private BlockService blockService;
     @Mock private PostInteractionService postInteractionService;
     @Mock private BestService bestService;
+    @Mock private BestSnapshotService bestSnapshotService;
     @Mock private PostDtoAssembler postDtoAssembler;
     
     private static AutoCloseable securityUtilsMock;
@@ -96,6 +102,61 @@ class PostQueryServiceTest {
         assertThat(response.getContents()).isEmpty();
         verify(postDtoAssembler).toPageItemList(emptyPosts);
     }
+
+    @Test
+    void getAllPostsByCursor_다음페이지존재_nextCursor반환() {
+        // Given
+        List<ObjectId> blockedUsers = new ArrayList<>();
+        List<PostEntity> posts = new ArrayList<>();
+        for (int i = 0; i < 21; i++) posts.add(createPostEntity());
+
+        given(blockService.getBlockedUsers()).willReturn(blockedUsers);
+        given(customPostRepository.findByCategoriesAfterCursor(anyCollection(), anyList(), isNull(), eq(21))).willReturn(posts);
+        given(postDtoAssembler.toPageItemList(anyList())).willReturn(new ArrayList<>());
+
+        // When
+        PostPageResponse response = postQueryService.getAllPostsByCursor(PostCategory.COMMUNICATION, null);
+
+        // Then
+        assertThat(response.getNextCursor()).isEqualTo(PostCursor.from(posts.get(19)).encode());
+        verify(postDtoAssembler).toPageItemList(posts.subList(0, 20));
+    }
+
+    @Test
+    void getAllPostsByCursor_마지막페이지_nextCursor없음() {
+        // Given
+        PostCursor cursor = new PostCursor(LocalDateTime.now(), new ObjectId());
+        List<PostEntity> posts = Arrays.asList(createPostEntity(), createPostEntity());
+
+        given(blockService.getBlockedUsers()).willReturn(new ArrayList<>());
+        given(customPostRepository.findByCategoriesAfterCursor(anyCollection(), anyList(), eq(cursor), eq(21))).willReturn(posts);
+        given(postDtoAssembler.toPageItemList(posts)).willReturn(new ArrayList<>());
+
+        // When
+        PostPageResponse response = postQueryService.getAllPostsByCursor(PostCategory.COMMUNICATION, cursor.encode());
+
+        // Then
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getNextPage()).isEqualTo(-1);
+    }
+
+    @Test
+    void getAllPostsByCursor_상위카테고리_하위카테고리포함조회() {
+        // Given
+        given(blockService.getBlockedUsers()).willReturn(new ArrayList<>());
+        given(customPostRepository.findByCategoriesAfterCursor(anyCollection(), anyList(), isNull(), anyInt())).willReturn(new ArrayList<>());
+        given(postDtoAssembler.toPageItemList(anyList())).willReturn(new ArrayList<>());
+
+        // When
+        postQueryService.getAllPostsByCursor(PostCategory.EXTRACURRICULAR, null);
+
+        // Then
+        ArgumentCaptor<Collection<PostCategory>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(customPostRepository).findByCategoriesAfterCursor(captor.capture(), anyList(), isNull(), anyInt());
+        assertThat(captor.getValue())
+                .contains(PostCategory.EXTRACURRICULAR)
+                .allMatch(category -> category.name().startsWith("EXTRACURRICULAR"));
+    }
     
     @Test
     void getPostWithDetail_정상조회_성공() {
@@ -169,9 +230,36 @@ class PostQueryServiceTest {
     }
     
     @Test
-    void searchPosts_키워드검색_성공() {
+    void searchPosts_키워드검색_textIndex사용() {
         // Given
-        String keyword = "테스트";
+        String keyword = "테스트 공지";
+        List<ObjectId> blockedUsers = new ArrayList<>();
+        List<PostEntity> posts = Arrays.asList(createPostEntity());
+        Page<PostEntity> page = new PageImpl<>(posts, PageRequest.of(0, 20), 1);
+        List<PostPageItemResponseDTO> mockDtoList = Arrays.asList(createMockPostPageItemResponseDTO());
+
+        given(blockService.getBlockedUsers()).willReturn(blockedUsers);
+        given(customPostRepository.searchByTokens(
+                eq(List.of("테스", "스트", "공지")),
+                eq(blockedUsers),
+                any(PageRequest.class))
+        ).willReturn(page);
+        given(postDtoAssembler.toPageItemList(posts)).willReturn(mockDtoList);
+
+        // When
+        PostPageResponse response = postQueryService.searchPosts(keyword, 0);
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getContents()).hasSize(1);
+        verify(postRepository, never()).findAllByKeywordAndDeletedAtIsNull(any(), any(), any());
+        verify(postDtoAssembler).toPageItemList(posts);
+    }
+
+    @Test
+    void searchPosts_1글자단어포함_정규식검색() {
+        // Given
+        String keyword = "C 언어";
         String quoted = Pattern.quote(keyword);
         List<ObjectId> blockedUsers = new ArrayList<>();
         List<PostEntity> posts = Arrays.asList(createPostEntity());
@@ -196,84 +284,75 @@ class PostQueryServiceTest {
                 eq(quoted),
                 eq(blockedUsers),
                 any(PageRequest.class));
+        verify(customPostRepository, never()).searchByTokens(any(), any(), any());
         verify(postDtoAssembler).toPageItemList(posts);
     }
     
     @Test
-    void getTop3BestPosts_정상조회_성공() {
+    void getTop3BestPosts_스냅샷조회_유저기준반영() {
         // Given
-        List<String> bestPostIds = Arrays.asList(
-            new ObjectId().toString(),
-            new ObjectId().toString(),
-            new ObjectId().toString()
-        );
+        String userId = new ObjectId().toString();
         List<PostPageItemResponseDTO> mockDtoList = Arrays.asList(
-            createMockPostPageItemResponseDTO(), 
-            createMockPostPageItemResponseDTO(), 
+            createMockPostPageItemResponseDTO(),
+            createMockPostPageItemResponseDTO(),
             createMockPostPageItemResponseDTO()
         );
-        
-        given(bestService.getTop3BestPostIds()).willReturn(bestPostIds);
-        given(postRepository.findByIdAndNotDeleted(any())).willReturn(Optional.of(createPostEntity()));
-        given(postDtoAssembler.toPageItemList(anyList())).willReturn(mockDtoList);
-        
+
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(userId);
+        given(bestSnapshotService.getTop3BestPosts(new ObjectId(userId))).willReturn(mockDtoList);
+
         // When
         List<PostPageItemResponseDTO> response = postQueryService.getTop3BestPosts();
-        
+
         // Then
-        assertThat(response).isNotNull();
         assertThat(response).hasSize(3);
-        verify(postDtoAssembler).toPageItemList(anyList());
+        verify(bestSnapshotService).getTop3BestPosts(new ObjectId(userId));
+        verify(postRepository, never()).findByIdAndNotDeleted(any());
+        verify(postDtoAssembler, never()).toPageItemList(anyList());
     }
-    
+
     @Test
-    void getTop3BestPosts_존재하지않는게시물_자동삭제() {
+    void getTop3BestPosts_비로그인_스냅샷그대로반환() {
         // Given
-        String validPostId = new ObjectId().toString();
-        String invalidPostId = new ObjectId().toString();
-        List<String> bestPostIds = Arrays.asList(validPostId, invalidPostId);
-        
-        List<PostPageItemResponseDTO> mockDtoList = Arrays.asList(createMockPostPageItemResponseDTO());
-        
-        given(bestService.getTop3BestPostIds()).willReturn(bestPostIds);
-        given(postRepository.findByIdAndNotDeleted(any()))
-            .willReturn(Optional.of(createPostEntity()))  // 첫 번째 호출은 성공
-            .willReturn(Optional.empty());               // 두 번째 호출은 실패
-        given(postDtoAssembler.toPageItemList(anyList())).willReturn(mockDtoList);
-        doNothing().when(bestService).deleteBestPost(invalidPostId);
-        
+        List<PostPageItemResponseDTO> mockDtoList = List.of(createMockPostPageItemResponseDTO());
+
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(null);
+        given(bestSnapshotService.getTop3BestPosts(null)).willReturn(mockDtoList);
+
         // When
         List<PostPageItemResponseDTO> response = postQueryService.getTop3BestPosts();
-        
+
         // Then
         assertThat(response).hasSize(1);
-        verify(bestService).deleteBestPost(invalidPostId);
-        verify(postDtoAssembler).toPageItemList(anyList());
+        verify(bestSnapshotService).getTop3BestPosts(null);
     }
-    
+
     @Test
     void getBestPosts_페이징조회_성공() {
         // Given
         int pageNumber = 0;
         List<BestEntity> bestEntities = Arrays.asList(createBestEntity(), createBestEntity());
         Page<BestEntity> page = new PageImpl<>(bestEntities, PageRequest.of(0, 20), 2);
-        
+        List<PostEntity> posts = Arrays.asList(createPostEntity(), createPostEntity());
+
         List<PostPageItemResponseDTO> mockDtoList = Arrays.asList(createMockPostPageItemResponseDTO(), createMockPostPageItemResponseDTO());
-        
+
         given(bestService.getBestEntities(pageNumber)).willReturn(page);
-        given(postRepository.findByIdAndNotDeleted(any())).willReturn(Optional.of(createPostEntity()));
-        given(postDtoAssembler.toPageItemList(anyList())).willReturn(mockDtoList);
-        
+        given(bestSnapshotService.findRankedPosts(anyList())).willReturn(posts);
+        given(postDtoAssembler.toPageItemList(posts)).willReturn(mockDtoList);
+
         // When
         PostPageResponse response = postQueryService.getBestPosts(pageNumber);
-        
+
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getContents()).hasSize(2);
         verify(bestService).getBestEntities(pageNumber);
-        verify(postDtoAssembler).toPageItemList(anyList());
+        verify(bestSnapshotService).findRankedPosts(
+                bestEntities.stream().map(BestEntity::getPostId).toList());
+        verify(postRepository, never()).findByIdAndNotDeleted(any());
     }
-    
+
     @Test
     void findPostById_정상조회_성공() {
         // Given
@@ -0,0 +1,186 @@
+package inu.codin.codin.domain.post;
+
+import inu.codin.codin.domain.post.entity.PostCategory;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
+import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.domain.post.util.PostSearchTokenizer;
+import inu.codin.codin.infra.mongo.MongoIndexRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 검색 벤치마크
+ * 같은 데이터셋에서 기존 정규식 검색과 2-gram text index 검색의 결과와 지연 시간을 비교
+ */
+@Testcontainers
+@DataMongoTest
+@Import({MongoIndexRegistry.class, CustomPostRepository.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSearchBenchmarkTest.class);
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry r) {
+        r.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    private static final int POST_COUNT = 50_000;
+    private static final int MATCHING_POST_COUNT = 40;
+    private static final int ITERATIONS = 30;
+    private static final String KEYWORD = "졸업작품 전시회";
+    private static final String[] WORDS = {
+            "수강신청", "기숙사", "동아리", "스터디", "과제", "시험", "장학금", "교환학생",
+            "알고리즘", "자료구조", "운영체제", "네트워크", "데이터베이스", "프로젝트", "취업", "인턴"
+    };
+
+    @Autowired MongoTemplate mongoTemplate;
+    @Autowired PostRepository postRepository;
+    @Autowired CustomPostRepository customPostRepository;
+    @Autowired MongoIndexRegistry mongoIndexRegistry;
+
+    @BeforeAll
+    void seed() {
+        postRepository.deleteAll();
+        mongoIndexRegistry.ensureIndexes();
+
+        Random random = new Random(42);
+        List<PostEntity> posts = new ArrayList<>(POST_COUNT);
+        for (int i = 0; i < POST_COUNT; i++) {
+            boolean matching = i % (POST_COUNT / MATCHING_POST_COUNT) == 0;
+            String content = randomSentence(random, 30) + (matching ? " " + KEYWORD + " 안내 " : " ") + randomSentence(random, 30);
+            posts.add(PostEntity.builder()
+                    .userId(new ObjectId())
+                    .postCategory(PostCategory.COMMUNICATION)
+                    .title(randomSentence(random, 4))
+                    .content(content)
+                    .postStatus(PostStatus.ACTIVE)
+                    .build());
+            if (posts.size() == 5_000) {
+                mongoTemplate.insertAll(posts);
+                posts.clear();
+            }
+        }
+        mongoTemplate.insertAll(posts);
+    }
+
+    @Test
+    void search_textIndex_정규식과동일한결과() {
+        // When
+        List<ObjectId> regexIds = allIds(this::regexSearch);
+        List<ObjectId> textIds = allIds(this::textSearch);
+
+        // Then
+        assertThat(regexIds).hasSize(MATCHING_POST_COUNT);
+        assertThat(textIds).containsExactlyInAnyOrderElementsOf(regexIds);
+    }
+
+    @Test
+    void search_textIndex_인덱스사용() {
+        // Given
+        TextCriteria criteria = TextCriteria.forLanguage("none");
+        PostSearchTokenizer.tokenizeKeyword(KEYWORD).forEach(criteria::matchingPhrase);
+        Document query = TextQuery.queryText(criteria)
+                .addCriteria(Criteria.where("deletedAt").is(null))
+                .getQueryObject();
+
+        // When
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(PostEntity.class))
+                .find(query).explain();
+
+        // Then
+        assertThat(explain.toJson()).contains("TEXT_MATCH").doesNotContain("COLLSCAN");
+    }
+
+    @Test
+    void search_지연시간비교() {
+        // Given : warm up
+        regexSearch();
+        textSearch();
+
+        // When
+        double regexMillis = measure(this::regexSearch);
+        double textMillis = measure(this::textSearch);
+
+        // Then
+        log.info("[PostSearchBenchmark] posts={}, keyword=\"{}\", regex={}ms, textIndex={}ms (avg of {})",
+                POST_COUNT, KEYWORD, String.format("%.2f", regexMillis), String.format("%.2f", textMillis), ITERATIONS);
+        assertThat(textMillis).isLessThan(regexMillis);
+    }
+
+    private Page<PostEntity> regexSearch() {
+        return regexSearch(0);
+    }
+
+    private Page<PostEntity> regexSearch(int pageNumber) {
+        return postRepository.findAllByKeywordAndDeletedAtIsNull(Pattern.quote(KEYWORD), List.of(),
+                PageRequest.of(pageNumber, 20, Sort.by("createdAt").descending()));
+    }
+
+    private Page<PostEntity> textSearch() {
+        return textSearch(0);
+    }
+
+    private Page<PostEntity> textSearch(int pageNumber) {
+        return customPostRepository.searchByTokens(PostSearchTokenizer.tokenizeKeyword(KEYWORD), List.of(),
+                PageRequest.of(pageNumber, 20));
+    }
+
+    private double measure(Supplier<Page<PostEntity>> search) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) search.get();
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private List<ObjectId> allIds(IntFunction<Page<PostEntity>> search) {
+        List<ObjectId> ids = new ArrayList<>();
+        Page<PostEntity> page = search.apply(0);
+        ids.addAll(page.getContent().stream().map(PostEntity::get_id).toList());
+        for (int i = 1; i < page.getTotalPages(); i++) {
+            ids.addAll(search.apply(i).getContent().stream().map(PostEntity::get_id).toList());
+        }
+        return ids;
+    }
+
+    private static String randomSentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sb.toString().trim();
+    }
+}
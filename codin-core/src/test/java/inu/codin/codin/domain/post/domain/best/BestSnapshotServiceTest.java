@@ -0,0 +1,176 @@
+package inu.codin.codin.domain.post.domain.best;
+
+import inu.codin.codin.domain.post.dto.response.PostPageItemResponseDTO;
+import inu.codin.codin.domain.post.entity.PostCategory;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.domain.post.service.PostDtoAssembler;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BestSnapshotServiceTest {
+
+    @InjectMocks
+    private BestSnapshotService bestSnapshotService;
+
+    @Mock private BestService bestService;
+    @Mock private BestSnapshotRepository bestSnapshotRepository;
+    @Mock private PostRepository postRepository;
+    @Mock private PostDtoAssembler postDtoAssembler;
+
+    @Test
+    void getTop3BestPosts_스냅샷존재_게시물조립없이반환() {
+        // Given
+        ObjectId userId = new ObjectId();
+        List<PostPageItemResponseDTO> items = List.of(PostPageItemResponseDTO.of(null, null));
+        BestSnapshotEntity snapshot = createSnapshot(List.of(new ObjectId().toString()), items, LocalDateTime.now());
+
+        given(bestSnapshotRepository.findById(BestSnapshotService.TOP3_SNAPSHOT_ID)).willReturn(Optional.of(snapshot));
+        given(postDtoAssembler.overlayViewer(items, userId)).willReturn(items);
+
+        // When
+        List<PostPageItemResponseDTO> result = bestSnapshotService.getTop3BestPosts(userId);
+
+        // Then
+        assertThat(result).isSameAs(items);
+        verify(postDtoAssembler).overlayViewer(items, userId);
+        verify(postRepository, never()).findAllByIdInAndNotDeleted(anyList());
+        verify(postDtoAssembler, never()).toPageItemList(anyList(), any());
+    }
+
+    @Test
+    void getTop3BestPosts_스냅샷없음_생성후반환() {
+        // Given
+        PostEntity post = createPostEntity();
+        List<PostPageItemResponseDTO> items = List.of(PostPageItemResponseDTO.of(null, null));
+
+        given(bestSnapshotRepository.findById(BestSnapshotService.TOP3_SNAPSHOT_ID)).willReturn(Optional.empty());
+        given(bestService.getTop3BestPostIds()).willReturn(List.of(post.get_id().toString()));
+        given(postRepository.findAllByIdInAndNotDeleted(List.of(post.get_id()))).willReturn(List.of(post));
+        given(postDtoAssembler.toPageItemList(List.of(post), null)).willReturn(items);
+        given(bestSnapshotRepository.save(any(BestSnapshotEntity.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(postDtoAssembler.overlayViewer(items, null)).willReturn(items);
+
+        // When
+        List<PostPageItemResponseDTO> result = bestSnapshotService.getTop3BestPosts(null);
+
+        // Then
+        assertThat(result).hasSize(1);
+        ArgumentCaptor<BestSnapshotEntity> captor = ArgumentCaptor.forClass(BestSnapshotEntity.class);
+        verify(bestSnapshotRepository).save(captor.capture());
+        assertThat(captor.getValue().get_id()).isEqualTo(BestSnapshotService.TOP3_SNAPSHOT_ID);
+        assertThat(captor.getValue().getRankedPostIds()).containsExactly(post.get_id().toString());
+        assertThat(captor.getValue().getItems()).isSameAs(items);
+    }
+
+    @Test
+    void refreshTop3Snapshot_랭킹동일_재생성안함() {
+        // Given
+        List<String> rankedIds = List.of(new ObjectId().toString(), new ObjectId().toString());
+        BestSnapshotEntity snapshot = createSnapshot(rankedIds, List.of(), LocalDateTime.now().minusMinutes(1));
+
+        given(bestService.getTop3BestPostIds()).willReturn(rankedIds);
+        given(bestSnapshotRepository.findById(BestSnapshotService.TOP3_SNAPSHOT_ID)).willReturn(Optional.of(snapshot));
+
+        // When
+        boolean refreshed = bestSnapshotService.refreshTop3Snapshot();
+
+        // Then
+        assertThat(refreshed).isFalse();
+        verify(bestSnapshotRepository, never()).save(any());
+    }
+
+    @Test
+    void refreshTop3Snapshot_랭킹변경_재생성() {
+        // Given
+        PostEntity first = createPostEntity();
+        PostEntity second = createPostEntity();
+        List<String> rankedIds = List.of(second.get_id().toString(), first.get_id().toString());
+        BestSnapshotEntity snapshot = createSnapshot(
+                List.of(first.get_id().toString(), second.get_id().toString()), List.of(), LocalDateTime.now());
+
+        given(bestService.getTop3BestPostIds()).willReturn(rankedIds);
+        given(bestSnapshotRepository.findById(BestSnapshotService.TOP3_SNAPSHOT_ID)).willReturn(Optional.of(snapshot));
+        given(postRepository.findAllByIdInAndNotDeleted(anyList())).willReturn(List.of(first, second));
+        given(postDtoAssembler.toPageItemList(anyList(), isNull())).willReturn(List.of());
+
+        // When
+        boolean refreshed = bestSnapshotService.refreshTop3Snapshot();
+
+        // Then
+        assertThat(refreshed).isTrue();
+        verify(postDtoAssembler).toPageItemList(List.of(second, first), null);
+        verify(bestSnapshotRepository).save(any(BestSnapshotEntity.class));
+    }
+
+    @Test
+    void refreshTop3Snapshot_오래된스냅샷_재생성() {
+        // Given
+        List<String> rankedIds = List.of();
+        BestSnapshotEntity snapshot = createSnapshot(rankedIds, List.of(), LocalDateTime.now().minusMinutes(10));
+
+        given(bestService.getTop3BestPostIds()).willReturn(rankedIds);
+        given(bestSnapshotRepository.findById(BestSnapshotService.TOP3_SNAPSHOT_ID)).willReturn(Optional.of(snapshot));
+        given(postDtoAssembler.toPageItemList(List.of(), null)).willReturn(List.of());
+
+        // When
+        boolean refreshed = bestSnapshotService.refreshTop3Snapshot();
+
+        // Then
+        assertThat(refreshed).isTrue();
+        verify(bestSnapshotRepository).save(any(BestSnapshotEntity.class));
+    }
+
+    @Test
+    void findRankedPosts_삭제된게시물_랭킹에서제외_순서유지() {
+        // Given
+        PostEntity first = createPostEntity();
+        PostEntity third = createPostEntity();
+        ObjectId deletedId = new ObjectId();
+
+        given(postRepository.findAllByIdInAndNotDeleted(List.of(first.get_id(), deletedId, third.get_id())))
+                .willReturn(List.of(third, first));
+
+        // When
+        List<PostEntity> result = bestSnapshotService.findRankedPosts(List.of(first.get_id(), deletedId, third.get_id()));
+
+        // Then
+        assertThat(result).containsExactly(first, third);
+        verify(bestService).deleteBestPost(deletedId.toString());
+    }
+
+    private BestSnapshotEntity createSnapshot(List<String> rankedIds, List<PostPageItemResponseDTO> items, LocalDateTime refreshedAt) {
+        return BestSnapshotEntity.builder()
+                ._id(BestSnapshotService.TOP3_SNAPSHOT_ID)
+                .rankedPostIds(rankedIds)
+                .items(items)
+                .refreshedAt(refreshedAt)
+                .build();
+    }
+
+    private PostEntity createPostEntity() {
+        PostEntity post = PostEntity.builder()
+                .userId(new ObjectId())
+                .postCategory(PostCategory.COMMUNICATION)
+                .title("Test Post")
+                .content("Test Content")
+                .postStatus(PostStatus.ACTIVE)
+                .isAnonymous(false)
+                .build();
+        ReflectionTestUtils.setField(post, "_id", new ObjectId());
+        return post;
+    }
+}
@@ -8,13 +8,15 @@ import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
 import inu.codin.codin.domain.post.domain.comment.exception.CommentException;
 import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
 import inu.codin.codin.domain.post.domain.comment.service.CommentQueryService;
+import inu.codin.codin.domain.post.domain.comment.reply.entity.ReplyCommentEntity;
 import inu.codin.codin.domain.post.domain.comment.reply.service.ReplyQueryService;
 import inu.codin.codin.domain.post.dto.UserInfo;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.service.PostQueryService;
+import inu.codin.codin.domain.user.dto.UserProfile;
 import inu.codin.codin.domain.user.entity.UserEntity;
-import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.user.service.UserProfileService;
 import inu.codin.codin.infra.s3.S3Service;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.*;
@@ -23,6 +25,8 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.*;
@@ -36,7 +40,7 @@ class CommentQueryServiceTest {
     private CommentQueryService commentQueryService;
     
     @Mock private CommentRepository commentRepository;
-    @Mock private UserRepository userRepository;
+    @Mock private UserProfileService userProfileService;
     @Mock private LikeService likeService;
     @Mock private PostQueryService postQueryService;
     @Mock private S3Service s3Service;
@@ -70,17 +74,17 @@ class CommentQueryServiceTest {
             createUserEntityWithId(userId1, "사용자1"),
             createUserEntityWithId(userId2, "사용자2")
         );
-        List<CommentResponseDTO> replies = new ArrayList<>();
+        Map<ObjectId, List<ReplyCommentEntity>> replies = Map.of();
         
         given(postQueryService.findPostById(any())).willReturn(post);
         given(commentRepository.findByPostId(any())).willReturn(comments);
-        given(userRepository.findAllById(anyList())).willReturn(users);
+        given(userProfileService.getProfiles(anyList())).willReturn(toProfileMap(users));
         given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
         given(postQueryService.getUserAnonymousNumber(any(), any())).willReturn(1);
-        given(replyQueryService.getRepliesByCommentId(any(), any())).willReturn(replies);
-        given(likeService.getLikeCount(eq(LikeType.COMMENT), any())).willReturn(5);
-        given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
-        given(likeService.isLiked(eq(LikeType.COMMENT), any(), (ObjectId) any())).willReturn(false);
+        given(replyQueryService.getRepliesGroupByCommentId(anyList())).willReturn(replies);
+        given(likeService.getLikeCounts(anyMap())).willReturn(Map.of());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(new ObjectId().toHexString());
+        given(likeService.getLikedIds(anyMap(), any(ObjectId.class))).willReturn(Set.of());
         
         // When
         List<CommentResponseDTO> result = commentQueryService.getCommentsByPostId(postId);
@@ -110,7 +114,95 @@ class CommentQueryServiceTest {
         assertThat(result).isEmpty();
         verify(postQueryService).findPostById(any());
         verify(commentRepository).findByPostId(any());
-        verify(userRepository, never()).findAllById(anyList());
+        verify(userProfileService, never()).getProfiles(anyList());
+        verify(replyQueryService, never()).getRepliesGroupByCommentId(anyList());
+    }
+
+    @Test
+    void getCommentsByPostId_대댓글수백개_일괄조회() {
+        // Given
+        PostEntity post = createPostEntityWithAnonymous();
+        ObjectId viewerId = new ObjectId();
+        List<ObjectId> userIds = IntStream.range(0, 20).mapToObj(i -> new ObjectId()).toList();
+        List<CommentEntity> comments = IntStream.range(0, 10)
+                .mapToObj(i -> createCommentEntityWithUser(userIds.get(i)))
+                .toList();
+        Map<ObjectId, List<ReplyCommentEntity>> replies = new HashMap<>();
+        comments.forEach(comment -> replies.put(comment.get_id(), IntStream.range(0, 30)
+                .mapToObj(i -> createReplyEntity(comment.get_id(), userIds.get(i % userIds.size())))
+                .toList()));
+        CommentEntity likedComment = comments.get(0);
+        ReplyCommentEntity likedReply = replies.get(comments.get(3).get_id()).get(5);
+        List<UserEntity> users = userIds.stream()
+                .map(userId -> createUserEntityWithId(userId, "사용자"))
+                .toList();
+
+        given(postQueryService.findPostById(any())).willReturn(post);
+        given(commentRepository.findByPostId(any())).willReturn(comments);
+        given(replyQueryService.getRepliesGroupByCommentId(anyList())).willReturn(replies);
+        given(userProfileService.getProfiles(anyList())).willReturn(toProfileMap(users));
+        given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
+        given(postQueryService.getUserAnonymousNumber(any(), any())).willReturn(1);
+        given(likeService.getLikeCounts(anyMap())).willReturn(Map.of(
+                LikeType.COMMENT, Map.of(likedComment.get_id().toString(), 2),
+                LikeType.REPLY, Map.of(likedReply.get_id().toString(), 7)));
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(viewerId.toHexString());
+        given(likeService.getLikedIds(anyMap(), eq(viewerId)))
+                .willReturn(Set.of(likedComment.get_id().toString(), likedReply.get_id().toString()));
+
+        // When
+        List<CommentResponseDTO> result = commentQueryService.getCommentsByPostId(post.get_id().toString());
+
+        // Then
+        assertThat(result).hasSize(10);
+        assertThat(result).extracting(CommentResponseDTO::get_id)
+                .containsExactlyElementsOf(comments.stream().map(comment -> comment.get_id().toString()).toList());
+        assertThat(result).allSatisfy(comment -> assertThat(comment.getReplies()).hasSize(30));
+        assertThat(result.get(0).getLikeCount()).isEqualTo(2);
+        assertThat(result.get(0).getUserInfo().getLike()).isTrue();
+        CommentResponseDTO reply = result.get(3).getReplies().get(5);
+        assertThat(reply.get_id()).isEqualTo(likedReply.get_id().toString());
+        assertThat(reply.getLikeCount()).isEqualTo(7);
+        assertThat(reply.getUserInfo().getLike()).isTrue();
+        assertThat(result.get(1).getReplies().get(0).getUserInfo().getLike()).isFalse();
+
+        // 댓글/대댓글 수와 무관하게 각 조회는 한 번씩만 수행
+        verify(commentRepository, times(1)).findByPostId(any());
+        verify(replyQueryService, times(1)).getRepliesGroupByCommentId(anyList());
+        verify(replyQueryService, never()).getRepliesByCommentId(any(), any());
+        verify(userProfileService, times(1)).getProfiles(argThat(iterable ->
+                StreamSupport.stream(iterable.spliterator(), false).count() == userIds.size()));
+        verify(likeService, times(1)).getLikeCounts(argThat((Map<LikeType, List<String>> ids) ->
+                ids.get(LikeType.COMMENT).size() == 10 && ids.get(LikeType.REPLY).size() == 300));
+        verify(likeService, times(1)).getLikedIds(anyMap(), eq(viewerId));
+        verify(likeService, never()).getLikeCount(any(), any());
+        verify(likeService, never()).isLiked(any(), any(), any(ObjectId.class));
+    }
+
+    @Test
+    void getCommentsByPostId_비로그인_좋아요여부조회안함() {
+        // Given
+        PostEntity post = createPostEntity();
+        ObjectId userId = new ObjectId();
+        CommentEntity comment = createCommentEntityWithUser(userId);
+
+        given(postQueryService.findPostById(any())).willReturn(post);
+        given(commentRepository.findByPostId(any())).willReturn(List.of(comment));
+        given(replyQueryService.getRepliesGroupByCommentId(anyList())).willReturn(Map.of());
+        given(userProfileService.getProfiles(anyList())).willReturn(toProfileMap(List.of(createUserEntityWithId(userId, "사용자"))));
+        given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
+        given(postQueryService.getUserAnonymousNumber(any(), any())).willReturn(1);
+        given(likeService.getLikeCounts(anyMap())).willReturn(Map.of());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(null);
+
+        // When
+        List<CommentResponseDTO> result = commentQueryService.getCommentsByPostId(post.get_id().toString());
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getLikeCount()).isZero();
+        assertThat(result.get(0).getUserInfo().getLike()).isFalse();
+        verify(likeService, never()).getLikedIds(anyMap(), any(ObjectId.class));
     }
     
     @Test
@@ -123,17 +215,17 @@ class CommentQueryServiceTest {
         List<CommentEntity> comments = Arrays.asList(comment);
         UserEntity user = createUserEntityWithId(userId, "테스트사용자");
         List<UserEntity> users = Arrays.asList(user);
-        List<CommentResponseDTO> replies = new ArrayList<>();
+        Map<ObjectId, List<ReplyCommentEntity>> replies = Map.of();
         
         given(postQueryService.findPostById(any())).willReturn(post);
         given(commentRepository.findByPostId(any())).willReturn(comments);
-        given(userRepository.findAllById(anyList())).willReturn(users);
+        given(userProfileService.getProfiles(anyList())).willReturn(toProfileMap(users));
         given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
         given(postQueryService.getUserAnonymousNumber(any(), any())).willReturn(2); // 익명 번호
-        given(replyQueryService.getRepliesByCommentId(any(), any())).willReturn(replies);
-        given(likeService.getLikeCount(eq(LikeType.COMMENT), any())).willReturn(3);
-        given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
-        given(likeService.isLiked(eq(LikeType.COMMENT), any(), (ObjectId) any())).willReturn(true);
+        given(replyQueryService.getRepliesGroupByCommentId(anyList())).willReturn(replies);
+        given(likeService.getLikeCounts(anyMap())).willReturn(Map.of());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(new ObjectId().toHexString());
+        given(likeService.getLikedIds(anyMap(), any(ObjectId.class))).willReturn(Set.of());
         
         // When
         List<CommentResponseDTO> result = commentQueryService.getCommentsByPostId(postId);
@@ -180,7 +272,7 @@ class CommentQueryServiceTest {
         ObjectId commentId = new ObjectId();
         ObjectId userId = new ObjectId();
 
-        given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(userId.toHexString());
         given(likeService.isLiked(LikeType.COMMENT, commentId.toString(), userId)).willReturn(true);
 
         // When
@@ -197,7 +289,7 @@ class CommentQueryServiceTest {
         ObjectId commentId = new ObjectId();
         ObjectId userId = new ObjectId();
 
-        given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(userId.toHexString());
         given(likeService.isLiked(LikeType.COMMENT, commentId.toString(), userId)).willReturn(false);
 
         // When
@@ -223,17 +315,17 @@ class CommentQueryServiceTest {
             createUserEntityWithId(userId2, "사용자2")
         );
         PostEntity post = createPostEntityWithAnonymous();
-        List<CommentResponseDTO> replies = new ArrayList<>();
+        Map<ObjectId, List<ReplyCommentEntity>> replies = Map.of();
         
         given(postQueryService.findPostById(any())).willReturn(post);
         given(commentRepository.findByPostId(any())).willReturn(comments);
-        given(userRepository.findAllById(anyList())).willReturn(users);
+        given(userProfileService.getProfiles(anyList())).willReturn(toProfileMap(users));
         given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
         given(postQueryService.getUserAnonymousNumber(any(), any())).willReturn(1);
-        given(replyQueryService.getRepliesByCommentId(any(), any())).willReturn(replies);
-        given(likeService.getLikeCount(eq(LikeType.COMMENT), any())).willReturn(0);
-        given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
-        given(likeService.isLiked(eq(LikeType.COMMENT), any(), (ObjectId) any())).willReturn(false);
+        given(replyQueryService.getRepliesGroupByCommentId(anyList())).willReturn(replies);
+        given(likeService.getLikeCounts(anyMap())).willReturn(Map.of());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(new ObjectId().toHexString());
+        given(likeService.getLikedIds(anyMap(), any(ObjectId.class))).willReturn(Set.of());
         
         // When
         List<CommentResponseDTO> result = commentQueryService.getCommentsByPostId(new ObjectId().toString());
@@ -241,13 +333,18 @@ class CommentQueryServiceTest {
         // Then
         assertThat(result).hasSize(3);
         // userId1과 userId2만 조회되어야 함 (중복 제거)
-        verify(userRepository).findAllById(argThat(iterable -> {
+        verify(userProfileService).getProfiles(argThat(iterable -> {
             List<ObjectId> ids = StreamSupport.stream(iterable.spliterator(), false)
                     .toList();
             return ids.size() == 2 && ids.contains(userId1) && ids.contains(userId2);
         }));
     } 
     
+    private Map<ObjectId, UserProfile> toProfileMap(List<UserEntity> users) {
+        return users.stream()
+                .collect(Collectors.toMap(UserEntity::get_id, UserProfile::from));
+    }
+
     // Helper methods
     private PostEntity createPostEntity() {
         PostEntity post = PostEntity.builder()
@@ -291,6 +388,17 @@ class CommentQueryServiceTest {
         return comment;
     }
     
+    private ReplyCommentEntity createReplyEntity(ObjectId commentId, ObjectId userId) {
+        ReplyCommentEntity reply = ReplyCommentEntity.builder()
+                .commentId(commentId)
+                .userId(userId)
+                .content("테스트 대댓글")
+                .anonymous(false)
+                .build();
+        setIdFieldSafely(reply, new ObjectId());
+        return reply;
+    }
+    
     private UserEntity createUserEntity(String nickname) {
         return UserEntity.builder()
                 .nickname(nickname)
@@ -11,8 +11,9 @@ import inu.codin.codin.domain.post.domain.comment.reply.service.ReplyQueryServic
 import inu.codin.codin.domain.post.dto.UserInfo;
 import inu.codin.codin.domain.post.entity.PostAnonymous;
 import inu.codin.codin.domain.post.service.PostQueryService;
+import inu.codin.codin.domain.user.dto.UserProfile;
 import inu.codin.codin.domain.user.entity.UserEntity;
-import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.user.service.UserProfileService;
 import inu.codin.codin.infra.s3.S3Service;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.*;
@@ -21,6 +22,7 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.*;
@@ -34,7 +36,7 @@ class ReplyQueryServiceTest {
     private ReplyQueryService replyQueryService;
     
     @Mock private ReplyCommentRepository replyCommentRepository;
-    @Mock private UserRepository userRepository;
+    @Mock private UserProfileService userProfileService;
     @Mock private PostQueryService postQueryService;
     @Mock private LikeService likeService;
     @Mock private S3Service s3Service;
@@ -69,12 +71,12 @@ class ReplyQueryServiceTest {
         );
         
         given(replyCommentRepository.findByCommentId(commentId)).willReturn(replies);
-        given(userRepository.findAllById(anyList())).willReturn(users);
+        given(userProfileService.getProfiles(anyList())).willReturn(toProfileMap(users));
         given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
         given(postQueryService.getUserAnonymousNumber(any(), any())).willReturn(1);
-        given(likeService.getLikeCount(eq(LikeType.REPLY), any())).willReturn(3);
-        given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
-        given(likeService.isLiked(eq(LikeType.REPLY), any(),(ObjectId) any())).willReturn(false);
+        given(likeService.getLikeCounts(eq(LikeType.REPLY), anyList())).willReturn(Map.of());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(new ObjectId().toHexString());
+        given(likeService.getLikedIds(eq(LikeType.REPLY), anyList(), any(ObjectId.class))).willReturn(Set.of());
         
         // When
         List<CommentResponseDTO> result = replyQueryService.getRepliesByCommentId(postAnonymous, commentId);
@@ -83,7 +85,11 @@ class ReplyQueryServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
         verify(replyCommentRepository).findByCommentId(commentId);
-        verify(userRepository).findAllById(anyList());
+        verify(userProfileService).getProfiles(anyList());
+        verify(likeService, times(1)).getLikeCounts(eq(LikeType.REPLY), anyList());
+        verify(likeService, times(1)).getLikedIds(eq(LikeType.REPLY), anyList(), any(ObjectId.class));
+        verify(likeService, never()).getLikeCount(any(), any());
+        verify(likeService, never()).isLiked(any(), any(), any(ObjectId.class));
     }
     
     @Test
@@ -102,7 +108,7 @@ class ReplyQueryServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
         verify(replyCommentRepository).findByCommentId(commentId);
-        verify(userRepository, never()).findAllById(anyList());
+        verify(userProfileService, never()).getProfiles(anyList());
     }
     
     @Test
@@ -117,12 +123,12 @@ class ReplyQueryServiceTest {
         List<UserEntity> users = Arrays.asList(user);
         
         given(replyCommentRepository.findByCommentId(commentId)).willReturn(replies);
-        given(userRepository.findAllById(anyList())).willReturn(users);
+        given(userProfileService.getProfiles(anyList())).willReturn(toProfileMap(users));
         given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
         given(postQueryService.getUserAnonymousNumber(postAnonymous, userId)).willReturn(3); // 익명 번호
-        given(likeService.getLikeCount(eq(LikeType.REPLY), any())).willReturn(2);
-        given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
-        given(likeService.isLiked(eq(LikeType.REPLY), any(),(ObjectId) any())).willReturn(true);
+        given(likeService.getLikeCounts(eq(LikeType.REPLY), anyList())).willReturn(Map.of());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(new ObjectId().toHexString());
+        given(likeService.getLikedIds(eq(LikeType.REPLY), anyList(), any(ObjectId.class))).willReturn(Set.of(reply.get_id().toString()));
         
         // When
         List<CommentResponseDTO> result = replyQueryService.getRepliesByCommentId(postAnonymous, commentId);
@@ -130,9 +136,43 @@ class ReplyQueryServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
+        assertThat(result.get(0).getUserInfo().getLike()).isTrue();
         verify(postQueryService).getUserAnonymousNumber(postAnonymous, userId);
     }
     
+    @Test
+    void getRepliesGroupByCommentId_여러댓글_한번에조회() {
+        // Given
+        ObjectId commentId1 = new ObjectId();
+        ObjectId commentId2 = new ObjectId();
+        ReplyCommentEntity first = createReplyEntityWithComment(commentId1);
+        ReplyCommentEntity second = createReplyEntityWithComment(commentId2);
+        ReplyCommentEntity third = createReplyEntityWithComment(commentId1);
+
+        given(replyCommentRepository.findByCommentIdIn(List.of(commentId1, commentId2)))
+                .willReturn(List.of(first, second, third));
+
+        // When
+        Map<ObjectId, List<ReplyCommentEntity>> result =
+                replyQueryService.getRepliesGroupByCommentId(List.of(commentId1, commentId2));
+
+        // Then
+        assertThat(result.get(commentId1)).containsExactly(first, third);
+        assertThat(result.get(commentId2)).containsExactly(second);
+        verify(replyCommentRepository, times(1)).findByCommentIdIn(anyList());
+        verify(replyCommentRepository, never()).findByCommentId(any());
+    }
+
+    @Test
+    void getRepliesGroupByCommentId_댓글없음_조회안함() {
+        // When
+        Map<ObjectId, List<ReplyCommentEntity>> result = replyQueryService.getRepliesGroupByCommentId(List.of());
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(replyCommentRepository, never()).findByCommentIdIn(anyList());
+    }
+
     @Test
     void findReplyById_정상조회_성공() {
         // Given
@@ -169,7 +209,7 @@ class ReplyQueryServiceTest {
         ObjectId replyId = new ObjectId();
         ObjectId userId = new ObjectId();
 
-        given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(userId.toHexString());
         given(likeService.isLiked(LikeType.REPLY, replyId.toString(), userId)).willReturn(true);
 
         // When
@@ -186,7 +226,7 @@ class ReplyQueryServiceTest {
         ObjectId replyId = new ObjectId();
         ObjectId userId = new ObjectId();
 
-        given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(userId.toHexString());
         given(likeService.isLiked(LikeType.REPLY, replyId.toString(), userId)).willReturn(false);
 
         // When
@@ -215,12 +255,12 @@ class ReplyQueryServiceTest {
         );
         
         given(replyCommentRepository.findByCommentId(commentId)).willReturn(replies);
-        given(userRepository.findAllById(anyList())).willReturn(users);
+        given(userProfileService.getProfiles(anyList())).willReturn(toProfileMap(users));
         given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
         given(postQueryService.getUserAnonymousNumber(any(), any())).willReturn(1);
-        given(likeService.getLikeCount(eq(LikeType.REPLY), any())).willReturn(0);
-        given(SecurityUtil.getCurrentUserId()).willReturn(new ObjectId().toHexString());
-        given(likeService.isLiked(eq(LikeType.REPLY), any(),(ObjectId) any())).willReturn(false);
+        given(likeService.getLikeCounts(eq(LikeType.REPLY), anyList())).willReturn(Map.of());
+        given(SecurityUtil.getCurrentUserIdOrNull()).willReturn(new ObjectId().toHexString());
+        given(likeService.getLikedIds(eq(LikeType.REPLY), anyList(), any(ObjectId.class))).willReturn(Set.of());
         
         // When
         List<CommentResponseDTO> result = replyQueryService.getRepliesByCommentId(postAnonymous, commentId);
@@ -228,13 +268,18 @@ class ReplyQueryServiceTest {
         // Then
         assertThat(result).hasSize(3);
         // userId1과 userId2만 조회되어야 함 (중복 제거)
-        verify(userRepository).findAllById(argThat(iterable -> {
+        verify(userProfileService).getProfiles(argThat(iterable -> {
             List<ObjectId> ids = StreamSupport.stream(iterable.spliterator(), false)
                     .toList();
             return ids.size() == 2 && ids.contains(userId1) && ids.contains(userId2);
         }));
     }
     
+    private Map<ObjectId, UserProfile> toProfileMap(List<UserEntity> users) {
+        return users.stream()
+                .collect(Collectors.toMap(UserEntity::get_id, UserProfile::from));
+    }
+
     // Helper methods
     private ReplyCommentEntity createReplyEntity() {
         ReplyCommentEntity reply = ReplyCommentEntity.builder()
@@ -258,6 +303,17 @@ class ReplyQueryServiceTest {
         return reply;
     }
     
+    private ReplyCommentEntity createReplyEntityWithComment(ObjectId commentId) {
+        ReplyCommentEntity reply = ReplyCommentEntity.builder()
+                .commentId(commentId)
+                .userId(new ObjectId())
+                .content("테스트 대댓글")
+                .anonymous(false)
+                .build();
+        setIdFieldSafely(reply, new ObjectId());
+        return reply;
+    }
+    
     private UserEntity createUserEntityWithId(ObjectId id, String nickname) {
         UserEntity user = UserEntity.builder()
                 .nickname(nickname)
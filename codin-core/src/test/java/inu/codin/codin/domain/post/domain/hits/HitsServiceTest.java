@@ -1,16 +1,25 @@
 package inu.codin.codin.domain.post.domain.hits;
 
 import inu.codin.codin.domain.post.domain.hits.entity.HitsEntity;
+import inu.codin.codin.domain.post.domain.hits.repository.CustomHitsRepository;
 import inu.codin.codin.domain.post.domain.hits.repository.HitsRepository;
 import inu.codin.codin.domain.post.domain.hits.service.HitsService;
+import inu.codin.codin.domain.post.entity.PostCounterType;
+import inu.codin.codin.domain.post.service.PostCounterService;
 import inu.codin.codin.infra.redis.config.RedisHealthChecker;
 import inu.codin.codin.infra.redis.service.RedisHitsService;
+import inu.codin.codin.infra.redis.service.RedisHitsService.ViewResult;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -24,56 +33,116 @@ class HitsServiceTest {
     @Mock private RedisHitsService redisHitsService;
     @Mock private RedisHealthChecker redisHealthChecker;
     @Mock private HitsRepository hitsRepository;
+    @Mock private CustomHitsRepository customHitsRepository;
+    @Mock private PostCounterService postCounterService;
     
     @Test
-    void addHits_Redis사용가능_Redis와DB모두저장() {
+    void recordView_Redis기록성공_DB조회없음() {
         // Given
         ObjectId postId = new ObjectId();
         ObjectId userId = new ObjectId();
-        
+
         given(redisHealthChecker.isRedisAvailable()).willReturn(true);
-        doNothing().when(redisHitsService).addHits(postId);
-        given(hitsRepository.save(any(HitsEntity.class))).willReturn(createHitsEntity());
-        
-        // When & Then
-        assertThatCode(() -> hitsService.addHits(postId, userId)).doesNotThrowAnyException();
-        verify(redisHitsService).addHits(postId);
-        verify(hitsRepository).save(any(HitsEntity.class));
+        given(redisHitsService.recordView(postId, userId)).willReturn(ViewResult.RECORDED);
+
+        // When
+        hitsService.recordView(postId, userId);
+
+        // Then
+        verify(redisHitsService, times(1)).recordView(postId, userId);
+        verifyNoInteractions(hitsRepository, customHitsRepository, postCounterService);
     }
-    
+
     @Test
-    void addHits_Redis사용불가_DB만저장() {
+    void recordView_처음집계된유저_hits컬렉션에기록() {
         // Given
         ObjectId postId = new ObjectId();
         ObjectId userId = new ObjectId();
-        
+
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisHitsService.recordView(postId, userId)).willReturn(ViewResult.NEW_VIEWER);
+
+        // When
+        hitsService.recordView(postId, userId);
+
+        // Then : Redis 집계 만료 후 초기화, 장애 중 중복 확인에 사용 (조회수는 Redis로만 집계)
+        verify(customHitsRepository).insertViewerIfAbsent(postId, userId);
+        verify(hitsRepository, never()).save(any(HitsEntity.class));
+        verifyNoInteractions(postCounterService);
+    }
+
+    @Test
+    void recordView_초기화전게시글_hits컬렉션기준초기화후기록() {
+        // Given
+        ObjectId postId = new ObjectId();
+        ObjectId userId = new ObjectId();
+        List<ObjectId> viewers = List.of(new ObjectId(), new ObjectId());
+
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisHitsService.recordView(postId, userId)).willReturn(ViewResult.NOT_SEEDED, ViewResult.RECORDED);
+        given(customHitsRepository.findViewerIds(postId)).willReturn(viewers);
+        given(postCounterService.getStoredCount(postId, PostCounterType.HITS)).willReturn(5);
+
+        // When
+        hitsService.recordView(postId, userId);
+
+        // Then
+        verify(redisHitsService).seedViewers(postId, viewers, 3);
+        verify(redisHitsService, times(2)).recordView(postId, userId);
+        verify(hitsRepository, never()).save(any(HitsEntity.class));
+    }
+
+    @Test
+    void recordView_Redis사용불가_DB중복확인후저장() {
+        // Given
+        ObjectId postId = new ObjectId();
+        ObjectId userId = new ObjectId();
+
         given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+        given(hitsRepository.existsByPostIdAndUserId(postId, userId)).willReturn(false);
         given(hitsRepository.save(any(HitsEntity.class))).willReturn(createHitsEntity());
-        
-        // When & Then
-        assertThatCode(() -> hitsService.addHits(postId, userId)).doesNotThrowAnyException();
-        verify(redisHitsService, never()).addHits(any());
-        verify(hitsRepository).save(any(HitsEntity.class));
+
+        // When
+        hitsService.recordView(postId, userId);
+
+        // Then : Redis 복구 후 합산할 수 있도록 합산 대기로 저장
+        ArgumentCaptor<HitsEntity> captor = ArgumentCaptor.forClass(HitsEntity.class);
+        verify(redisHitsService, never()).recordView(any(), any());
+        verify(hitsRepository).save(captor.capture());
+        assertThat(captor.getValue().isPendingMerge()).isTrue();
+        verify(postCounterService).record(postId, PostCounterType.HITS, 1);
     }
-    
+
     @Test
-    void addHits_다른사용자_각각저장() {
+    void recordView_Redis오류_이미조회한유저_저장안함() {
         // Given
         ObjectId postId = new ObjectId();
-        ObjectId userId1 = new ObjectId();
-        ObjectId userId2 = new ObjectId();
-        
+        ObjectId userId = new ObjectId();
+
         given(redisHealthChecker.isRedisAvailable()).willReturn(true);
-        doNothing().when(redisHitsService).addHits(postId);
-        given(hitsRepository.save(any(HitsEntity.class))).willReturn(createHitsEntity());
-        
+        given(redisHitsService.recordView(postId, userId)).willThrow(new RuntimeException("redis down"));
+        given(hitsRepository.existsByPostIdAndUserId(postId, userId)).willReturn(true);
+
         // When
-        hitsService.addHits(postId, userId1);
-        hitsService.addHits(postId, userId2);
-        
+        hitsService.recordView(postId, userId);
+
         // Then
-        verify(redisHitsService, times(2)).addHits(postId);
-        verify(hitsRepository, times(2)).save(any(HitsEntity.class));
+        verify(hitsRepository, never()).save(any(HitsEntity.class));
+        verify(postCounterService, never()).record(any(), any(), anyLong());
+    }
+
+    @Test
+    void addHits_DB저장_조회수기록() {
+        // Given
+        ObjectId postId = new ObjectId();
+        ObjectId userId = new ObjectId();
+        
+        given(hitsRepository.save(any(HitsEntity.class))).willReturn(createHitsEntity());
+        
+        // When & Then
+        assertThatCode(() -> hitsService.addHits(postId, userId)).doesNotThrowAnyException();
+        verify(hitsRepository).save(any(HitsEntity.class));
+        verify(postCounterService).record(postId, PostCounterType.HITS, 1);
     }
     
     @Test
@@ -133,7 +202,7 @@ class HitsServiceTest {
     void getHitsCount_Redis캐시히트_Redis값반환() {
         // Given
         ObjectId postId = new ObjectId();
-        String cachedHits = "10";
+        Long cachedHits = 10L;
         
         given(redisHealthChecker.isRedisAvailable()).willReturn(true);
         given(redisHitsService.getHitsCount(postId)).willReturn(cachedHits);
@@ -148,7 +217,7 @@ class HitsServiceTest {
     }
     
     @Test
-    void getHitsCount_Redis캐시미스_DB조회후복구() {
+    void getHitsCount_Redis집계전_DB조회() {
         // Given
         ObjectId postId = new ObjectId();
         int dbHitsCount = 15;
@@ -156,7 +225,6 @@ class HitsServiceTest {
         given(redisHealthChecker.isRedisAvailable()).willReturn(true);
         given(redisHitsService.getHitsCount(postId)).willReturn(null); // 캐시 미스
         given(hitsRepository.countAllByPostId(postId)).willReturn(dbHitsCount);
-        doNothing().when(redisHitsService).recoveryHits(postId, dbHitsCount);
         
         // When
         int result = hitsService.getHitsCount(postId);
@@ -164,10 +232,26 @@ class HitsServiceTest {
         // Then
         assertThat(result).isEqualTo(15);
         verify(redisHitsService).getHitsCount(postId);
-        verify(hitsRepository, atLeast(1)).countAllByPostId(postId); // @Async recoveryHits도 호출하므로 최소 1번
-        // recoveryHits는 @Async이므로 직접 검증하기 어려움
+        verify(hitsRepository, times(1)).countAllByPostId(postId);
     }
     
+    @Test
+    void getHitsCount_Redis집계전_게시글저장조회수반환() {
+        // Given
+        ObjectId postId = new ObjectId();
+
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisHitsService.getHitsCount(postId)).willReturn(null);
+        given(postCounterService.getStoredCount(postId, PostCounterType.HITS)).willReturn(21);
+
+        // When
+        int result = hitsService.getHitsCount(postId);
+
+        // Then
+        assertThat(result).isEqualTo(21);
+        verify(hitsRepository, never()).countAllByPostId(any());
+    }
+
     @Test
     void getHitsCount_Redis사용불가_DB조회() {
         // Given
@@ -183,15 +267,14 @@ class HitsServiceTest {
         // Then
         assertThat(result).isEqualTo(7);
         verify(redisHitsService, never()).getHitsCount(any());
-        verify(hitsRepository, atLeast(1)).countAllByPostId(postId); // @Async recoveryHits도 호출하므로 최소 1번
-        // recoveryHits는 @Async이므로 직접 검증하기 어려움
+        verify(hitsRepository, times(1)).countAllByPostId(postId);
     }
     
     @Test
     void getHitsCount_Redis캐시0_정상반환() {
         // Given
         ObjectId postId = new ObjectId();
-        String cachedHits = "0";
+        Long cachedHits = 0L;
         
         given(redisHealthChecker.isRedisAvailable()).willReturn(true);
         given(redisHitsService.getHitsCount(postId)).willReturn(cachedHits);
@@ -219,7 +302,7 @@ class HitsServiceTest {
         
         // Then
         assertThat(result).isEqualTo(0);
-        verify(hitsRepository, atLeast(1)).countAllByPostId(postId); // @Async recoveryHits도 호출하므로 최소 1번
+        verify(hitsRepository, times(1)).countAllByPostId(postId);
     }
     
     @Test
@@ -230,9 +313,9 @@ class HitsServiceTest {
         ObjectId postId3 = new ObjectId();
         
         given(redisHealthChecker.isRedisAvailable()).willReturn(true);
-        given(redisHitsService.getHitsCount(postId1)).willReturn("5");
-        given(redisHitsService.getHitsCount(postId2)).willReturn("12");
-        given(redisHitsService.getHitsCount(postId3)).willReturn("0");
+        given(redisHitsService.getHitsCount(postId1)).willReturn(5L);
+        given(redisHitsService.getHitsCount(postId2)).willReturn(12L);
+        given(redisHitsService.getHitsCount(postId3)).willReturn(0L);
         
         // When
         int result1 = hitsService.getHitsCount(postId1);
@@ -248,6 +331,84 @@ class HitsServiceTest {
         verify(redisHitsService).getHitsCount(postId3);
     }
     
+    @Test
+    void compactHits_변경된게시글_조회수반영() {
+        // Given
+        ObjectId postId = new ObjectId();
+        ObjectId unseededPostId = new ObjectId();
+
+        given(redisHitsService.drainDirtyPosts(anyInt())).willReturn(List.of(postId, unseededPostId));
+        given(redisHitsService.getHitsCounts(List.of(postId, unseededPostId))).willReturn(Arrays.asList(42L, null));
+
+        // When
+        int compacted = hitsService.compactHits();
+
+        // Then
+        assertThat(compacted).isEqualTo(1);
+        verify(postCounterService).raiseStoredCounts(Map.of(postId, 42), PostCounterType.HITS);
+        verify(redisHitsService, never()).markDirty(any());
+    }
+
+    @Test
+    void compactHits_반영실패_반영대상재등록() {
+        // Given
+        List<ObjectId> postIds = List.of(new ObjectId());
+
+        given(redisHitsService.drainDirtyPosts(anyInt())).willReturn(postIds);
+        given(redisHitsService.getHitsCounts(postIds)).willReturn(List.of(3L));
+        willThrow(new RuntimeException("bulk write failed"))
+                .given(postCounterService).raiseStoredCounts(anyMap(), eq(PostCounterType.HITS));
+
+        // When
+        int compacted = hitsService.compactHits();
+
+        // Then
+        assertThat(compacted).isZero();
+        verify(redisHitsService).markDirty(postIds);
+        verify(redisHitsService, times(1)).drainDirtyPosts(anyInt());
+    }
+
+    @Test
+    void compactHits_Redis장애중조회_복구후Redis집계에합산() {
+        // Given : 재시작 후에도 DB에 남은 합산 대기 조회
+        ObjectId postId = new ObjectId();
+        ObjectId userId = new ObjectId();
+        List<HitsEntity> pending = List.of(
+                createPendingHits(postId, userId), createPendingHits(postId, null), createPendingHits(postId, null));
+
+        given(customHitsRepository.findPendingMerge(anyInt())).willReturn(pending, List.of());
+        given(redisHitsService.drainDirtyPosts(anyInt())).willReturn(List.of());
+
+        // When
+        hitsService.compactHits();
+        hitsService.compactHits();
+
+        // Then : 한 번만 합산 후 합산 표시
+        verify(redisHitsService, times(1)).mergeViews(postId, Set.of(userId), 2);
+        verify(customHitsRepository).markMerged(pending.stream().map(HitsEntity::get_id).toList());
+    }
+
+    @Test
+    void compactHits_장애중조회합산실패_다음주기에재시도() {
+        // Given
+        ObjectId postId = new ObjectId();
+        List<HitsEntity> pending = List.of(createPendingHits(postId, null));
+
+        given(customHitsRepository.findPendingMerge(anyInt())).willReturn(pending);
+        given(redisHitsService.drainDirtyPosts(anyInt())).willReturn(List.of());
+        given(redisHitsService.mergeViews(postId, Set.of(), 1))
+                .willThrow(new RuntimeException("connection refused"))
+                .willReturn(true);
+
+        // When
+        hitsService.compactHits();
+        hitsService.compactHits();
+
+        // Then : 실패한 주기에는 합산 표시하지 않음
+        verify(redisHitsService, times(2)).mergeViews(postId, Set.of(), 1);
+        verify(customHitsRepository, times(1)).markMerged(anyList());
+    }
+
     // Helper methods
     private HitsEntity createHitsEntity() {
         HitsEntity hitsEntity = HitsEntity.builder()
@@ -258,6 +419,16 @@ class HitsServiceTest {
         return hitsEntity;
     }
     
+    private HitsEntity createPendingHits(ObjectId postId, ObjectId userId) {
+        HitsEntity hitsEntity = HitsEntity.builder()
+                .postId(postId)
+                .userId(userId)
+                .pendingMerge(true)
+                .build();
+        setIdFieldSafely(hitsEntity, new ObjectId());
+        return hitsEntity;
+    }
+
     private void setIdFieldSafely(Object entity, ObjectId id) {
         try {
             java.lang.reflect.Field idField = entity.getClass().getDeclaredField("_id");
@@ -0,0 +1,107 @@
+package inu.codin.codin.domain.post.domain.poll;
+
+import inu.codin.codin.domain.post.domain.poll.dto.PollSummary;
+import inu.codin.codin.domain.post.domain.poll.entity.PollEntity;
+import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollRepository;
+import inu.codin.codin.domain.post.domain.poll.repository.PollRepository;
+import inu.codin.codin.domain.post.domain.poll.repository.PollVoteRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 투표 요약 aggregation 테스트
+ * 투표, 참여자 수, 유저 투표 내역이 게시글별로 올바르게 조회되는지 검증
+ */
+@Testcontainers
+@DataMongoTest
+@Import(CustomPollRepository.class)
+class CustomPollRepositoryTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry r) {
+        r.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    @Autowired PollRepository pollRepository;
+    @Autowired PollVoteRepository pollVoteRepository;
+    @Autowired CustomPollRepository customPollRepository;
+
+    @BeforeEach
+    void setUp() {
+        pollRepository.deleteAll();
+        pollVoteRepository.deleteAll();
+    }
+
+    @Test
+    void findSummariesByPostIds_여러투표_참여자수와유저투표내역() {
+        // Given
+        ObjectId userId = new ObjectId();
+        PollEntity votedPoll = savePoll(true);
+        PollEntity notVotedPoll = savePoll(false);
+        PollEntity emptyPoll = savePoll(false);
+
+        pollVoteRepository.save(PollVoteEntity.from(votedPoll.get_id(), userId, List.of(0, 2)));
+        pollVoteRepository.save(PollVoteEntity.from(votedPoll.get_id(), new ObjectId(), List.of(1)));
+        pollVoteRepository.save(PollVoteEntity.from(notVotedPoll.get_id(), new ObjectId(), List.of(0)));
+
+        // When
+        Map<ObjectId, PollSummary> result = customPollRepository.findSummariesByPostIds(
+                List.of(votedPoll.getPostId(), notVotedPoll.getPostId(), emptyPoll.getPostId(), new ObjectId()), userId);
+
+        // Then
+        assertThat(result).hasSize(3);
+
+        PollSummary voted = result.get(votedPoll.getPostId());
+        assertThat(voted.poll().getPollOptions()).containsExactly("A", "B", "C");
+        assertThat(voted.poll().isMultipleChoice()).isTrue();
+        assertThat(voted.totalParticipants()).isEqualTo(2);
+        assertThat(voted.userVotes()).containsExactly(0, 2);
+
+        PollSummary notVoted = result.get(notVotedPoll.getPostId());
+        assertThat(notVoted.totalParticipants()).isEqualTo(1);
+        assertThat(notVoted.hasUserVoted()).isFalse();
+
+        PollSummary empty = result.get(emptyPoll.getPostId());
+        assertThat(empty.totalParticipants()).isZero();
+        assertThat(empty.hasUserVoted()).isFalse();
+    }
+
+    @Test
+    void findSummariesByPostIds_비로그인_투표내역없음() {
+        // Given
+        PollEntity poll = savePoll(false);
+        pollVoteRepository.save(PollVoteEntity.from(poll.get_id(), new ObjectId(), List.of(1)));
+
+        // When
+        PollSummary summary = customPollRepository.findSummariesByPostIds(List.of(poll.getPostId()), null)
+                .get(poll.getPostId());
+
+        // Then
+        assertThat(summary.totalParticipants()).isEqualTo(1);
+        assertThat(summary.hasUserVoted()).isFalse();
+    }
+
+    private PollEntity savePoll(boolean multipleChoice) {
+        return pollRepository.save(new PollEntity(
+                new ObjectId(), List.of("A", "B", "C"), LocalDateTime.now().plusDays(1), multipleChoice));
+    }
+}
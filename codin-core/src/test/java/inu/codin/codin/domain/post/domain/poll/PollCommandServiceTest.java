@@ -8,8 +8,9 @@ import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
 import inu.codin.codin.domain.post.domain.poll.exception.PollException;
 import inu.codin.codin.domain.post.exception.PostException;
 import inu.codin.codin.domain.post.exception.PostErrorCode;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollRepository;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollVoteRepository;
 import inu.codin.codin.domain.post.domain.poll.repository.PollRepository;
-import inu.codin.codin.domain.post.domain.poll.repository.PollVoteRepository;
 import inu.codin.codin.domain.post.domain.poll.service.PollCommandService;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
@@ -36,7 +37,8 @@ class PollCommandServiceTest {
     private PollCommandService pollCommandService;
     
     @Mock private PollRepository pollRepository;
-    @Mock private PollVoteRepository pollVoteRepository;
+    @Mock private CustomPollRepository customPollRepository;
+    @Mock private CustomPollVoteRepository customPollVoteRepository;
     @Mock private PostCommandService postCommandService;
     @Mock private PostQueryService postQueryService;
     private static AutoCloseable securityUtilsMock;
@@ -86,14 +88,13 @@ class PollCommandServiceTest {
         given(postQueryService.findPostById(any())).willReturn(post);
         given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
         given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
-        given(pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId)).willReturn(false);
-        given(pollVoteRepository.save(any())).willReturn(createPollVoteEntity());
-        given(pollRepository.incOption(eq(poll.get_id()), eq(0))).willReturn(1L);
+        given(customPollVoteRepository.insertIfAbsent(poll.get_id(), userId, List.of(0))).willReturn(true);
+        given(customPollRepository.incrementVoteCounts(poll.get_id(), List.of(0), 1)).willReturn(true);
         
         // When & Then
         assertThatCode(() -> pollCommandService.votingPoll(postId, dto)).doesNotThrowAnyException();
-        verify(pollVoteRepository).save(any(PollVoteEntity.class));
-        verify(pollRepository).incOption(poll.get_id(), 0);
+        verify(customPollVoteRepository).insertIfAbsent(poll.get_id(), userId, List.of(0));
+        verify(customPollRepository).incrementVoteCounts(poll.get_id(), List.of(0), 1);
     }
     
     @Test
@@ -152,11 +153,12 @@ class PollCommandServiceTest {
         given(postQueryService.findPostById(any())).willReturn(post);
         given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
         given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
-        given(pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId)).willReturn(true);
+        given(customPollVoteRepository.insertIfAbsent(poll.get_id(), userId, List.of(0))).willReturn(false);
         
         // When & Then
         assertThatThrownBy(() -> pollCommandService.votingPoll(postId, dto))
                 .isInstanceOf(PollException.class);
+        verify(customPollRepository, never()).incrementVoteCounts(any(), anyCollection(), anyInt());
     }
     
     @Test
@@ -171,7 +173,6 @@ class PollCommandServiceTest {
         given(postQueryService.findPostById(any())).willReturn(post);
         given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
         given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
-        given(pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId)).willReturn(false);
         
         // When & Then
         assertThatThrownBy(() -> pollCommandService.votingPoll(postId, dto))
@@ -190,7 +191,6 @@ class PollCommandServiceTest {
         given(postQueryService.findPostById(any())).willReturn(post);
         given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
         given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
-        given(pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId)).willReturn(false);
         
         // When & Then
         assertThatThrownBy(() -> pollCommandService.votingPoll(postId, dto))
@@ -210,15 +210,13 @@ class PollCommandServiceTest {
         given(postQueryService.findPostById(any())).willReturn(post);
         given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
         given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
-        given(pollVoteRepository.findByPollIdAndUserId(poll.get_id(), userId)).willReturn(Optional.of(vote));
-        given(pollRepository.dcrOptionIfPositive(eq(poll.get_id()), eq(0))).willReturn(1L);
-
-        doNothing().when(pollVoteRepository).delete(vote);
+        given(customPollVoteRepository.deleteVote(poll.get_id(), userId)).willReturn(vote);
+        given(customPollRepository.incrementVoteCounts(poll.get_id(), vote.getSelectedOptions(), -1)).willReturn(true);
         
         // When & Then
         assertThatCode(() -> pollCommandService.deleteVoting(postId)).doesNotThrowAnyException();
-        verify(pollRepository).dcrOptionIfPositive(poll.get_id(), 0);
-        verify(pollVoteRepository).delete(vote);
+        verify(customPollVoteRepository).deleteVote(poll.get_id(), userId);
+        verify(customPollRepository).incrementVoteCounts(poll.get_id(), vote.getSelectedOptions(), -1);
     }
     
     @Test
@@ -232,11 +230,33 @@ class PollCommandServiceTest {
         given(postQueryService.findPostById(any())).willReturn(post);
         given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
         given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
-        given(pollVoteRepository.findByPollIdAndUserId(poll.get_id(), userId)).willReturn(Optional.empty());
+        given(customPollVoteRepository.deleteVote(poll.get_id(), userId)).willReturn(null);
         
         // When & Then
         assertThatThrownBy(() -> pollCommandService.deleteVoting(postId))
                 .isInstanceOf(PollException.class);
+        verify(customPollRepository, never()).incrementVoteCounts(any(), anyCollection(), anyInt());
+    }
+    
+    @Test
+    void votingPoll_투표수반영실패_투표기록삭제() throws Exception {
+        // Given
+        String postId = new ObjectId().toString();
+        PollVotingRequestDTO dto = createPollVotingRequestDTO(Arrays.asList(0));
+        PostEntity post = createPostEntity();
+        PollEntity poll = createActivePollEntity();
+        ObjectId userId = new ObjectId();
+
+        given(postQueryService.findPostById(any())).willReturn(post);
+        given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
+        given(SecurityUtil.getCurrentUserId()).willReturn(userId.toHexString());
+        given(customPollVoteRepository.insertIfAbsent(poll.get_id(), userId, List.of(0))).willReturn(true);
+        given(customPollRepository.incrementVoteCounts(poll.get_id(), List.of(0), 1)).willReturn(false);
+        
+        // When & Then
+        assertThatThrownBy(() -> pollCommandService.votingPoll(postId, dto))
+                .isInstanceOf(PollException.class);
+        verify(customPollVoteRepository).deleteVote(poll.get_id(), userId);
     }
     
     // Helper methods
@@ -1,10 +1,10 @@
 package inu.codin.codin.domain.post.domain.poll;
 
+import inu.codin.codin.domain.post.domain.poll.dto.PollSummary;
 import inu.codin.codin.domain.post.domain.poll.entity.PollEntity;
 import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
 import inu.codin.codin.domain.post.domain.poll.exception.PollException;
-import inu.codin.codin.domain.post.domain.poll.repository.PollRepository;
-import inu.codin.codin.domain.post.domain.poll.repository.PollVoteRepository;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollRepository;
 import inu.codin.codin.domain.post.domain.poll.service.PollQueryService;
 import inu.codin.codin.domain.post.dto.response.PollInfoResponseDTO;
 import inu.codin.codin.domain.post.entity.PostCategory;
@@ -29,8 +29,7 @@ class PollQueryServiceTest {
     @InjectMocks
     private PollQueryService pollQueryService;
     
-    @Mock private PollRepository pollRepository;
-    @Mock private PollVoteRepository pollVoteRepository;
+    @Mock private CustomPollRepository customPollRepository;
     
     @Test
     void getPollInfo_정상조회_성공() {
@@ -39,22 +38,19 @@ class PollQueryServiceTest {
         ObjectId userId = new ObjectId();
         PollEntity poll = createActivePollEntity();
         PollVoteEntity userVote = createPollVoteEntity();
-        long totalParticipants = 5L;
         
-        given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
-        given(pollVoteRepository.countByPollId(poll.get_id())).willReturn(totalParticipants);
-        given(pollVoteRepository.findByPollIdAndUserId(poll.get_id(), userId)).willReturn(Optional.of(userVote));
-        given(pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId)).willReturn(true);
+        given(customPollRepository.findSummariesByPostIds(List.of(post.get_id()), userId))
+                .willReturn(Map.of(post.get_id(), new PollSummary(poll, 5L, userVote.getSelectedOptions())));
         
         // When
         PollInfoResponseDTO result = pollQueryService.getPollInfo(post, userId);
         
         // Then
         assertThat(result).isNotNull();
-        verify(pollRepository).findByPostId(post.get_id());
-        verify(pollVoteRepository).countByPollId(poll.get_id());
-        verify(pollVoteRepository).findByPollIdAndUserId(poll.get_id(), userId);
-        verify(pollVoteRepository).existsByPollIdAndUserId(poll.get_id(), userId);
+        assertThat(result.getTotalParticipants()).isEqualTo(5L);
+        assertThat(result.getUserVotesOptions()).containsExactly(0);
+        assertThat(result.isHasUserVoted()).isTrue();
+        verify(customPollRepository).findSummariesByPostIds(List.of(post.get_id()), userId);
     }
     
     @Test
@@ -63,12 +59,11 @@ class PollQueryServiceTest {
         PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
         
-        given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.empty());
+        given(customPollRepository.findSummariesByPostIds(anyCollection(), eq(userId))).willReturn(Map.of());
         
         // When & Then
         assertThatThrownBy(() -> pollQueryService.getPollInfo(post, userId))
                 .isInstanceOf(PollException.class);
-        verify(pollRepository).findByPostId(post.get_id());
     }
     
     @Test
@@ -77,20 +72,16 @@ class PollQueryServiceTest {
         PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
         PollEntity poll = createActivePollEntity();
-        long totalParticipants = 3L;
         
-        given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
-        given(pollVoteRepository.countByPollId(poll.get_id())).willReturn(totalParticipants);
-        given(pollVoteRepository.findByPollIdAndUserId(poll.get_id(), userId)).willReturn(Optional.empty());
-        given(pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId)).willReturn(false);
+        given(customPollRepository.findSummariesByPostIds(anyCollection(), eq(userId)))
+                .willReturn(Map.of(post.get_id(), new PollSummary(poll, 3L, null)));
         
         // When
         PollInfoResponseDTO result = pollQueryService.getPollInfo(post, userId);
         
         // Then
-        assertThat(result).isNotNull();
-        verify(pollVoteRepository).findByPollIdAndUserId(poll.get_id(), userId);
-        verify(pollVoteRepository).existsByPollIdAndUserId(poll.get_id(), userId);
+        assertThat(result.getUserVotesOptions()).isEmpty();
+        assertThat(result.isHasUserVoted()).isFalse();
     }
     
     @Test
@@ -99,19 +90,15 @@ class PollQueryServiceTest {
         PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
         PollEntity poll = createExpiredPollEntity();
-        long totalParticipants = 10L;
         
-        given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
-        given(pollVoteRepository.countByPollId(poll.get_id())).willReturn(totalParticipants);
-        given(pollVoteRepository.findByPollIdAndUserId(poll.get_id(), userId)).willReturn(Optional.empty());
-        given(pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId)).willReturn(false);
+        given(customPollRepository.findSummariesByPostIds(anyCollection(), eq(userId)))
+                .willReturn(Map.of(post.get_id(), new PollSummary(poll, 10L, null)));
         
         // When
         PollInfoResponseDTO result = pollQueryService.getPollInfo(post, userId);
         
         // Then
-        assertThat(result).isNotNull();
-        verify(pollRepository).findByPostId(post.get_id());
+        assertThat(result.isPollFinished()).isTrue();
     }
     
     @Test
@@ -121,20 +108,16 @@ class PollQueryServiceTest {
         ObjectId userId = new ObjectId();
         PollEntity poll = createMultipleChoicePollEntity();
         PollVoteEntity userVote = createMultipleVoteEntity();
-        long totalParticipants = 8L;
         
-        given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
-        given(pollVoteRepository.countByPollId(poll.get_id())).willReturn(totalParticipants);
-        given(pollVoteRepository.findByPollIdAndUserId(poll.get_id(), userId)).willReturn(Optional.of(userVote));
-        given(pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId)).willReturn(true);
+        given(customPollRepository.findSummariesByPostIds(anyCollection(), eq(userId)))
+                .willReturn(Map.of(post.get_id(), new PollSummary(poll, 8L, userVote.getSelectedOptions())));
         
         // When
         PollInfoResponseDTO result = pollQueryService.getPollInfo(post, userId);
         
         // Then
-        assertThat(result).isNotNull();
-        verify(pollRepository).findByPostId(post.get_id());
-        verify(pollVoteRepository).countByPollId(poll.get_id());
+        assertThat(result.isMultipleChoice()).isTrue();
+        assertThat(result.getUserVotesOptions()).containsExactly(0, 2);
     }
     
     @Test
@@ -143,19 +126,15 @@ class PollQueryServiceTest {
         PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
         PollEntity poll = createActivePollEntity();
-        long totalParticipants = 0L;
         
-        given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
-        given(pollVoteRepository.countByPollId(poll.get_id())).willReturn(totalParticipants);
-        given(pollVoteRepository.findByPollIdAndUserId(poll.get_id(), userId)).willReturn(Optional.empty());
-        given(pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId)).willReturn(false);
+        given(customPollRepository.findSummariesByPostIds(anyCollection(), eq(userId)))
+                .willReturn(Map.of(post.get_id(), new PollSummary(poll, 0L, null)));
         
         // When
         PollInfoResponseDTO result = pollQueryService.getPollInfo(post, userId);
         
         // Then
-        assertThat(result).isNotNull();
-        verify(pollVoteRepository).countByPollId(poll.get_id());
+        assertThat(result.getTotalParticipants()).isZero();
     }
     
     @Test
@@ -164,19 +143,45 @@ class PollQueryServiceTest {
         PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
         PollEntity poll = createPollEntityWithoutEndTime();
-        long totalParticipants = 2L;
         
-        given(pollRepository.findByPostId(post.get_id())).willReturn(Optional.of(poll));
-        given(pollVoteRepository.countByPollId(poll.get_id())).willReturn(totalParticipants);
-        given(pollVoteRepository.findByPollIdAndUserId(poll.get_id(), userId)).willReturn(Optional.empty());
-        given(pollVoteRepository.existsByPollIdAndUserId(poll.get_id(), userId)).willReturn(false);
+        given(customPollRepository.findSummariesByPostIds(anyCollection(), eq(userId)))
+                .willReturn(Map.of(post.get_id(), new PollSummary(poll, 2L, null)));
         
         // When
         PollInfoResponseDTO result = pollQueryService.getPollInfo(post, userId);
         
         // Then
-        assertThat(result).isNotNull();
-        verify(pollRepository).findByPostId(post.get_id());
+        assertThat(result.isPollFinished()).isFalse();
+    }
+    
+    @Test
+    void getPollInfos_여러게시글_한번의조회() {
+        // Given
+        PostEntity post1 = createPostEntity();
+        PostEntity post2 = createPostEntity();
+        
+        given(customPollRepository.findSummariesByPostIds(List.of(post1.get_id(), post2.get_id()), null))
+                .willReturn(Map.of(
+                        post1.get_id(), new PollSummary(createActivePollEntity(), 1L, null),
+                        post2.get_id(), new PollSummary(createExpiredPollEntity(), 2L, null)));
+        
+        // When
+        Map<ObjectId, PollInfoResponseDTO> result = pollQueryService.getPollInfos(List.of(post1, post2), null);
+        
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(post2.get_id()).getTotalParticipants()).isEqualTo(2L);
+        verify(customPollRepository, times(1)).findSummariesByPostIds(anyCollection(), isNull());
+    }
+    
+    @Test
+    void getPollInfos_빈리스트_조회안함() {
+        // When
+        Map<ObjectId, PollInfoResponseDTO> result = pollQueryService.getPollInfos(List.of(), null);
+        
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(customPollRepository);
     }
     
     // Helper methods
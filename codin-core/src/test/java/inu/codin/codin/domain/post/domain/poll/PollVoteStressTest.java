@@ -0,0 +1,147 @@
+package inu.codin.codin.domain.post.domain.poll;
+
+import inu.codin.codin.domain.post.domain.poll.entity.PollEntity;
+import inu.codin.codin.domain.post.domain.poll.exception.PollException;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollRepository;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollVoteRepository;
+import inu.codin.codin.domain.post.domain.poll.repository.PollRepository;
+import inu.codin.codin.domain.post.domain.poll.repository.PollVoteRepository;
+import inu.codin.codin.domain.post.domain.poll.service.PollCommandService;
+import inu.codin.codin.infra.mongo.MongoIndexRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복수 선택 투표 동시성 테스트
+ * 수천 명이 동시에 투표/중복 투표/투표 취소를 요청해도 옵션별 투표 수가 투표 기록과 정확히 일치하는지 검증
+ */
+@Testcontainers
+@DataMongoTest
+@Import({MongoIndexRegistry.class, CustomPollRepository.class, CustomPollVoteRepository.class})
+class PollVoteStressTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry r) {
+        r.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    private static final int VOTER_COUNT = 3000;
+    private static final int OPTION_COUNT = 5;
+
+    @Autowired PollRepository pollRepository;
+    @Autowired PollVoteRepository pollVoteRepository;
+    @Autowired CustomPollRepository customPollRepository;
+    @Autowired CustomPollVoteRepository customPollVoteRepository;
+    @Autowired MongoIndexRegistry mongoIndexRegistry;
+
+    private PollCommandService pollCommandService;
+    private PollEntity poll;
+
+    @BeforeEach
+    void setUp() {
+        pollRepository.deleteAll();
+        pollVoteRepository.deleteAll();
+        pollCommandService = new PollCommandService(pollRepository, customPollRepository, customPollVoteRepository, null, null);
+        mongoIndexRegistry.ensureIndexes();
+        poll = pollRepository.save(new PollEntity(
+                new ObjectId(), List.of("A", "B", "C", "D", "E"), LocalDateTime.now().plusDays(1), true));
+    }
+
+    @Test
+    void castVote_cancelVote_동시요청_투표수정확() throws Exception {
+        // Given
+        Random random = new Random(42);
+        int[] expected = new int[OPTION_COUNT];
+        List<Callable<Void>> requests = new ArrayList<>();
+        AtomicInteger duplicated = new AtomicInteger();
+
+        for (int i = 0; i < VOTER_COUNT; i++) {
+            ObjectId userId = new ObjectId();
+            List<Integer> options = randomOptions(random);
+            boolean cancel = i % 10 == 0;
+            if (!cancel) options.forEach(option -> expected[option]++);
+
+            // 일부는 투표 후 취소, 나머지는 같은 투표를 두 번 제출 (재요청)
+            Callable<Void> vote = () -> {
+                try {
+                    pollCommandService.castVote(poll, userId, options);
+                } catch (PollException e) {
+                    duplicated.incrementAndGet();
+                }
+                return null;
+            };
+            requests.add(vote);
+            if (!cancel) {
+                requests.add(vote);
+            } else {
+                requests.add(() -> {
+                    while (true) {
+                        try {
+                            pollCommandService.cancelVote(poll, userId);
+                            return null;
+                        } catch (PollException e) {
+                            Thread.onSpinWait(); // 투표 기록 저장 전이면 재시도
+                        }
+                    }
+                });
+            }
+        }
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> request : requests) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return request.call();
+            }));
+        }
+        start.countDown();
+        for (Future<Void> future : futures) future.get();
+        executor.shutdown();
+
+        // Then
+        PollEntity result = pollRepository.findById(poll.get_id()).orElseThrow();
+        List<Integer> counts = result.getPollVotesCounts();
+        for (int option = 0; option < OPTION_COUNT; option++) {
+            assertThat(counts.get(option)).as("option %d", option).isEqualTo(expected[option]);
+        }
+        assertThat(duplicated.get()).isEqualTo(VOTER_COUNT - VOTER_COUNT / 10);
+        assertThat(pollVoteRepository.countByPollId(poll.get_id())).isEqualTo(VOTER_COUNT - VOTER_COUNT / 10);
+    }
+
+    private List<Integer> randomOptions(Random random) {
+        List<Integer> options = new ArrayList<>();
+        for (int option = 0; option < OPTION_COUNT; option++) {
+            if (random.nextBoolean()) options.add(option);
+        }
+        if (options.isEmpty()) options.add(random.nextInt(OPTION_COUNT));
+        return options;
+    }
+}
@@ -0,0 +1,37 @@
+package inu.codin.codin.domain.post.util;
+
+import inu.codin.codin.domain.post.exception.PostException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    void encode_decode_동일한위치() {
+        // Given
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2024, 12, 5, 2, 22, 48, 123_000_000), new ObjectId());
+
+        // When
+        PostCursor decoded = PostCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_빈Cursor_첫페이지() {
+        assertThat(PostCursor.decode(null)).isNull();
+        assertThat(PostCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void decode_잘못된Cursor_예외() {
+        assertThatThrownBy(() -> PostCursor.decode("invalid-cursor"))
+                .isInstanceOf(PostException.class);
+    }
+}
@@ -0,0 +1,37 @@
+package inu.codin.codin.domain.post.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchTokenizerTest {
+
+    @Test
+    void tokenize_제목내용_중복없는2gram() {
+        // When
+        String result = PostSearchTokenizer.tokenize("학과 공지사항", "공지사항 확인!");
+
+        // Then
+        assertThat(result.split(" ")).containsExactly("학과", "공지", "지사", "사항", "확인");
+    }
+
+    @Test
+    void tokenize_대소문자및전각문자_정규화() {
+        // When
+        String result = PostSearchTokenizer.tokenize("ＪＡＶＡ Spring", null);
+
+        // Then
+        assertThat(result.split(" ")).containsExactly("ja", "av", "va", "sp", "pr", "ri", "in", "ng");
+    }
+
+    @Test
+    void tokenizeKeyword_2글자이상단어_2gram반환() {
+        assertThat(PostSearchTokenizer.tokenizeKeyword("공지사항")).containsExactly("공지", "지사", "사항");
+    }
+
+    @Test
+    void tokenizeKeyword_1글자단어포함_빈리스트() {
+        assertThat(PostSearchTokenizer.tokenizeKeyword("C 언어")).isEmpty();
+        assertThat(PostSearchTokenizer.tokenizeKeyword("  ")).isEmpty();
+    }
+}
@@ -0,0 +1,184 @@
+package inu.codin.codin.domain.report;
+
+import inu.codin.codin.domain.report.dto.ReportCounts;
+import inu.codin.codin.domain.report.dto.ReportInfo;
+import inu.codin.codin.domain.report.entity.ReportEntity;
+import inu.codin.codin.domain.report.entity.ReportStatus;
+import inu.codin.codin.domain.report.entity.ReportTargetType;
+import inu.codin.codin.domain.report.entity.ReportType;
+import inu.codin.codin.domain.report.repository.CustomReportRepository;
+import inu.codin.codin.domain.report.repository.ReportRepository;
+import inu.codin.codin.infra.mongo.MongoIndexRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 신고 aggregation 테스트
+ * 처리 대기 신고만 신고 대상별로 묶여 신고 수 내림차순으로 요청한 페이지만 조회되는지 검증
+ * 신고 대상의 유형별/상태별 신고 수가 한 번의 aggregation으로 집계되는지 검증
+ * 여러 신고 대상의 신고 수가 한 번의 $in aggregation으로 조회되는지 검증
+ */
+@Testcontainers
+@DataMongoTest
+@Import({MongoIndexRegistry.class, CustomReportRepository.class})
+class CustomReportRepositoryTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry r) {
+        r.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    @Autowired ReportRepository reportRepository;
+    @Autowired CustomReportRepository customReportRepository;
+    @Autowired MongoIndexRegistry mongoIndexRegistry;
+
+    @BeforeEach
+    void setUp() {
+        reportRepository.deleteAll();
+        mongoIndexRegistry.ensureIndexes();
+    }
+
+    @Test
+    void findPendingReportInfos_신고수내림차순_페이지조회() {
+        // Given
+        List<ObjectId> targets = new ArrayList<>();
+        for (int count = 1; count <= 5; count++) {
+            targets.add(saveReports(ReportTargetType.POST, count, ReportStatus.PENDING));
+        }
+
+        // When
+        Page<ReportInfo> first = customReportRepository.findPendingReportInfos(PageRequest.of(0, 2));
+        Page<ReportInfo> last = customReportRepository.findPendingReportInfos(PageRequest.of(2, 2));
+
+        // Then
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getTotalPages()).isEqualTo(3);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getContent()).extracting(ReportInfo::getReportCount).containsExactly(5, 4);
+        assertThat(first.getContent().get(0).getReportedEntityId()).isEqualTo(targets.get(4).toString());
+        assertThat(first.getContent().get(0).getEntityType()).isEqualTo(ReportTargetType.POST);
+        assertThat(first.getContent().get(0).getUserId()).isNotNull();
+
+        assertThat(last.getContent()).extracting(ReportInfo::getReportCount).containsExactly(1);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void findPendingReportInfos_처리완료신고_제외() {
+        // Given
+        ObjectId pending = saveReports(ReportTargetType.COMMENT, 2, ReportStatus.PENDING);
+        saveReports(ReportTargetType.POST, 3, ReportStatus.RESOLVED);
+        saveReports(ReportTargetType.USER, 4, ReportStatus.SUSPENDED);
+
+        // When
+        Page<ReportInfo> result = customReportRepository.findPendingReportInfos(PageRequest.of(0, 20));
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).singleElement().satisfies(info -> {
+            assertThat(info.getReportedEntityId()).isEqualTo(pending.toString());
+            assertThat(info.getReportCount()).isEqualTo(2);
+            assertThat(info.getEntityType()).isEqualTo(ReportTargetType.COMMENT);
+        });
+    }
+
+    @Test
+    void findPendingReportInfos_신고없음_빈페이지() {
+        // When
+        Page<ReportInfo> result = customReportRepository.findPendingReportInfos(PageRequest.of(0, 20));
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isZero();
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void countByTypeAndStatus_유형별_상태별_신고수() {
+        // Given
+        ObjectId targetId = new ObjectId();
+        saveReport(targetId, ReportType.SPAM, ReportStatus.PENDING);
+        saveReport(targetId, ReportType.SPAM, ReportStatus.PENDING);
+        saveReport(targetId, ReportType.ABUSE, ReportStatus.RESOLVED);
+        saveReport(new ObjectId(), ReportType.FRAUD, ReportStatus.PENDING);
+
+        // When
+        ReportCounts counts = customReportRepository.countByTypeAndStatus(targetId);
+
+        // Then
+        assertThat(counts.byType()).containsExactlyInAnyOrderEntriesOf(Map.of(ReportType.SPAM, 2, ReportType.ABUSE, 1));
+        assertThat(counts.byStatus()).containsExactlyInAnyOrderEntriesOf(Map.of(ReportStatus.PENDING, 2, ReportStatus.RESOLVED, 1));
+    }
+
+    @Test
+    void countByTypeAndStatus_신고없음_빈결과() {
+        // When
+        ReportCounts counts = customReportRepository.countByTypeAndStatus(new ObjectId());
+
+        // Then
+        assertThat(counts.byType()).isEmpty();
+        assertThat(counts.byStatus()).isEmpty();
+    }
+
+    @Test
+    void countByReportTargetIds_신고된대상만_신고수반환() {
+        // Given
+        ObjectId comment = saveReports(ReportTargetType.COMMENT, 2, ReportStatus.PENDING);
+        ObjectId reply = saveReports(ReportTargetType.REPLY, 1, ReportStatus.RESOLVED);
+        ObjectId notReported = new ObjectId();
+        saveReports(ReportTargetType.COMMENT, 3, ReportStatus.PENDING);
+
+        // When
+        Map<ObjectId, Integer> result = customReportRepository.countByReportTargetIds(List.of(comment, reply, notReported));
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(comment, 2, reply, 1));
+    }
+
+    private ObjectId saveReports(ReportTargetType targetType, int count, ReportStatus status) {
+        ObjectId targetId = new ObjectId();
+        ObjectId reportedUserId = new ObjectId();
+        for (int i = 0; i < count; i++) {
+            reportRepository.save(ReportEntity.builder()
+                    .reportingUserId(new ObjectId())
+                    .reportedUserId(reportedUserId)
+                    .reportTargetType(targetType)
+                    .reportTargetId(targetId)
+                    .reportType(ReportType.SPAM)
+                    .reportStatus(status)
+                    .build());
+        }
+        return targetId;
+    }
+
+    private void saveReport(ObjectId targetId, ReportType reportType, ReportStatus status) {
+        reportRepository.save(ReportEntity.builder()
+                .reportingUserId(new ObjectId())
+                .reportedUserId(new ObjectId())
+                .reportTargetType(ReportTargetType.POST)
+                .reportTargetId(targetId)
+                .reportType(reportType)
+                .reportStatus(status)
+                .build());
+    }
+}
@@ -0,0 +1,140 @@
+package inu.codin.codin.domain.report;
+
+import inu.codin.codin.domain.report.entity.ReportEntity;
+import inu.codin.codin.domain.report.entity.ReportStatus;
+import inu.codin.codin.domain.report.entity.ReportTargetType;
+import inu.codin.codin.domain.report.entity.ReportType;
+import inu.codin.codin.domain.report.entity.SuspensionPeriod;
+import inu.codin.codin.domain.report.repository.CustomReportRepository;
+import inu.codin.codin.domain.report.repository.ReportRepository;
+import inu.codin.codin.domain.report.service.SuspensionService;
+import inu.codin.codin.domain.user.entity.UserEntity;
+import inu.codin.codin.domain.user.entity.UserStatus;
+import inu.codin.codin.domain.user.repository.CustomUserRepository;
+import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.infra.mongo.MongoIndexRegistry;
+import inu.codin.security.entity.UserRole;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정지 해제 일괄 처리 테스트
+ * 정지 종료일이 지난 신고/유저만 일괄 해제되고, 다시 실행해도 추가로 변경되지 않는지 검증
+ */
+@Testcontainers
+@DataMongoTest
+@Import({MongoIndexRegistry.class, CustomReportRepository.class, CustomUserRepository.class})
+class SuspensionServiceTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry r) {
+        r.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    private static final int EXPIRED_USER_COUNT = 1200; // RELEASE_BATCH_SIZE보다 많은 유저
+
+    @Autowired ReportRepository reportRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired CustomReportRepository customReportRepository;
+    @Autowired CustomUserRepository customUserRepository;
+    @Autowired MongoIndexRegistry mongoIndexRegistry;
+
+    private SuspensionService suspensionService;
+
+    @BeforeEach
+    void setUp() {
+        reportRepository.deleteAll();
+        userRepository.deleteAll();
+        suspensionService = new SuspensionService(customReportRepository, customUserRepository);
+        mongoIndexRegistry.ensureIndexes();
+    }
+
+    @Test
+    void releaseSuspendedReports_종료된정지만_처리완료() {
+        // Given
+        ReportEntity expired = saveSuspendedReport(LocalDateTime.now().minusDays(1));
+        ReportEntity ongoing = saveSuspendedReport(LocalDateTime.now().plusDays(1));
+
+        // When
+        long released = suspensionService.releaseSuspendedReports();
+        long releasedAgain = suspensionService.releaseSuspendedReports();
+
+        // Then
+        assertThat(released).isEqualTo(1);
+        assertThat(releasedAgain).isZero();
+        assertThat(reportRepository.findById(expired.get_id()).orElseThrow().getReportStatus()).isEqualTo(ReportStatus.RESOLVED);
+        assertThat(reportRepository.findById(ongoing.get_id()).orElseThrow().getReportStatus()).isEqualTo(ReportStatus.SUSPENDED);
+    }
+
+    @Test
+    void releaseSuspendedUsers_여러배치_종료된정지만해제() {
+        // Given
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < EXPIRED_USER_COUNT; i++) {
+            users.add(suspendedUser(i, LocalDateTime.now().minusHours(1)));
+        }
+        userRepository.saveAll(users);
+        UserEntity ongoing = userRepository.save(suspendedUser(EXPIRED_USER_COUNT, LocalDateTime.now().plusDays(3)));
+
+        // When
+        long released = suspensionService.releaseSuspendedUsers();
+        long releasedAgain = suspensionService.releaseSuspendedUsers();
+
+        // Then
+        assertThat(released).isEqualTo(EXPIRED_USER_COUNT);
+        assertThat(releasedAgain).isZero();
+
+        UserEntity releasedUser = userRepository.findById(users.get(0).get_id()).orElseThrow();
+        assertThat(releasedUser.getStatus()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(releasedUser.getTotalSuspensionEndDate()).isNull();
+
+        UserEntity ongoingUser = userRepository.findById(ongoing.get_id()).orElseThrow();
+        assertThat(ongoingUser.getStatus()).isEqualTo(UserStatus.SUSPENDED);
+        assertThat(ongoingUser.getTotalSuspensionEndDate()).isNotNull();
+    }
+
+    private ReportEntity saveSuspendedReport(LocalDateTime suspensionEndDate) {
+        return reportRepository.save(ReportEntity.builder()
+                .reportingUserId(new ObjectId())
+                .reportedUserId(new ObjectId())
+                .reportTargetType(ReportTargetType.POST)
+                .reportTargetId(new ObjectId())
+                .reportType(ReportType.SPAM)
+                .reportStatus(ReportStatus.SUSPENDED)
+                .action(ReportEntity.ReportActionEntity.builder()
+                        .actionTakenById(new ObjectId())
+                        .suspensionPeriod(SuspensionPeriod.ONE_DAY)
+                        .suspensionEndDate(suspensionEndDate)
+                        .build())
+                .build());
+    }
+
+    private UserEntity suspendedUser(int index, LocalDateTime suspensionEndDate) {
+        UserEntity user = UserEntity.builder()
+                .email("user" + index + "@inu.ac.kr")
+                .nickname("u" + index)
+                .role(UserRole.USER)
+                .status(UserStatus.SUSPENDED)
+                .build();
+        user.updateTotalSuspensionEndDate(suspensionEndDate);
+        return user;
+    }
+}
@@ -0,0 +1,177 @@
+package inu.codin.codin.domain.user;
+
+import inu.codin.codin.domain.like.entity.LikeEntity;
+import inu.codin.codin.domain.like.entity.LikeType;
+import inu.codin.codin.domain.like.repository.LikeRepository;
+import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
+import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
+import inu.codin.codin.domain.post.entity.PostCategory;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.domain.scrap.entity.ScrapEntity;
+import inu.codin.codin.domain.scrap.repository.ScrapRepository;
+import inu.codin.codin.domain.user.repository.CustomUserActivityRepository;
+import inu.codin.codin.infra.mongo.MongoIndexRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유저 활동 게시글 목록 aggregation 테스트
+ * 좋아요/스크랩/댓글 최신순이 유지되고, 활동 기준으로 페이지를 자른 뒤 삭제된 게시글만 제외되는지 검증
+ */
+@Testcontainers
+@DataMongoTest
+@Import({MongoIndexRegistry.class, CustomUserActivityRepository.class})
+class CustomUserActivityRepositoryTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry r) {
+        r.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    @Autowired PostRepository postRepository;
+    @Autowired LikeRepository likeRepository;
+    @Autowired ScrapRepository scrapRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired CustomUserActivityRepository customUserActivityRepository;
+    @Autowired MongoIndexRegistry mongoIndexRegistry;
+
+    private ObjectId userId;
+    private List<PostEntity> posts;
+
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        likeRepository.deleteAll();
+        scrapRepository.deleteAll();
+        commentRepository.deleteAll();
+        mongoIndexRegistry.ensureIndexes();
+
+        userId = new ObjectId();
+        posts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            posts.add(savePost("게시글" + i));
+        }
+    }
+
+    @Test
+    void findLikedPosts_좋아요최신순_삭제게시글은해당페이지에서만제외() {
+        // Given : 게시글 작성 순서와 다른 순서로 좋아요
+        List<PostEntity> likeOrder = List.of(posts.get(3), posts.get(0), posts.get(4), posts.get(1), posts.get(2));
+        likeOrder.forEach(post -> likeRepository.save(LikeEntity.builder()
+                .likeType(LikeType.POST)
+                .likeTypeId(post.get_id().toString())
+                .userId(userId)
+                .build()));
+        likeRepository.save(LikeEntity.builder()
+                .likeType(LikeType.COMMENT)
+                .likeTypeId(new ObjectId().toString())
+                .userId(userId)
+                .build());
+        deletePost(posts.get(4));
+
+        // When
+        Page<PostEntity> first = customUserActivityRepository.findLikedPosts(userId, PageRequest.of(0, 2));
+        Page<PostEntity> second = customUserActivityRepository.findLikedPosts(userId, PageRequest.of(1, 2));
+        Page<PostEntity> third = customUserActivityRepository.findLikedPosts(userId, PageRequest.of(2, 2));
+
+        // Then : 전체 수는 좋아요 기준, 삭제된 게시글은 두 번째 페이지에서만 빠지고 다음 페이지로 밀리지 않음
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getContent()).extracting(PostEntity::get_id)
+                .containsExactly(posts.get(2).get_id(), posts.get(1).get_id());
+        assertThat(second.getContent()).extracting(PostEntity::get_id)
+                .containsExactly(posts.get(0).get_id());
+        assertThat(third.getContent()).extracting(PostEntity::get_id)
+                .containsExactly(posts.get(3).get_id());
+        assertThat(third.hasNext()).isFalse();
+    }
+
+    @Test
+    void findScrappedPosts_스크랩최신순() {
+        // Given
+        List.of(posts.get(1), posts.get(4), posts.get(0)).forEach(post ->
+                scrapRepository.save(ScrapEntity.builder().postId(post.get_id()).userId(userId).build()));
+        scrapRepository.save(ScrapEntity.builder().postId(posts.get(2).get_id()).userId(new ObjectId()).build());
+
+        // When
+        Page<PostEntity> result = customUserActivityRepository.findScrappedPosts(userId, PageRequest.of(0, 20));
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(PostEntity::get_id)
+                .containsExactly(posts.get(0).get_id(), posts.get(4).get_id(), posts.get(1).get_id());
+    }
+
+    @Test
+    void findCommentedPosts_게시글별중복제거_마지막댓글최신순() {
+        // Given
+        saveComment(posts.get(0));
+        saveComment(posts.get(1));
+        saveComment(posts.get(0)); // 게시글0에 다시 댓글 → 가장 최근
+        saveComment(posts.get(2));
+        deletePost(posts.get(2));
+
+        // When
+        Page<PostEntity> result = customUserActivityRepository.findCommentedPosts(userId, PageRequest.of(0, 20));
+
+        // Then : 전체 수는 댓글을 작성한 게시글 기준
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(PostEntity::get_id)
+                .containsExactly(posts.get(0).get_id(), posts.get(1).get_id());
+    }
+
+    @Test
+    void findLikedPosts_활동없음_빈페이지() {
+        // When
+        Page<PostEntity> result = customUserActivityRepository.findLikedPosts(userId, PageRequest.of(0, 20));
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isZero();
+    }
+
+    private PostEntity savePost(String title) {
+        return postRepository.save(PostEntity.builder()
+                .userId(new ObjectId())
+                .postCategory(PostCategory.COMMUNICATION)
+                .title(title)
+                .content("내용")
+                .isAnonymous(false)
+                .postStatus(PostStatus.ACTIVE)
+                .build());
+    }
+
+    private void deletePost(PostEntity post) {
+        post.delete();
+        postRepository.save(post);
+    }
+
+    private void saveComment(PostEntity post) {
+        commentRepository.save(CommentEntity.builder()
+                .postId(post.get_id())
+                .userId(userId)
+                .content("댓글")
+                .anonymous(false)
+                .build());
+    }
+}
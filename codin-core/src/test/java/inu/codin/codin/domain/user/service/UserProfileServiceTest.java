@@ -0,0 +1,160 @@
+package inu.codin.codin.domain.user.service;
+
+import inu.codin.codin.domain.user.dto.UserProfile;
+import inu.codin.codin.domain.user.entity.UserEntity;
+import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisUserProfileService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileServiceTest {
+
+    @InjectMocks
+    UserProfileService userProfileService;
+
+    @Mock
+    UserRepository userRepository;
+    @Mock
+    RedisUserProfileService redisUserProfileService;
+    @Mock
+    RedisHealthChecker redisHealthChecker;
+
+    private final ObjectId cachedUserId = new ObjectId();
+    private final ObjectId missedUserId = new ObjectId();
+
+    @Test
+    @DisplayName("프로필 일괄 조회 - Redis에 없는 유저만 version을 읽고 DB에서 한 번에 조회 후 Redis 저장, 이후 요청은 Local Cache 사용")
+    void getProfiles_레디스미스_DB일괄조회후캐시저장() {
+        //given
+        UserProfile cached = new UserProfile(cachedUserId, "캐시유저", "cached.jpg", false);
+        UserEntity missedUser = createUserEntity(missedUserId, "DB유저");
+        when(redisHealthChecker.isRedisAvailable()).thenReturn(true);
+        when(redisUserProfileService.getProfiles(anyList())).thenReturn(Map.of(cachedUserId, cached));
+        when(redisUserProfileService.getVersions(List.of(missedUserId))).thenReturn(Map.of(missedUserId, 2L));
+        when(userRepository.findAllById(List.of(missedUserId))).thenReturn(List.of(missedUser));
+
+        //when
+        Map<ObjectId, UserProfile> first = userProfileService.getProfiles(
+                Arrays.asList(cachedUserId, missedUserId, cachedUserId, null));
+        Map<ObjectId, UserProfile> second = userProfileService.getProfiles(List.of(cachedUserId, missedUserId));
+
+        //then
+        assertThat(first).containsOnlyKeys(cachedUserId, missedUserId);
+        assertThat(first.get(missedUserId).nickname()).isEqualTo("DB유저");
+        assertThat(second).isEqualTo(first);
+        verify(redisUserProfileService, times(1)).getProfiles(anyList());
+        verify(userRepository, times(1)).findAllById(List.of(missedUserId));
+        verify(redisUserProfileService).cacheProfiles(List.of(UserProfile.from(missedUser)), Map.of(missedUserId, 2L));
+    }
+
+    @Test
+    @DisplayName("Redis 비활성화 시 DB에서만 조회")
+    void getProfiles_레디스비활성화_DB조회() {
+        //given
+        UserEntity user = createUserEntity(missedUserId, "DB유저");
+        when(redisHealthChecker.isRedisAvailable()).thenReturn(false);
+        when(userRepository.findAllById(List.of(missedUserId))).thenReturn(List.of(user));
+
+        //when
+        Map<ObjectId, UserProfile> result = userProfileService.getProfiles(List.of(missedUserId));
+
+        //then
+        assertThat(result.get(missedUserId).nickname()).isEqualTo("DB유저");
+        verify(redisUserProfileService, never()).getProfiles(anyList());
+        verify(redisUserProfileService, never()).cacheProfiles(anyList(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Redis 조회 실패 시 DB에서 조회하고 Redis에 저장하지 않음")
+    void getProfiles_레디스조회실패_DB조회() {
+        //given
+        UserEntity user = createUserEntity(missedUserId, "DB유저");
+        when(redisHealthChecker.isRedisAvailable()).thenReturn(true);
+        when(redisUserProfileService.getProfiles(anyList())).thenThrow(new RuntimeException("command timed out"));
+        when(userRepository.findAllById(List.of(missedUserId))).thenReturn(List.of(user));
+
+        //when
+        Map<ObjectId, UserProfile> result = userProfileService.getProfiles(List.of(missedUserId));
+
+        //then
+        assertThat(result.get(missedUserId).nickname()).isEqualTo("DB유저");
+        verify(redisUserProfileService, never()).cacheProfiles(anyList(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Redis 저장 실패 시에도 DB 조회 결과 반환")
+    void getProfiles_레디스저장실패_DB조회결과반환() {
+        //given
+        UserEntity user = createUserEntity(missedUserId, "DB유저");
+        when(redisHealthChecker.isRedisAvailable()).thenReturn(true);
+        when(redisUserProfileService.getProfiles(anyList())).thenReturn(Map.of());
+        when(redisUserProfileService.getVersions(List.of(missedUserId))).thenReturn(Map.of(missedUserId, 0L));
+        when(userRepository.findAllById(List.of(missedUserId))).thenReturn(List.of(user));
+        when(redisUserProfileService.cacheProfiles(anyList(), anyMap())).thenThrow(new RuntimeException("connection reset"));
+
+        //when
+        Map<ObjectId, UserProfile> result = userProfileService.getProfiles(List.of(missedUserId));
+
+        //then
+        assertThat(result.get(missedUserId).nickname()).isEqualTo("DB유저");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 유저는 결과에서 제외")
+    void getProfile_존재하지않는유저_빈값() {
+        //given
+        when(redisHealthChecker.isRedisAvailable()).thenReturn(false);
+        when(userRepository.findAllById(List.of(missedUserId))).thenReturn(List.of());
+
+        //when & then
+        assertThat(userProfileService.getProfile(missedUserId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로필 변경 후 Local Cache와 Redis Cache 삭제, 다음 요청은 변경된 프로필 조회")
+    void evict_캐시삭제후재조회() {
+        //given
+        when(redisHealthChecker.isRedisAvailable()).thenReturn(false);
+        when(userRepository.findAllById(List.of(missedUserId)))
+                .thenReturn(List.of(createUserEntity(missedUserId, "이전닉네임")))
+                .thenReturn(List.of(createUserEntity(missedUserId, "새닉네임")));
+        userProfileService.getProfile(missedUserId);
+
+        //when
+        when(redisHealthChecker.isRedisAvailable()).thenReturn(true);
+        userProfileService.evict(missedUserId);
+        when(redisHealthChecker.isRedisAvailable()).thenReturn(false);
+        UserProfile result = userProfileService.getProfile(missedUserId).orElseThrow();
+
+        //then
+        assertThat(result.nickname()).isEqualTo("새닉네임");
+        verify(redisUserProfileService).evict(missedUserId);
+        verify(userRepository, times(2)).findAllById(List.of(missedUserId));
+    }
+
+    private UserEntity createUserEntity(ObjectId id, String nickname) {
+        UserEntity user = UserEntity.builder()
+                .nickname(nickname)
+                .profileImageUrl("profile.jpg")
+                .build();
+        ReflectionTestUtils.setField(user, "_id", id);
+        return user;
+    }
+}
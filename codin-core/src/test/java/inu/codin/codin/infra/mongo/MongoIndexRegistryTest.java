@@ -0,0 +1,329 @@
+package inu.codin.codin.infra.mongo;
+
+import inu.codin.codin.domain.chat.chatting.dto.ContentType;
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.like.entity.LikeEntity;
+import inu.codin.codin.domain.like.entity.LikeType;
+import inu.codin.codin.domain.notification.entity.NotificationEntity;
+import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
+import inu.codin.codin.domain.post.domain.hits.entity.HitsEntity;
+import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
+import inu.codin.codin.domain.post.entity.PostCategory;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.report.entity.ReportEntity;
+import inu.codin.codin.domain.report.entity.ReportStatus;
+import inu.codin.codin.domain.report.entity.ReportTargetType;
+import inu.codin.codin.domain.report.entity.ReportType;
+import inu.codin.codin.domain.scrap.entity.ScrapEntity;
+import inu.codin.codin.domain.user.entity.UserEntity;
+import inu.codin.codin.domain.user.entity.UserStatus;
+import inu.codin.security.entity.UserRole;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 자주 호출되는 조회의 실행 계획 테스트
+ * Repository와 같은 조건/정렬로 explain을 실행하여 COLLSCAN(컬렉션 전체 탐색) 없이 index를 사용하는지 검증
+ */
+@Testcontainers
+@DataMongoTest
+@Import(MongoIndexRegistry.class)
+class MongoIndexRegistryTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry r) {
+        r.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    @Autowired MongoTemplate mongoTemplate;
+    @Autowired MongoIndexRegistry mongoIndexRegistry;
+
+    private final ObjectId userId = new ObjectId();
+    private final ObjectId postId = new ObjectId();
+    private final ObjectId chatRoomId = new ObjectId();
+    private final ObjectId pollId = new ObjectId();
+
+    @BeforeEach
+    void setUp() {
+        mongoIndexRegistry.ensureIndexes();
+
+        // 컬렉션이 없으면 실행 계획이 EOF로 나오므로 컬렉션별로 문서 저장
+        mongoTemplate.insert(PostEntity.builder()
+                .userId(userId)
+                .postCategory(PostCategory.COMMUNICATION)
+                .title("제목")
+                .content("내용")
+                .isAnonymous(false)
+                .postStatus(PostStatus.ACTIVE)
+                .build());
+        mongoTemplate.insert(Chatting.builder()
+                .senderId(userId)
+                .chatRoomId(chatRoomId)
+                .content("안녕하세요")
+                .contentType(ContentType.TEXT)
+                .unreadCount(1)
+                .build());
+        mongoTemplate.insert(NotificationEntity.builder()
+                .userId(userId)
+                .targetId(postId)
+                .title("알림")
+                .message("내용")
+                .build());
+        mongoTemplate.insert(HitsEntity.builder().postId(postId).userId(userId).build());
+        mongoTemplate.insert(ScrapEntity.builder().postId(postId).userId(userId).build());
+        mongoTemplate.insert(LikeEntity.builder()
+                .likeType(LikeType.POST)
+                .likeTypeId(postId.toString())
+                .userId(userId)
+                .build());
+        mongoTemplate.insert(CommentEntity.builder()
+                .postId(postId)
+                .userId(userId)
+                .content("댓글")
+                .anonymous(false)
+                .build());
+        mongoTemplate.insert(UserEntity.builder()
+                .email(userId + "@inu.ac.kr")
+                .nickname("유저")
+                .role(UserRole.USER)
+                .status(UserStatus.SUSPENDED)
+                .build());
+        mongoTemplate.insert(ReportEntity.builder()
+                .reportingUserId(userId)
+                .reportedUserId(new ObjectId())
+                .reportTargetType(ReportTargetType.POST)
+                .reportTargetId(postId)
+                .reportType(ReportType.SPAM)
+                .reportStatus(ReportStatus.PENDING)
+                .build());
+        mongoTemplate.insert(PollVoteEntity.from(pollId, userId, List.of(0)));
+    }
+
+    @Test
+    void ensureIndexes_Repository별index모두생성() {
+        // 서비스별로 생성하던 index도 registry 목록에 포함
+        for (MongoIndexRegistry.MongoIndex mongoIndex : MongoIndexRegistry.INDEXES) {
+            String name = mongoIndex.index().getIndexOptions().getString("name");
+            assertThat(mongoTemplate.indexOps(mongoIndex.entityClass()).getIndexInfo())
+                    .as("%s index: %s", mongoTemplate.getCollectionName(mongoIndex.entityClass()), name)
+                    .anyMatch(indexInfo -> indexInfo.getName().equals(name));
+        }
+    }
+
+    @Test
+    void 카테고리별게시글_차단유저제외_index사용() {
+        // PostRepository.getPostsByCategoryWithBlockedUsers
+        Query query = Query.query(Criteria.where("deletedAt").is(null)
+                        .and("postStatus").in(PostStatus.ACTIVE)
+                        .and("postCategory").regex("^" + PostCategory.COMMUNICATION)
+                        .and("userId").nin(List.of(new ObjectId())))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(20);
+
+        assertIndexScan(PostEntity.class, explainFind(PostEntity.class, query));
+    }
+
+    @Test
+    void 유저작성게시글_index사용() {
+        // PostRepository.findAllByUserIdOrderByCreatedAt
+        Query query = Query.query(Criteria.where("deletedAt").is(null)
+                        .and("postStatus").in(PostStatus.ACTIVE)
+                        .and("userId").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(20);
+
+        assertIndexScan(PostEntity.class, explainFind(PostEntity.class, query));
+    }
+
+    @Test
+    void 채팅방메시지_index사용() {
+        // ChattingRepository.findAllByChatRoomId
+        Query query = Query.query(Criteria.where("chatRoomId").is(chatRoomId))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        assertIndexScan(Chatting.class, explainFind(Chatting.class, query));
+    }
+
+    @Test
+    void 채팅방입장_읽지않은메시지_index사용() {
+        // CustomChattingRepository.findUnreadChattings, countUnread
+        Query query = Query.query(Criteria.where("chatRoomId").is(chatRoomId)
+                        .and("senderId").ne(new ObjectId())
+                        .and("createdAt").gt(LocalDateTime.now().minusDays(1)))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(30);
+
+        assertIndexScan(Chatting.class, explainFind(Chatting.class, query));
+    }
+
+    @Test
+    void 읽지않은알림_조회_개수_index사용() {
+        // NotificationRepository.findAllByUserId, countUnreadNotificationsByUserId
+        Query query = Query.query(Criteria.where("userId").is(userId)
+                        .and("isRead").is(false)
+                        .and("deletedAt").is(null))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        assertIndexScan(NotificationEntity.class, explainFind(NotificationEntity.class, query));
+        assertIndexScan(NotificationEntity.class, explainCount(NotificationEntity.class, query));
+    }
+
+    @Test
+    void 조회수_스크랩_존재여부_index사용() {
+        // HitsRepository.existsByPostIdAndUserId, ScrapRepository.existsByPostIdAndUserIdAndDeletedAtIsNull
+        Query query = Query.query(Criteria.where("postId").is(postId).and("userId").is(userId)).limit(1);
+        Query scrapQuery = Query.query(Criteria.where("postId").is(postId).and("userId").is(userId)
+                .and("deletedAt").is(null)).limit(1);
+
+        assertIndexScan(HitsEntity.class, explainFind(HitsEntity.class, query));
+        assertIndexScan(ScrapEntity.class, explainFind(ScrapEntity.class, scrapQuery));
+    }
+
+    @Test
+    void 조회수_합산대기_index사용() {
+        // CustomHitsRepository.findPendingMerge
+        Query query = Query.query(Criteria.where("pendingMerge").is(true)).limit(1000);
+
+        assertIndexScan(HitsEntity.class, explainFind(HitsEntity.class, query));
+    }
+
+    @Test
+    void 카테고리별게시글_Cursor페이징_index사용() {
+        // CustomPostRepository.findByCategoriesAfterCursor
+        Query query = Query.query(Criteria.where("postCategory").in(PostCategory.COMMUNICATION)
+                        .and("deletedAt").is(null)
+                        .and("postStatus").is(PostStatus.ACTIVE)
+                        .and("userId").nin(List.of(new ObjectId())))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(20);
+
+        assertIndexScan(PostEntity.class, explainFind(PostEntity.class, query));
+    }
+
+    @Test
+    void 유저활동_좋아요_스크랩_댓글_index사용() {
+        // CustomUserActivityRepository.findLikedPosts, findScrappedPosts, findCommentedPosts 의 $match, $sort 및 전체 수 count
+        Query likeQuery = Query.query(Criteria.where("userId").is(userId)
+                        .and("likeType").is(LikeType.POST)
+                        .and("deletedAt").is(null))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        Query scrapQuery = Query.query(Criteria.where("userId").is(userId)
+                        .and("deletedAt").is(null))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        Query commentQuery = Query.query(Criteria.where("userId").is(userId));
+
+        assertIndexScan(LikeEntity.class, explainFind(LikeEntity.class, likeQuery));
+        assertIndexScan(ScrapEntity.class, explainFind(ScrapEntity.class, scrapQuery));
+        assertIndexScan(CommentEntity.class, explainFind(CommentEntity.class, commentQuery));
+    }
+
+    @Test
+    void 정지종료유저_index사용() {
+        // CustomUserRepository.findExpiredSuspendedUserIds
+        Query query = Query.query(Criteria.where("status").is(UserStatus.SUSPENDED)
+                        .and("totalSuspensionEndDate").lt(LocalDateTime.now()))
+                .limit(500);
+
+        assertIndexScan(UserEntity.class, explainFind(UserEntity.class, query));
+    }
+
+    @Test
+    void 처리대기신고_신고대상별신고_index사용() {
+        // CustomReportRepository.findPendingReportInfos 의 $match, countByReportTargetIds
+        Query pendingQuery = Query.query(Criteria.where("reportStatus").is(ReportStatus.PENDING));
+        Query targetQuery = Query.query(Criteria.where("reportTargetId").in(List.of(postId)));
+
+        assertIndexScan(ReportEntity.class, explainFind(ReportEntity.class, pendingQuery));
+        assertIndexScan(ReportEntity.class, explainFind(ReportEntity.class, targetQuery));
+    }
+
+    @Test
+    void 투표기록_유저당하나_unique() {
+        // CustomPollVoteRepository.insertIfAbsent
+        Query query = Query.query(Criteria.where("pollId").is(pollId).and("userId").is(userId));
+
+        assertIndexScan(PollVoteEntity.class, explainFind(PollVoteEntity.class, query));
+        assertThatThrownBy(() -> mongoTemplate.insert(PollVoteEntity.from(pollId, userId, List.of(1))))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    private Document explainFind(Class<?> entityClass, Query query) {
+        Document find = new Document("find", mongoTemplate.getCollectionName(entityClass))
+                .append("filter", mappedFilter(entityClass, query));
+        if (query.isSorted()) {
+            find.append("sort", new QueryMapper(mongoTemplate.getConverter()).getMappedSort(query.getSortObject(), entity(entityClass)));
+        }
+        if (query.getLimit() > 0) {
+            find.append("limit", query.getLimit());
+        }
+        return explain(find);
+    }
+
+    private Document explainCount(Class<?> entityClass, Query query) {
+        return explain(new Document("count", mongoTemplate.getCollectionName(entityClass))
+                .append("query", mappedFilter(entityClass, query)));
+    }
+
+    private Document explain(Document command) {
+        Document result = mongoTemplate.getDb().runCommand(new Document("explain", command).append("verbosity", "queryPlanner"));
+        return result.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+    }
+
+    private Document mappedFilter(Class<?> entityClass, Query query) {
+        return new QueryMapper(mongoTemplate.getConverter()).getMappedObject(query.getQueryObject(), entity(entityClass));
+    }
+
+    private MongoPersistentEntity<?> entity(Class<?> entityClass) {
+        return mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(entityClass);
+    }
+
+    private void assertIndexScan(Class<?> entityClass, Document winningPlan) {
+        List<String> stages = new ArrayList<>();
+        collectStages(winningPlan, stages);
+        assertThat(stages)
+                .as("%s 실행 계획: %s", entityClass.getSimpleName(), winningPlan.toJson())
+                .contains("IXSCAN")
+                .doesNotContain("COLLSCAN");
+    }
+
+    /**
+     * 실행 계획 트리(inputStage, inputStages, queryPlan 등)의 모든 stage 수집
+     */
+    private void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            Object stage = document.get("stage");
+            if (stage instanceof String name) stages.add(name);
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package inu.codin.codin.infra.redis;
+
+import inu.codin.codin.domain.post.domain.best.BestRepository;
+import inu.codin.codin.domain.post.domain.hits.service.HitsService;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisBestService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * RedisBestService 24시간 랭킹 테스트
+ * 시간대 bucket과 window가 함께 갱신되고, 삭제된 게시글과 24시간이 지난 점수가 제외되는지 검증
+ */
+@Testcontainers
+class RedisBestServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private HitsService hitsService;
+    private RedisBestService redisBestService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        RedisHealthChecker redisHealthChecker = mock(RedisHealthChecker.class);
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        hitsService = mock(HitsService.class);
+        given(hitsService.getHitsCounts(anyList())).willReturn(Map.of());
+        redisBestService = new RedisBestService(redisTemplate, redisHealthChecker, hitsService, mock(BestRepository.class));
+    }
+
+    @Test
+    void applyBestScore_점수누적_상위N개반환() {
+        // Given
+        ObjectId first = new ObjectId();
+        ObjectId second = new ObjectId();
+        ObjectId belowThreshold = new ObjectId();
+
+        // When
+        for (int i = 0; i < 3; i++) redisBestService.applyBestScore(2, first);
+        for (int i = 0; i < 5; i++) redisBestService.applyBestScore(1, second);
+        redisBestService.applyBestScore(3, belowThreshold);
+
+        // Then
+        assertThat(redisBestService.getTopBests(3))
+                .containsExactly(Map.entry(first.toString(), 6.0), Map.entry(second.toString(), 5.0));
+        assertThat(redisTemplate.getExpire("post:best:bucket:" + currentEpochHour())).isPositive();
+    }
+
+    @Test
+    void getTopBests_동점_조회수로비교() {
+        // Given
+        ObjectId lessViewed = new ObjectId();
+        ObjectId moreViewed = new ObjectId();
+        redisBestService.applyBestScore(4, lessViewed);
+        redisBestService.applyBestScore(4, moreViewed);
+        given(hitsService.getHitsCounts(anyList())).willReturn(Map.of(lessViewed, 1, moreViewed, 10));
+
+        // When
+        Map<String, Double> result = redisBestService.getTopBests(1);
+
+        // Then
+        assertThat(result).containsOnlyKeys(moreViewed.toString());
+    }
+
+    @Test
+    void deleteBest_삭제된게시글_랭킹및bucket에서제외() {
+        // Given
+        ObjectId postId = new ObjectId();
+        redisBestService.applyBestScore(5, postId);
+
+        // When
+        redisBestService.deleteBest(postId.toString());
+        redisBestService.rollWindow();
+
+        // Then
+        assertThat(redisBestService.getTopBests(3)).isEmpty();
+    }
+
+    @Test
+    void rollWindow_24시간지난bucket_점수제외() {
+        // Given
+        ObjectId recent = new ObjectId();
+        ObjectId expired = new ObjectId();
+        long epochHour = currentEpochHour();
+        redisTemplate.opsForZSet().add("post:best:bucket:" + (epochHour - 23), recent.toString(), 4);
+        redisTemplate.opsForZSet().add("post:best:bucket:" + (epochHour - 24), expired.toString(), 10);
+
+        // When
+        redisBestService.rollWindow();
+
+        // Then
+        assertThat(redisBestService.getTopBests(3)).containsOnlyKeys(recent.toString());
+    }
+
+    private static long currentEpochHour() {
+        return System.currentTimeMillis() / Duration.ofHours(1).toMillis();
+    }
+}
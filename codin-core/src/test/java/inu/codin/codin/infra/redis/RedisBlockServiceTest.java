@@ -0,0 +1,99 @@
+package inu.codin.codin.infra.redis;
+
+import inu.codin.codin.infra.redis.service.RedisBlockService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisBlockService 차단 유저 목록 Cache 테스트
+ * 빈 목록과 Cache miss 구분, 차단/차단 해제 이전에 DB를 읽은 요청의 오래된 목록 저장 방지를 검증
+ */
+@Testcontainers
+class RedisBlockServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisBlockService redisBlockService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        redisBlockService = new RedisBlockService(redisTemplate);
+    }
+
+    @Test
+    void cacheBlockedUsers_빈목록_CacheMiss와구분() {
+        // Given
+        ObjectId userId = new ObjectId();
+
+        // When
+        boolean cached = redisBlockService.cacheBlockedUsers(userId, List.of(), redisBlockService.getVersion(userId));
+
+        // Then
+        assertThat(cached).isTrue();
+        assertThat(redisBlockService.getBlockedUsers(userId)).isEmpty();
+        assertThat(redisBlockService.getBlockedUsers(new ObjectId())).isNull();
+    }
+
+    @Test
+    void cacheBlockedUsers_DB조회이후차단_오래된목록저장안함() {
+        // Given : 차단 전에 DB를 읽은 요청
+        ObjectId userId = new ObjectId();
+        long version = redisBlockService.getVersion(userId);
+
+        // When : 차단 저장 후 Cache 삭제, 이후 오래된 목록 저장 시도
+        redisBlockService.evict(userId);
+        boolean cached = redisBlockService.cacheBlockedUsers(userId, List.of(), version);
+
+        // Then
+        assertThat(cached).isFalse();
+        assertThat(redisBlockService.getBlockedUsers(userId)).isNull();
+    }
+
+    @Test
+    void cacheBlockedUsers_삭제이후DB조회_저장() {
+        // Given
+        ObjectId userId = new ObjectId();
+        ObjectId blockedUserId = new ObjectId();
+        redisBlockService.evict(userId);
+
+        // When
+        boolean cached = redisBlockService.cacheBlockedUsers(userId, List.of(blockedUserId), redisBlockService.getVersion(userId));
+
+        // Then
+        assertThat(cached).isTrue();
+        assertThat(redisBlockService.getBlockedUsers(userId)).containsExactly(blockedUserId);
+    }
+}
@@ -0,0 +1,157 @@
+package inu.codin.codin.infra.redis;
+
+import inu.codin.codin.infra.redis.dto.CounterVersions;
+import inu.codin.codin.infra.redis.service.RedisCounterService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisCounterService 동시성 테스트
+ * 하나의 게시글 Key에 Cache 복구와 무효화가 동시에 실행되어도 무효화 이전의 DB 값이 남지 않는지 검증
+ */
+@Testcontainers
+class RedisCounterServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static RedisCounterService redisCounterService;
+
+    private static final String KEY = "POST:likes:counter-test";
+    private static final int THREADS = 32;
+    private static final int OPERATIONS_PER_THREAD = 500;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisCounterService = new RedisCounterService(redisTemplate);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of(KEY, KEY + ":version"));
+    }
+
+    @Test
+    void initialize_Key있음_덮어쓰지않음() {
+        // Given
+        redisCounterService.initialize(KEY, 100, redisCounterService.getVersions(List.of(KEY)));
+
+        // When
+        redisCounterService.initialize(KEY, 50, redisCounterService.getVersions(List.of(KEY)));
+
+        // Then
+        assertThat(redisCounterService.get(KEY)).isEqualTo(100L);
+        assertThat(redisTemplate.getExpire(KEY, TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    void initialize_DB조회후무효화_오래된값복구하지않음() {
+        // Given : 조회 요청이 version을 읽고 DB에서 100을 읽는 사이 쓰기 요청이 DB 저장 후 무효화
+        CounterVersions versions = redisCounterService.getVersions(List.of(KEY));
+        redisCounterService.invalidate(KEY);
+
+        // When
+        redisCounterService.initialize(KEY, 100, versions);
+
+        // Then : 다음 조회가 DB 기준으로 다시 초기화
+        assertThat(redisCounterService.get(KEY)).isNull();
+        redisCounterService.initialize(KEY, 101, redisCounterService.getVersions(List.of(KEY)));
+        assertThat(redisCounterService.get(KEY)).isEqualTo(101L);
+    }
+
+    @Test
+    void invalidate_동시복구와무효화_무효화이후오래된값남지않음() throws Exception {
+        // Given : DB 값, 쓰기 요청은 DB 값을 바꾼 뒤 무효화
+        AtomicLong dbValue = new AtomicLong();
+
+        // When : 조회 요청은 version -> DB -> 복구 순서, 쓰기 요청은 DB -> 무효화 순서
+        runConcurrently(i -> {
+            if (i % 2 == 0) {
+                CounterVersions versions = redisCounterService.getVersions(List.of(KEY));
+                long value = dbValue.get();
+                redisCounterService.initialize(KEY, value, versions);
+            } else {
+                dbValue.incrementAndGet();
+                redisCounterService.invalidate(KEY);
+            }
+        });
+
+        // Then : 모든 쓰기가 끝난 뒤 남아 있는 Counter는 마지막 DB 값과 같고, 다음 복구는 마지막 DB 값으로 설정
+        Long cached = redisCounterService.get(KEY);
+        assertThat(cached == null || cached == dbValue.get()).isTrue();
+        redisCounterService.initialize(KEY, dbValue.get(), redisCounterService.getVersions(List.of(KEY)));
+        assertThat(redisCounterService.get(KEY)).isEqualTo(dbValue.get());
+    }
+
+    @Test
+    void getAll_여러Key_한번에조회() {
+        // Given
+        List<String> keys = List.of("POST:likes:a", "POST:likes:b");
+        redisCounterService.initializeAll(Map.of("POST:likes:a", 3L, "POST:likes:b", 0L), redisCounterService.getVersions(keys));
+
+        // When
+        List<Long> values = redisCounterService.getAll(List.of("POST:likes:a", "POST:likes:missing", "POST:likes:b"));
+
+        // Then
+        assertThat(values).containsExactly(3L, null, 0L);
+        redisTemplate.delete(List.of("POST:likes:a", "POST:likes:b"));
+    }
+
+    private void runConcurrently(IntOperation operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    operation.apply(i);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface IntOperation {
+        void apply(int i);
+    }
+}
@@ -0,0 +1,125 @@
+package inu.codin.codin.infra.redis;
+
+import inu.codin.codin.infra.redis.dto.CounterDeltas;
+import inu.codin.codin.infra.redis.service.RedisCounterSyncService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisCounterSyncService 게시글 카운터 증감분 수거 테스트
+ * 수거 후 DB 반영 전까지 증감분이 조회에 포함되고, acknowledge 전에 중단되면 같은 flushId로 다시 수거되는지 검증
+ */
+@Testcontainers
+class RedisCounterSyncServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisCounterSyncService redisCounterSyncService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        redisCounterSyncService = new RedisCounterSyncService(redisTemplate);
+    }
+
+    @Test
+    void drainDeltas_반영전_증감분조회에포함() {
+        // Given
+        ObjectId postId = new ObjectId();
+        redisCounterSyncService.recordDelta(postId, "likeCount", 2);
+
+        // When : 수거 이후 새로 기록된 증감분과 함께 조회
+        Map<ObjectId, CounterDeltas> drained = redisCounterSyncService.drainDeltas(100);
+        redisCounterSyncService.recordDelta(postId, "likeCount", 1);
+
+        // Then
+        assertThat(drained.get(postId).deltas()).containsExactly(Map.entry("likeCount", 2L));
+        assertThat(drained.get(postId).flushId()).isNotNull();
+        assertThat(redisCounterSyncService.getPendingDeltas(List.of(postId), "likeCount")).containsExactly(3L);
+    }
+
+    @Test
+    void acknowledge_반영된증감분만삭제() {
+        // Given
+        ObjectId postId = new ObjectId();
+        redisCounterSyncService.recordDelta(postId, "likeCount", 2);
+        Map<ObjectId, CounterDeltas> drained = redisCounterSyncService.drainDeltas(100);
+        redisCounterSyncService.recordDelta(postId, "likeCount", 1);
+
+        // When
+        redisCounterSyncService.acknowledge(drained.keySet());
+
+        // Then : 수거 이후 기록된 증감분은 다음 수거 대상
+        assertThat(redisCounterSyncService.getPendingDeltas(List.of(postId), "likeCount")).containsExactly(1L);
+        assertThat(redisCounterSyncService.drainDeltas(100).get(postId).deltas())
+                .containsExactly(Map.entry("likeCount", 1L));
+    }
+
+    @Test
+    void drainDeltas_acknowledge전중단_같은flushId로다시수거() {
+        // Given : 수거 후 DB 반영 전에 중단
+        ObjectId postId = new ObjectId();
+        ObjectId nextPostId = new ObjectId();
+        redisCounterSyncService.recordDelta(postId, "scrapCount", -1);
+        CounterDeltas first = redisCounterSyncService.drainDeltas(100).get(postId);
+        redisCounterSyncService.recordDelta(nextPostId, "hitCount", 4);
+
+        // When
+        Map<ObjectId, CounterDeltas> retried = redisCounterSyncService.drainDeltas(100);
+
+        // Then : 남은 증감분을 먼저 반영하고, 새 증감분은 그 다음 수거
+        assertThat(retried).containsOnlyKeys(postId);
+        assertThat(retried.get(postId)).isEqualTo(first);
+        redisCounterSyncService.acknowledge(retried.keySet());
+        assertThat(redisCounterSyncService.drainDeltas(100)).containsOnlyKeys(nextPostId);
+    }
+
+    @Test
+    void discardDeltas_반영중인증감분포함삭제() {
+        // Given
+        ObjectId postId = new ObjectId();
+        redisCounterSyncService.recordDelta(postId, "likeCount", 2);
+        redisCounterSyncService.drainDeltas(100);
+        redisCounterSyncService.recordDelta(postId, "likeCount", 1);
+
+        // When
+        redisCounterSyncService.discardDeltas(List.of(postId));
+
+        // Then
+        assertThat(redisCounterSyncService.getPendingDeltas(List.of(postId), "likeCount")).containsExactly(0L);
+        assertThat(redisCounterSyncService.drainDeltas(100)).isEmpty();
+    }
+}
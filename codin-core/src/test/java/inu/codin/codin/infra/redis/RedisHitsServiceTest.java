@@ -0,0 +1,194 @@
+package inu.codin.codin.infra.redis;
+
+import inu.codin.codin.infra.redis.service.RedisHitsService;
+import inu.codin.codin.infra.redis.service.RedisHitsService.ViewResult;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * RedisHitsService HyperLogLog 조회수 테스트
+ * 유저당 한 번 집계, 비로그인 조회 집계, hits 컬렉션 기준 초기화, 대량 조회 시 오차 범위,
+ * 집계 Key TTL 갱신, Redis 장애 중 조회 합산을 검증
+ */
+@Testcontainers
+class RedisHitsServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisHitsService redisHitsService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        redisHitsService = new RedisHitsService(redisTemplate);
+    }
+
+    @Test
+    void recordView_초기화전게시글_기록안함() {
+        // Given
+        ObjectId postId = new ObjectId();
+
+        // When
+        ViewResult result = redisHitsService.recordView(postId, new ObjectId());
+
+        // Then
+        assertThat(result).isEqualTo(ViewResult.NOT_SEEDED);
+        assertThat(redisHitsService.getHitsCount(postId)).isNull();
+        assertThat(redisHitsService.drainDirtyPosts(10)).isEmpty();
+    }
+
+    @Test
+    void recordView_동일유저_한번만집계_비로그인_매번집계() {
+        // Given
+        ObjectId postId = new ObjectId();
+        ObjectId userId = new ObjectId();
+        redisHitsService.seedViewers(postId, List.of(), 0);
+
+        // When
+        ViewResult first = redisHitsService.recordView(postId, userId);
+        ViewResult second = redisHitsService.recordView(postId, userId);
+        redisHitsService.recordView(postId, null);
+        ViewResult anonymous = redisHitsService.recordView(postId, null);
+
+        // Then : 처음 집계된 유저만 NEW_VIEWER (hits 컬렉션 기록 대상)
+        assertThat(first).isEqualTo(ViewResult.NEW_VIEWER);
+        assertThat(second).isEqualTo(ViewResult.RECORDED);
+        assertThat(anonymous).isEqualTo(ViewResult.RECORDED);
+        assertThat(redisHitsService.getHitsCount(postId)).isEqualTo(3L);
+        assertThat(redisHitsService.drainDirtyPosts(10)).containsExactly(postId);
+        assertThat(redisHitsService.drainDirtyPosts(10)).isEmpty();
+    }
+
+    @Test
+    void seedViewers_기존조회유저_중복집계안함() {
+        // Given
+        ObjectId postId = new ObjectId();
+        List<ObjectId> viewers = IntStream.range(0, 2500).mapToObj(i -> new ObjectId()).toList();
+        redisHitsService.seedViewers(postId, viewers, 10);
+
+        // When
+        redisHitsService.recordView(postId, viewers.get(0));
+        redisHitsService.seedViewers(postId, List.of(new ObjectId()), 100); // 이미 초기화된 게시글은 무시
+
+        // Then
+        assertThat(redisHitsService.getHitsCount(postId).doubleValue()).isCloseTo(2510, within(2510 * 0.02));
+    }
+
+    @Test
+    void getHitsCounts_대량조회_표준오차범위내() {
+        // Given
+        ObjectId postId = new ObjectId();
+        ObjectId unseededPostId = new ObjectId();
+        redisHitsService.seedViewers(postId, List.of(), 0);
+        int uniqueViewers = 20000;
+
+        // When
+        for (int i = 0; i < uniqueViewers; i++) {
+            ObjectId userId = new ObjectId();
+            redisHitsService.recordView(postId, userId);
+            if (i % 10 == 0) redisHitsService.recordView(postId, userId); // 재조회
+        }
+
+        // Then
+        List<Long> counts = redisHitsService.getHitsCounts(List.of(postId, unseededPostId));
+        assertThat(counts.get(0).doubleValue()).isCloseTo(uniqueViewers, within(uniqueViewers * 0.03));
+        assertThat(counts.get(1)).isNull();
+    }
+
+    @Test
+    void recordView_조회시_집계KeyTTL갱신() {
+        // Given
+        ObjectId postId = new ObjectId();
+        redisHitsService.seedViewers(postId, List.of(new ObjectId()), 1);
+        redisTemplate.expire("post:hits:viewers:" + postId, Duration.ofMinutes(1));
+        redisTemplate.expire("post:hits:base:" + postId, Duration.ofMinutes(1));
+
+        // When
+        redisHitsService.recordView(postId, null);
+
+        // Then
+        assertThat(redisTemplate.getExpire("post:hits:viewers:" + postId, TimeUnit.DAYS)).isEqualTo(6L);
+        assertThat(redisTemplate.getExpire("post:hits:base:" + postId, TimeUnit.DAYS)).isEqualTo(6L);
+    }
+
+    @Test
+    void mergeViews_장애중조회_중복제거후합산() {
+        // Given
+        ObjectId postId = new ObjectId();
+        ObjectId viewer = new ObjectId();
+        ObjectId outageViewer = new ObjectId();
+        redisHitsService.seedViewers(postId, List.of(), 0);
+        redisHitsService.recordView(postId, viewer);
+        redisHitsService.drainDirtyPosts(10);
+
+        // When : 장애 전 Redis에 집계된 유저가 장애 중 다시 조회
+        boolean merged = redisHitsService.mergeViews(postId, List.of(viewer, outageViewer), 2);
+
+        // Then
+        assertThat(merged).isTrue();
+        assertThat(redisHitsService.getHitsCount(postId)).isEqualTo(4L);
+        assertThat(redisHitsService.drainDirtyPosts(10)).containsExactly(postId);
+    }
+
+    @Test
+    void mergeViews_초기화전게시글_합산안함() {
+        // Given
+        ObjectId postId = new ObjectId();
+
+        // When
+        boolean merged = redisHitsService.mergeViews(postId, List.of(new ObjectId()), 1);
+
+        // Then
+        assertThat(merged).isFalse();
+        assertThat(redisHitsService.getHitsCount(postId)).isNull();
+        assertThat(redisHitsService.drainDirtyPosts(10)).isEmpty();
+    }
+
+    @Test
+    void markDirty_반영실패게시글_다시수거() {
+        // Given
+        ObjectId postId = new ObjectId();
+
+        // When
+        redisHitsService.markDirty(List.of(postId));
+
+        // Then
+        assertThat(redisHitsService.drainDirtyPosts(10)).containsExactly(postId);
+    }
+}
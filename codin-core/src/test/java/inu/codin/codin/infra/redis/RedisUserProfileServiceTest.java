@@ -0,0 +1,123 @@
+package inu.codin.codin.infra.redis;
+
+import inu.codin.codin.domain.user.dto.UserProfile;
+import inu.codin.codin.infra.redis.service.RedisUserProfileService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisUserProfileService 작성자 프로필 Cache 테스트
+ * 일괄 저장/조회, null 값 보존, Cache miss 구분, 삭제, 삭제 이전에 DB를 읽은 요청의 오래된 프로필 저장 방지를 검증
+ */
+@Testcontainers
+class RedisUserProfileServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisUserProfileService redisUserProfileService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        redisUserProfileService = new RedisUserProfileService(redisTemplate);
+    }
+
+    @Test
+    void cacheProfiles_getProfiles_일괄저장조회() {
+        // Given
+        UserProfile normal = new UserProfile(new ObjectId(), "닉네임", "profile.jpg", false);
+        UserProfile noImage = new UserProfile(new ObjectId(), "이미지없음", null, false);
+        UserProfile deleted = new UserProfile(new ObjectId(), "탈퇴한 사용자", "default.jpg", true);
+        ObjectId missedUserId = new ObjectId();
+
+        // When
+        redisUserProfileService.cacheProfiles(List.of(normal, noImage, deleted), Map.of());
+        Map<ObjectId, UserProfile> result = redisUserProfileService.getProfiles(
+                List.of(normal.userId(), missedUserId, noImage.userId(), deleted.userId()));
+
+        // Then
+        assertThat(result).containsOnlyKeys(normal.userId(), noImage.userId(), deleted.userId());
+        assertThat(result.get(normal.userId())).isEqualTo(normal);
+        assertThat(result.get(noImage.userId())).isEqualTo(noImage);
+        assertThat(result.get(deleted.userId())).isEqualTo(deleted);
+        assertThat(redisTemplate.getExpire("user:profile:" + normal.userId())).isPositive();
+    }
+
+    @Test
+    void evict_삭제후CacheMiss() {
+        // Given
+        UserProfile profile = new UserProfile(new ObjectId(), "닉네임", "profile.jpg", false);
+        redisUserProfileService.cacheProfiles(List.of(profile), Map.of());
+
+        // When
+        redisUserProfileService.evict(profile.userId());
+
+        // Then
+        assertThat(redisUserProfileService.getProfiles(List.of(profile.userId()))).isEmpty();
+    }
+
+    @Test
+    void cacheProfiles_DB조회이후프로필변경_오래된프로필저장안함() {
+        // Given : 프로필 변경 전에 DB를 읽은 요청
+        UserProfile stale = new UserProfile(new ObjectId(), "이전닉네임", "profile.jpg", false);
+        UserProfile other = new UserProfile(new ObjectId(), "다른유저", null, false);
+        Map<ObjectId, Long> versions = redisUserProfileService.getVersions(List.of(stale.userId(), other.userId()));
+
+        // When : 프로필 변경 저장 후 Cache 삭제, 이후 오래된 프로필 저장 시도
+        redisUserProfileService.evict(stale.userId());
+        long cached = redisUserProfileService.cacheProfiles(List.of(stale, other), versions);
+
+        // Then
+        assertThat(cached).isEqualTo(1);
+        assertThat(redisUserProfileService.getProfiles(List.of(stale.userId(), other.userId())))
+                .containsOnlyKeys(other.userId());
+    }
+
+    @Test
+    void cacheProfiles_삭제이후DB조회_저장() {
+        // Given
+        UserProfile profile = new UserProfile(new ObjectId(), "새닉네임", "profile.jpg", false);
+        redisUserProfileService.evict(profile.userId());
+
+        // When
+        Map<ObjectId, Long> versions = redisUserProfileService.getVersions(List.of(profile.userId()));
+        redisUserProfileService.cacheProfiles(List.of(profile), versions);
+
+        // Then
+        assertThat(versions).containsEntry(profile.userId(), 1L);
+        assertThat(redisUserProfileService.getProfiles(List.of(profile.userId()))).containsEntry(profile.userId(), profile);
+    }
+}